@@ -0,0 +1,82 @@
+package com.petstarproject.petstar.configuration;
+
+import com.petstarproject.petstar.dto.ImageRenditionResponse;
+import com.petstarproject.petstar.dto.PetInfoResponse;
+import com.petstarproject.petstar.dto.PostingResponse;
+import com.petstarproject.petstar.dto.VideoResponse;
+import com.petstarproject.petstar.service.cache.SnapshotCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.Collection;
+
+/**
+ * 단건 조회용 {@link SnapshotCache} 설정입니다.
+ *
+ * <p>크기는 문자열 필드 길이로 추정한 byte 수로 제한합니다. 정확한 객체 크기는 아니지만 긴 본문이나 태그가 많은 항목이 더 많은 자리를 차지하게 합니다.</p>
+ */
+@Configuration
+public class CacheConfig {
+
+    private static final int OBJECT_OVERHEAD_BYTES = 64;
+    private static final int STRING_OVERHEAD_BYTES = 40;
+
+    @Bean
+    public SnapshotCache<VideoResponse> videoSnapshotCache(
+            MeterRegistry meterRegistry,
+            @Value("${cache.snapshot.video.max-bytes:33554432}") long maxBytes,
+            @Value("${cache.snapshot.ttl-seconds:60}") long ttlSeconds) {
+        return new SnapshotCache<>("videoSnapshot", maxBytes, Duration.ofSeconds(ttlSeconds), video ->
+                OBJECT_OVERHEAD_BYTES
+                        + bytes(video.getId(), video.getPetId(), video.getOwnerId(), video.getTitle(), video.getDescription(),
+                        video.getSourceKey(), video.getThumbnailKey(), video.getHlsPlaylistKey())
+                        + bytes(video.getTags())
+                        + renditionBytes(video.getThumbnailRenditions()),
+                meterRegistry);
+    }
+
+    @Bean
+    public SnapshotCache<PostingResponse> postingSnapshotCache(
+            MeterRegistry meterRegistry,
+            @Value("${cache.snapshot.posting.max-bytes:33554432}") long maxBytes,
+            @Value("${cache.snapshot.ttl-seconds:60}") long ttlSeconds) {
+        return new SnapshotCache<>("postingSnapshot", maxBytes, Duration.ofSeconds(ttlSeconds), posting ->
+                OBJECT_OVERHEAD_BYTES
+                        + bytes(posting.getId(), posting.getPetId(), posting.getOwnerId(), posting.getTitle(), posting.getContent())
+                        + bytes(posting.getImageKeys())
+                        + posting.getImageRenditions().stream().mapToInt(CacheConfig::renditionBytes).sum(),
+                meterRegistry);
+    }
+
+    @Bean
+    public SnapshotCache<PetInfoResponse> petSnapshotCache(
+            MeterRegistry meterRegistry,
+            @Value("${cache.snapshot.pet.max-bytes:16777216}") long maxBytes,
+            @Value("${cache.snapshot.ttl-seconds:60}") long ttlSeconds) {
+        return new SnapshotCache<>("petSnapshot", maxBytes, Duration.ofSeconds(ttlSeconds), pet ->
+                OBJECT_OVERHEAD_BYTES
+                        + bytes(pet.getId(), pet.getProfileImageKey(), pet.getName(), pet.getSpecies(), pet.getBio())
+                        + renditionBytes(pet.getProfileImageRenditions()),
+                meterRegistry);
+    }
+
+    private static int bytes(String... values) {
+        int total = 0;
+        for (String value : values) {
+            if (value != null) total += STRING_OVERHEAD_BYTES + value.length() * 2;
+        }
+        return total;
+    }
+
+    private static int bytes(Collection<String> values) {
+        return values == null ? 0 : bytes(values.toArray(String[]::new));
+    }
+
+    private static int renditionBytes(Collection<ImageRenditionResponse> renditions) {
+        if (renditions == null) return 0;
+        return renditions.stream().mapToInt(rendition -> OBJECT_OVERHEAD_BYTES + bytes(rendition.key())).sum();
+    }
+}
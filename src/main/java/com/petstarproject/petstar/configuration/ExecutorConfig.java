@@ -0,0 +1,122 @@
+package com.petstarproject.petstar.configuration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 백그라운드 작업용 bounded executor 설정입니다.
+ */
+@Configuration
+public class ExecutorConfig {
+
+    /**
+     * S3 multipart upload의 part 전송용 executor.
+     * 큐가 가득 차면 호출 스레드가 직접 part를 전송하도록 해서 읽기 속도를 자연스럽게 늦춥니다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor s3UploadPartExecutor(
+            @Value("${aws.s3.multipart.executor.pool-size:8}") int poolSize,
+            @Value("${aws.s3.multipart.executor.queue-capacity:16}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("s3-part-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+
+    /**
+     * 동영상 ingest(길이 추출, 스토리지 업로드) worker pool.
+     * 큐가 가득 차면 작업을 거절하고, 요청 단계에서 미리 여유를 확인해 503으로 응답합니다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor videoIngestExecutor(
+            @Value("${video.ingest.worker-count:4}") int workerCount,
+            @Value("${video.ingest.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workerCount);
+        executor.setMaxPoolSize(workerCount);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("video-ingest-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        return executor;
+    }
+
+    /**
+     * 트랜스코딩 worker pool. CPU를 많이 쓰는 작업이므로 큐 없이 worker 수만큼만 실행하며,
+     * 대기 작업은 {@code transcode_jobs} 테이블에 남겨 둡니다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor transcodeExecutor(
+            @Value("${video.transcode.worker-count:2}") int workerCount) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(Math.max(workerCount, 1));
+        executor.setMaxPoolSize(Math.max(workerCount, 1));
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("transcode-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        return executor;
+    }
+
+    /**
+     * 게시글 이미지 여러 장을 동시에 업로드하는 executor.
+     * 큐가 가득 차면 요청 스레드가 직접 업로드합니다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor imageUploadExecutor(
+            @Value("${image.upload.executor.pool-size:8}") int poolSize,
+            @Value("${image.upload.executor.queue-capacity:32}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("image-upload-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+
+    /**
+     * 이미지 rendition(리사이즈) worker pool. 동시에 디코딩하는 이미지 수를 제한하며,
+     * 큐가 가득 차면 요청 스레드가 직접 처리해 업로드 속도를 늦춥니다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor imageResizeExecutor(
+            @Value("${image.rendition.worker-count:2}") int workerCount,
+            @Value("${image.rendition.queue-capacity:32}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workerCount);
+        executor.setMaxPoolSize(workerCount);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("image-resize-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+
+    /**
+     * 스토리지 읽기 hedge용 executor. 첫 요청과 hedge 요청 모두 이 pool에서 실행하고 요청 스레드는 먼저 온 응답을 기다립니다.
+     * 큐 없이 pool이 가득 차면 hedge 없이 요청 스레드가 직접 읽습니다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor storageHedgeExecutor(
+            @Value("${storage.hedge.executor.pool-size:32}") int poolSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("storage-hedge-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+}
@@ -0,0 +1,100 @@
+package com.petstarproject.petstar.configuration;
+
+import com.petstarproject.petstar.enums.StorageOperation;
+import com.petstarproject.petstar.service.FileStorageService;
+import com.petstarproject.petstar.service.dedup.BlobRegistry;
+import com.petstarproject.petstar.service.dedup.DeduplicatingFileStorageService;
+import com.petstarproject.petstar.service.hedge.HedgeBudget;
+import com.petstarproject.petstar.service.hedge.HedgeDelay;
+import com.petstarproject.petstar.service.hedge.HedgingFileStorageService;
+import com.petstarproject.petstar.service.resilience.AdaptiveConcurrencyLimit;
+import com.petstarproject.petstar.service.resilience.CircuitBreaker;
+import com.petstarproject.petstar.service.resilience.ResilientFileStorageService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * 스토리지 구현체({@code fileStorageBackend}: S3 또는 로컬) 위에 선택적인 계층을 얹어 {@link Primary} {@link FileStorageService}로 노출합니다.
+ *
+ * <p>순서는 바깥부터 중복 제거({@code storage.dedup.enabled}) → 동시 호출 한도/circuit breaker({@code storage.resilience.enabled})
+ * → 읽기 hedge({@code storage.hedge.enabled}) → 구현체 입니다.
+ * 중복 제거로 생략된 업로드는 한도를 쓰지 않고, 중복 제거 계층이 직접 보내는 삭제도 한도 안에서 실행됩니다.</p>
+ *
+ * <p>중복 제거 계층을 뺀 나머지는 {@code fileStorageCore}로도 노출합니다. 참조 해제를 직접 기록하는 삭제 큐가 사용합니다.</p>
+ */
+@Configuration
+public class FileStorageConfig {
+
+    @Bean
+    @Primary
+    public FileStorageService fileStorageService(
+            @Qualifier("fileStorageCore") FileStorageService core,
+            BlobRegistry blobRegistry,
+            @Value("${storage.dedup.enabled:false}") boolean dedupEnabled,
+            @Value("${storage.dedup.excluded-key-pattern:videos/[^/]+/hls/.*}") String excludedKeyPattern) {
+        if (!dedupEnabled) return core;
+
+        Pattern pattern = excludedKeyPattern.isBlank() ? null : Pattern.compile(excludedKeyPattern);
+        return new DeduplicatingFileStorageService(core, blobRegistry, pattern);
+    }
+
+    @Bean
+    public FileStorageService fileStorageCore(
+            @Qualifier("fileStorageBackend") FileStorageService backend,
+            MeterRegistry meterRegistry,
+            @Qualifier("storageHedgeExecutor") ThreadPoolTaskExecutor hedgeExecutor,
+            @Value("${storage.resilience.enabled:true}") boolean resilienceEnabled,
+            @Value("${storage.resilience.limit.initial:20}") int initialLimit,
+            @Value("${storage.resilience.limit.min:2}") int minLimit,
+            @Value("${storage.resilience.limit.max:200}") int maxLimit,
+            @Value("${storage.resilience.limit.rtt-tolerance:2.0}") double rttTolerance,
+            @Value("${storage.resilience.limit.backoff-ratio:0.9}") double backoffRatio,
+            @Value("${storage.resilience.limit.rtt-window:500}") int rttWindow,
+            @Value("${storage.resilience.circuit.failure-rate-threshold:0.5}") double failureRateThreshold,
+            @Value("${storage.resilience.circuit.window-size:50}") int windowSize,
+            @Value("${storage.resilience.circuit.minimum-calls:10}") int minimumCalls,
+            @Value("${storage.resilience.circuit.open-ms:10000}") long openMillis,
+            @Value("${storage.resilience.circuit.half-open-calls:3}") int halfOpenCalls,
+            @Value("${storage.hedge.enabled:false}") boolean hedgeEnabled,
+            @Value("${storage.hedge.percentile:0.95}") double hedgePercentile,
+            @Value("${storage.hedge.window:1000}") int hedgeWindow,
+            @Value("${storage.hedge.min-delay-ms:20}") long hedgeMinDelayMillis,
+            @Value("${storage.hedge.max-delay-ms:1000}") long hedgeMaxDelayMillis,
+            @Value("${storage.hedge.budget-ratio:0.05}") double hedgeBudgetRatio,
+            @Value("${storage.hedge.budget-burst:10}") double hedgeBudgetBurst) {
+        FileStorageService storage = backend;
+
+        if (hedgeEnabled) {
+            long minDelay = TimeUnit.MILLISECONDS.toNanos(hedgeMinDelayMillis);
+            long maxDelay = TimeUnit.MILLISECONDS.toNanos(hedgeMaxDelayMillis);
+            storage = new HedgingFileStorageService(storage, hedgeExecutor.getThreadPoolExecutor(),
+                    new HedgeDelay(hedgePercentile, hedgeWindow, minDelay, maxDelay),
+                    new HedgeDelay(hedgePercentile, hedgeWindow, minDelay, maxDelay),
+                    new HedgeBudget(hedgeBudgetRatio, hedgeBudgetBurst),
+                    meterRegistry);
+        }
+
+        if (resilienceEnabled) {
+            Map<StorageOperation, AdaptiveConcurrencyLimit> limits = new EnumMap<>(StorageOperation.class);
+            Map<StorageOperation, CircuitBreaker> breakers = new EnumMap<>(StorageOperation.class);
+            for (StorageOperation operation : StorageOperation.values()) {
+                limits.put(operation, new AdaptiveConcurrencyLimit(initialLimit, minLimit, maxLimit, rttTolerance, backoffRatio, rttWindow));
+                breakers.put(operation, new CircuitBreaker(failureRateThreshold, windowSize, minimumCalls,
+                        TimeUnit.MILLISECONDS.toNanos(openMillis), halfOpenCalls, System::nanoTime));
+            }
+            storage = new ResilientFileStorageService(storage, limits, breakers, meterRegistry);
+        }
+
+        return storage;
+    }
+}
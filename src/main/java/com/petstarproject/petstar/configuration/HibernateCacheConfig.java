@@ -0,0 +1,94 @@
+package com.petstarproject.petstar.configuration;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.petstarproject.petstar.entity.Pet;
+import com.petstarproject.petstar.entity.Posting;
+import com.petstarproject.petstar.entity.User;
+import com.petstarproject.petstar.entity.Video;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hibernate 2차 캐시(JCache + Caffeine) 설정입니다.
+ *
+ * <p>region마다 최대 항목 수를 따로 두고({@code jpa.cache.region.<region>.max-entries}), 항목은 {@code jpa.cache.ttl-seconds} 뒤 만료됩니다.
+ * 조회 결과의 유효성을 판단하는 update-timestamps region은 만료되면 오래된 쿼리 결과를 쓸 수 있으므로 크기/만료 제한을 두지 않습니다.</p>
+ *
+ * <p>캐시는 노드마다 따로 있어 다른 노드의 수정이 만료 전까지 보이지 않을 수 있습니다.
+ * 그래서 캐시하는 엔티티(Video, Posting, Pet, User)는 모두 {@code @Version}을 두어, 낡은 상태로 저장하면 덮어쓰지 않고 실패(409)합니다.</p>
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+    private static final String QUERY_RESULTS_REGION = "default-query-results-region";
+    private static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    /**
+     * region 이름과 기본 최대 항목 수. 컬렉션 region은 {@code <엔티티 클래스>.<필드>} 입니다.
+     */
+    private static final Map<String, Long> REGION_MAX_ENTRIES = new LinkedHashMap<>();
+
+    static {
+        REGION_MAX_ENTRIES.put(Video.class.getName(), 10_000L);
+        REGION_MAX_ENTRIES.put(Video.class.getName() + ".tags", 10_000L);
+        REGION_MAX_ENTRIES.put(Video.class.getName() + ".thumbnailRenditions", 10_000L);
+        REGION_MAX_ENTRIES.put(Posting.class.getName(), 10_000L);
+        REGION_MAX_ENTRIES.put(Posting.class.getName() + ".imageKeys", 10_000L);
+        REGION_MAX_ENTRIES.put(Posting.class.getName() + ".imageRenditions", 10_000L);
+        REGION_MAX_ENTRIES.put(Pet.class.getName(), 5_000L);
+        REGION_MAX_ENTRIES.put(Pet.class.getName() + ".profileImageRenditions", 5_000L);
+        REGION_MAX_ENTRIES.put(User.class.getName(), 5_000L);
+        REGION_MAX_ENTRIES.put(QUERY_RESULTS_REGION, 5_000L);
+    }
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(Environment environment,
+                                              @Value("${jpa.cache.ttl-seconds:600}") long ttlSeconds) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+
+        REGION_MAX_ENTRIES.forEach((region, defaultMaxEntries) -> {
+            long maxEntries = environment.getProperty("jpa.cache.region." + region + ".max-entries", Long.class, defaultMaxEntries);
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(maxEntries));
+            configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.SECONDS.toNanos(ttlSeconds)));
+            configuration.setStatisticsEnabled(true);
+            createIfAbsent(cacheManager, region, configuration);
+        });
+
+        CaffeineConfiguration<Object, Object> timestamps = new CaffeineConfiguration<>();
+        timestamps.setStatisticsEnabled(true);
+        createIfAbsent(cacheManager, UPDATE_TIMESTAMPS_REGION, timestamps);
+
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "create-warn");
+        };
+    }
+
+    private static void createIfAbsent(CacheManager cacheManager, String region, CaffeineConfiguration<Object, Object> configuration) {
+        if (cacheManager.getCache(region) == null) {
+            cacheManager.createCache(region, configuration);
+        }
+    }
+}
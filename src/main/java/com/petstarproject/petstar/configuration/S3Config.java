@@ -1,31 +1,51 @@
 package com.petstarproject.petstar.configuration;
 
 import io.github.cdimascio.dotenv.Dotenv;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
 @Configuration
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3", matchIfMissing = true)
 public class S3Config {
 
+    private final Dotenv dotenv = Dotenv.load();
+
     @Bean
     public S3Client s3Client() {
-        Dotenv dotenv = Dotenv.load();
+        return S3Client.builder()
+                .region(region())
+                .credentialsProvider(credentialsProvider())
+                .build();
+    }
+
+    /**
+     * 클라이언트가 S3에 직접 업로드할 presigned URL 발급용
+     */
+    @Bean
+    public S3Presigner s3Presigner() {
+        return S3Presigner.builder()
+                .region(region())
+                .credentialsProvider(credentialsProvider())
+                .build();
+    }
+
+    private Region region() {
+        return Region.of(dotenv.get("AWS_REGION"));
+    }
 
+    private AwsCredentialsProvider credentialsProvider() {
         String accessKey = dotenv.get("AWS_ACCESS_KEY_ID");
         String secretKey = dotenv.get("AWS_SECRET_ACCESS_KEY");
-        String region = dotenv.get("AWS_REGION");
 
-        return S3Client.builder()
-                .region(Region.of(region))
-                .credentialsProvider(
-                        StaticCredentialsProvider.create(
-                                AwsBasicCredentials.create(accessKey, secretKey)
-                        )
-                )
-                .build();
+        return StaticCredentialsProvider.create(
+                AwsBasicCredentials.create(accessKey, secretKey)
+        );
     }
 }
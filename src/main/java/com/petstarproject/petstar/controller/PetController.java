@@ -4,7 +4,6 @@ import com.petstarproject.petstar.dto.MessageResponse;
 import com.petstarproject.petstar.dto.PetInfoResponse;
 import com.petstarproject.petstar.dto.RegisterRequest;
 import com.petstarproject.petstar.service.PetService;
-import com.petstarproject.petstar.entity.Pet;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -12,6 +11,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("api/pets")
 public class PetController {
@@ -26,8 +27,17 @@ public class PetController {
 
     @GetMapping("/{id}")
     public ResponseEntity<?> getPet(@PathVariable String id) {
-        Pet pet = petService.getPet(id);
-        return ResponseEntity.ok(PetInfoResponse.from(pet));
+        PetInfoResponse pet = petService.getPet(id);
+        return ResponseEntity.ok(pet);
+    }
+
+    /**
+     * 여러 Pet을 한 번에 조회합니다. 없는 id는 빼고 요청 순서대로 반환합니다.
+     */
+    @GetMapping(params = "ids")
+    public ResponseEntity<?> getPets(@RequestParam List<String> ids) {
+        List<PetInfoResponse> pets = petService.getPets(ids);
+        return ResponseEntity.ok(pets);
     }
 
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
@@ -0,0 +1,57 @@
+package com.petstarproject.petstar.controller;
+
+import com.petstarproject.petstar.dto.CursorPageResponse;
+import com.petstarproject.petstar.dto.PostingResponse;
+import com.petstarproject.petstar.dto.PostingSummaryResponse;
+import com.petstarproject.petstar.enums.Visibility;
+import com.petstarproject.petstar.service.PostingService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("api/postings")
+public class PostingController {
+
+    private final PostingService postingService;
+
+    @Autowired
+    public PostingController(PostingService postingService) {
+        this.postingService = postingService;
+    }
+
+    @GetMapping("/{postingId}")
+    public ResponseEntity<?> getPosting(@PathVariable String postingId,
+                                        @RequestHeader(value = "X-REQUESTER-ID", required = false) String requesterId) {
+        PostingResponse posting = postingService.getPosting(postingId, requesterId);
+        return ResponseEntity.ok(posting);
+    } // todo: 추후 Spring Security로 requesterId 추출 방식 교체
+
+
+    /**
+     * 여러 게시글을 한 번에 조회합니다. 없거나 볼 수 없는 게시글은 빼고 요청 순서대로 반환합니다.
+     */
+    @GetMapping(params = "ids")
+    public ResponseEntity<?> getPostings(@RequestParam List<String> ids,
+                                         @RequestHeader(value = "X-REQUESTER-ID", required = false) String requesterId) {
+        List<PostingResponse> postings = postingService.getPostings(ids, requesterId);
+        return ResponseEntity.ok(postings);
+    } // todo: 추후 Spring Security로 requesterId 추출 방식 교체
+
+
+    /**
+     * Pet 또는 작성자의 게시글 목록을 최신순으로 조회합니다. 다음 페이지는 응답의 nextCursor를 cursor로 넘겨 조회합니다.
+     */
+    @GetMapping
+    public ResponseEntity<?> listPostings(@RequestParam(required = false) String petId,
+                                          @RequestParam(required = false) String ownerId,
+                                          @RequestParam(required = false) Visibility visibility,
+                                          @RequestParam(required = false) String cursor,
+                                          @RequestParam(required = false) Integer size,
+                                          @RequestHeader(value = "X-REQUESTER-ID", required = false) String requesterId) {
+        CursorPageResponse<PostingSummaryResponse> page = postingService.listPostings(petId, ownerId, visibility, cursor, size, requesterId);
+        return ResponseEntity.ok(page);
+    } // todo: 추후 Spring Security로 requesterId 추출 방식 교체
+}
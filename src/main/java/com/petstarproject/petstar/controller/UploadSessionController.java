@@ -0,0 +1,85 @@
+package com.petstarproject.petstar.controller;
+
+import com.petstarproject.petstar.dto.MessageResponse;
+import com.petstarproject.petstar.dto.UploadSessionCreateRequest;
+import com.petstarproject.petstar.dto.UploadSessionResponse;
+import com.petstarproject.petstar.dto.VideoInfoRequest;
+import com.petstarproject.petstar.service.UploadSessionService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.InputStream;
+
+/**
+ * 재개 가능한 동영상 업로드 API 입니다.
+ *
+ * <ol>
+ *     <li>{@code POST api/videos/uploads} 로 세션을 만들고</li>
+ *     <li>{@code PUT api/videos/uploads/{sessionId}} 에 {@code Upload-Offset} 헤더와 함께 chunk를 순서대로 보낸 뒤</li>
+ *     <li>{@code POST api/videos/uploads/{sessionId}/complete} 로 동영상을 생성합니다.</li>
+ * </ol>
+ * 연결이 끊기면 {@code GET api/videos/uploads/{sessionId}} 로 offset을 확인하고 그 위치부터 이어서 보냅니다.
+ */
+@RestController
+@RequestMapping("api/videos/uploads")
+public class UploadSessionController {
+
+    static final String UPLOAD_OFFSET = "Upload-Offset";
+
+    private final UploadSessionService uploadSessionService;
+
+    @Autowired
+    public UploadSessionController(UploadSessionService uploadSessionService) {
+        this.uploadSessionService = uploadSessionService;
+    }
+
+    @PostMapping
+    public ResponseEntity<?> createSession(@RequestBody @Valid UploadSessionCreateRequest request,
+                                           @RequestHeader(value = "X-REQUESTER-ID") String requesterId) {
+        UploadSessionResponse session = uploadSessionService.createSession(request, requesterId);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .header(UPLOAD_OFFSET, String.valueOf(session.offset()))
+                .body(session);
+    } // todo: 추후 Spring Security로 requesterId 추출 방식 교체
+
+
+    @PutMapping(value = "/{sessionId}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<?> appendChunk(@PathVariable String sessionId,
+                                         @RequestHeader(UPLOAD_OFFSET) long offset,
+                                         @RequestHeader(HttpHeaders.CONTENT_LENGTH) long contentLength,
+                                         @RequestHeader(value = "X-REQUESTER-ID") String requesterId,
+                                         InputStream body) {
+        UploadSessionResponse session = uploadSessionService.appendChunk(sessionId, offset, contentLength, body, requesterId);
+        return ResponseEntity.ok()
+                .header(UPLOAD_OFFSET, String.valueOf(session.offset()))
+                .body(session);
+    } // todo: 추후 Spring Security로 requesterId 추출 방식 교체
+
+
+    @GetMapping("/{sessionId}")
+    public ResponseEntity<?> getSession(@PathVariable String sessionId,
+                                        @RequestHeader(value = "X-REQUESTER-ID") String requesterId) {
+        UploadSessionResponse session = uploadSessionService.getSession(sessionId, requesterId);
+        return ResponseEntity.ok()
+                .header(UPLOAD_OFFSET, String.valueOf(session.offset()))
+                .body(session);
+    } // todo: 추후 Spring Security로 requesterId 추출 방식 교체
+
+
+    @PostMapping(value = "/{sessionId}/complete", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<?> completeSession(@PathVariable String sessionId,
+                                             @RequestPart("info") @Valid VideoInfoRequest info,
+                                             @RequestPart(value = "thumbnail", required = false) MultipartFile thumbnail,
+                                             @RequestParam("petId") String petId,
+                                             @RequestHeader(value = "X-REQUESTER-ID") String requesterId) {
+        String videoId = uploadSessionService.completeSession(sessionId, info, thumbnail, petId, requesterId);
+        return ResponseEntity.status(HttpStatus.CREATED).body(new MessageResponse(videoId));
+    } // todo: 추후 Spring Security로 requesterId 추출 방식 교체
+
+}
@@ -1,17 +1,29 @@
 package com.petstarproject.petstar.controller;
 
+import com.petstarproject.petstar.dto.CursorPageResponse;
+import com.petstarproject.petstar.dto.DirectUploadRequest;
+import com.petstarproject.petstar.dto.DirectUploadResponse;
 import com.petstarproject.petstar.dto.MessageResponse;
 import com.petstarproject.petstar.dto.VideoInfoRequest;
 import com.petstarproject.petstar.dto.VideoResponse;
+import com.petstarproject.petstar.dto.VideoSummaryResponse;
 import com.petstarproject.petstar.entity.Video;
+import com.petstarproject.petstar.enums.VideoStatus;
+import com.petstarproject.petstar.enums.Visibility;
+import com.petstarproject.petstar.service.StoredObject;
 import com.petstarproject.petstar.service.VideoService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
 
 @RestController
 @RequestMapping("api/videos")
@@ -27,8 +39,83 @@ public class VideoController {
     @GetMapping("/{videoId}")
     public ResponseEntity<?> getVideo(@PathVariable String videoId,
                                       @RequestHeader(value = "X-REQUESTER-ID", required = false) String requesterId) {
-        Video video = videoService.getVideo(videoId, requesterId);
-        return ResponseEntity.ok(VideoResponse.from(video));
+        VideoResponse video = videoService.getVideo(videoId, requesterId);
+        return ResponseEntity.ok(video);
+    } // todo: 추후 Spring Security로 requesterId 추출 방식 교체
+
+
+    /**
+     * 여러 동영상을 한 번에 조회합니다. 없거나 볼 수 없는 동영상은 빼고 요청 순서대로 반환합니다.
+     */
+    @GetMapping(params = "ids")
+    public ResponseEntity<?> getVideos(@RequestParam List<String> ids,
+                                       @RequestHeader(value = "X-REQUESTER-ID", required = false) String requesterId) {
+        List<VideoResponse> videos = videoService.getVideos(ids, requesterId);
+        return ResponseEntity.ok(videos);
+    } // todo: 추후 Spring Security로 requesterId 추출 방식 교체
+
+
+    /**
+     * Pet 또는 작성자의 동영상 목록을 최신순으로 조회합니다. 다음 페이지는 응답의 nextCursor를 cursor로 넘겨 조회합니다.
+     */
+    @GetMapping
+    public ResponseEntity<?> listVideos(@RequestParam(required = false) String petId,
+                                        @RequestParam(required = false) String ownerId,
+                                        @RequestParam(required = false) Visibility visibility,
+                                        @RequestParam(required = false) VideoStatus status,
+                                        @RequestParam(required = false) String cursor,
+                                        @RequestParam(required = false) Integer size,
+                                        @RequestHeader(value = "X-REQUESTER-ID", required = false) String requesterId) {
+        CursorPageResponse<VideoSummaryResponse> page = videoService.listVideos(petId, ownerId, visibility, status, cursor, size, requesterId);
+        return ResponseEntity.ok(page);
+    } // todo: 추후 Spring Security로 requesterId 추출 방식 교체
+
+
+    /**
+     * 원본 영상을 재생용으로 전송합니다. 단일 Range 요청이면 206으로 해당 구간만 보내며,
+     * If-Range의 ETag가 현재 객체와 다르면 Range를 무시하고 전체를 보냅니다.
+     */
+    @GetMapping("/{videoId}/stream")
+    public ResponseEntity<StreamingResponseBody> streamVideo(@PathVariable String videoId,
+                                                             @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+                                                             @RequestHeader(value = HttpHeaders.IF_RANGE, required = false) String ifRange,
+                                                             @RequestHeader(value = "X-REQUESTER-ID", required = false) String requesterId) {
+        StoredObject source = videoService.getVideoSource(videoId, requesterId);
+        long size = source.size();
+        String eTag = quote(source.eTag());
+        MediaType contentType = source.contentType() != null
+                ? MediaType.parseMediaType(source.contentType())
+                : MediaType.valueOf("video/mp4");
+
+        HttpRange httpRange = selectRange(range, ifRange, eTag);
+        if (httpRange == null) {
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                    .eTag(eTag)
+                    .contentType(contentType)
+                    .contentLength(size)
+                    .body(out -> videoService.writeVideoSource(source, 0, size, out));
+        }
+
+        long start;
+        long end;
+        try {
+            start = httpRange.getRangeStart(size);
+            end = httpRange.getRangeEnd(size);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                    .header(HttpHeaders.CONTENT_RANGE, "bytes */" + size)
+                    .build();
+        }
+
+        long length = end - start + 1;
+        return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .header(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size)
+                .eTag(eTag)
+                .contentType(contentType)
+                .contentLength(length)
+                .body(out -> videoService.writeVideoSource(source, start, length, out));
     } // todo: 추후 Spring Security로 requesterId 추출 방식 교체
 
 
@@ -45,6 +132,26 @@ public class VideoController {
     } // todo: 추후 Spring Security로 requesterId 추출 방식 교체
 
 
+    /**
+     * 원본/썸네일을 S3에 직접 업로드할 presigned URL을 발급합니다.
+     */
+    @PostMapping("/direct-uploads")
+    public ResponseEntity<?> createDirectUpload(@RequestBody @Valid DirectUploadRequest request,
+                                                @RequestParam("petId") String petId,
+                                                @RequestHeader(value = "X-REQUESTER-ID") String requesterId) {
+        DirectUploadResponse response = videoService.createDirectUpload(request, petId, requesterId);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    } // todo: 추후 Spring Security로 requesterId 추출 방식 교체
+
+
+    @PostMapping("/{videoId}/direct-uploads/complete")
+    public ResponseEntity<?> completeDirectUpload(@PathVariable String videoId,
+                                                  @RequestHeader(value = "X-REQUESTER-ID") String requesterId) {
+        Video video = videoService.completeDirectUpload(videoId, requesterId);
+        return ResponseEntity.ok(VideoResponse.from(video));
+    } // todo: 추후 Spring Security로 requesterId 추출 방식 교체
+
+
     @PatchMapping(value = "/{videoId}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<?> updateVideo(
             @PathVariable String videoId,
@@ -66,4 +173,24 @@ public class VideoController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * 처리할 단일 Range를 고릅니다. Range가 없거나, 형식이 잘못되었거나, 여러 구간이거나,
+     * If-Range가 현재 ETag와 다르면 null(전체 전송)을 반환합니다.
+     */
+    private HttpRange selectRange(String range, String ifRange, String eTag) {
+        if (range == null || range.isBlank()) return null;
+        if (ifRange != null && !ifRange.equals(eTag)) return null;
+
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(range);
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private String quote(String eTag) {
+        if (eTag == null) return null;
+        return eTag.startsWith("\"") || eTag.startsWith("W/") ? eTag : "\"" + eTag + "\"";
+    }
 }
@@ -0,0 +1,13 @@
+package com.petstarproject.petstar.dto;
+
+import java.util.List;
+
+/**
+ * @param nextCursor 다음 페이지를 조회할 때 {@code cursor}로 넘길 값. 마지막 페이지면 null
+ */
+public record CursorPageResponse<T>(List<T> items, String nextCursor) {
+
+    public static <T> CursorPageResponse<T> empty() {
+        return new CursorPageResponse<>(List.of(), null);
+    }
+}
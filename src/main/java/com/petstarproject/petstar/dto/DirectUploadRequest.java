@@ -0,0 +1,42 @@
+package com.petstarproject.petstar.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * S3 직접 업로드용 presigned URL 발급 요청입니다.
+ * 썸네일을 함께 올리려면 thumbnailContentType, thumbnailSize를 모두 보냅니다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DirectUploadRequest {
+
+    @NotNull
+    @Valid
+    private VideoInfoRequest info;
+
+    @Positive
+    private long size;  // 원본 영상 크기(byte)
+
+    @NotBlank
+    private String contentType;
+
+    private String filename;
+
+    private String thumbnailContentType;
+
+    @Positive
+    private Long thumbnailSize;
+
+    public boolean hasThumbnail() {
+        return thumbnailContentType != null && thumbnailSize != null;
+    }
+}
@@ -0,0 +1,16 @@
+package com.petstarproject.petstar.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * @param sourceUploadUrl    원본 영상 PUT URL
+ * @param thumbnailUploadUrl 썸네일 PUT URL (요청하지 않았으면 null)
+ * @param expiresAt          URL 만료 시각
+ */
+public record DirectUploadResponse(
+        String videoId,
+        String sourceUploadUrl,
+        String thumbnailUploadUrl,
+        LocalDateTime expiresAt
+) {
+}
@@ -0,0 +1,14 @@
+package com.petstarproject.petstar.dto;
+
+import com.petstarproject.petstar.entity.ImageRendition;
+
+import java.util.List;
+
+public record ImageRenditionResponse(int width, String key) {
+
+    public static List<ImageRenditionResponse> from(List<ImageRendition> renditions) {
+        return renditions.stream()
+                .map(rendition -> new ImageRenditionResponse(rendition.getWidth(), rendition.getKey()))
+                .toList();
+    }
+}
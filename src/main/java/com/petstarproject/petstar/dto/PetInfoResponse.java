@@ -3,13 +3,16 @@ package com.petstarproject.petstar.dto;
 import com.petstarproject.petstar.entity.Pet;
 import com.petstarproject.petstar.enums.Gender;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 
-@Data
+import java.util.List;
+
+@Getter
 @AllArgsConstructor
 public class PetInfoResponse {
     private String id;
     private String profileImageKey;
+    private List<ImageRenditionResponse> profileImageRenditions;
     private String name;
     private Integer age;
     private String species;
@@ -17,14 +20,22 @@ public class PetInfoResponse {
     private String bio; // 소개글
 
     public static PetInfoResponse from(Pet pet) {
+        return from(pet, pet.getBio());
+    }
+
+    /**
+     * 지연 로딩하는 bio를 따로 읽어 온 경우에 사용합니다.
+     */
+    public static PetInfoResponse from(Pet pet, String bio) {
         return new PetInfoResponse(
                 pet.getId(),
                 pet.getProfileImageKey(),
+                ImageRenditionResponse.from(pet.getProfileImageRenditions()),
                 pet.getName(),
                 pet.getAge(),
                 pet.getSpecies(),
                 pet.getGender(),
-                pet.getBio()
+                bio
         );
     }
 }
@@ -1,5 +1,6 @@
 package com.petstarproject.petstar.dto;
 
+import com.petstarproject.petstar.entity.ImageRendition;
 import com.petstarproject.petstar.entity.Posting;
 import com.petstarproject.petstar.enums.Visibility;
 import lombok.Builder;
@@ -20,25 +21,42 @@ public class PostingResponse {
     private int likeCount;
     private int commentCount;
     private List<String> imageKeys;
+    private List<List<ImageRenditionResponse>> imageRenditions; // imageKeys와 같은 순서
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private LocalDateTime publishedAt;
 
     public static PostingResponse from(Posting posting) {
+        return from(posting, posting.getContent());
+    }
+
+    /**
+     * 지연 로딩하는 content를 따로 읽어 온 경우에 사용합니다.
+     */
+    public static PostingResponse from(Posting posting, String content) {
         return PostingResponse.builder()
                 .id(posting.getId())
                 .petId(posting.getPetId())
                 .ownerId(posting.getOwnerId())
                 .title(posting.getTitle())
-                .content(posting.getContent())
+                .content(content)
                 .visibility(posting.getVisibility())
                 .likeCount(posting.getLikeCount())
                 .commentCount(posting.getCommentCount())
-                .imageKeys(posting.getImageKeys())
+                .imageKeys(List.copyOf(posting.getImageKeys()))
+                .imageRenditions(groupByImage(posting.getImageKeys(), posting.getImageRenditions()))
                 .createdAt(posting.getCreatedAt())
                 .updatedAt(posting.getUpdatedAt())
                 .publishedAt(posting.getPublishedAt())
                 .build();
     }
 
+    private static List<List<ImageRenditionResponse>> groupByImage(List<String> imageKeys, List<ImageRendition> renditions) {
+        return imageKeys.stream()
+                .map(imageKey -> ImageRenditionResponse.from(renditions.stream()
+                        .filter(rendition -> rendition.getOriginalKey().equals(imageKey))
+                        .toList()))
+                .toList();
+    }
+
 }
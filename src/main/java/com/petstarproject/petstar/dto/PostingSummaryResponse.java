@@ -0,0 +1,23 @@
+package com.petstarproject.petstar.dto;
+
+import com.petstarproject.petstar.enums.Visibility;
+
+import java.time.LocalDateTime;
+
+/**
+ * 목록 조회용 게시글 요약. 본문(content)은 포함하지 않고 이미지는 첫 번째 key만 포함합니다.
+ * @param coverImageKey 첫 번째 이미지 key. 이미지가 없으면 null
+ */
+public record PostingSummaryResponse(
+        String id,
+        String petId,
+        String ownerId,
+        String title,
+        Visibility visibility,
+        String coverImageKey,
+        int likeCount,
+        int commentCount,
+        LocalDateTime createdAt,
+        LocalDateTime publishedAt
+) {
+}
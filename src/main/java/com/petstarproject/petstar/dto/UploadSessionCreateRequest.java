@@ -0,0 +1,23 @@
+package com.petstarproject.petstar.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UploadSessionCreateRequest {
+
+    @Positive
+    private long size;  // 전체 파일 크기(byte)
+
+    @NotBlank
+    private String contentType;
+
+    private String filename;
+}
@@ -0,0 +1,33 @@
+package com.petstarproject.petstar.dto;
+
+import com.petstarproject.petstar.entity.UploadSession;
+import com.petstarproject.petstar.enums.UploadSessionStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * @param offset    다음 chunk를 보낼 위치 (지금까지 받은 byte 수)
+ * @param chunkSize 한 번에 보낼 수 있는 최대 chunk 크기
+ * @param videoId   완료된 세션이면 생성된 동영상 ID
+ */
+public record UploadSessionResponse(
+        String sessionId,
+        UploadSessionStatus status,
+        long size,
+        long offset,
+        long chunkSize,
+        String videoId,
+        LocalDateTime expiresAt
+) {
+    public static UploadSessionResponse from(UploadSession session, long chunkSize) {
+        return new UploadSessionResponse(
+                session.getId(),
+                session.getStatus(),
+                session.getTotalSize(),
+                session.getReceivedSize(),
+                chunkSize,
+                session.getVideoId(),
+                session.getExpiresAt()
+        );
+    }
+}
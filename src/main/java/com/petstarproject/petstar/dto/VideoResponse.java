@@ -1,6 +1,7 @@
 package com.petstarproject.petstar.dto;
 
 import com.petstarproject.petstar.entity.Video;
+import com.petstarproject.petstar.enums.VideoStatus;
 import com.petstarproject.petstar.enums.Visibility;
 import lombok.Builder;
 import lombok.Getter;
@@ -17,9 +18,12 @@ public class VideoResponse {
     private String title;
     private String description;
     private Visibility visibility;
+    private VideoStatus status; // UPLOADING -> (TRANSCODING) -> READY/FAILED
     private int durationSec;
     private String sourceKey;
     private String thumbnailKey;
+    private List<ImageRenditionResponse> thumbnailRenditions;
+    private String hlsPlaylistKey;
     private int viewCount;
     private int likeCount;
     private int commentCount;
@@ -27,19 +31,29 @@ public class VideoResponse {
     private LocalDateTime publishedAt;
 
     public static VideoResponse from(Video video) {
+        return from(video, video.getDescription());
+    }
+
+    /**
+     * 지연 로딩하는 description을 따로 읽어 온 경우에 사용합니다.
+     */
+    public static VideoResponse from(Video video, String description) {
         return VideoResponse.builder()
                 .id(video.getId())
                 .petId(video.getPetId())
                 .ownerId(video.getOwnerId())
                 .title(video.getTitle())
-                .description(video.getDescription())
+                .description(description)
                 .visibility(video.getVisibility())
+                .status(video.getStatus())
                 .durationSec(video.getDurationSec())
                 .sourceKey(video.getSourceKey())
                 .thumbnailKey(video.getThumbnailKey())
+                .thumbnailRenditions(ImageRenditionResponse.from(video.getThumbnailRenditions()))
+                .hlsPlaylistKey(video.getHlsPlaylistKey())
                 .viewCount(video.getViewCount())
                 .likeCount(video.getLikeCount())
-                .tags(video.getTags())
+                .tags(List.copyOf(video.getTags()))
                 .publishedAt(video.getPublishedAt())
                 .build();
     }
@@ -0,0 +1,26 @@
+package com.petstarproject.petstar.dto;
+
+import com.petstarproject.petstar.enums.VideoStatus;
+import com.petstarproject.petstar.enums.Visibility;
+
+import java.time.LocalDateTime;
+
+/**
+ * 목록 조회용 동영상 요약. 본문(description)과 컬렉션(tags, 썸네일 축소본)은 포함하지 않으며 JPQL 생성자 표현식으로 바로 만듭니다.
+ */
+public record VideoSummaryResponse(
+        String id,
+        String petId,
+        String ownerId,
+        String title,
+        Visibility visibility,
+        VideoStatus status,
+        int durationSec,
+        String thumbnailKey,
+        int viewCount,
+        int likeCount,
+        int commentCount,
+        LocalDateTime createdAt,
+        LocalDateTime publishedAt
+) {
+}
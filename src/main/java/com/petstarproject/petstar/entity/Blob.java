@@ -0,0 +1,53 @@
+package com.petstarproject.petstar.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내용(SHA-256) 기준으로 중복 제거된 저장 객체입니다.
+ * 같은 내용을 가리키는 레코드 수를 refCount로 관리하며, 0이 되면 객체를 삭제합니다.
+ */
+@Entity
+@Getter
+@Table(name = "blobs",
+        uniqueConstraints = @UniqueConstraint(name = "uk_blobs_storage_key", columnNames = "storage_key"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Blob {
+
+    @Id
+    @Column(length = 64)
+    private String hash;    // 소문자 hex SHA-256 (PK)
+
+    @Column(name = "storage_key", nullable = false, length = 500)
+    private String storageKey;  // 실제 객체 key (처음 업로드된 key)
+
+    @Column(nullable = false)
+    private long size;
+
+    @Column(name = "content_type", length = 100)
+    private String contentType;
+
+    @Column(name = "ref_count", nullable = false)
+    private int refCount;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // 도메인 메서드
+
+    public void retain() {
+        this.refCount++;
+    }
+
+    /**
+     * @return 남은 참조 수
+     */
+    public int release() {
+        if (refCount > 0) refCount--;
+        return refCount;
+    }
+}
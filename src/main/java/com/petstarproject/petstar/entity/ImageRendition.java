@@ -0,0 +1,27 @@
+package com.petstarproject.petstar.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 원본 이미지에서 만든 축소본(rendition) 하나입니다.
+ */
+@Embeddable
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ImageRendition {
+
+    @Column(name = "original_key", nullable = false, length = 500)
+    private String originalKey; // 원본 이미지 key
+
+    @Column(nullable = false)
+    private int width;  // rendition 기준 너비(px), 원본이 더 작으면 원본 너비로 저장됨
+
+    @Column(name = "rendition_key", nullable = false, length = 500)
+    private String key;
+}
@@ -0,0 +1,86 @@
+package com.petstarproject.petstar.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 삭제 대기 중인 스토리지 객체입니다. (transactional outbox)
+ * 엔티티 삭제와 같은 트랜잭션에서 저장되고, 백그라운드 drainer가 실제 객체를 지운 뒤 row를 삭제합니다.
+ * {@code prefix}가 true면 key 대신 prefix 아래의 모든 객체를 뜻하며, drainer가 개별 key로 풀어 다시 저장합니다.
+ */
+@Entity
+@Getter
+@Table(name = "pending_object_deletions",
+        indexes = @Index(name = "idx_pending_object_deletions_available_at", columnList = "available_at"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PendingObjectDeletion {
+
+    @Id
+    @Column(length = 36)
+    private String id;  // UUID(PK)
+
+    @Column(name = "object_key", nullable = false, length = 500)
+    private String objectKey;
+
+    @Column(nullable = false)
+    private boolean prefix;
+
+    @Column(nullable = false)
+    private boolean released;   // blob 참조를 이미 해제했는지 (재시도할 때 참조 수를 다시 줄이지 않음)
+
+    @Column(nullable = false)
+    private int attempts;   // 삭제를 시도한 횟수
+
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;  // 이 시각 이후에 삭제 시도 (lease, 재시도 backoff)
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // 도메인 메서드
+
+    public static PendingObjectDeletion ofKey(String id, String objectKey) {
+        return create(id, objectKey, false);
+    }
+
+    public static PendingObjectDeletion ofPrefix(String id, String prefix) {
+        return create(id, prefix, true);
+    }
+
+    private static PendingObjectDeletion create(String id, String objectKey, boolean prefix) {
+        LocalDateTime now = LocalDateTime.now();
+
+        PendingObjectDeletion deletion = new PendingObjectDeletion();
+        deletion.id = id;
+        deletion.objectKey = objectKey;
+        deletion.prefix = prefix;
+        deletion.attempts = 0;
+        deletion.availableAt = now;
+        deletion.createdAt = now;
+        return deletion;
+    }
+
+    /**
+     * 다른 노드의 drainer가 가져가지 않도록 leaseExpiresAt까지 미룹니다. drainer가 중간에 죽으면 그 이후 다시 시도됩니다.
+     */
+    public void lease(LocalDateTime leaseExpiresAt) {
+        this.attempts++;
+        this.availableAt = leaseExpiresAt;
+    }
+
+    public void markReleased() {
+        this.released = true;
+    }
+
+    public void retry(LocalDateTime availableAt, String error) {
+        this.availableAt = availableAt;
+        this.lastError = error == null || error.length() <= 500 ? error : error.substring(0, 500);
+    }
+}
@@ -3,20 +3,36 @@ package com.petstarproject.petstar.entity;
 
 import com.petstarproject.petstar.enums.Gender;
 import jakarta.persistence.*;
-import lombok.AllArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.LazyGroup;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.util.ArrayList;
+import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "pets")
 @Data
-@AllArgsConstructor
 @NoArgsConstructor
 public class Pet {
     @Id
     @Column(length = 36)
     private String id;  // UUID(PK)
 
+    @Version
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    private Long version;   // 노드별 2차 캐시에서 읽은 낡은 상태로 덮어쓰지 않도록 낙관적 락
+
     @Column(name = "owner_id", nullable = false, length = 36)
     private String ownerId; // FK
 
@@ -32,12 +48,49 @@ public class Pet {
     @Column(nullable = false, length = 20)
     private Gender gender;      // MALE, FEMALE
 
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup("bio")
     @Column(columnDefinition = "TEXT")
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private String bio;     // 소개글
 
     @Column(name = "profile_image_key", length = 500)
     private String profileImageKey; // s3 프로필 이미지 key
 
+    @ElementCollection
+    @BatchSize(size = 100)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+    @CollectionTable(
+            name = "pet_profile_image_renditions",
+            joinColumns = @JoinColumn(name = "pet_id")
+    )
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private List<ImageRendition> profileImageRenditions = new ArrayList<>(); // 프로필 이미지 축소본
+
     @Column(name = "subscription_count", nullable = false)
     private Integer subscriptionCount; // 구독자 수
+
+    public Pet(String id, String ownerId, String name, Integer age, String species, Gender gender,
+               String bio, String profileImageKey, Integer subscriptionCount) {
+        this.id = id;
+        this.ownerId = ownerId;
+        this.name = name;
+        this.age = age;
+        this.species = species;
+        this.gender = gender;
+        this.bio = bio;
+        this.profileImageKey = profileImageKey;
+        this.subscriptionCount = subscriptionCount;
+    }
+
+    /**
+     * 프로필 이미지가 바뀌면 축소본도 함께 교체합니다.
+     */
+    public void updateProfileImage(String profileImageKey, List<ImageRendition> renditions) {
+        this.profileImageKey = profileImageKey;
+        this.profileImageRenditions.clear();
+        this.profileImageRenditions.addAll(renditions);
+    }
 }
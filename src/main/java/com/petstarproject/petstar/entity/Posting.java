@@ -2,6 +2,10 @@ package com.petstarproject.petstar.entity;
 
 import com.petstarproject.petstar.enums.Visibility;
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.LazyGroup;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -11,8 +15,14 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Getter
-@Table(name = "postings")
+@Table(name = "postings",
+        indexes = {
+                @Index(name = "idx_postings_pet_id_created_at", columnList = "pet_id, created_at, id"),
+                @Index(name = "idx_postings_owner_id_created_at", columnList = "owner_id, created_at, id")
+        })
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Posting {
 
@@ -20,6 +30,9 @@ public class Posting {
     @Column(length = 36)
     private String id; // UUID(PK)
 
+    @Version
+    private Long version;   // 노드별 2차 캐시에서 읽은 낡은 상태로 덮어쓰지 않도록 낙관적 락
+
     @Column(name = "pet_id", nullable = false, length = 36)
     private String petId; // FK
 
@@ -29,6 +42,8 @@ public class Posting {
     @Column(nullable = false, length = 255)
     private String title;
 
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup("content")
     @Column(columnDefinition = "TEXT", nullable = false)
     private String content;
 
@@ -43,6 +58,8 @@ public class Posting {
     private int commentCount;
 
     @ElementCollection
+    @BatchSize(size = 100)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @CollectionTable(
             name = "posting_images",
             joinColumns = @JoinColumn(name = "posting_id")
@@ -51,6 +68,15 @@ public class Posting {
     @Column(name = "image_key", length = 500, nullable = false)
     private List<String> imageKeys = new ArrayList<>(); // 최대 5개
 
+    @ElementCollection
+    @BatchSize(size = 100)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+    @CollectionTable(
+            name = "posting_image_renditions",
+            joinColumns = @JoinColumn(name = "posting_id")
+    )
+    private List<ImageRendition> imageRenditions = new ArrayList<>(); // 이미지별 축소본
+
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
@@ -93,6 +119,10 @@ public class Posting {
     }
 
 
+    public void addImageRenditions(List<ImageRendition> renditions) {
+        this.imageRenditions.addAll(renditions);
+    }
+
     public void updateMeta(String title,
                            String content,
                            Visibility visibility) {
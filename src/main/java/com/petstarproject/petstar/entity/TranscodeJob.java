@@ -0,0 +1,133 @@
+package com.petstarproject.petstar.entity;
+
+import com.petstarproject.petstar.enums.TranscodeJobStatus;
+import com.petstarproject.petstar.enums.TranscodeLane;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 트랜스코딩 작업 큐의 한 항목입니다.
+ * worker는 row를 lease 해서 처리하며, lease가 만료되면(worker 장애 등) 다른 worker가 다시 가져갑니다.
+ */
+@Entity
+@Getter
+@Table(name = "transcode_jobs",
+        indexes = {
+                @Index(name = "idx_transcode_jobs_lease", columnList = "lane, status, available_at"),
+                @Index(name = "idx_transcode_jobs_video_id", columnList = "video_id")
+        })
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TranscodeJob {
+
+    @Id
+    @Column(length = 36)
+    private String id;  // UUID(PK)
+
+    @Column(name = "video_id", nullable = false, length = 36)
+    private String videoId;
+
+    @Column(name = "source_key", nullable = false, length = 500)
+    private String sourceKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private TranscodeLane lane; // SHORT, LONG
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private TranscodeJobStatus status; // QUEUED, RUNNING, SUCCEEDED, FAILED
+
+    @Column(nullable = false)
+    private int attempts;   // lease 된 횟수
+
+    @Column(name = "lease_owner", length = 100)
+    private String leaseOwner;
+
+    @Column(name = "lease_expires_at")
+    private LocalDateTime leaseExpiresAt;
+
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;  // 이 시각 이후에 lease 가능 (재시도 backoff)
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    // 도메인 메서드
+
+    public static TranscodeJob create(String id, String videoId, String sourceKey, TranscodeLane lane) {
+        LocalDateTime now = LocalDateTime.now();
+
+        TranscodeJob job = new TranscodeJob();
+        job.id = id;
+        job.videoId = videoId;
+        job.sourceKey = sourceKey;
+        job.lane = lane;
+        job.status = TranscodeJobStatus.QUEUED;
+        job.attempts = 0;
+        job.availableAt = now;
+        job.createdAt = now;
+        return job;
+    }
+
+    public void lease(String owner, LocalDateTime leaseExpiresAt) {
+        this.status = TranscodeJobStatus.RUNNING;
+        this.attempts++;
+        this.leaseOwner = owner;
+        this.leaseExpiresAt = leaseExpiresAt;
+    }
+
+    /**
+     * lease 했지만 실행하지 못한 작업을 바로 다시 lease 할 수 있게 돌려놓습니다. 시도하지 않았으므로 횟수도 되돌립니다.
+     */
+    public void unlease() {
+        this.status = TranscodeJobStatus.QUEUED;
+        this.attempts--;
+        this.leaseOwner = null;
+        this.leaseExpiresAt = null;
+    }
+
+    /**
+     * lease가 만료되어 다른 worker가 가져갔다면 이전 worker의 결과는 반영하지 않습니다.
+     */
+    public boolean isLeasedBy(String owner) {
+        return status == TranscodeJobStatus.RUNNING && owner.equals(leaseOwner);
+    }
+
+    public void succeed() {
+        this.status = TranscodeJobStatus.SUCCEEDED;
+        this.leaseOwner = null;
+        this.leaseExpiresAt = null;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public void retry(LocalDateTime availableAt, String error) {
+        this.status = TranscodeJobStatus.QUEUED;
+        this.leaseOwner = null;
+        this.leaseExpiresAt = null;
+        this.availableAt = availableAt;
+        this.lastError = truncate(error);
+    }
+
+    public void fail(String error) {
+        this.status = TranscodeJobStatus.FAILED;
+        this.leaseOwner = null;
+        this.leaseExpiresAt = null;
+        this.lastError = truncate(error);
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= 500) return error;
+        return error.substring(0, 500);
+    }
+}
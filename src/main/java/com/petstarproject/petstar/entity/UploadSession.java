@@ -0,0 +1,100 @@
+package com.petstarproject.petstar.entity;
+
+import com.petstarproject.petstar.enums.UploadSessionStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재개 가능한 동영상 업로드 세션입니다.
+ * 받은 chunk는 로컬 spool 파일에 offset 위치로 기록하고, 세션은 지금까지 이어서 받은 byte 수만 관리합니다.
+ */
+@Entity
+@Getter
+@Table(name = "upload_sessions",
+        indexes = @Index(name = "idx_upload_sessions_expires_at", columnList = "expires_at"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UploadSession {
+
+    @Id
+    @Column(length = 36)
+    private String id;  // UUID(PK)
+
+    @Column(name = "owner_id", nullable = false, length = 36)
+    private String ownerId;
+
+    @Column(name = "content_type", nullable = false, length = 100)
+    private String contentType;
+
+    @Column(name = "original_filename", length = 255)
+    private String originalFilename;
+
+    @Column(name = "total_size", nullable = false)
+    private long totalSize;     // 전체 파일 크기(byte)
+
+    @Column(name = "received_size", nullable = false)
+    private long receivedSize;  // 처음부터 끊김 없이 받은 byte 수 (= 다음 chunk offset)
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private UploadSessionStatus status; // IN_PROGRESS, COMPLETED
+
+    @Column(name = "video_id", length = 36)
+    private String videoId;     // 완료 후 생성된 동영상 ID
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    // 도메인 메서드
+
+    public static UploadSession create(
+            String id,
+            String ownerId,
+            String contentType,
+            String originalFilename,
+            long totalSize,
+            LocalDateTime expiresAt
+    ) {
+        UploadSession session = new UploadSession();
+        session.id = id;
+        session.ownerId = ownerId;
+        session.contentType = contentType;
+        session.originalFilename = originalFilename;
+        session.totalSize = totalSize;
+        session.receivedSize = 0;
+        session.status = UploadSessionStatus.IN_PROGRESS;
+        session.createdAt = LocalDateTime.now();
+        session.expiresAt = expiresAt;
+        return session;
+    }
+
+    public boolean isInProgress() {
+        return status == UploadSessionStatus.IN_PROGRESS;
+    }
+
+    public boolean isFullyReceived() {
+        return receivedSize == totalSize;
+    }
+
+    public void advance(long length) {
+        this.receivedSize += length;
+    }
+
+    /**
+     * chunk를 받을 때마다 만료 시각을 뒤로 미룹니다.
+     */
+    public void extendExpiry(LocalDateTime expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    public void complete(String videoId) {
+        this.videoId = videoId;
+        this.status = UploadSessionStatus.COMPLETED;
+    }
+}
@@ -4,9 +4,14 @@ import com.petstarproject.petstar.enums.UserRole;
 import com.petstarproject.petstar.enums.UserStatus;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.LazyGroup;
 
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(
@@ -18,6 +23,9 @@ public class User {
     @Id
     private String id; // UUID(PK)
 
+    @Version
+    private Long version;   // 노드별 2차 캐시에서 읽은 낡은 상태로 덮어쓰지 않도록 낙관적 락
+
     @Column(nullable = false, length = 120)
     private String email;
 
@@ -32,6 +40,8 @@ public class User {
     @Column(nullable = false, length = 20)
     private UserStatus status;
 
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup("bio")
     @Column(columnDefinition = "TEXT")
     private String bio;
 
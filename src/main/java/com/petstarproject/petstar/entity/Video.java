@@ -3,6 +3,10 @@ package com.petstarproject.petstar.entity;
 import com.petstarproject.petstar.enums.VideoStatus;
 import com.petstarproject.petstar.enums.Visibility;
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.LazyGroup;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -12,14 +16,23 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Getter
-@Table(name = "videos")
+@Table(name = "videos",
+        indexes = {
+                @Index(name = "idx_videos_pet_id_created_at", columnList = "pet_id, created_at, id"),
+                @Index(name = "idx_videos_owner_id_created_at", columnList = "owner_id, created_at, id")
+        })
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Video {
     @Id
     @Column(length = 36)
     private String id;  // UUID(PK)
 
+    @Version
+    private Long version;   // 노드별 2차 캐시에서 읽은 낡은 상태로 덮어쓰지 않도록 낙관적 락
+
     @Column(name = "pet_id", nullable = false, length = 36)
     private String petId;   // FK
 
@@ -29,6 +42,8 @@ public class Video {
     @Column(nullable = false, length = 255)
     private String title;
 
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup("description")
     @Column(columnDefinition = "TEXT")
     private String description;
 
@@ -40,12 +55,15 @@ public class Video {
     @Column(nullable = false, length = 20)
     private Visibility visibility;  // PUBLIC, PRIVATE
 
-    @Column(name = "source_key", nullable = false, length = 500)
-    private String sourceKey;   // S3 원본 파일 key
+    @Column(name = "source_key", length = 500)
+    private String sourceKey;   // S3 원본 파일 key (ingest 실패로 정리되면 null)
 
     @Column(name = "thumbnail_key", length = 500)
     private String thumbnailKey;    // 썸네일 S3 key
 
+    @Column(name = "hls_playlist_key", length = 500)
+    private String hlsPlaylistKey;  // HLS media playlist key (패키징 전/실패 시 null)
+
     @Column(name = "duration_sec", nullable = false)
     private int durationSec;    // 영상 길이(초)
 
@@ -59,6 +77,8 @@ public class Video {
     private int commentCount;
 
     @ElementCollection
+    @BatchSize(size = 100)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @CollectionTable(
             name = "video_tags",
             joinColumns = @JoinColumn(name = "video_id")
@@ -66,6 +86,15 @@ public class Video {
     @Column(name = "tag", length = 50)
     private List<String> tags = new ArrayList<>();
 
+    @ElementCollection
+    @BatchSize(size = 100)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+    @CollectionTable(
+            name = "video_thumbnail_renditions",
+            joinColumns = @JoinColumn(name = "video_id")
+    )
+    private List<ImageRendition> thumbnailRenditions = new ArrayList<>(); // 썸네일 축소본
+
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
@@ -93,7 +122,7 @@ public class Video {
         video.ownerId = ownerId;
         video.title = title;
         video.description = description;
-        video.status = VideoStatus.UPLOADING; // todo: Uploading -> Ready 기능 추가
+        video.status = VideoStatus.UPLOADING; // ingest 완료 후 READY/FAILED로 전이
         video.visibility = visibility;
         video.sourceKey = sourceKey;
         video.thumbnailKey = thumbnailKey;
@@ -123,7 +152,58 @@ public class Video {
         }
     }
 
+    public void relinkSource(String sourceKey) {
+        this.sourceKey = sourceKey;
+    }
+
+    /**
+     * 썸네일이 바뀌면 이전 썸네일의 축소본도 비웁니다. 축소본 객체는 호출하는 쪽에서 삭제 큐에 기록해야 합니다.
+     */
     public void updateThumbnail(String thumbnailKey) {
         this.thumbnailKey = thumbnailKey;
+        this.thumbnailRenditions.clear();
+    }
+
+    public void addThumbnailRenditions(List<ImageRendition> renditions) {
+        this.thumbnailRenditions.addAll(renditions);
+    }
+
+    /**
+     * 업로드 처리가 끝나면 영상 길이를 채우고 READY로 전이합니다.
+     * @param durationSec 업로드된 원본에서 추출한 영상 길이(초)
+     */
+    public void markReady(int durationSec) {
+        this.durationSec = durationSec;
+        this.status = VideoStatus.READY;
+    }
+
+    /**
+     * 원본 업로드가 끝나고 트랜스코딩 작업을 큐에 넣으면 TRANSCODING으로 전이합니다.
+     * @param durationSec 업로드된 원본에서 추출한 영상 길이(초)
+     */
+    public void markTranscoding(int durationSec) {
+        this.durationSec = durationSec;
+        this.status = VideoStatus.TRANSCODING;
+    }
+
+    /**
+     * 트랜스코딩이 끝나면 playlist key를 채우고 READY로 전이합니다.
+     */
+    public void markPackaged(String hlsPlaylistKey) {
+        this.hlsPlaylistKey = hlsPlaylistKey;
+        this.status = VideoStatus.READY;
+    }
+
+    public void markFailed() {
+        this.status = VideoStatus.FAILED;
+    }
+
+    /**
+     * 실패한 동영상이 가리키는 원본/썸네일/축소본 key를 비웁니다. 객체는 호출하는 쪽에서 삭제 큐에 기록해야 합니다.
+     */
+    public void detachObjects() {
+        this.sourceKey = null;
+        this.thumbnailKey = null;
+        this.thumbnailRenditions.clear();
     }
 }
@@ -0,0 +1,10 @@
+package com.petstarproject.petstar.enums;
+
+/**
+ * 동시 처리 한도와 circuit breaker를 따로 두는 스토리지 호출 종류입니다.
+ */
+public enum StorageOperation {
+    UPLOAD,
+    DELETE,
+    DELETE_BATCH    // deleteAll (DeleteObjects)
+}
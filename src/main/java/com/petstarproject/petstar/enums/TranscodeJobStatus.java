@@ -0,0 +1,8 @@
+package com.petstarproject.petstar.enums;
+
+public enum TranscodeJobStatus {
+    QUEUED,
+    RUNNING,
+    SUCCEEDED,
+    FAILED
+}
@@ -0,0 +1,9 @@
+package com.petstarproject.petstar.enums;
+
+/**
+ * 트랜스코딩 작업의 우선순위 lane 입니다. 선언 순서대로 먼저 lease 합니다.
+ */
+public enum TranscodeLane {
+    SHORT,  // 짧은 클립
+    LONG
+}
@@ -0,0 +1,6 @@
+package com.petstarproject.petstar.enums;
+
+public enum UploadSessionStatus {
+    IN_PROGRESS,
+    COMPLETED
+}
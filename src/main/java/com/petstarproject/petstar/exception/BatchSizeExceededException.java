@@ -0,0 +1,7 @@
+package com.petstarproject.petstar.exception;
+
+public class BatchSizeExceededException extends RuntimeException {
+    public BatchSizeExceededException(String message) {
+        super(message);
+    }
+}
@@ -1,8 +1,10 @@
 package com.petstarproject.petstar.exception;
 
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 //import org.springframework.security.access.AccessDeniedException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -53,6 +55,62 @@ public class GlobalExceptionHandler {
         );
     }
 
+    @ExceptionHandler(VideoIngestRejectedException.class)
+    public ResponseEntity<ErrorResponse> handleVideoIngestRejected(VideoIngestRejectedException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .body(new ErrorResponse("업로드 요청이 많아 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE.value()));
+    }
+
+    @ExceptionHandler({StorageOverloadedException.class, StorageThrottledException.class, StorageUnavailableException.class})
+    public ResponseEntity<ErrorResponse> handleStorageUnavailable(FileStorageException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .body(new ErrorResponse("파일 저장소가 일시적으로 응답하지 않습니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE.value()));
+    }
+
+    @ExceptionHandler(UploadOffsetMismatchException.class)
+    public ResponseEntity<ErrorResponse> handleUploadOffsetMismatch(UploadOffsetMismatchException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .header("Upload-Offset", String.valueOf(e.getCurrentOffset()))
+                .body(new ErrorResponse(e.getMessage(), HttpStatus.CONFLICT.value()));
+    }
+
+    @ExceptionHandler(BatchSizeExceededException.class)
+    public ResponseEntity<ErrorResponse> handleBatchSizeExceeded(BatchSizeExceededException e) {
+        return ResponseEntity.badRequest().body(
+                new ErrorResponse(e.getMessage(), HttpStatus.BAD_REQUEST.value())
+        );
+    }
+
+    @ExceptionHandler(InvalidListRequestException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidListRequest(InvalidListRequestException e) {
+        return ResponseEntity.badRequest().body(
+                new ErrorResponse(e.getMessage(), HttpStatus.BAD_REQUEST.value())
+        );
+    }
+
+    @ExceptionHandler(InvalidUploadRequestException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidUploadRequest(InvalidUploadRequestException e) {
+        return ResponseEntity.badRequest().body(
+                new ErrorResponse(e.getMessage(), HttpStatus.BAD_REQUEST.value())
+        );
+    }
+
+    @ExceptionHandler(VideoNotReadyException.class)
+    public ResponseEntity<ErrorResponse> handleVideoNotReady(VideoNotReadyException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(
+                new ErrorResponse("동영상 처리가 아직 끝나지 않았습니다.", HttpStatus.CONFLICT.value())
+        );
+    }
+
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailure(ObjectOptimisticLockingFailureException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(
+                new ErrorResponse("다른 요청이 먼저 수정했습니다. 다시 시도해주세요.", HttpStatus.CONFLICT.value())
+        );
+    }
+
     public record ErrorResponse(String message, int status) {
     }
 }
@@ -0,0 +1,7 @@
+package com.petstarproject.petstar.exception;
+
+public class InvalidListRequestException extends RuntimeException {
+    public InvalidListRequestException(String message) {
+        super(message);
+    }
+}
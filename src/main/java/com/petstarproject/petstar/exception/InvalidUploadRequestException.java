@@ -0,0 +1,7 @@
+package com.petstarproject.petstar.exception;
+
+public class InvalidUploadRequestException extends RuntimeException {
+    public InvalidUploadRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,14 @@
+package com.petstarproject.petstar.exception;
+
+/**
+ * 스토리지 호출의 동시 처리 한도를 넘어 호출하지 않고 거절한 경우입니다.
+ */
+public class StorageOverloadedException extends FileStorageException {
+    public StorageOverloadedException(String message) {
+        super(message);
+    }
+
+    public StorageOverloadedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,14 @@
+package com.petstarproject.petstar.exception;
+
+/**
+ * 스토리지가 요청을 제한(S3 SlowDown/429 등)해서 실패한 경우입니다. 잠시 후 재시도하면 성공할 수 있습니다.
+ */
+public class StorageThrottledException extends FileStorageException {
+    public StorageThrottledException(String message) {
+        super(message);
+    }
+
+    public StorageThrottledException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
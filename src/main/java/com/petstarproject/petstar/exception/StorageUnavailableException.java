@@ -0,0 +1,14 @@
+package com.petstarproject.petstar.exception;
+
+/**
+ * 스토리지 장애(5xx, 연결 실패, timeout)나 circuit breaker가 열려 있어 실패한 경우입니다.
+ */
+public class StorageUnavailableException extends FileStorageException {
+    public StorageUnavailableException(String message) {
+        super(message);
+    }
+
+    public StorageUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
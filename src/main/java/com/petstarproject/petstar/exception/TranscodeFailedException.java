@@ -0,0 +1,11 @@
+package com.petstarproject.petstar.exception;
+
+public class TranscodeFailedException extends RuntimeException {
+    public TranscodeFailedException(String message) {
+        super(message);
+    }
+
+    public TranscodeFailedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
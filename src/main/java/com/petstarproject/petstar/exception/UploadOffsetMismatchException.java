@@ -0,0 +1,18 @@
+package com.petstarproject.petstar.exception;
+
+import lombok.Getter;
+
+/**
+ * 요청한 chunk offset이 서버가 받은 위치와 다르거나, 세션이 아직 완료할 수 없는 상태일 때 발생합니다.
+ * 클라이언트는 {@link #currentOffset}부터 이어서 전송합니다.
+ */
+@Getter
+public class UploadOffsetMismatchException extends RuntimeException {
+
+    private final long currentOffset;
+
+    public UploadOffsetMismatchException(String message, long currentOffset) {
+        super(message);
+        this.currentOffset = currentOffset;
+    }
+}
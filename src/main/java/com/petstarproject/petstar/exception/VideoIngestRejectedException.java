@@ -0,0 +1,7 @@
+package com.petstarproject.petstar.exception;
+
+public class VideoIngestRejectedException extends RuntimeException {
+    public VideoIngestRejectedException(String message) {
+        super(message);
+    }
+}
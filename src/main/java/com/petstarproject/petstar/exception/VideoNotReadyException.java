@@ -0,0 +1,7 @@
+package com.petstarproject.petstar.exception;
+
+public class VideoNotReadyException extends RuntimeException {
+    public VideoNotReadyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,45 @@
+package com.petstarproject.petstar.repository;
+
+import com.petstarproject.petstar.entity.Blob;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface BlobRepository extends JpaRepository<Blob, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from Blob b where b.hash = :hash")
+    Optional<Blob> findByHashForUpdate(@Param("hash") String hash);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from Blob b where b.storageKey = :storageKey")
+    Optional<Blob> findByStorageKeyForUpdate(@Param("storageKey") String storageKey);
+
+    /**
+     * 같은 hash가 이미 있으면 아무것도 하지 않습니다. 동시에 같은 내용이 업로드되어도 한 row만 남습니다.
+     * 영향받는 테이블을 지정하지 않으면 Hibernate가 2차 캐시 전체를 비우므로 {@code blobs}만 지정합니다.
+     * MySQL 전용 문법({@code insert ignore})이므로 H2로 테스트할 때는 MySQL 호환 모드({@code MODE=MySQL})가 필요합니다.
+     * @return 추가된 row 수 (0 또는 1)
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "blobs"))
+    @Query(value = "insert ignore into blobs (hash, storage_key, size, content_type, ref_count, created_at) " +
+            "values (:hash, :storageKey, :size, :contentType, 1, :createdAt)",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("hash") String hash,
+                       @Param("storageKey") String storageKey,
+                       @Param("size") long size,
+                       @Param("contentType") String contentType,
+                       @Param("createdAt") LocalDateTime createdAt);
+}
@@ -0,0 +1,25 @@
+package com.petstarproject.petstar.repository;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 지연 로딩하는 TEXT 컬럼을 여러 행에 대해 한 번의 쿼리로 읽을 때 쓰는 projection 입니다.
+ * (지연 로딩 속성은 엔티티마다 따로 조회되므로 여러 건 조회에서는 N+1이 됩니다)
+ */
+public interface LazyText {
+
+    String getId();
+
+    String getText();
+
+    /**
+     * @return id별 값. 값이 null인 행도 포함합니다.
+     */
+    static Map<String, String> toMap(List<LazyText> texts) {
+        Map<String, String> map = new HashMap<>();
+        texts.forEach(text -> map.put(text.getId(), text.getText()));
+        return map;
+    }
+}
@@ -0,0 +1,27 @@
+package com.petstarproject.petstar.repository;
+
+import com.petstarproject.petstar.entity.PendingObjectDeletion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface PendingObjectDeletionRepository extends JpaRepository<PendingObjectDeletion, String> {
+
+    /**
+     * 삭제를 시도할 시각이 된 항목을 row lock을 잡고 조회합니다.
+     * 다른 drainer가 lock을 잡은 row는 기다리지 않고 건너뜁니다(SKIP LOCKED).
+     */
+    @Query(value = "select * from pending_object_deletions " +
+            "where available_at <= :now " +
+            "order by available_at " +
+            "limit :limit " +
+            "for update skip locked",
+            nativeQuery = true)
+    List<PendingObjectDeletion> findDueForUpdate(@Param("now") LocalDateTime now,
+                                                 @Param("limit") int limit);
+}
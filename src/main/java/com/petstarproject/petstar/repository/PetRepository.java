@@ -2,8 +2,16 @@ package com.petstarproject.petstar.repository;
 
 import com.petstarproject.petstar.entity.Pet;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface PetRepository extends JpaRepository<Pet, String> {
+
+    @Query("select p.id as id, p.bio as text from Pet p where p.id in :ids")
+    List<LazyText> findBios(@Param("ids") Collection<String> ids);
 }
@@ -1,7 +1,40 @@
 package com.petstarproject.petstar.repository;
 
+import com.petstarproject.petstar.dto.PostingSummaryResponse;
 import com.petstarproject.petstar.entity.Posting;
+import com.petstarproject.petstar.enums.Visibility;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 public interface PostingRepository extends JpaRepository<Posting, String> {
+
+    @Query("select p.id as id, p.content as text from Posting p where p.id in :ids")
+    List<LazyText> findContents(@Param("ids") Collection<String> ids);
+
+    /**
+     * 최신순 목록에서 {@code (cursorCreatedAt, cursorId)} 뒤의 게시글을 조회합니다. null인 조건은 적용하지 않습니다.
+     * 엔티티를 만들지 않고 요약 DTO로 바로 조회하며, 이미지는 첫 번째(sort_order = 0) key만 join 합니다.
+     */
+    @Query("select new com.petstarproject.petstar.dto.PostingSummaryResponse(" +
+            "p.id, p.petId, p.ownerId, p.title, p.visibility, k, p.likeCount, p.commentCount, p.createdAt, p.publishedAt) " +
+            "from Posting p left join p.imageKeys k on index(k) = 0 " +
+            "where (:petId is null or p.petId = :petId) " +
+            "and (:ownerId is null or p.ownerId = :ownerId) " +
+            "and (:visibility is null or p.visibility = :visibility) " +
+            "and (:cursorCreatedAt is null " +
+            "or p.createdAt < :cursorCreatedAt " +
+            "or (p.createdAt = :cursorCreatedAt and p.id < :cursorId)) " +
+            "order by p.createdAt desc, p.id desc")
+    List<PostingSummaryResponse> findPage(@Param("petId") String petId,
+                                          @Param("ownerId") String ownerId,
+                                          @Param("visibility") Visibility visibility,
+                                          @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                          @Param("cursorId") String cursorId,
+                                          Pageable pageable);
 }
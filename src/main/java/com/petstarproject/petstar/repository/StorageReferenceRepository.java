@@ -0,0 +1,58 @@
+package com.petstarproject.petstar.repository;
+
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 스토리지 객체 key가 DB에서 참조되고 있는지 여러 테이블에 걸쳐 조회합니다. (고아 객체 정리용)
+ */
+@Repository
+public class StorageReferenceRepository {
+
+    private static final String REFERENCED_KEYS_QUERY =
+            "select source_key from videos where source_key in (:keys) " +
+            "union select thumbnail_key from videos where thumbnail_key in (:keys) " +
+            "union select rendition_key from video_thumbnail_renditions where rendition_key in (:keys) " +
+            "union select image_key from posting_images where image_key in (:keys) " +
+            "union select rendition_key from posting_image_renditions where rendition_key in (:keys) " +
+            "union select profile_image_key from pets where profile_image_key in (:keys) " +
+            "union select rendition_key from pet_profile_image_renditions where rendition_key in (:keys) " +
+            "union select storage_key from blobs where storage_key in (:keys)";
+
+    private final EntityManager entityManager;
+
+    public StorageReferenceRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * @return 주어진 key 중 엔티티나 중복 제거 registry({@code blobs})가 참조하는 key
+     */
+    public Set<String> findReferencedKeys(Collection<String> keys) {
+        if (keys.isEmpty()) return Set.of();
+
+        @SuppressWarnings("unchecked")
+        List<String> referenced = entityManager.createNativeQuery(REFERENCED_KEYS_QUERY)
+                .setParameter("keys", keys)
+                .getResultList();
+        return new HashSet<>(referenced);
+    }
+
+    /**
+     * @return 주어진 id 중 존재하는 동영상 id
+     */
+    public Set<String> findExistingVideoIds(Collection<String> videoIds) {
+        if (videoIds.isEmpty()) return Set.of();
+
+        @SuppressWarnings("unchecked")
+        List<String> existing = entityManager.createNativeQuery("select id from videos where id in (:ids)")
+                .setParameter("ids", videoIds)
+                .getResultList();
+        return new HashSet<>(existing);
+    }
+}
@@ -0,0 +1,33 @@
+package com.petstarproject.petstar.repository;
+
+import com.petstarproject.petstar.entity.TranscodeJob;
+import com.petstarproject.petstar.enums.TranscodeJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TranscodeJobRepository extends JpaRepository<TranscodeJob, String> {
+
+    /**
+     * 해당 lane에서 lease 가능한 작업(대기 중이거나 lease가 만료된 작업)을 row lock을 잡고 조회합니다.
+     * 다른 worker가 lock을 잡은 row는 기다리지 않고 건너뜁니다(SKIP LOCKED).
+     */
+    @Query(value = "select * from transcode_jobs " +
+            "where lane = :lane " +
+            "and ((status = 'QUEUED' and available_at <= :now) or (status = 'RUNNING' and lease_expires_at < :now)) " +
+            "order by available_at " +
+            "limit :limit " +
+            "for update skip locked",
+            nativeQuery = true)
+    List<TranscodeJob> findLeasableForUpdate(@Param("lane") String lane,
+                                             @Param("now") LocalDateTime now,
+                                             @Param("limit") int limit);
+
+    long countByStatusIn(Collection<TranscodeJobStatus> statuses);
+}
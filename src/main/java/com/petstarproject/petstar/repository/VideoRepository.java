@@ -1,9 +1,59 @@
 package com.petstarproject.petstar.repository;
 
+import com.petstarproject.petstar.dto.VideoSummaryResponse;
 import com.petstarproject.petstar.entity.Video;
+import com.petstarproject.petstar.enums.VideoStatus;
+import com.petstarproject.petstar.enums.Visibility;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface VideoRepository extends JpaRepository<Video, String> {
+
+    /**
+     * 2차 캐시를 거치지 않고 썸네일 축소본과 함께 DB에서 읽습니다.
+     * 2차 캐시는 노드마다 따로 있어 다른 노드의 수정이 보이지 않을 수 있으므로 백그라운드 worker의 상태 전이에 사용합니다.
+     */
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_CACHE_RETRIEVE_MODE, value = "BYPASS"))
+    @Query("select v from Video v left join fetch v.thumbnailRenditions where v.id = :id")
+    Optional<Video> findUncached(@Param("id") String id);
+
+    @Query("select v.id as id, v.description as text from Video v where v.id in :ids")
+    List<LazyText> findDescriptions(@Param("ids") Collection<String> ids);
+
+    /**
+     * 최신순 목록에서 {@code (cursorCreatedAt, cursorId)} 뒤의 동영상을 조회합니다. null인 조건은 적용하지 않습니다.
+     * petId/ownerId 별 {@code (created_at, id)} 인덱스를 순서대로 읽다가 limit에서 멈추므로 offset 없이 페이지를 넘깁니다.
+     * 엔티티를 만들지 않고 요약 DTO로 바로 조회합니다.
+     */
+    @Query("select new com.petstarproject.petstar.dto.VideoSummaryResponse(" +
+            "v.id, v.petId, v.ownerId, v.title, v.visibility, v.status, v.durationSec, v.thumbnailKey, " +
+            "v.viewCount, v.likeCount, v.commentCount, v.createdAt, v.publishedAt) " +
+            "from Video v " +
+            "where (:petId is null or v.petId = :petId) " +
+            "and (:ownerId is null or v.ownerId = :ownerId) " +
+            "and (:visibility is null or v.visibility = :visibility) " +
+            "and (:status is null or v.status = :status) " +
+            "and (:cursorCreatedAt is null " +
+            "or v.createdAt < :cursorCreatedAt " +
+            "or (v.createdAt = :cursorCreatedAt and v.id < :cursorId)) " +
+            "order by v.createdAt desc, v.id desc")
+    List<VideoSummaryResponse> findPage(@Param("petId") String petId,
+                                        @Param("ownerId") String ownerId,
+                                        @Param("visibility") Visibility visibility,
+                                        @Param("status") VideoStatus status,
+                                        @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                        @Param("cursorId") String cursorId,
+                                        Pageable pageable);
 }
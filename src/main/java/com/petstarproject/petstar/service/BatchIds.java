@@ -0,0 +1,42 @@
+package com.petstarproject.petstar.service;
+
+import com.petstarproject.petstar.exception.BatchSizeExceededException;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 여러 건 조회({@code ?ids=})의 id 목록을 정리합니다.
+ */
+final class BatchIds {
+
+    /**
+     * 한 번에 조회할 수 있는 최대 id 수. 컬렉션 {@code @BatchSize}와 같은 값이어야 한 번의 batch fetch로 끝납니다.
+     */
+    static final int MAX_IDS = 100;
+
+    private BatchIds() {
+    }
+
+    /**
+     * 빈 값과 중복을 제거하고 요청 순서를 유지합니다.
+     * @throws BatchSizeExceededException id가 {@link #MAX_IDS}개를 넘는 경우
+     */
+    static List<String> normalize(List<String> ids) {
+        if (ids == null) return List.of();
+
+        Set<String> distinct = new LinkedHashSet<>();
+        ids.stream()
+                .filter(Objects::nonNull)
+                .map(String::trim)
+                .filter(id -> !id.isEmpty())
+                .forEach(distinct::add);
+
+        if (distinct.size() > MAX_IDS) {
+            throw new BatchSizeExceededException("한 번에 조회할 수 있는 id는 최대 " + MAX_IDS + "개입니다.");
+        }
+        return List.copyOf(distinct);
+    }
+}
@@ -1,13 +1,108 @@
 package com.petstarproject.petstar.service;
 
+import com.petstarproject.petstar.exception.FileStorageException;
+import com.petstarproject.petstar.service.inspect.InspectingInputStream;
+import com.petstarproject.petstar.service.inspect.UploadInspector;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface FileStorageService {
     String upload(MultipartFile file, String key);
 
+    /**
+     * 스트림을 지정된 key로 업로드합니다.
+     * @param in          업로드할 스트림 (호출자가 close)
+     * @param size        스트림 크기(byte)
+     * @param contentType 객체 content type
+     * @param key         저장될 key
+     * @return 업로드된 객체의 key
+     */
+    String upload(InputStream in, long size, String contentType, String key);
+
+    /**
+     * 스트림을 업로드하면서 같은 pass에서 읽은 byte를 inspector들에게 전달합니다.
+     * 스트림은 한 번만 읽히며, inspector는 업로드가 끝난 뒤 결과를 조회합니다.
+     * @param inspectors 업로드 byte를 함께 받을 inspector 목록
+     * @return 업로드된 객체의 key
+     */
+    default String upload(InputStream in, long size, String contentType, String key,
+                          List<UploadInspector> inspectors) {
+        return upload(new InspectingInputStream(in, inspectors), size, contentType, key);
+    }
+
     void delete(String key);
 
-    void deleteAll(List<String> keys);
+    /**
+     * 여러 객체를 한 번에 삭제합니다. 일부 key만 실패하면 예외 대신 실패한 key를 반환합니다.
+     * @return 삭제에 실패한 key 목록 (모두 성공하면 빈 목록)
+     */
+    List<String> deleteAll(List<String> keys);
+
+    /**
+     * prefix로 시작하는 모든 객체를 조회합니다.
+     * 결과는 page 단위로 필요할 때 조회되므로 객체 수와 관계없이 일정한 메모리로 순회할 수 있습니다.
+     * @return 객체 요약 스트림 (호출자가 close)
+     */
+    Stream<StoredObjectSummary> listObjects(String prefix);
+
+    /**
+     * prefix로 시작하는 모든 객체의 key를 조회합니다.
+     */
+    default List<String> listKeys(String prefix) {
+        try (Stream<StoredObjectSummary> objects = listObjects(prefix)) {
+            return objects.map(StoredObjectSummary::key).toList();
+        }
+    }
+
+    /**
+     * 객체 메타데이터를 조회합니다. (S3 HEAD)
+     * @return 객체가 없으면 empty
+     */
+    Optional<StoredObject> stat(String key);
+
+    /**
+     * 객체의 일부 구간을 읽습니다.
+     * @param offset 시작 위치
+     * @param length 읽을 byte 수
+     * @return 구간 스트림 (호출자가 close)
+     */
+    InputStream openRange(String key, long offset, long length);
+
+    /**
+     * 객체의 일부 구간을 target 채널로 바로 씁니다.
+     * 기본 구현은 {@link #openRange}로 읽어 복사하며, 파일 기반 구현은 {@code FileChannel.transferTo}로 커널에서 복사합니다.
+     * @return 전송한 byte 수
+     */
+    default long transferTo(String key, long offset, long length, WritableByteChannel target) {
+        try (InputStream in = openRange(key, offset, length)) {
+            return in.transferTo(Channels.newOutputStream(target));
+        } catch (IOException e) {
+            throw new FileStorageException("파일 전송 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    /**
+     * {@link #transferTo}를 {@link #openRange} 복사 없이 직접(로컬 파일의 {@code FileChannel.transferTo} 등) 처리하는지 여부입니다.
+     * 읽기를 감싸는 계층은 이 값이 true일 때만 {@code transferTo}를 그대로 위임합니다.
+     */
+    default boolean supportsDirectTransfer() {
+        return false;
+    }
+
+    /**
+     * 클라이언트가 애플리케이션을 거치지 않고 직접 업로드할 URL을 발급합니다.
+     * @param contentType   업로드할 content type (서명에 포함)
+     * @param contentLength 업로드할 크기 (서명에 포함)
+     * @param ttl           URL 유효 시간
+     * @return PUT 요청용 URL
+     */
+    String createUploadUrl(String key, String contentType, long contentLength, Duration ttl);
 }
@@ -0,0 +1,65 @@
+package com.petstarproject.petstar.service;
+
+import com.petstarproject.petstar.dto.CursorPageResponse;
+import com.petstarproject.petstar.exception.InvalidListRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 목록 조회(keyset pagination)에서 마지막으로 반환한 행의 {@code (created_at, id)} 입니다.
+ * 다음 페이지는 이 값보다 뒤의 행을 인덱스에서 바로 찾으므로 offset과 달리 몇 번째 페이지든 비용이 같습니다.
+ * 클라이언트에는 base64url로 감싼 token으로 전달합니다.
+ */
+record KeysetCursor(LocalDateTime createdAt, String id) {
+
+    static final int DEFAULT_SIZE = 20;
+    static final int MAX_SIZE = 50;
+
+    private static final char SEPARATOR = '|';
+
+    /**
+     * @return token이 없으면(첫 페이지) null
+     * @throws InvalidListRequestException token 형식이 잘못된 경우
+     */
+    static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) return null;
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator <= 0 || separator == raw.length() - 1) {
+                throw new IllegalArgumentException("separator not found");
+            }
+            return new KeysetCursor(LocalDateTime.parse(raw.substring(0, separator)), raw.substring(separator + 1));
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new InvalidListRequestException("잘못된 cursor 입니다.");
+        }
+    }
+
+    String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static int pageSize(Integer size) {
+        if (size == null) return DEFAULT_SIZE;
+        return Math.min(Math.max(size, 1), MAX_SIZE);
+    }
+
+    /**
+     * {@code pageSize + 1}개까지 조회한 결과로 페이지를 만듭니다. 남는 1개는 다음 페이지가 있는지 확인하는 용도입니다.
+     */
+    static <E, R> CursorPageResponse<R> page(List<E> rows, int pageSize,
+                                             Function<E, KeysetCursor> cursorOf, Function<E, R> mapper) {
+        boolean hasNext = rows.size() > pageSize;
+        List<E> items = hasNext ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = hasNext ? cursorOf.apply(items.get(items.size() - 1)).encode() : null;
+        return new CursorPageResponse<>(items.stream().map(mapper).toList(), nextCursor);
+    }
+}
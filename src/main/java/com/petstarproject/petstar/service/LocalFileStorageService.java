@@ -0,0 +1,304 @@
+package com.petstarproject.petstar.service;
+
+import com.petstarproject.petstar.exception.FileStorageException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * 로컬 파일시스템에 파일을 저장하는 {@link FileStorageService} 구현체입니다. ({@code storage.type=local})
+ *
+ * <p>key를 그대로 {@code storage.local.root} 아래 상대 경로로 사용하므로 S3와 같은 key 구조(videos/…, posts/…, pets/…)를 유지합니다.
+ * 업로드는 root 아래 임시 파일에 {@link FileChannel#transferFrom}으로 쓴 뒤 atomic rename으로 커밋하므로,
+ * 읽는 쪽은 완성된 파일만 보게 됩니다. 읽기는 memory-mapped 구간 또는 {@link FileChannel#transferTo}로 처리합니다.</p>
+ */
+@Slf4j
+@Service
+@Qualifier("fileStorageBackend")
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+public class LocalFileStorageService implements FileStorageService {
+
+    private static final String TMP_DIR = ".tmp";
+    private static final long MAX_MAP_BYTES = Integer.MAX_VALUE;  // FileChannel.map 한 번에 map 할 수 있는 최대 크기
+
+    private final Path root;
+    private final Path tmpDir;
+
+    public LocalFileStorageService(@Value("${storage.local.root:${java.io.tmpdir}/petstar-storage}") String root) {
+        this.root = Paths.get(root).toAbsolutePath().normalize();
+        this.tmpDir = this.root.resolve(TMP_DIR);
+    }
+
+    /**
+     * multipart 임시 파일을 {@link MultipartFile#transferTo(Path)}로 옮긴 뒤 커밋합니다.
+     * 디스크에 저장된 multipart 파일이면 복사 없이 rename 됩니다.
+     */
+    @Override
+    public String upload(MultipartFile file, String key) {
+        Path target = resolve(key);
+        Path tmp = newTmpFile();
+        try {
+            file.transferTo(tmp);
+            commit(tmp, target);
+            return key;
+        } catch (IOException e) {
+            deleteQuietly(tmp);
+            throw new FileStorageException("파일 업로드 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    @Override
+    public String upload(InputStream in, long size, String contentType, String key) {
+        Path target = resolve(key);
+        Path tmp = newTmpFile();
+        try {
+            try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+                // FileInputStream이면 파일 채널을 그대로 받아 커널에서 복사됨
+                ReadableByteChannel source = Channels.newChannel(in);
+                long written = 0;
+                while (written < size) {
+                    long n = channel.transferFrom(source, written, size - written);
+                    if (n <= 0) break;
+                    written += n;
+                }
+                if (written != size) {
+                    throw new FileStorageException("업로드 스트림이 지정한 크기보다 짧습니다. expected=" + size + ", actual=" + written);
+                }
+                channel.force(true);
+            }
+            commit(tmp, target);
+            return key;
+        } catch (IOException e) {
+            deleteQuietly(tmp);
+            throw new FileStorageException("파일 업로드 중 오류가 발생했습니다.", e);
+        } catch (RuntimeException e) {
+            deleteQuietly(tmp);
+            throw e;
+        }
+    }
+
+    @Override
+    public void delete(String key) {
+        try {
+            Files.deleteIfExists(resolve(key));
+        } catch (IOException e) {
+            throw new FileStorageException("파일 삭제 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    @Override
+    public List<String> deleteAll(List<String> keys) {
+        if (keys == null || keys.isEmpty()) return List.of();
+
+        // 부분 실패 처리: S3 배치 삭제처럼 실패한 key만 기록하고 나머지는 계속 삭제
+        List<String> failedKeys = new ArrayList<>();
+        for (String key : keys) {
+            try {
+                Files.deleteIfExists(resolve(key));
+            } catch (IOException | FileStorageException e) {
+                log.warn("로컬 배치 삭제 실패: key={}", key, e);
+                failedKeys.add(key);
+            }
+        }
+        return failedKeys;
+    }
+
+    /**
+     * root 아래 파일을 key(상대 경로, '/' 구분)로 바꿔 prefix로 거릅니다. 업로드 중인 임시 파일은 제외합니다.
+     * 디렉토리를 순회하면서 필요한 만큼만 읽으며, 순서는 보장하지 않습니다.
+     */
+    @Override
+    public Stream<StoredObjectSummary> listObjects(String prefix) {
+        if (!Files.isDirectory(root)) return Stream.empty();
+
+        try {
+            return Files.walk(root)
+                    .filter(Files::isRegularFile)
+                    .filter(path -> !path.startsWith(tmpDir))
+                    .filter(path -> toKey(path).startsWith(prefix))
+                    .map(this::summarize);
+        } catch (IOException e) {
+            throw new FileStorageException("파일 목록 조회 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    @Override
+    public Optional<StoredObject> stat(String key) {
+        Path path = resolve(key);
+        try {
+            BasicFileAttributes attrs = Files.readAttributes(path, BasicFileAttributes.class);
+            String eTag = Long.toHexString(attrs.lastModifiedTime().toMillis()) + "-" + Long.toHexString(attrs.size());
+            return Optional.of(new StoredObject(key, attrs.size(), Files.probeContentType(path), eTag));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new FileStorageException("파일 조회 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    /**
+     * 요청 구간을 memory-mapped buffer로 읽습니다. 페이지 캐시를 그대로 사용하므로 힙으로 복사하지 않습니다.
+     * 한 번에 map 할 수 있는 크기를 넘는 구간은 나눠서 map 하고, 파일 끝을 넘는 offset은 빈 스트림을 반환합니다.
+     */
+    @Override
+    public InputStream openRange(String key, long offset, long length) {
+        try (FileChannel channel = FileChannel.open(resolve(key), StandardOpenOption.READ)) {
+            long end = offset + Math.max(0, Math.min(length, channel.size() - offset));
+            List<MappedByteBuffer> buffers = new ArrayList<>();
+            for (long position = offset; position < end; position += MAX_MAP_BYTES) {
+                buffers.add(channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(end - position, MAX_MAP_BYTES)));
+            }
+            return new MappedInputStream(buffers);
+        } catch (IOException e) {
+            throw new FileStorageException("파일 조회 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    @Override
+    public long transferTo(String key, long offset, long length, WritableByteChannel target) {
+        try (FileChannel channel = FileChannel.open(resolve(key), StandardOpenOption.READ)) {
+            long end = Math.min(offset + length, channel.size());
+            long position = offset;
+            while (position < end) {
+                long n = channel.transferTo(position, end - position, target);
+                if (n <= 0) break;
+                position += n;
+            }
+            return position - offset;
+        } catch (IOException e) {
+            throw new FileStorageException("파일 전송 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    @Override
+    public boolean supportsDirectTransfer() {
+        return true;
+    }
+
+    @Override
+    public String createUploadUrl(String key, String contentType, long contentLength, Duration ttl) {
+        throw new FileStorageException("로컬 스토리지는 직접 업로드 URL을 지원하지 않습니다.");
+    }
+
+    /**
+     * root 아래 경로를 '/'로 구분한 key로 되돌립니다.
+     */
+    private String toKey(Path path) {
+        return root.relativize(path).toString().replace(root.getFileSystem().getSeparator(), "/");
+    }
+
+    private StoredObjectSummary summarize(Path path) {
+        try {
+            BasicFileAttributes attrs = Files.readAttributes(path, BasicFileAttributes.class);
+            return new StoredObjectSummary(toKey(path), attrs.size(), attrs.lastModifiedTime().toInstant());
+        } catch (IOException e) {
+            throw new FileStorageException("파일 조회 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    /**
+     * key를 root 아래 경로로 변환합니다. root 밖을 가리키는 key는 거부합니다.
+     */
+    private Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root) || path.equals(root) || path.startsWith(tmpDir)) {
+            throw new FileStorageException("잘못된 파일 key 입니다: " + key);
+        }
+        return path;
+    }
+
+    private Path newTmpFile() {
+        try {
+            Files.createDirectories(tmpDir);
+            return Files.createFile(tmpDir.resolve(UUID.randomUUID().toString()));
+        } catch (IOException e) {
+            throw new FileStorageException("파일 업로드 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    /**
+     * 완성된 임시 파일을 최종 경로로 atomic rename 합니다.
+     */
+    private void commit(Path tmp, Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+        Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+        }
+    }
+
+    private static class MappedInputStream extends InputStream {
+        private final List<MappedByteBuffer> buffers;
+        private int current;
+
+        MappedInputStream(List<MappedByteBuffer> buffers) {
+            this.buffers = buffers;
+        }
+
+        @Override
+        public int read() {
+            MappedByteBuffer buffer = buffer();
+            return buffer == null ? -1 : buffer.get() & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) return 0;
+            MappedByteBuffer buffer = buffer();
+            if (buffer == null) return -1;
+            int n = Math.min(len, buffer.remaining());
+            buffer.get(b, off, n);
+            return n;
+        }
+
+        @Override
+        public long skip(long n) {
+            long skipped = 0;
+            MappedByteBuffer buffer;
+            while (skipped < n && (buffer = buffer()) != null) {
+                int step = (int) Math.min(n - skipped, buffer.remaining());
+                buffer.position(buffer.position() + step);
+                skipped += step;
+            }
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            long remaining = 0;
+            for (int i = current; i < buffers.size(); i++) remaining += buffers.get(i).remaining();
+            return (int) Math.min(remaining, Integer.MAX_VALUE);
+        }
+
+        /**
+         * 아직 읽을 byte가 남은 buffer, 없으면 null
+         */
+        private MappedByteBuffer buffer() {
+            while (current < buffers.size() && !buffers.get(current).hasRemaining()) current++;
+            return current < buffers.size() ? buffers.get(current) : null;
+        }
+    }
+}
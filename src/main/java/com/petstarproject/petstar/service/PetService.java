@@ -1,12 +1,22 @@
 package com.petstarproject.petstar.service;
 
+import com.petstarproject.petstar.dto.PetInfoResponse;
 import com.petstarproject.petstar.dto.RegisterRequest;
-import com.petstarproject.petstar.entity.Pet;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.List;
+
 public interface PetService {
 
-    Pet getPet(String id);
+    /**
+     * 캐시된 snapshot을 반환할 수 있습니다.
+     */
+    PetInfoResponse getPet(String id);
+
+    /**
+     * 여러 Pet을 한 번에 조회합니다. 없는 id는 빼고 요청 순서대로 반환합니다.
+     */
+    List<PetInfoResponse> getPets(List<String> ids);
 
     void registerPet(RegisterRequest request, MultipartFile image, String id);
 
@@ -1,32 +1,70 @@
 package com.petstarproject.petstar.service;
 
+import com.petstarproject.petstar.dto.PetInfoResponse;
 import com.petstarproject.petstar.dto.RegisterRequest;
+import com.petstarproject.petstar.entity.ImageRendition;
 import com.petstarproject.petstar.repository.PetRepository;
 import com.petstarproject.petstar.entity.Pet;
+import com.petstarproject.petstar.service.cache.SnapshotCache;
+import com.petstarproject.petstar.service.deletion.ObjectDeletionQueue;
+import com.petstarproject.petstar.service.image.ImageRenditionService;
+import com.petstarproject.petstar.service.query.PetReader;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class PetServiceImpl implements PetService {
 
     private final PetRepository petRepository;
     private final FileStorageService fileStorageService;
+    private final ImageRenditionService imageRenditionService;
+    private final ObjectDeletionQueue objectDeletionQueue;
+    private final SnapshotCache<PetInfoResponse> petSnapshotCache;
+    private final PetReader petReader;
 
     @Autowired
-    public PetServiceImpl(PetRepository petRepository, FileStorageService fileStorageService) {
+    public PetServiceImpl(PetRepository petRepository, FileStorageService fileStorageService,
+                          ImageRenditionService imageRenditionService, ObjectDeletionQueue objectDeletionQueue,
+                          SnapshotCache<PetInfoResponse> petSnapshotCache, PetReader petReader) {
         this.petRepository = petRepository;
         this.fileStorageService = fileStorageService;
+        this.imageRenditionService = imageRenditionService;
+        this.objectDeletionQueue = objectDeletionQueue;
+        this.petSnapshotCache = petSnapshotCache;
+        this.petReader = petReader;
     }
 
     @Override
-    public Pet getPet(String id) {
-        return petRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("Pet not found: " + id));
+    public PetInfoResponse getPet(String id) {
+        return petSnapshotCache.get(id, key -> petReader.findById(key)
+                .orElseThrow(() -> new EntityNotFoundException("Pet not found: " + key)));
+    }
+
+    /**
+     * 캐시에 없는 Pet만 한 번의 {@code IN} 쿼리로 조회하고, 프로필 이미지 축소본은 {@code @BatchSize}로 한 번에 가져옵니다.
+     */
+    @Override
+    public List<PetInfoResponse> getPets(List<String> ids) {
+        List<String> petIds = BatchIds.normalize(ids);
+        Map<String, PetInfoResponse> pets = petSnapshotCache.getAll(petIds, missing ->
+                petReader.findAllById(missing).stream()
+                        .collect(Collectors.toMap(PetInfoResponse::getId, Function.identity())));
+
+        return petIds.stream()
+                .map(pets::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
     @Transactional
@@ -47,6 +85,9 @@ public class PetServiceImpl implements PetService {
                 profileImageKey,
                 0
         );
+        if (profileImageKey != null) {
+            pet.updateProfileImage(profileImageKey, imageRenditionService.createRenditions(image, profileImageKey));
+        }
         petRepository.save(pet);
     }
 
@@ -58,7 +99,10 @@ public class PetServiceImpl implements PetService {
 
         String profileImageKey = uploadProfileImageIfPresent(image, pet.getId());
         if (profileImageKey != null) {
-            pet.setProfileImageKey(profileImageKey);
+            List<String> oldKeys = profileImageKeys(pet);
+            List<ImageRendition> renditions = imageRenditionService.createRenditions(image, profileImageKey);
+            pet.updateProfileImage(profileImageKey, renditions);
+            objectDeletionQueue.enqueue(oldKeys);
         }
 
         pet.setName(request.getName());
@@ -66,6 +110,7 @@ public class PetServiceImpl implements PetService {
         pet.setSpecies(request.getSpecies());
         pet.setGender(request.getGender());
         pet.setBio(request.getBio());
+        petSnapshotCache.invalidate(id);
     }
 
     @Transactional
@@ -74,7 +119,19 @@ public class PetServiceImpl implements PetService {
         Pet pet = petRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Pet not found:" + id));
         // TODO: User 기능 추가 후 검증로직 추가
+        objectDeletionQueue.enqueue(profileImageKeys(pet));
         petRepository.delete(pet);
+        petSnapshotCache.invalidate(id);
+    }
+
+    /**
+     * 프로필 이미지와 축소본 key 목록입니다. 삭제 큐에 기록할 때 사용합니다.
+     */
+    private List<String> profileImageKeys(Pet pet) {
+        List<String> keys = new ArrayList<>();
+        keys.add(pet.getProfileImageKey());
+        pet.getProfileImageRenditions().forEach(rendition -> keys.add(rendition.getKey()));
+        return keys;
     }
 
     /**
@@ -1,7 +1,11 @@
 package com.petstarproject.petstar.service;
 
+import com.petstarproject.petstar.dto.CursorPageResponse;
 import com.petstarproject.petstar.dto.PostingRequest;
+import com.petstarproject.petstar.dto.PostingResponse;
+import com.petstarproject.petstar.dto.PostingSummaryResponse;
 import com.petstarproject.petstar.entity.Posting;
+import com.petstarproject.petstar.enums.Visibility;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
@@ -10,7 +14,23 @@ public interface PostingService {
 
     String createPosting(PostingRequest request, List<MultipartFile> images, String requesterId);
 
-    Posting getPosting(String postingId, String requesterId);
+    /**
+     * 캐시된 snapshot을 반환할 수 있습니다.
+     */
+    PostingResponse getPosting(String postingId, String requesterId);
+
+    /**
+     * 여러 게시글을 한 번에 조회합니다. 없거나 볼 수 없는(다른 사람의 PRIVATE) 게시글은 빼고 요청 순서대로 반환합니다.
+     */
+    List<PostingResponse> getPostings(List<String> postingIds, String requesterId);
+
+    /**
+     * Pet 또는 작성자의 게시글 목록을 최신순으로 조회합니다. petId, ownerId 중 하나는 있어야 합니다.
+     * 작성자 본인이 ownerId로 조회할 때만 PRIVATE 게시글이 포함됩니다. 본문(content)은 포함하지 않습니다.
+     * @param cursor 이전 페이지의 {@link CursorPageResponse#nextCursor()}. 첫 페이지는 null
+     */
+    CursorPageResponse<PostingSummaryResponse> listPostings(String petId, String ownerId, Visibility visibility,
+                                                            String cursor, Integer size, String requesterId);
 
     Posting updatePosting(String postingId, PostingRequest request, String requesterId);
 
@@ -1,19 +1,43 @@
 package com.petstarproject.petstar.service;
 
+import com.petstarproject.petstar.dto.CursorPageResponse;
 import com.petstarproject.petstar.dto.PostingRequest;
+import com.petstarproject.petstar.dto.PostingResponse;
+import com.petstarproject.petstar.dto.PostingSummaryResponse;
+import com.petstarproject.petstar.entity.ImageRendition;
 import com.petstarproject.petstar.entity.Posting;
 import com.petstarproject.petstar.enums.Visibility;
+import com.petstarproject.petstar.exception.FileStorageException;
+import com.petstarproject.petstar.exception.InvalidListRequestException;
 import com.petstarproject.petstar.repository.PostingRepository;
+import com.petstarproject.petstar.service.cache.SnapshotCache;
+import com.petstarproject.petstar.service.deletion.ObjectDeletionDrainer;
+import com.petstarproject.petstar.service.deletion.ObjectDeletionQueue;
+import com.petstarproject.petstar.service.image.ImageRenditionService;
+import com.petstarproject.petstar.service.query.PostingReader;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -21,13 +45,35 @@ public class PostingServiceImpl implements PostingService {
 
     private final PostingRepository postingRepository;
     private final FileStorageService fileStorageService;
+    private final ImageRenditionService imageRenditionService;
+    private final ObjectDeletionQueue objectDeletionQueue;
+    private final ThreadPoolTaskExecutor imageUploadExecutor;
+    private final long imageUploadTimeoutMillis;
+    private final SnapshotCache<PostingResponse> postingSnapshotCache;
+    private final PostingReader postingReader;
 
     @Autowired
-    public PostingServiceImpl(PostingRepository postingRepository, FileStorageService fileStorageService) {
+    public PostingServiceImpl(PostingRepository postingRepository, FileStorageService fileStorageService,
+                              ImageRenditionService imageRenditionService,
+                              ObjectDeletionQueue objectDeletionQueue,
+                              @Qualifier("imageUploadExecutor") ThreadPoolTaskExecutor imageUploadExecutor,
+                              @Value("${posting.image.upload-timeout-ms:30000}") long imageUploadTimeoutMillis,
+                              SnapshotCache<PostingResponse> postingSnapshotCache,
+                              PostingReader postingReader) {
         this.postingRepository = postingRepository;
         this.fileStorageService = fileStorageService;
+        this.imageRenditionService = imageRenditionService;
+        this.objectDeletionQueue = objectDeletionQueue;
+        this.imageUploadExecutor = imageUploadExecutor;
+        this.imageUploadTimeoutMillis = imageUploadTimeoutMillis;
+        this.postingSnapshotCache = postingSnapshotCache;
+        this.postingReader = postingReader;
     }
 
+    /**
+     * 이미지는 {@code imageUploadExecutor}에서 동시에 업로드하고, {@code imageKeys}는 요청 순서를 유지합니다.
+     * 업로드나 저장에 실패하면 이미 올라간 이미지(와 rendition)를 한 번의 {@code deleteAll}로 정리합니다.
+     */
     @Override
     @Transactional
     public String createPosting(PostingRequest request,
@@ -35,18 +81,10 @@ public class PostingServiceImpl implements PostingService {
                                  String requesterId) {
         String postingId = UUID.randomUUID().toString();
 
-        List<String> uploadedKeys = new ArrayList<>();
-        try {
-            // 이미지 업로드
-            if (images != null) {
-                for (MultipartFile image : images) {
-                    if (image == null || image.isEmpty()) continue;
-
-                    String key = String.format("posts/%s/images/%s", postingId, UUID.randomUUID());
-                    uploadedKeys.add(fileStorageService.upload(image, key));
-                }
-            }
+        // 이미지 업로드 (실패 시 내부에서 보상 삭제 후 예외)
+        List<UploadedImage> uploaded = uploadImages(postingId, images);
 
+        try {
             // 엔티티 생성
             Posting posting = Posting.create(
                     postingId,
@@ -55,8 +93,9 @@ public class PostingServiceImpl implements PostingService {
                     request.getTitle(),
                     request.getContent(),
                     request.getVisibility(),
-                    uploadedKeys
+                    uploaded.stream().map(UploadedImage::key).toList()
             );
+            uploaded.forEach(image -> posting.addImageRenditions(image.renditions()));
 
             // DB 저장
             Posting saved = postingRepository.save(posting);
@@ -65,21 +104,18 @@ public class PostingServiceImpl implements PostingService {
 
         } catch (RuntimeException e) {
             // 업로드된 파일이 있다면 보상 삭제(롤백)
-            for (String key : uploadedKeys) {
-                try { fileStorageService.delete(key); }
-                catch (Exception deleteEx) {
-                    log.warn("임시저장 이미지 삭제 실패: postingId={}, key={}", postingId, key, deleteEx);
-                }
-            }
+            List<String> keys = new ArrayList<>();
+            uploaded.forEach(image -> keys.addAll(image.allKeys()));
+            deleteQuietly(postingId, keys);
             throw e;
         }
     }
 
     @Override
-    public Posting getPosting(String postingId, String requesterId) {
-        // 엔티티 조회
-        Posting posting = postingRepository.findById(postingId)
-                .orElseThrow(() -> new EntityNotFoundException("Posting not found: " + postingId));
+    public PostingResponse getPosting(String postingId, String requesterId) {
+        // snapshot 조회 (캐시에 없으면 엔티티 조회)
+        PostingResponse posting = postingSnapshotCache.get(postingId, id -> postingReader.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Posting not found: " + id)));
 
         // 권한 검증
         if (posting.getVisibility() == Visibility.PRIVATE) {
@@ -89,6 +125,41 @@ public class PostingServiceImpl implements PostingService {
         return posting;
     }
 
+    /**
+     * 캐시에 없는 게시글만 한 번의 {@code IN} 쿼리로 조회하고, 이미지 key/축소본은 {@code @BatchSize}로 한 번에 가져옵니다.
+     */
+    @Override
+    public List<PostingResponse> getPostings(List<String> postingIds, String requesterId) {
+        List<String> ids = BatchIds.normalize(postingIds);
+        Map<String, PostingResponse> postings = postingSnapshotCache.getAll(ids, missing ->
+                postingReader.findAllById(missing).stream()
+                        .collect(Collectors.toMap(PostingResponse::getId, Function.identity())));
+
+        return ids.stream()
+                .map(postings::get)
+                .filter(Objects::nonNull)
+                .filter(posting -> isVisible(posting.getVisibility(), posting.getOwnerId(), requesterId))
+                .toList();
+    }
+
+    @Override
+    public CursorPageResponse<PostingSummaryResponse> listPostings(String petId, String ownerId, Visibility visibility,
+                                                            String cursor, Integer size, String requesterId) {
+        if (petId == null && ownerId == null) {
+            throw new InvalidListRequestException("petId 또는 ownerId가 필요합니다.");
+        }
+        boolean owner = ownerId != null && ownerId.equals(requesterId);
+        if (!owner && visibility == Visibility.PRIVATE) return CursorPageResponse.empty();
+
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int pageSize = KeysetCursor.pageSize(size);
+        List<PostingSummaryResponse> postings = postingReader.findPage(petId, ownerId, owner ? visibility : Visibility.PUBLIC,
+                after == null ? null : after.createdAt(), after == null ? null : after.id(), pageSize + 1);
+
+        return KeysetCursor.page(postings, pageSize,
+                posting -> new KeysetCursor(posting.createdAt(), posting.id()), Function.identity());
+    }
+
     @Override
     @Transactional
     public Posting updatePosting(String postingId, PostingRequest request, String requesterId) {
@@ -101,11 +172,16 @@ public class PostingServiceImpl implements PostingService {
 
         // 정보 업데이트
         posting.updateMeta(request.getTitle(), request.getContent(), request.getVisibility());
+        postingSnapshotCache.invalidate(postingId);
 
         return posting;
     }
 
+    /**
+     * 이미지 삭제는 같은 트랜잭션에서 삭제 큐에 기록하고, 실제 스토리지 삭제는 {@link ObjectDeletionDrainer}가 처리합니다.
+     */
     @Override
+    @Transactional
     public void deletePosting(String postingId, String requesterId) {
         // 엔티티 조회
         Posting posting = postingRepository.findById(postingId)
@@ -114,11 +190,18 @@ public class PostingServiceImpl implements PostingService {
         // 권한 검증
         checkOwner(posting.getOwnerId(), requesterId);
 
-        // s3 이미지 삭제
-        fileStorageService.deleteAll(posting.getImageKeys());
+        // s3 이미지 삭제 예약
+        List<String> keys = new ArrayList<>(posting.getImageKeys());
+        posting.getImageRenditions().forEach(rendition -> keys.add(rendition.getKey()));
+        objectDeletionQueue.enqueue(keys);
 
         // 엔티티 삭제
         postingRepository.delete(posting);
+        postingSnapshotCache.invalidate(postingId);
+    }
+
+    private static boolean isVisible(Visibility visibility, String ownerId, String requesterId) {
+        return visibility != Visibility.PRIVATE || (requesterId != null && requesterId.equals(ownerId));
     }
 
     private void checkOwner(String ownerId, String requesterId) {
@@ -131,4 +214,133 @@ public class PostingServiceImpl implements PostingService {
 //            throw new AccessDeniedException("not owner");
         }
     }
+
+    /**
+     * 이미지를 동시에 업로드합니다. 먼저 끝나는 순서로 결과를 확인하므로 한 장이 실패하면 나머지를 기다리지 않고,
+     * 전체가 {@code posting.image.upload-timeout-ms} 안에 끝나지 않으면 남은 업로드를 취소(interrupt)합니다.
+     * 업로드된 원본과 rendition key는 만들어지는 즉시 {@link UploadedKeys}에 기록되므로, 실패하면 그때까지 기록된 key를 모두 정리하고
+     * 취소 이후에 끝난 업로드는 각자 자신이 만든 객체를 정리합니다.
+     *
+     * @return 요청 순서대로 정렬된 업로드 결과
+     */
+    private List<UploadedImage> uploadImages(String postingId, List<MultipartFile> images) {
+        if (images == null) return List.of();
+
+        List<MultipartFile> targets = images.stream()
+                .filter(image -> image != null && !image.isEmpty())
+                .toList();
+        if (targets.isEmpty()) return List.of();
+
+        CompletionService<UploadedImage> completionService =
+                new ExecutorCompletionService<>(imageUploadExecutor.getThreadPoolExecutor());
+        List<Future<UploadedImage>> futures = new ArrayList<>();
+        UploadedKeys uploadedKeys = new UploadedKeys();
+        UploadedImage[] results = new UploadedImage[targets.size()];
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(imageUploadTimeoutMillis);
+
+        try {
+            for (int i = 0; i < targets.size(); i++) {
+                int index = i;
+                String requestedKey = String.format("posts/%s/images/%s", postingId, UUID.randomUUID());
+                futures.add(completionService.submit(() -> uploadImage(postingId, index, targets.get(index), requestedKey, uploadedKeys)));
+            }
+
+            for (int completed = 0; completed < futures.size(); completed++) {
+                Future<UploadedImage> future = completionService.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                if (future == null) {
+                    throw new FileStorageException("이미지 업로드 시간이 초과되었습니다.");
+                }
+                UploadedImage result = future.get();
+                results[result.index()] = result;
+            }
+            return List.of(results);
+
+        } catch (ExecutionException e) {
+            compensate(postingId, futures, uploadedKeys);
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw new FileStorageException("이미지 업로드 중 오류가 발생했습니다.", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            compensate(postingId, futures, uploadedKeys);
+            throw new FileStorageException("이미지 업로드가 중단되었습니다.", e);
+        } catch (RuntimeException e) {
+            compensate(postingId, futures, uploadedKeys);
+            throw e;
+        }
+    }
+
+    private UploadedImage uploadImage(String postingId, int index, MultipartFile image, String requestedKey,
+                                      UploadedKeys uploadedKeys) {
+        String key = fileStorageService.upload(image, requestedKey);
+        record(postingId, uploadedKeys, List.of(key));
+
+        List<ImageRendition> renditions = imageRenditionService.createRenditions(image, key);
+        record(postingId, uploadedKeys, renditions.stream().map(ImageRendition::getKey).toList());
+
+        return new UploadedImage(index, key, renditions);
+    }
+
+    /**
+     * 이미 보상 삭제가 시작되었다면 기록하지 않고 직접 삭제한 뒤 업로드를 중단합니다.
+     */
+    private void record(String postingId, UploadedKeys uploadedKeys, List<String> keys) {
+        if (uploadedKeys.add(keys)) return;
+
+        // 취소로 interrupt 된 상태면 삭제 요청도 바로 중단되므로 삭제하는 동안만 해제
+        boolean interrupted = Thread.interrupted();
+        deleteQuietly(postingId, keys);
+        if (interrupted) Thread.currentThread().interrupt();
+        throw new CancellationException("이미지 업로드가 취소되었습니다.");
+    }
+
+    /**
+     * 더 이상 key가 기록되지 않도록 막은 뒤 남은 업로드를 취소하고, 그때까지 기록된 원본과 rendition key를 한 번에 삭제합니다.
+     */
+    private void compensate(String postingId, List<Future<UploadedImage>> futures, UploadedKeys uploadedKeys) {
+        List<String> keys = uploadedKeys.close();
+        futures.forEach(future -> future.cancel(true));
+
+        deleteQuietly(postingId, keys);
+    }
+
+    private void deleteQuietly(String postingId, List<String> keys) {
+        if (keys.isEmpty()) return;
+
+        try {
+            fileStorageService.deleteAll(keys);
+        } catch (Exception e) {
+            log.warn("임시저장 이미지 삭제 실패: postingId={}, keys={}", postingId, keys, e);
+        }
+    }
+
+    /**
+     * 동시에 실행 중인 업로드들이 만든 key를 모읍니다. {@link #close()} 이후에는 기록을 거절하므로,
+     * 모든 key는 보상 삭제 대상에 포함되거나 업로드한 쪽이 직접 삭제합니다.
+     */
+    private static final class UploadedKeys {
+
+        private final List<String> keys = new ArrayList<>();
+        private boolean closed;
+
+        synchronized boolean add(List<String> uploaded) {
+            if (closed) return false;
+            keys.addAll(uploaded);
+            return true;
+        }
+
+        synchronized List<String> close() {
+            closed = true;
+            return List.copyOf(keys);
+        }
+    }
+
+    private record UploadedImage(int index, String key, List<ImageRendition> renditions) {
+
+        List<String> allKeys() {
+            List<String> keys = new ArrayList<>();
+            keys.add(key);
+            renditions.forEach(rendition -> keys.add(rendition.getKey()));
+            return keys;
+        }
+    }
 }
@@ -0,0 +1,69 @@
+package com.petstarproject.petstar.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 스토리지 객체를 필요한 구간만 ranged read로 가져오는 스트림입니다.
+ *
+ * <p>{@link #skip(long)}은 데이터를 받지 않고 위치만 옮기므로, box 헤더만 따라가는 MP4 walker처럼
+ * 앞부분을 건너뛰는 파서를 객체 전체 다운로드 없이 몇 번의 작은 GET으로 실행할 수 있습니다.</p>
+ */
+public class RangeReadingInputStream extends InputStream {
+
+    private final FileStorageService fileStorageService;
+    private final String key;
+    private final long size;
+    private final int windowSize;
+
+    private long position;
+    private byte[] window = new byte[0];
+    private long windowStart;
+
+    public RangeReadingInputStream(FileStorageService fileStorageService, String key, long size, int windowSize) {
+        this.fileStorageService = fileStorageService;
+        this.key = key;
+        this.size = size;
+        this.windowSize = windowSize;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!fill()) return -1;
+        return window[(int) (position++ - windowStart)] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) return 0;
+        if (!fill()) return -1;
+
+        int n = (int) Math.min(len, windowStart + window.length - position);
+        System.arraycopy(window, (int) (position - windowStart), b, off, n);
+        position += n;
+        return n;
+    }
+
+    @Override
+    public long skip(long n) {
+        long skipped = Math.max(0, Math.min(n, size - position));
+        position += skipped;
+        return skipped;
+    }
+
+    /**
+     * 현재 위치가 받아둔 구간 밖이면 현재 위치부터 windowSize 만큼 다시 가져옵니다.
+     * @return 더 읽을 byte가 있는지 여부
+     */
+    private boolean fill() throws IOException {
+        if (position >= size) return false;
+        if (position >= windowStart && position < windowStart + window.length) return true;
+
+        long length = Math.min(windowSize, size - position);
+        try (InputStream in = fileStorageService.openRange(key, position, length)) {
+            window = in.readNBytes((int) length);
+        }
+        windowStart = position;
+        return window.length > 0;
+    }
+}
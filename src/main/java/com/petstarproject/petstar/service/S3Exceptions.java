@@ -0,0 +1,36 @@
+package com.petstarproject.petstar.service;
+
+import com.petstarproject.petstar.exception.FileStorageException;
+import com.petstarproject.petstar.exception.StorageThrottledException;
+import com.petstarproject.petstar.exception.StorageUnavailableException;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.exception.SdkServiceException;
+
+/**
+ * S3 SDK 예외를 {@link FileStorageException} 하위 타입으로 분류합니다.
+ * 재시도해도 소용없는 요청 오류(4xx)는 {@link FileStorageException}으로, 일시적인 오류는 하위 타입으로 바꿉니다.
+ */
+final class S3Exceptions {
+
+    private S3Exceptions() {
+    }
+
+    static FileStorageException translate(String message, Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SdkServiceException service) {
+                if (service.isThrottlingException() || service.statusCode() == 503) {
+                    return new StorageThrottledException(message, e);
+                }
+                if (service.statusCode() >= 500) {
+                    return new StorageUnavailableException(message, e);
+                }
+                return new FileStorageException(message, e);
+            }
+            if (cause instanceof SdkClientException) {
+                // 연결 실패, API call timeout 등
+                return new StorageUnavailableException(message, e);
+            }
+        }
+        return new FileStorageException(message, e);
+    }
+}
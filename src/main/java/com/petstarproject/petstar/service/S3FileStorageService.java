@@ -2,15 +2,25 @@ package com.petstarproject.petstar.service;
 
 import com.petstarproject.petstar.exception.FileStorageException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.*;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * AWS S3에 파일을 업로드하는 {@link FileStorageService} 구현체입니다.
@@ -18,18 +28,33 @@ import java.util.List;
  * <p>전달받은 {@link MultipartFile}과 지정된 S3 key를 기반으로
  * S3 버킷에 객체(파일)를 저장합니다. 업로드가 성공하면 해당 key를 반환하며,
  * 업로드 과정에서 IOException이 발생할 경우 {@link FileStorageException}을 발생시킵니다.</p>
+ *
+ * <p>파일 크기가 {@code aws.s3.multipart.threshold} 이상이면 {@link S3MultipartUploader}로 part를 나누어 병렬 전송하고,
+ * 썸네일처럼 작은 파일은 기존처럼 단일 PUT 요청으로 업로드합니다.</p>
  */
 @Slf4j
 @Service
+@Qualifier("fileStorageBackend")
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3", matchIfMissing = true)
 public class S3FileStorageService implements FileStorageService{
 
+    private static final int DELETE_OBJECTS_LIMIT = 1000; // DeleteObjects 요청당 최대 key 수
+    private static final long MAX_BUFFERED_PUT_BYTES = 64L * 1024 * 1024; // 단일 PUT은 메모리에 읽으므로 기준이 더 커도 이 크기부터 multipart
+
     private final S3Client s3Client;
+    private final S3Presigner s3Presigner;
+    private final S3MultipartUploader multipartUploader;
 
     @Value("${aws.s3.bucket}")
     private String bucket;
 
-    public S3FileStorageService(S3Client s3Client) {
+    @Value("${aws.s3.multipart.threshold:16777216}")
+    private long multipartThreshold;
+
+    public S3FileStorageService(S3Client s3Client, S3Presigner s3Presigner, S3MultipartUploader multipartUploader) {
         this.s3Client = s3Client;
+        this.s3Presigner = s3Presigner;
+        this.multipartUploader = multipartUploader;
     }
 
     /**
@@ -42,24 +67,48 @@ public class S3FileStorageService implements FileStorageService{
      */
     @Override
     public String upload(MultipartFile file, String key) {
+        try (InputStream in = file.getInputStream()) {
+            return upload(in, file.getSize(), file.getContentType(), key);
+        } catch (IOException e) {
+            throw new FileStorageException("파일 업로드 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    /**
+     * 스트림을 지정된 key로 S3 버킷에 업로드합니다.
+     * 크기가 multipart 기준 이상이면 part를 나누어 병렬 전송하고, 그보다 작으면 메모리에 읽어 단일 PUT으로 보냅니다.
+     * 스트림은 한 번만 읽을 수 있으므로(inspector tee 등) SDK가 PUT을 재시도할 때 같은 byte를 다시 보낼 수 있게 먼저 읽어둡니다.
+     *
+     * @throws FileStorageException 업로드 중 오류가 발생한 경우
+     */
+    @Override
+    public String upload(InputStream in, long size, String contentType, String key) {
+        if (size >= Math.min(multipartThreshold, MAX_BUFFERED_PUT_BYTES)) {
+            multipartUploader.upload(in, contentType, key);
+            return key;
+        }
+
         try {
+            byte[] bytes = in.readNBytes((int) size);
+            if (bytes.length != size) {
+                throw new FileStorageException("업로드 스트림이 지정한 크기보다 짧습니다. expected=" + size + ", actual=" + bytes.length);
+            }
+
             PutObjectRequest request = PutObjectRequest.builder()
                     .bucket(bucket)
                     .key(key)
-                    .contentType(file.getContentType())
+                    .contentType(contentType)
                     .build();
 
-            s3Client.putObject(
-                    request,
-                    RequestBody.fromInputStream(file.getInputStream(), file.getSize())
-            );
+            s3Client.putObject(request, RequestBody.fromBytes(bytes));
 
             return key;
 
         } catch (IOException e) {
             throw new FileStorageException("파일 업로드 중 오류가 발생했습니다.", e);
+        } catch (SdkException e) {
+            throw S3Exceptions.translate("파일 업로드 중 오류가 발생했습니다.", e);
         }
-
     }
 
     /**
@@ -77,40 +126,111 @@ public class S3FileStorageService implements FileStorageService{
                     .build();
 
             s3Client.deleteObject(request);
-        } catch (S3Exception e) {
-            throw new FileStorageException("파일 삭제 중 오류가 발생했습니다.", e);
+        } catch (SdkException e) {
+            throw S3Exceptions.translate("파일 삭제 중 오류가 발생했습니다.", e);
         }
     }
 
+    /**
+     * {@code DeleteObjects} 요청당 최대 1000개씩 나누어 삭제합니다.
+     * 없는 key는 성공으로 처리되며, key 단위 오류는 실패 목록으로 반환합니다.
+     */
     @Override
-    public void deleteAll(List<String> keys) {
-        if (keys == null || keys.isEmpty()) return;
+    public List<String> deleteAll(List<String> keys) {
+        if (keys == null || keys.isEmpty()) return List.of();
 
+        List<String> failedKeys = new ArrayList<>();
         try {
-            List<ObjectIdentifier> objects = keys.stream()
-                    .map(k -> ObjectIdentifier.builder().key(k).build())
-                    .toList();
+            for (int from = 0; from < keys.size(); from += DELETE_OBJECTS_LIMIT) {
+                List<ObjectIdentifier> objects = keys.subList(from, Math.min(from + DELETE_OBJECTS_LIMIT, keys.size())).stream()
+                        .map(k -> ObjectIdentifier.builder().key(k).build())
+                        .toList();
+
+                Delete delete = Delete.builder()
+                        .objects(objects)
+                        .quiet(true)
+                        .build();
+
+                DeleteObjectsRequest request = DeleteObjectsRequest.builder()
+                        .bucket(bucket)
+                        .delete(delete)
+                        .build();
+
+                DeleteObjectsResponse response = s3Client.deleteObjects(request);
+
+                // 부분 실패 처리
+                if (response.hasErrors() && !response.errors().isEmpty()) {
+                    for (S3Error err : response.errors()) {
+                        log.warn("S3 배치 삭제 실패: key={}, code={}, message={}",
+                                err.key(), err.code(), err.message());
+                        failedKeys.add(err.key());
+                    }
+                }
+            }
+            return failedKeys;
+        } catch (SdkException e) {
+            throw S3Exceptions.translate("파일 일괄 삭제 중 오류가 발생했습니다.", e);
+        }
+    }
 
-            Delete delete = Delete.builder()
-                    .objects(objects)
-                    .build();
+    /**
+     * {@code ListObjectsV2} 결과를 page 단위로 이어서 조회합니다. 다음 page는 스트림을 소비할 때 요청됩니다.
+     */
+    @Override
+    public Stream<StoredObjectSummary> listObjects(String prefix) {
+        ListObjectsV2Request request = ListObjectsV2Request.builder()
+                .bucket(bucket)
+                .prefix(prefix)
+                .build();
+
+        return s3Client.listObjectsV2Paginator(request).contents().stream()
+                .map(object -> new StoredObjectSummary(object.key(), object.size(), object.lastModified()));
+    }
 
-            DeleteObjectsRequest request = DeleteObjectsRequest.builder()
+    @Override
+    public Optional<StoredObject> stat(String key) {
+        try {
+            HeadObjectResponse response = s3Client.headObject(HeadObjectRequest.builder()
                     .bucket(bucket)
-                    .delete(delete)
-                    .build();
+                    .key(key)
+                    .build());
 
-            DeleteObjectsResponse response = s3Client.deleteObjects(request);
+            return Optional.of(new StoredObject(key, response.contentLength(), response.contentType(), response.eTag()));
+        } catch (NoSuchKeyException e) {
+            return Optional.empty();
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) return Optional.empty(); // HEAD 응답은 본문이 없어 NoSuchKey로 구분되지 않을 수 있음
+            throw new FileStorageException("파일 조회 중 오류가 발생했습니다.", e);
+        }
+    }
 
-            // 부분 실패 처리
-            if (response.hasErrors() && !response.errors().isEmpty()) {
-                for (S3Error err : response.errors()) {
-                    log.warn("S3 배치 삭제 실패: key={}, code={}, message={}",
-                            err.key(), err.code(), err.message());
-                }
-            }
+    @Override
+    public InputStream openRange(String key, long offset, long length) {
+        try {
+            return s3Client.getObject(GetObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .range("bytes=" + offset + "-" + (offset + length - 1))
+                    .build());
         } catch (S3Exception e) {
-            throw new FileStorageException("파일 일괄 삭제 중 오류가 발생했습니다.", e);
+            throw new FileStorageException("파일 조회 중 오류가 발생했습니다.", e);
         }
     }
+
+    @Override
+    public String createUploadUrl(String key, String contentType, long contentLength, Duration ttl) {
+        PutObjectRequest request = PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType)
+                .contentLength(contentLength)
+                .build();
+
+        return s3Presigner.presignPutObject(PutObjectPresignRequest.builder()
+                        .signatureDuration(ttl)
+                        .putObjectRequest(request)
+                        .build())
+                .url()
+                .toString();
+    }
 }
@@ -0,0 +1,198 @@
+package com.petstarproject.petstar.service;
+
+import com.petstarproject.petstar.exception.FileStorageException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 큰 파일을 S3 multipart upload로 나누어 병렬 전송하는 컴포넌트입니다.
+ *
+ * <p>스트림은 part 크기만큼 순서대로 읽고, 읽은 part는 bounded executor에서 동시에 전송합니다.
+ * 동시에 메모리에 올라가는 part 수는 {@code maxConcurrentParts}로 제한되며,
+ * part 전송은 개별적으로 재시도하고 최종 실패하면 multipart upload를 abort 합니다.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3", matchIfMissing = true)
+public class S3MultipartUploader {
+
+    /**
+     * S3가 허용하는 마지막 part 제외 최소 part 크기 (5MB)
+     */
+    static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
+    private final S3Client s3Client;
+    private final Executor partExecutor;
+    private final String bucket;
+    private final int partSize;
+    private final int maxConcurrentParts;
+    private final int partRetryAttempts;
+    private final long partRetryBackoffMillis;
+
+    public S3MultipartUploader(S3Client s3Client,
+                               @Qualifier("s3UploadPartExecutor") Executor partExecutor,
+                               @Value("${aws.s3.bucket}") String bucket,
+                               @Value("${aws.s3.multipart.part-size:8388608}") int partSize,
+                               @Value("${aws.s3.multipart.max-concurrent-parts:4}") int maxConcurrentParts,
+                               @Value("${aws.s3.multipart.part-retry-attempts:3}") int partRetryAttempts,
+                               @Value("${aws.s3.multipart.part-retry-backoff-ms:200}") long partRetryBackoffMillis) {
+        this.s3Client = s3Client;
+        this.partExecutor = partExecutor;
+        this.bucket = bucket;
+        this.partSize = Math.max(partSize, MIN_PART_SIZE);
+        this.maxConcurrentParts = Math.max(maxConcurrentParts, 1);
+        this.partRetryAttempts = Math.max(partRetryAttempts, 1);
+        this.partRetryBackoffMillis = partRetryBackoffMillis;
+    }
+
+    /**
+     * 스트림을 multipart upload로 전송합니다.
+     *
+     * @param in          업로드할 스트림 (호출자가 close)
+     * @param contentType 객체 content type
+     * @param key         S3 객체 key
+     * @throws FileStorageException 전송에 실패한 경우 (multipart upload는 abort 됨)
+     */
+    public void upload(InputStream in, String contentType, String key) {
+        String uploadId;
+        try {
+            uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .contentType(contentType)
+                    .build()).uploadId();
+        } catch (SdkException e) {
+            throw S3Exceptions.translate("파일 업로드 중 오류가 발생했습니다.", e);
+        }
+
+        List<CompletableFuture<CompletedPart>> futures = new ArrayList<>();
+        Semaphore inFlight = new Semaphore(maxConcurrentParts);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        try {
+            int partNumber = 1;
+            while (true) {
+                inFlight.acquire();
+                if (failure.get() != null) break;
+
+                byte[] part = in.readNBytes(partSize);
+                if (part.length == 0 && partNumber > 1) {
+                    inFlight.release();
+                    break;
+                }
+
+                int number = partNumber++;
+                futures.add(CompletableFuture
+                        .supplyAsync(() -> {
+                            // 다른 part가 이미 실패했다면 executor 큐에서 기다리던 part는 보내지 않는다
+                            if (failure.get() != null) {
+                                throw new FileStorageException("다른 part 전송이 실패해 건너뜁니다. part=" + number);
+                            }
+                            return uploadPart(key, uploadId, number, part);
+                        }, partExecutor)
+                        .whenComplete((completed, e) -> {
+                            if (e != null) failure.compareAndSet(null, e);
+                            inFlight.release();
+                        }));
+
+                if (part.length < partSize) break;
+            }
+
+            List<CompletedPart> parts = new ArrayList<>(futures.size());
+            for (CompletableFuture<CompletedPart> future : futures) {
+                parts.add(future.join());
+            }
+
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                    .build());
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure.compareAndSet(null, e);
+            abort(key, uploadId, futures);
+            throw new FileStorageException("파일 업로드가 중단되었습니다.", e);
+        } catch (IOException | SdkException | CompletionException | FileStorageException e) {
+            failure.compareAndSet(null, e);
+            abort(key, uploadId, futures);
+            Throwable cause = (e instanceof CompletionException && e.getCause() != null) ? e.getCause() : e;
+            throw S3Exceptions.translate("파일 업로드 중 오류가 발생했습니다.", cause);
+        }
+    }
+
+    private CompletedPart uploadPart(String key, String uploadId, int partNumber, byte[] bytes) {
+        UploadPartRequest request = UploadPartRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .uploadId(uploadId)
+                .partNumber(partNumber)
+                .contentLength((long) bytes.length)
+                .build();
+
+        SdkException lastError = null;
+        for (int attempt = 1; attempt <= partRetryAttempts; attempt++) {
+            try {
+                UploadPartResponse response = s3Client.uploadPart(request, RequestBody.fromBytes(bytes));
+                return CompletedPart.builder()
+                        .partNumber(partNumber)
+                        .eTag(response.eTag())
+                        .build();
+            } catch (SdkException e) {
+                lastError = e;
+                log.warn("S3 part 업로드 실패: key={}, part={}, attempt={}/{}",
+                        key, partNumber, attempt, partRetryAttempts, e);
+                backoff(attempt);
+            }
+        }
+        throw new FileStorageException("part 업로드에 실패했습니다. part=" + partNumber, lastError);
+    }
+
+    private void backoff(int attempt) {
+        if (attempt >= partRetryAttempts || partRetryBackoffMillis <= 0) return;
+        try {
+            Thread.sleep(partRetryBackoffMillis * attempt);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FileStorageException("part 업로드가 중단되었습니다.", e);
+        }
+    }
+
+    /**
+     * 전송 중인 part가 모두 끝난 뒤 multipart upload를 abort 합니다.
+     * {@code CompletableFuture.cancel}은 실행 중인 part 전송을 멈추지 못하므로, 먼저 abort 하면 뒤늦게 끝난 part가 남을 수 있습니다.
+     */
+    private void abort(String key, String uploadId, List<CompletableFuture<CompletedPart>> futures) {
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+                .exceptionally(e -> null)
+                .join();
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .build());
+        } catch (SdkException e) {
+            log.warn("S3 multipart upload abort 실패: key={}, uploadId={}", key, uploadId, e);
+        }
+    }
+}
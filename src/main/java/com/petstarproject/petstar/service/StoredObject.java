@@ -0,0 +1,12 @@
+package com.petstarproject.petstar.service;
+
+/**
+ * 스토리지에 저장된 객체의 메타데이터입니다.
+ *
+ * @param key         객체 key
+ * @param size        객체 크기(byte)
+ * @param contentType 객체 content type
+ * @param eTag        객체 ETag
+ */
+public record StoredObject(String key, long size, String contentType, String eTag) {
+}
@@ -0,0 +1,13 @@
+package com.petstarproject.petstar.service;
+
+import java.time.Instant;
+
+/**
+ * 목록 조회(S3 ListObjectsV2)로 얻은 객체 요약입니다.
+ *
+ * @param key          객체 key
+ * @param size         객체 크기(byte)
+ * @param lastModified 마지막 수정 시각
+ */
+public record StoredObjectSummary(String key, long size, Instant lastModified) {
+}
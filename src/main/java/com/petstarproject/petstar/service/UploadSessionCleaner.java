@@ -0,0 +1,27 @@
+package com.petstarproject.petstar.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 만료된 업로드 세션과 spool 파일을 주기적으로 정리합니다.
+ */
+@Slf4j
+@Component
+public class UploadSessionCleaner {
+
+    private final UploadSessionService uploadSessionService;
+
+    public UploadSessionCleaner(UploadSessionService uploadSessionService) {
+        this.uploadSessionService = uploadSessionService;
+    }
+
+    @Scheduled(fixedDelayString = "${video.upload.purge-interval-ms:600000}")
+    public void purgeExpiredSessions() {
+        int purged = uploadSessionService.purgeExpiredSessions();
+        if (purged > 0) {
+            log.info("만료된 업로드 세션 정리: count={}", purged);
+        }
+    }
+}
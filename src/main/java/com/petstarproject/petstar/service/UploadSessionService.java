@@ -0,0 +1,39 @@
+package com.petstarproject.petstar.service;
+
+import com.petstarproject.petstar.dto.UploadSessionCreateRequest;
+import com.petstarproject.petstar.dto.UploadSessionResponse;
+import com.petstarproject.petstar.dto.VideoInfoRequest;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.InputStream;
+
+/**
+ * 재개 가능한 동영상 업로드(세션 생성 / offset 기반 chunk 전송 / 완료)를 처리합니다.
+ */
+public interface UploadSessionService {
+
+    UploadSessionResponse createSession(UploadSessionCreateRequest request, String requesterId);
+
+    /**
+     * chunk를 세션의 현재 offset 뒤에 이어 기록합니다.
+     * @param offset 클라이언트가 보낸 chunk 시작 위치 (서버의 현재 offset과 같아야 함)
+     * @param length chunk 크기(byte)
+     * @param body   chunk 본문 (호출자가 close)
+     * @return 기록 후 세션 상태
+     */
+    UploadSessionResponse appendChunk(String sessionId, long offset, long length, InputStream body, String requesterId);
+
+    UploadSessionResponse getSession(String sessionId, String requesterId);
+
+    /**
+     * 모두 받은 세션으로 동영상을 생성합니다. 이미 완료된 세션이면 기존 videoId를 반환합니다.
+     * @return 생성된 videoId
+     */
+    String completeSession(String sessionId, VideoInfoRequest request, MultipartFile thumbnail, String petId, String requesterId);
+
+    /**
+     * 만료된 세션과 spool 파일을 정리합니다.
+     * @return 정리한 세션 수
+     */
+    int purgeExpiredSessions();
+}
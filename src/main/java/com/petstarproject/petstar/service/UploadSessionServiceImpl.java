@@ -0,0 +1,242 @@
+package com.petstarproject.petstar.service;
+
+import com.petstarproject.petstar.dto.UploadSessionCreateRequest;
+import com.petstarproject.petstar.dto.UploadSessionResponse;
+import com.petstarproject.petstar.dto.VideoInfoRequest;
+import com.petstarproject.petstar.entity.UploadSession;
+import com.petstarproject.petstar.exception.FileStorageException;
+import com.petstarproject.petstar.exception.InvalidUploadRequestException;
+import com.petstarproject.petstar.exception.InvalidVideoFormatException;
+import com.petstarproject.petstar.exception.UploadOffsetMismatchException;
+import com.petstarproject.petstar.repository.UploadSessionRepository;
+import com.petstarproject.petstar.service.duration.VideoDurationExtractor;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 받은 chunk를 세션별 로컬 spool 파일의 offset 위치에 기록하는 {@link UploadSessionService} 구현체입니다.
+ *
+ * <p>chunk 기록과 완료는 세션 row lock(PESSIMISTIC_WRITE)으로 직렬화하며, offset은 chunk가 디스크에 기록(force)된 뒤에만 전진합니다.
+ * 따라서 연결이 끊기면 클라이언트는 조회한 offset부터 마지막 chunk만 다시 보내면 됩니다.
+ * 완료 시 spool 파일은 {@link VideoService}로 넘겨져 일반 업로드와 같은 ingest 경로를 탑니다.
+ * spool 파일은 완료가 커밋되거나 세션이 만료될 때까지 세션이 소유하므로, 완료 처리가 실패해도 다시 완료할 수 있습니다.</p>
+ */
+@Slf4j
+@Service
+public class UploadSessionServiceImpl implements UploadSessionService {
+
+    private static final int PURGE_BATCH_SIZE = 100;
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private final UploadSessionRepository uploadSessionRepository;
+    private final VideoService videoService;
+    private final VideoDurationExtractor videoDurationExtractor;
+    private final Path spoolDir;
+    private final long chunkSize;
+    private final long maxSize;
+    private final Duration sessionTtl;
+
+    public UploadSessionServiceImpl(UploadSessionRepository uploadSessionRepository,
+                                    VideoService videoService,
+                                    VideoDurationExtractor videoDurationExtractor,
+                                    @Value("${video.upload.spool-dir:${java.io.tmpdir}/petstar-uploads}") String spoolDir,
+                                    @Value("${video.upload.chunk-size:8388608}") long chunkSize,
+                                    @Value("${video.upload.max-size:5368709120}") long maxSize,
+                                    @Value("${video.upload.session-ttl-hours:24}") long sessionTtlHours) {
+        this.uploadSessionRepository = uploadSessionRepository;
+        this.videoService = videoService;
+        this.videoDurationExtractor = videoDurationExtractor;
+        this.spoolDir = Paths.get(spoolDir);
+        this.chunkSize = chunkSize;
+        this.maxSize = maxSize;
+        this.sessionTtl = Duration.ofHours(sessionTtlHours);
+    }
+
+    @Transactional
+    @Override
+    public UploadSessionResponse createSession(UploadSessionCreateRequest request, String requesterId) {
+        if (!videoDurationExtractor.supports(request.getContentType(), request.getFilename())) {
+            throw new InvalidVideoFormatException("Only MP4 is supported");
+        }
+        if (request.getSize() <= 0 || request.getSize() > maxSize) {
+            throw new InvalidUploadRequestException("업로드 가능한 파일 크기를 벗어났습니다.");
+        }
+
+        UploadSession session = UploadSession.create(
+                UUID.randomUUID().toString(),
+                requesterId,
+                request.getContentType(),
+                request.getFilename(),
+                request.getSize(),
+                LocalDateTime.now().plus(sessionTtl)
+        );
+
+        uploadSessionRepository.save(session);
+
+        try {
+            Files.createDirectories(spoolDir);
+            Files.createFile(spoolFile(session.getId()));
+        } catch (IOException e) {
+            throw new FileStorageException("업로드 세션 생성 중 오류가 발생했습니다.", e);
+        }
+
+        return UploadSessionResponse.from(session, chunkSize);
+    }
+
+    @Transactional
+    @Override
+    public UploadSessionResponse appendChunk(String sessionId, long offset, long length, InputStream body, String requesterId) {
+        UploadSession session = findForUpdate(sessionId);
+        checkOwner(session.getOwnerId(), requesterId);
+
+        if (!session.isInProgress()) {
+            throw new UploadOffsetMismatchException("이미 완료된 업로드 세션입니다.", session.getReceivedSize());
+        }
+        if (offset != session.getReceivedSize()) {
+            throw new UploadOffsetMismatchException("chunk offset이 일치하지 않습니다.", session.getReceivedSize());
+        }
+        if (length <= 0 || length > chunkSize || offset + length > session.getTotalSize()) {
+            throw new InvalidUploadRequestException("chunk 크기가 올바르지 않습니다.");
+        }
+
+        long written = writeChunk(spoolFile(sessionId), offset, length, body);
+        if (written != length) {
+            // offset을 전진시키지 않으므로 다음 요청이 같은 위치를 덮어씀
+            throw new InvalidUploadRequestException("chunk 본문이 Content-Length보다 짧습니다.");
+        }
+
+        session.advance(length);
+        session.extendExpiry(LocalDateTime.now().plus(sessionTtl));
+        return UploadSessionResponse.from(session, chunkSize);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public UploadSessionResponse getSession(String sessionId, String requesterId) {
+        UploadSession session = uploadSessionRepository.findById(sessionId)
+                .orElseThrow(() -> new EntityNotFoundException("upload session not found: " + sessionId));
+        checkOwner(session.getOwnerId(), requesterId);
+        return UploadSessionResponse.from(session, chunkSize);
+    }
+
+    @Transactional
+    @Override
+    public String completeSession(String sessionId, VideoInfoRequest request, MultipartFile thumbnail, String petId, String requesterId) {
+        UploadSession session = findForUpdate(sessionId);
+        checkOwner(session.getOwnerId(), requesterId);
+
+        if (!session.isInProgress()) {
+            return session.getVideoId();
+        }
+        if (!session.isFullyReceived()) {
+            throw new UploadOffsetMismatchException("아직 모든 chunk를 받지 못했습니다.", session.getReceivedSize());
+        }
+
+        String videoId = videoService.createVideo(
+                request, spoolFile(sessionId), session.getContentType(), thumbnail, petId, requesterId);
+        session.complete(videoId);
+        deleteSpoolFileAfterCommit(spoolFile(sessionId));
+        return videoId;
+    }
+
+    @Transactional
+    @Override
+    public int purgeExpiredSessions() {
+        LocalDateTime now = LocalDateTime.now();
+        List<UploadSession> expired = uploadSessionRepository.findByExpiresAtBefore(now, PageRequest.of(0, PURGE_BATCH_SIZE));
+
+        int purged = 0;
+        for (UploadSession candidate : expired) {
+            // chunk 기록 중인 세션과 겹치지 않도록 lock을 잡고 만료 여부를 다시 확인
+            UploadSession session = uploadSessionRepository.findByIdForUpdate(candidate.getId()).orElse(null);
+            if (session == null || !session.getExpiresAt().isBefore(now)) continue;
+
+            deleteQuietly(spoolFile(session.getId()));
+            uploadSessionRepository.delete(session);
+            purged++;
+        }
+        return purged;
+    }
+
+    private long writeChunk(Path file, long offset, long length, InputStream body) {
+        ReadableByteChannel source = Channels.newChannel(body);
+        ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(length, WRITE_BUFFER_SIZE));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            long written = 0;
+            while (written < length) {
+                buffer.clear().limit((int) Math.min(buffer.capacity(), length - written));
+                if (source.read(buffer) < 0) break;
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    written += channel.write(buffer, offset + written);
+                }
+            }
+            channel.force(false);
+            return written;
+        } catch (IOException e) {
+            throw new FileStorageException("chunk 저장 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    private UploadSession findForUpdate(String sessionId) {
+        return uploadSessionRepository.findByIdForUpdate(sessionId)
+                .orElseThrow(() -> new EntityNotFoundException("upload session not found: " + sessionId));
+    }
+
+    private Path spoolFile(String sessionId) {
+        return spoolDir.resolve(sessionId);
+    }
+
+    private void deleteSpoolFileAfterCommit(Path file) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            deleteQuietly(file);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                deleteQuietly(file);
+            }
+        });
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("업로드 세션 spool 파일 삭제 실패: {}", file, e);
+        }
+    }
+
+    private void checkOwner(String ownerId, String requesterId) {
+        if (requesterId == null || requesterId.isBlank()) {
+            throw new RuntimeException("인증이 필요합니다."); // SpringSecurity 추가 전 임시 코드
+        }
+        if (!requesterId.equals(ownerId)) {
+            throw new RuntimeException("본인이 만든 업로드 세션이 아닙니다."); // SpringSecurity 추가 전 임시 코드
+        }
+    }
+}
@@ -6,9 +6,9 @@ import com.petstarproject.petstar.entity.User;
 import com.petstarproject.petstar.exception.DuplicatedEmailException;
 import com.petstarproject.petstar.repository.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
-import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class UserServiceImpl implements UserService{
@@ -33,7 +33,7 @@ public class UserServiceImpl implements UserService{
     }
 
 
-    @Transactional
+    @Transactional(readOnly = true)
     @Override
     public UserResponse getUserById(String userId) {
         User user = userRepository.findById(userId)
@@ -42,7 +42,7 @@ public class UserServiceImpl implements UserService{
     }
 
 
-    @Transactional
+    @Transactional(readOnly = true)
     @Override
     public UserResponse getMe(String requesterId) {
         return getUserById(requesterId);
@@ -1,9 +1,20 @@
 package com.petstarproject.petstar.service;
 
+import com.petstarproject.petstar.dto.CursorPageResponse;
+import com.petstarproject.petstar.dto.DirectUploadRequest;
+import com.petstarproject.petstar.dto.DirectUploadResponse;
 import com.petstarproject.petstar.dto.VideoInfoRequest;
+import com.petstarproject.petstar.dto.VideoResponse;
+import com.petstarproject.petstar.dto.VideoSummaryResponse;
 import com.petstarproject.petstar.entity.Video;
+import com.petstarproject.petstar.enums.VideoStatus;
+import com.petstarproject.petstar.enums.Visibility;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.List;
+
 
 public interface VideoService {
 
@@ -12,7 +23,51 @@ public interface VideoService {
      */
     String createVideo(VideoInfoRequest request, MultipartFile videoSource, MultipartFile thumbnail, String petId, String userId);
 
-    Video getVideo(String videoId, String requesterId);
+    /**
+     * 재개 가능한 업로드 세션으로 받은 원본 파일로 동영상을 생성합니다. 원본 파일은 ingest spool로 이동됩니다.
+     * @return 생성된 videoId
+     */
+    String createVideo(VideoInfoRequest request, Path sourceFile, String sourceContentType, MultipartFile thumbnail, String petId, String userId);
+
+    /**
+     * 클라이언트가 S3에 직접 업로드할 presigned URL을 발급합니다.
+     */
+    DirectUploadResponse createDirectUpload(DirectUploadRequest request, String petId, String userId);
+
+    /**
+     * 직접 업로드가 끝난 동영상을 확인하고 길이를 채웁니다.
+     * @return READY 또는 FAILED로 전이된 동영상
+     */
+    Video completeDirectUpload(String videoId, String requesterId);
+
+    /**
+     * 처리가 끝난(READY/FAILED) 동영상은 캐시된 snapshot을 반환할 수 있습니다.
+     */
+    VideoResponse getVideo(String videoId, String requesterId);
+
+    /**
+     * 여러 동영상을 한 번에 조회합니다. 없거나 볼 수 없는(다른 사람의 PRIVATE) 동영상은 빼고 요청 순서대로 반환합니다.
+     */
+    List<VideoResponse> getVideos(List<String> videoIds, String requesterId);
+
+    /**
+     * Pet 또는 작성자의 동영상 목록을 최신순으로 조회합니다. petId, ownerId 중 하나는 있어야 합니다.
+     * 작성자 본인이 ownerId로 조회할 때만 PRIVATE 동영상이 포함됩니다. 본문(description)과 tags는 포함하지 않습니다.
+     * @param cursor 이전 페이지의 {@link CursorPageResponse#nextCursor()}. 첫 페이지는 null
+     */
+    CursorPageResponse<VideoSummaryResponse> listVideos(String petId, String ownerId, Visibility visibility, VideoStatus status,
+                                                        String cursor, Integer size, String requesterId);
+
+    /**
+     * 재생할 원본 객체 정보를 조회합니다. {@link #getVideo}와 같은 공개 범위 검증을 거칩니다.
+     * @return 원본 객체 메타데이터
+     */
+    StoredObject getVideoSource(String videoId, String requesterId);
+
+    /**
+     * 원본의 [offset, offset + length) 구간을 out으로 씁니다.
+     */
+    void writeVideoSource(StoredObject source, long offset, long length, OutputStream out);
 
     void updateVideo(String videoId, VideoInfoRequest request, MultipartFile thumbnail, String requesterId);
 
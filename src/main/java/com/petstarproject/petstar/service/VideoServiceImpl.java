@@ -1,20 +1,55 @@
 package com.petstarproject.petstar.service;
 
+import com.petstarproject.petstar.dto.CursorPageResponse;
+import com.petstarproject.petstar.dto.DirectUploadRequest;
+import com.petstarproject.petstar.dto.DirectUploadResponse;
 import com.petstarproject.petstar.dto.VideoInfoRequest;
+import com.petstarproject.petstar.dto.VideoResponse;
+import com.petstarproject.petstar.dto.VideoSummaryResponse;
+import com.petstarproject.petstar.entity.ImageRendition;
 import com.petstarproject.petstar.entity.Video;
 import com.petstarproject.petstar.enums.VideoFileType;
+import com.petstarproject.petstar.enums.VideoStatus;
 import com.petstarproject.petstar.enums.Visibility;
+import com.petstarproject.petstar.exception.FileStorageException;
+import com.petstarproject.petstar.exception.InvalidListRequestException;
+import com.petstarproject.petstar.exception.InvalidUploadRequestException;
+import com.petstarproject.petstar.exception.InvalidVideoFormatException;
+import com.petstarproject.petstar.exception.VideoDurationExtractFailedException;
+import com.petstarproject.petstar.exception.VideoNotReadyException;
 import com.petstarproject.petstar.exception.VideoSourceRequiredException;
 import com.petstarproject.petstar.repository.VideoRepository;
+import com.petstarproject.petstar.service.cache.SnapshotCache;
+import com.petstarproject.petstar.service.deletion.ObjectDeletionQueue;
 import com.petstarproject.petstar.service.duration.VideoDurationExtractor;
+import com.petstarproject.petstar.service.image.ImageRenditionService;
+import com.petstarproject.petstar.service.ingest.VideoIngestService;
+import com.petstarproject.petstar.service.ingest.VideoIngestTask;
+import com.petstarproject.petstar.service.ingest.VideoStatusUpdater;
+import com.petstarproject.petstar.service.query.VideoReader;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 //import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 
 @Service
 public class VideoServiceImpl implements VideoService {
@@ -31,14 +66,52 @@ public class VideoServiceImpl implements VideoService {
     private final VideoRepository videoRepository;
     private final FileStorageService fileStorageService;
     private final VideoDurationExtractor videoDurationExtractor; // todo: mp4 제한 없이 FFmpeg로 확장
+    private final VideoIngestService videoIngestService;
+    private final VideoStatusUpdater videoStatusUpdater;
+    private final ImageRenditionService imageRenditionService;
+    private final ObjectDeletionQueue objectDeletionQueue;
+    private final SnapshotCache<VideoResponse> videoSnapshotCache;
+    private final VideoReader videoReader;
+    private final long maxSize;
+    private final long thumbnailMaxSize;
+
+    /**
+     * 직접 업로드 확인 시 한 번의 ranged GET으로 가져올 크기. ftyp/moov 헤더가 보통 한 번에 들어옵니다.
+     */
+    private static final int PROBE_WINDOW_SIZE = 64 * 1024;
+
+    @Value("${video.upload.presign-ttl-minutes:15}")
+    private long presignTtlMinutes;
 
     @Autowired
-    public VideoServiceImpl(VideoRepository videoRepository, FileStorageService fileStorageService, VideoDurationExtractor videoDurationExtractor) {
+    public VideoServiceImpl(VideoRepository videoRepository,
+                            FileStorageService fileStorageService,
+                            VideoDurationExtractor videoDurationExtractor,
+                            VideoIngestService videoIngestService,
+                            VideoStatusUpdater videoStatusUpdater,
+                            ImageRenditionService imageRenditionService,
+                            ObjectDeletionQueue objectDeletionQueue,
+                            SnapshotCache<VideoResponse> videoSnapshotCache,
+                            VideoReader videoReader,
+                            @Value("${video.upload.max-size:5368709120}") long maxSize,
+                            @Value("${video.upload.thumbnail-max-size:10485760}") long thumbnailMaxSize) {
         this.videoRepository = videoRepository;
         this.fileStorageService = fileStorageService;
         this.videoDurationExtractor = videoDurationExtractor;
+        this.videoIngestService = videoIngestService;
+        this.videoStatusUpdater = videoStatusUpdater;
+        this.imageRenditionService = imageRenditionService;
+        this.objectDeletionQueue = objectDeletionQueue;
+        this.videoSnapshotCache = videoSnapshotCache;
+        this.videoReader = videoReader;
+        this.maxSize = maxSize;
+        this.thumbnailMaxSize = thumbnailMaxSize;
     }
 
+    /**
+     * 업로드 파일을 spool 하고 UPLOADING 상태의 row를 저장한 뒤 바로 반환합니다.
+     * 길이 추출과 스토리지 업로드는 커밋 이후 ingest worker가 처리하며 완료 시 READY/FAILED로 전이됩니다.
+     */
     @Transactional
     @Override
     public String createVideo(VideoInfoRequest request, MultipartFile videoSource, MultipartFile thumbnail, String petId, String userId) {
@@ -46,13 +119,43 @@ public class VideoServiceImpl implements VideoService {
             throw new VideoSourceRequiredException("Video source file is required");
         }
 
+        if (!videoDurationExtractor.supports(videoSource.getContentType(), videoSource.getOriginalFilename())) {
+            throw new InvalidVideoFormatException("Only MP4 is supported");
+        }
+
+        videoIngestService.checkCapacity();
+
         String videoId = UUID.randomUUID().toString();
 
-        int durationSec = videoDurationExtractor.extractDurationSec(videoSource);
+        String sourceKey = createFileKey(VideoFileType.VIDEO, videoId);
+        String thumbnailKey = isPresent(thumbnail) ? createFileKey(VideoFileType.THUMBNAIL, videoId) : null;
 
-        String sourceKey = uploadFileIfPresent(videoSource, VideoFileType.VIDEO, videoId);
-        String thumbnailKey = uploadFileIfPresent(thumbnail, VideoFileType.THUMBNAIL, videoId);
+        VideoIngestTask task = videoIngestService.stage(videoId, videoSource, sourceKey, thumbnail, thumbnailKey);
+
+        return saveAndDispatch(videoId, sourceKey, thumbnailKey, task, request, petId, userId);
+    }
 
+    /**
+     * 재개 가능한 업로드 세션으로 모두 받은 원본 파일로 동영상을 생성합니다.
+     * 이후 처리는 {@link #createVideo(VideoInfoRequest, MultipartFile, MultipartFile, String, String)}와 같습니다.
+     */
+    @Transactional
+    @Override
+    public String createVideo(VideoInfoRequest request, Path sourceFile, String sourceContentType, MultipartFile thumbnail, String petId, String userId) {
+        videoIngestService.checkCapacity();
+
+        String videoId = UUID.randomUUID().toString();
+
+        String sourceKey = createFileKey(VideoFileType.VIDEO, videoId);
+        String thumbnailKey = isPresent(thumbnail) ? createFileKey(VideoFileType.THUMBNAIL, videoId) : null;
+
+        VideoIngestTask task = videoIngestService.stage(videoId, sourceFile, sourceContentType, sourceKey, thumbnail, thumbnailKey);
+
+        return saveAndDispatch(videoId, sourceKey, thumbnailKey, task, request, petId, userId);
+    }
+
+    private String saveAndDispatch(String videoId, String sourceKey, String thumbnailKey, VideoIngestTask task,
+                                   VideoInfoRequest request, String petId, String userId) {
         Video video = Video.create(
                 videoId,
                 petId,
@@ -62,19 +165,112 @@ public class VideoServiceImpl implements VideoService {
                 request.getVisibility(),
                 sourceKey,
                 thumbnailKey,
-                durationSec,
+                0, // ingest 완료 시 추출한 길이로 갱신
                 request.getTags()
         );
 
-        videoRepository.save(video);
+        try {
+            videoRepository.save(video);
+        } catch (RuntimeException e) {
+            task.deleteSpoolFiles();
+            throw e;
+        }
+
+        videoIngestService.dispatchAfterCommit(task);
 
         return videoId;
     }
 
+    /**
+     * 원본/썸네일을 클라이언트가 S3에 직접 올리도록 UPLOADING 상태의 row를 만들고 presigned PUT URL을 발급합니다.
+     * 업로드가 끝나면 {@link #completeDirectUpload(String, String)}로 확인합니다.
+     * presigned URL에는 요청한 크기가 서명되므로, 최대 크기를 넘는 요청은 URL을 발급하기 전에 거절합니다.
+     */
+    @Transactional
+    @Override
+    public DirectUploadResponse createDirectUpload(DirectUploadRequest request, String petId, String userId) {
+        if (!videoDurationExtractor.supports(request.getContentType(), request.getFilename())) {
+            throw new InvalidVideoFormatException("Only MP4 is supported");
+        }
+        if (request.getSize() <= 0 || request.getSize() > maxSize
+                || (request.hasThumbnail() && (request.getThumbnailSize() <= 0 || request.getThumbnailSize() > thumbnailMaxSize))) {
+            throw new InvalidUploadRequestException("업로드 가능한 파일 크기를 벗어났습니다.");
+        }
+
+        String videoId = UUID.randomUUID().toString();
+
+        String sourceKey = createFileKey(VideoFileType.VIDEO, videoId);
+        String thumbnailKey = request.hasThumbnail() ? createFileKey(VideoFileType.THUMBNAIL, videoId) : null;
+
+        VideoInfoRequest info = request.getInfo();
+        Video video = Video.create(
+                videoId,
+                petId,
+                userId,
+                info.getTitle(),
+                info.getDescription(),
+                info.getVisibility(),
+                sourceKey,
+                thumbnailKey,
+                0, // 업로드 확인 시 추출한 길이로 갱신
+                info.getTags()
+        );
+        videoRepository.save(video);
+
+        Duration ttl = Duration.ofMinutes(presignTtlMinutes);
+        String sourceUrl = fileStorageService.createUploadUrl(sourceKey, request.getContentType(), request.getSize(), ttl);
+        String thumbnailUrl = thumbnailKey == null ? null
+                : fileStorageService.createUploadUrl(thumbnailKey, request.getThumbnailContentType(), request.getThumbnailSize(), ttl);
+
+        return new DirectUploadResponse(videoId, sourceUrl, thumbnailUrl, LocalDateTime.now().plus(ttl));
+    }
+
+    /**
+     * 직접 업로드된 원본을 HEAD로 확인하고, ranged GET으로 필요한 box만 읽어 길이를 추출한 뒤 READY로 전이합니다.
+     * 원본이 최대 크기를 넘거나 MP4로 해석되지 않으면 업로드된 객체를 삭제 큐에 기록하고 FAILED로 전이합니다. 이미 처리된 동영상이면 그대로 반환합니다.
+     * 스토리지 확인은 트랜잭션 밖에서 끝내고, 결과만 {@link VideoStatusUpdater}의 짧은 트랜잭션으로 반영합니다.
+     */
     @Override
-    public Video getVideo(String videoId, String requesterId) {
+    public Video completeDirectUpload(String videoId, String requesterId) {
         Video video = videoRepository.findById(videoId)
                 .orElseThrow(() -> new EntityNotFoundException("video not found: " + videoId));
+        checkOwner(video.getOwnerId(), requesterId);
+
+        if (video.getStatus() != VideoStatus.UPLOADING) return video;
+
+        StoredObject source = fileStorageService.stat(video.getSourceKey())
+                .orElseThrow(() -> new InvalidUploadRequestException("업로드된 원본 영상을 찾을 수 없습니다."));
+        boolean thumbnailUploaded = video.getThumbnailKey() == null
+                || fileStorageService.stat(video.getThumbnailKey()).isPresent();
+
+        Integer durationSec = source.size() > maxSize ? null : probeDurationSec(source);
+
+        Optional<Video> completed = durationSec == null
+                ? videoStatusUpdater.markDirectUploadFailed(videoId)
+                : videoStatusUpdater.markDirectUploadReady(videoId, durationSec, thumbnailUploaded);
+        return completed.orElseThrow(() -> new EntityNotFoundException("video not found: " + videoId));
+    }
+
+    /**
+     * @return 영상 길이(초), MP4로 해석되지 않으면 null
+     */
+    private Integer probeDurationSec(StoredObject source) {
+        try (InputStream in = new RangeReadingInputStream(fileStorageService, source.key(), source.size(), PROBE_WINDOW_SIZE)) {
+            return videoDurationExtractor.extractDurationSec(in);
+        } catch (VideoDurationExtractFailedException e) {
+            return null;
+        } catch (IOException e) {
+            throw new FileStorageException("업로드된 원본 영상을 읽는 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    /**
+     * 업로드/트랜스코딩 중인 동영상은 백그라운드 작업이 상태를 바꾸므로 캐시하지 않고, READY/FAILED가 된 뒤의 snapshot만 캐시합니다.
+     */
+    @Override
+    public VideoResponse getVideo(String videoId, String requesterId) {
+        VideoResponse video = videoSnapshotCache.getIfPresent(videoId)
+                .orElseGet(() -> loadVideo(videoId));
 
         if (video.getVisibility() == Visibility.PRIVATE) {
             checkOwner(video.getOwnerId(), requesterId);
@@ -82,6 +278,79 @@ public class VideoServiceImpl implements VideoService {
         return video;
     }
 
+    /**
+     * 캐시에 없는 동영상만 한 번의 {@code IN} 쿼리로 조회하고, tags/썸네일 축소본은 {@code @BatchSize}로 한 번에 가져옵니다.
+     */
+    @Override
+    public List<VideoResponse> getVideos(List<String> videoIds, String requesterId) {
+        List<String> ids = BatchIds.normalize(videoIds);
+        Map<String, VideoResponse> videos = new HashMap<>(videoSnapshotCache.getAllPresent(ids));
+
+        List<String> missing = ids.stream().filter(id -> !videos.containsKey(id)).toList();
+        if (!missing.isEmpty()) {
+            for (VideoResponse video : videoReader.findAllById(missing)) {
+                videos.put(video.getId(), cacheIfSettled(video));
+            }
+        }
+
+        return ids.stream()
+                .map(videos::get)
+                .filter(Objects::nonNull)
+                .filter(video -> isVisible(video.getVisibility(), video.getOwnerId(), requesterId))
+                .toList();
+    }
+
+    @Override
+    public CursorPageResponse<VideoSummaryResponse> listVideos(String petId, String ownerId, Visibility visibility, VideoStatus status,
+                                                        String cursor, Integer size, String requesterId) {
+        if (petId == null && ownerId == null) {
+            throw new InvalidListRequestException("petId 또는 ownerId가 필요합니다.");
+        }
+        boolean owner = ownerId != null && ownerId.equals(requesterId);
+        if (!owner && visibility == Visibility.PRIVATE) return CursorPageResponse.empty();
+
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int pageSize = KeysetCursor.pageSize(size);
+        List<VideoSummaryResponse> videos = videoReader.findPage(petId, ownerId, owner ? visibility : Visibility.PUBLIC, status,
+                after == null ? null : after.createdAt(), after == null ? null : after.id(), pageSize + 1);
+
+        return KeysetCursor.page(videos, pageSize,
+                video -> new KeysetCursor(video.createdAt(), video.id()), Function.identity());
+    }
+
+    private VideoResponse loadVideo(String videoId) {
+        return videoReader.findById(videoId)
+                .map(this::cacheIfSettled)
+                .orElseThrow(() -> new EntityNotFoundException("video not found: " + videoId));
+    }
+
+    private VideoResponse cacheIfSettled(VideoResponse video) {
+        if (video.getStatus() == VideoStatus.READY || video.getStatus() == VideoStatus.FAILED) {
+            videoSnapshotCache.put(video.getId(), video);
+        }
+        return video;
+    }
+
+    @Override
+    public StoredObject getVideoSource(String videoId, String requesterId) {
+        VideoResponse video = getVideo(videoId, requesterId);
+        // TRANSCODING은 원본 업로드가 끝나고 HLS 패키징 중인 상태이므로 원본 재생은 가능
+        if (video.getStatus() != VideoStatus.READY && video.getStatus() != VideoStatus.TRANSCODING) {
+            throw new VideoNotReadyException("video is not ready: " + videoId);
+        }
+
+        return fileStorageService.stat(video.getSourceKey())
+                .orElseThrow(() -> new EntityNotFoundException("video source not found: " + videoId));
+    }
+
+    /**
+     * 스토리지 구현에 따라 S3 ranged GET 또는 로컬 파일의 {@code FileChannel.transferTo}로 전송됩니다.
+     */
+    @Override
+    public void writeVideoSource(StoredObject source, long offset, long length, OutputStream out) {
+        fileStorageService.transferTo(source.key(), offset, length, Channels.newChannel(out));
+    }
+
     /**
      * JPA의 dirty-checking 특성을 활용해서 record를 update
      * @param id 동영상의 ID
@@ -98,7 +367,15 @@ public class VideoServiceImpl implements VideoService {
         video.updateMeta(request.getTitle(), request.getDescription(), request.getVisibility(), request.getTags());
 
         String thumbnailKey = uploadFileIfPresent(thumbnail, VideoFileType.THUMBNAIL, id);
-        if (thumbnailKey != null) video.updateThumbnail(thumbnailKey);
+        if (thumbnailKey != null) {
+            List<String> oldKeys = new ArrayList<>();
+            oldKeys.add(video.getThumbnailKey());
+            oldKeys.addAll(renditionKeys(video));
+            video.updateThumbnail(thumbnailKey);
+            video.addThumbnailRenditions(imageRenditionService.createRenditions(thumbnail, thumbnailKey));
+            objectDeletionQueue.enqueue(oldKeys);
+        }
+        videoSnapshotCache.invalidate(id);
 
     }
 
@@ -108,19 +385,49 @@ public class VideoServiceImpl implements VideoService {
         Video video = videoRepository.findById(videoId)
                 .orElseThrow(() -> new EntityNotFoundException("video not found: " + videoId));
         checkOwner(video.getOwnerId(), requesterId);
-        // Todo: S3 삭제
+
+        // 스토리지 삭제는 같은 트랜잭션에서 삭제 큐에 기록하고 drainer가 처리
+        List<String> keys = new ArrayList<>();
+        keys.add(video.getSourceKey());
+        keys.add(video.getThumbnailKey());
+        keys.addAll(renditionKeys(video));
+        objectDeletionQueue.enqueue(keys);
+        if (video.getHlsPlaylistKey() != null) {
+            objectDeletionQueue.enqueuePrefix(String.format("videos/%s/hls/", videoId));
+        }
+
         videoRepository.delete(video);
+        videoSnapshotCache.invalidate(videoId);
+    }
+
+    /**
+     * 썸네일 축소본 key 목록입니다. 썸네일이 바뀌거나 동영상을 삭제할 때 삭제 큐에 기록합니다.
+     */
+    private List<String> renditionKeys(Video video) {
+        return video.getThumbnailRenditions().stream()
+                .map(ImageRendition::getKey)
+                .toList();
     }
 
     private String uploadFileIfPresent(MultipartFile file, VideoFileType type, String videoId) {
-        if (file == null || file.isEmpty()) return null;
+        if (!isPresent(file)) return null;
+
+        return fileStorageService.upload(file, createFileKey(type, videoId));
+    }
 
-        String fileKey = switch (type) {
+    private String createFileKey(VideoFileType type, String videoId) {
+        return switch (type) {
             case VIDEO -> String.format("videos/%s/source/%s", videoId, UUID.randomUUID());
             case THUMBNAIL -> String.format("videos/%s/thumbnail/%s", videoId, UUID.randomUUID());
         };
+    }
+
+    private boolean isPresent(MultipartFile file) {
+        return file != null && !file.isEmpty();
+    }
 
-        return fileStorageService.upload(file, fileKey);
+    private static boolean isVisible(Visibility visibility, String ownerId, String requesterId) {
+        return visibility != Visibility.PRIVATE || (requesterId != null && requesterId.equals(ownerId));
     }
 
     private void checkOwner(String ownerId, String requesterId) {
@@ -0,0 +1,85 @@
+package com.petstarproject.petstar.service.admission;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.petstarproject.petstar.exception.GlobalExceptionHandler.ErrorResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 업로드 요청(multipart, chunk)을 {@link UploadAdmissionLimiter}로 제한하는 filter 입니다.
+ *
+ * <p>multipart는 DispatcherServlet이 handler를 찾기 전에 파싱(spool)하므로 interceptor가 아닌 filter에서 먼저 자리를 확인합니다.
+ * 자리를 얻지 못하면 body를 읽지 않고 {@code 503}과 {@code Retry-After}로 바로 응답합니다.</p>
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class UploadAdmissionFilter extends OncePerRequestFilter {
+
+    private static final Set<String> UPLOAD_METHODS = Set.of("POST", "PUT", "PATCH");
+
+    private final UploadAdmissionLimiter uploadAdmissionLimiter;
+    private final ObjectMapper objectMapper;
+    private final long retryAfterSeconds;
+
+    public UploadAdmissionFilter(UploadAdmissionLimiter uploadAdmissionLimiter,
+                                 ObjectMapper objectMapper,
+                                 @Value("${upload.admission.retry-after-seconds:5}") long retryAfterSeconds) {
+        this.uploadAdmissionLimiter = uploadAdmissionLimiter;
+        this.objectMapper = objectMapper;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!UPLOAD_METHODS.contains(request.getMethod())) return true;
+        if (!request.getRequestURI().startsWith(request.getContextPath() + "/api/")) return true;
+
+        String contentType = request.getContentType();
+        if (contentType == null) return true;
+        return !(contentType.startsWith(MediaType.MULTIPART_FORM_DATA_VALUE)
+                || contentType.startsWith(MediaType.APPLICATION_OCTET_STREAM_VALUE));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Optional<UploadAdmissionLimiter.Permit> permit = uploadAdmissionLimiter.tryAcquire(request.getContentLengthLong());
+        if (permit.isEmpty()) {
+            log.warn("업로드 요청 거절: method={}, uri={}, contentLength={}",
+                    request.getMethod(), request.getRequestURI(), request.getContentLengthLong());
+            reject(response);
+            return;
+        }
+
+        try (UploadAdmissionLimiter.Permit ignored = permit.get()) {
+            filterChain.doFilter(request, response);
+        }
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        // 읽지 않은 body가 남아 있으므로 연결을 재사용하지 않음
+        response.setHeader(HttpHeaders.CONNECTION, "close");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(),
+                new ErrorResponse("업로드 요청이 많아 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE.value()));
+    }
+}
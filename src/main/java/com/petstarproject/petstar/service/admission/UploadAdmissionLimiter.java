@@ -0,0 +1,149 @@
+package com.petstarproject.petstar.service.admission;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 업로드 요청의 동시 처리 수와 처리 중인 byte 합을 제한합니다.
+ *
+ * <p>한도를 넘으면 최대 {@code upload.admission.max-wait-ms} 동안 기다리고, 대기열({@code upload.admission.max-queue})이
+ * 가득 찼거나 시간 안에 자리가 나지 않으면 바로 거절합니다. 한도보다 큰 요청은 처리 중인 업로드가 없을 때만 받습니다.
+ * 처리 중인 요청 수/byte와 대기 수는 {@code upload.admission.*} gauge로 노출합니다.</p>
+ */
+@Component
+public class UploadAdmissionLimiter {
+
+    private final int maxConcurrent;
+    private final long maxInFlightBytes;
+    private final int maxQueue;
+    private final long maxWaitNanos;
+    private final long unknownLengthBytes;
+    private final Counter rejectedCounter;
+
+    private final ReentrantLock lock = new ReentrantLock(true);
+    private final Condition released = lock.newCondition();
+    private volatile int inFlightRequests;
+    private volatile long inFlightBytes;
+    private volatile int waiting;
+
+    public UploadAdmissionLimiter(MeterRegistry meterRegistry,
+                                  @Value("${upload.admission.max-concurrent:16}") int maxConcurrent,
+                                  @Value("${upload.admission.max-inflight-bytes:536870912}") long maxInFlightBytes,
+                                  @Value("${upload.admission.max-queue:32}") int maxQueue,
+                                  @Value("${upload.admission.max-wait-ms:2000}") long maxWaitMillis,
+                                  @Value("${upload.admission.unknown-length-bytes:67108864}") long unknownLengthBytes) {
+        this.maxConcurrent = Math.max(maxConcurrent, 1);
+        this.maxInFlightBytes = maxInFlightBytes;
+        this.maxQueue = maxQueue;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+        this.unknownLengthBytes = unknownLengthBytes;
+        this.rejectedCounter = Counter.builder("upload.admission.rejected")
+                .description("거절된 업로드 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("upload.admission.inflight.requests", this, limiter -> limiter.inFlightRequests)
+                .description("처리 중인 업로드 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("upload.admission.inflight.bytes", this, limiter -> limiter.inFlightBytes)
+                .description("처리 중인 업로드 요청의 Content-Length 합")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("upload.admission.waiting", this, limiter -> limiter.waiting)
+                .description("자리를 기다리는 업로드 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 업로드 하나를 받을 자리를 얻습니다. 받은 {@link Permit}은 요청 처리가 끝나면 반드시 닫아야 합니다.
+     * @param contentLength 요청 크기(byte), 알 수 없으면 음수
+     * @return 자리를 얻지 못하면 empty
+     */
+    public Optional<Permit> tryAcquire(long contentLength) {
+        long bytes = contentLength < 0 ? unknownLengthBytes : contentLength;
+        long deadline = System.nanoTime() + maxWaitNanos;
+
+        lock.lock();
+        try {
+            if (!fits(bytes)) {
+                if (waiting >= maxQueue) return reject();
+
+                waiting++;
+                try {
+                    while (!fits(bytes)) {
+                        long remaining = deadline - System.nanoTime();
+                        if (remaining <= 0) return reject();
+                        released.awaitNanos(remaining);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return reject();
+                } finally {
+                    waiting--;
+                }
+            }
+
+            inFlightRequests++;
+            inFlightBytes += bytes;
+            return Optional.of(new Permit(bytes));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean fits(long bytes) {
+        if (inFlightRequests >= maxConcurrent) return false;
+        return inFlightRequests == 0 || inFlightBytes + bytes <= maxInFlightBytes;
+    }
+
+    private Optional<Permit> reject() {
+        rejectedCounter.increment();
+        return Optional.empty();
+    }
+
+    private void release(long bytes) {
+        lock.lock();
+        try {
+            inFlightRequests--;
+            inFlightBytes -= bytes;
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getInFlightRequests() {
+        return inFlightRequests;
+    }
+
+    public long getInFlightBytes() {
+        return inFlightBytes;
+    }
+
+    /**
+     * 처리 중인 업로드 하나의 자리입니다. 여러 번 닫아도 한 번만 반납합니다.
+     */
+    public class Permit implements AutoCloseable {
+
+        private final long bytes;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Permit(long bytes) {
+            this.bytes = bytes;
+        }
+
+        @Override
+        public void close() {
+            if (closed.compareAndSet(false, true)) {
+                release(bytes);
+            }
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.petstarproject.petstar.service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * 단건 조회 결과를 id별로 보관하는 프로세스 내 캐시입니다.
+ *
+ * <p>관리 상태의 엔티티가 아니라 응답 DTO처럼 바뀌지 않는 snapshot만 보관합니다.
+ * 크기는 {@code weigher}로 추정한 byte 합으로 제한하고, {@code ttl}이 지나면 다시 조회합니다.</p>
+ *
+ * <p>수정/삭제 시 {@link #invalidate(String)}를 호출하면 바로 비우고, 트랜잭션 안이라면 트랜잭션이 끝난 뒤에 한 번 더 비웁니다.
+ * commit 전에 다른 요청이 이전 값을 다시 채워 넣는 경우를 막기 위해서입니다.</p>
+ */
+public class SnapshotCache<V> {
+
+    private final Cache<String, V> cache;
+
+    public SnapshotCache(String name, long maximumWeightBytes, Duration ttl,
+                         ToIntFunction<V> weigher, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumWeightBytes)
+                .weigher((String key, V value) -> weigher.applyAsInt(value))
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+    }
+
+    /**
+     * 캐시에 없으면 {@code loader}로 조회해 채웁니다. 같은 id를 동시에 조회하면 한 번만 조회합니다.
+     * {@code loader}가 예외를 던지거나 {@code null}을 반환하면 캐시하지 않습니다.
+     */
+    public V get(String id, Function<String, V> loader) {
+        return cache.get(id, loader);
+    }
+
+    /**
+     * 캐시에 없는 id만 모아 {@code loader}로 한 번에 조회해 채웁니다. {@code loader}가 반환하지 않은 id는 결과에서 빠집니다.
+     */
+    public Map<String, V> getAll(Collection<String> ids, Function<Set<String>, Map<String, V>> loader) {
+        return cache.getAll(ids, missing -> loader.apply(Set.copyOf(missing)));
+    }
+
+    public Map<String, V> getAllPresent(Collection<String> ids) {
+        return cache.getAllPresent(ids);
+    }
+
+    public Optional<V> getIfPresent(String id) {
+        return Optional.ofNullable(cache.getIfPresent(id));
+    }
+
+    /**
+     * 조회한 값 중 일부만 캐시할 때 사용합니다.
+     */
+    public void put(String id, V value) {
+        cache.put(id, value);
+    }
+
+    public void invalidate(String id) {
+        cache.invalidate(id);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(id);
+                }
+            });
+        }
+    }
+}
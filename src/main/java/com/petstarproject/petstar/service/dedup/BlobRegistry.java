@@ -0,0 +1,94 @@
+package com.petstarproject.petstar.service.dedup;
+
+import com.petstarproject.petstar.exception.FileStorageException;
+import com.petstarproject.petstar.repository.BlobRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * {@code blobs} 테이블의 참조 수를 관리합니다.
+ * 스토리지 작업과 같은 시점에 확정되어야 하므로 호출자의 트랜잭션과 분리(REQUIRES_NEW)해서 처리합니다.
+ * 삭제 큐처럼 참조 해제를 자신의 기록과 함께 확정해야 하는 경우에만 {@link #releaseInTransaction(String)}을 사용합니다.
+ */
+@Component
+public class BlobRegistry {
+
+    private static final int MAX_REGISTER_ATTEMPTS = 3;
+
+    private final BlobRepository blobRepository;
+
+    public BlobRegistry(BlobRepository blobRepository) {
+        this.blobRepository = blobRepository;
+    }
+
+    /**
+     * 같은 내용의 객체가 있으면 참조 수를 늘리고 그 key를 반환합니다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Optional<String> acquire(String hash) {
+        return blobRepository.findByHashForUpdate(hash)
+                .map(blob -> {
+                    blob.retain();
+                    return blob.getStorageKey();
+                });
+    }
+
+    /**
+     * 새로 업로드한 객체를 등록합니다. 그 사이 같은 내용이 먼저 등록되었다면 기존 객체의 참조 수를 늘리고 그 key를 반환합니다.
+     * @return 레코드가 가리켜야 할 key
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public String register(String hash, String key, long size, String contentType) {
+        for (int attempt = 0; attempt < MAX_REGISTER_ATTEMPTS; attempt++) {
+            if (blobRepository.insertIfAbsent(hash, key, size, contentType, LocalDateTime.now()) == 1) {
+                return key;
+            }
+
+            // 조회 직전에 마지막 참조가 삭제되었다면 다시 등록을 시도
+            Optional<String> existing = blobRepository.findByHashForUpdate(hash)
+                    .map(blob -> {
+                        blob.retain();
+                        return blob.getStorageKey();
+                    });
+            if (existing.isPresent()) return existing.get();
+        }
+        throw new FileStorageException("blob 등록에 실패했습니다. hash=" + hash);
+    }
+
+    /**
+     * 참조 수를 줄이고 마지막 참조였다면 row를 삭제합니다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Release release(String key) {
+        return releaseReference(key);
+    }
+
+    /**
+     * {@link #release(String)}와 같지만 호출자의 트랜잭션 안에서 참조 수를 줄이므로, 호출자가 롤백하면 참조 수도 그대로 남습니다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Release releaseInTransaction(String key) {
+        return releaseReference(key);
+    }
+
+    private Release releaseReference(String key) {
+        return blobRepository.findByStorageKeyForUpdate(key)
+                .map(blob -> {
+                    if (blob.release() > 0) return Release.STILL_REFERENCED;
+
+                    blobRepository.delete(blob);
+                    return Release.LAST_REFERENCE;
+                })
+                .orElse(Release.UNTRACKED);
+    }
+
+    public enum Release {
+        UNTRACKED,          // 중복 제거 대상이 아닌 객체 (바로 삭제)
+        STILL_REFERENCED,   // 다른 레코드가 아직 참조 중 (삭제하지 않음)
+        LAST_REFERENCE      // 마지막 참조 (삭제)
+    }
+}
@@ -0,0 +1,156 @@
+package com.petstarproject.petstar.service.dedup;
+
+import com.petstarproject.petstar.exception.FileStorageException;
+import com.petstarproject.petstar.service.FileStorageService;
+import com.petstarproject.petstar.service.StoredObject;
+import com.petstarproject.petstar.service.StoredObjectSummary;
+import com.petstarproject.petstar.service.inspect.DigestInspector;
+import com.petstarproject.petstar.service.inspect.InspectingInputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.WritableByteChannel;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 내용 기반 중복 제거 계층입니다. ({@code storage.dedup.enabled=true})
+ *
+ * <p>업로드한 내용의 SHA-256으로 {@link BlobRegistry}를 조회해, 같은 내용이 이미 저장되어 있으면 새 객체 대신 기존 객체의 key를 반환합니다.
+ * 따라서 호출자는 요청한 key가 아니라 반환된 key를 레코드에 저장해야 합니다.</p>
+ * <ul>
+ *     <li>{@link MultipartFile}: 로컬 임시 파일에서 먼저 hash를 구하므로 중복이면 업로드 자체를 생략합니다.</li>
+ *     <li>스트림: 한 번만 읽을 수 있으므로 업로드하면서 hash를 구하고, 중복이면 방금 올린 객체를 지웁니다.</li>
+ * </ul>
+ *
+ * <p>{@code delete}/{@code deleteAll}은 호출할 때마다 참조 수를 줄이며 마지막 참조일 때만 실제로 삭제합니다.
+ * 삭제 큐는 이 계층을 거치지 않고 항목마다 한 번만 참조를 해제합니다. ({@code ObjectDeletionQueue#release})
+ * 상대 경로로 서로를 참조하는 HLS 파일처럼 key가 바뀌면 안 되는 객체는 {@code storage.dedup.excluded-key-pattern}으로 제외합니다.</p>
+ */
+@Slf4j
+public class DeduplicatingFileStorageService implements FileStorageService {
+
+    private final FileStorageService delegate;
+    private final BlobRegistry blobRegistry;
+    private final Pattern excludedKeyPattern;
+
+    public DeduplicatingFileStorageService(FileStorageService delegate, BlobRegistry blobRegistry, Pattern excludedKeyPattern) {
+        this.delegate = delegate;
+        this.blobRegistry = blobRegistry;
+        this.excludedKeyPattern = excludedKeyPattern;
+    }
+
+    @Override
+    public String upload(MultipartFile file, String key) {
+        if (isExcluded(key)) return delegate.upload(file, key);
+
+        String hash = sha256(file);
+        Optional<String> existing = blobRegistry.acquire(hash);
+        if (existing.isPresent()) {
+            log.debug("중복 업로드 생략: key={}, existingKey={}", key, existing.get());
+            return existing.get();
+        }
+
+        String uploadedKey = delegate.upload(file, key);
+        return register(hash, uploadedKey, file.getSize(), file.getContentType());
+    }
+
+    @Override
+    public String upload(InputStream in, long size, String contentType, String key) {
+        if (isExcluded(key)) return delegate.upload(in, size, contentType, key);
+
+        DigestInspector digest = new DigestInspector();
+        String uploadedKey = delegate.upload(in, size, contentType, key, List.of(digest));
+        return register(digest.sha256Hex(), uploadedKey, size, contentType);
+    }
+
+    @Override
+    public void delete(String key) {
+        if (shouldDelete(key)) {
+            delegate.delete(key);
+        }
+    }
+
+    @Override
+    public List<String> deleteAll(List<String> keys) {
+        List<String> keysToDelete = new ArrayList<>();
+        for (String key : keys) {
+            if (shouldDelete(key)) keysToDelete.add(key);
+        }
+
+        // 호출할 때마다 참조 수를 줄이므로 같은 key를 다시 넘기면 다른 레코드의 참조까지 해제됨 (재시도가 필요하면 삭제 큐 사용)
+        if (keysToDelete.isEmpty()) return List.of();
+        return delegate.deleteAll(keysToDelete);
+    }
+
+    @Override
+    public Stream<StoredObjectSummary> listObjects(String prefix) {
+        return delegate.listObjects(prefix);
+    }
+
+    @Override
+    public Optional<StoredObject> stat(String key) {
+        return delegate.stat(key);
+    }
+
+    @Override
+    public InputStream openRange(String key, long offset, long length) {
+        return delegate.openRange(key, offset, length);
+    }
+
+    @Override
+    public long transferTo(String key, long offset, long length, WritableByteChannel target) {
+        return delegate.transferTo(key, offset, length, target);
+    }
+
+    @Override
+    public boolean supportsDirectTransfer() {
+        return delegate.supportsDirectTransfer();
+    }
+
+    @Override
+    public String createUploadUrl(String key, String contentType, long contentLength, Duration ttl) {
+        return delegate.createUploadUrl(key, contentType, contentLength, ttl);
+    }
+
+    /**
+     * 업로드한 객체를 등록합니다. 그 사이 같은 내용이 먼저 등록되었다면 방금 올린 객체는 지우고 기존 key를 반환합니다.
+     */
+    private String register(String hash, String uploadedKey, long size, String contentType) {
+        String key = blobRegistry.register(hash, uploadedKey, size, contentType);
+        if (!key.equals(uploadedKey)) {
+            try {
+                delegate.delete(uploadedKey);
+            } catch (Exception e) {
+                log.warn("중복 객체 삭제 실패: key={}, existingKey={}", uploadedKey, key, e);
+            }
+        }
+        return key;
+    }
+
+    private boolean shouldDelete(String key) {
+        if (isExcluded(key)) return true;
+        return blobRegistry.release(key) != BlobRegistry.Release.STILL_REFERENCED;
+    }
+
+    private boolean isExcluded(String key) {
+        return excludedKeyPattern != null && excludedKeyPattern.matcher(key).matches();
+    }
+
+    private String sha256(MultipartFile file) {
+        DigestInspector digest = new DigestInspector();
+        try (InputStream in = new InspectingInputStream(file.getInputStream(), List.of(digest))) {
+            in.transferTo(OutputStream.nullOutputStream());
+        } catch (IOException e) {
+            throw new FileStorageException("업로드 파일을 읽는 중 오류가 발생했습니다.", e);
+        }
+        return digest.sha256Hex();
+    }
+}
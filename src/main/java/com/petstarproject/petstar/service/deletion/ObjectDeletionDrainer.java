@@ -0,0 +1,130 @@
+package com.petstarproject.petstar.service.deletion;
+
+import com.petstarproject.petstar.entity.PendingObjectDeletion;
+import com.petstarproject.petstar.service.FileStorageService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * {@link ObjectDeletionQueue}에 쌓인 key를 주기적으로 가져와 한 번의 {@code deleteAll}(S3 {@code DeleteObjects})로 삭제합니다.
+ *
+ * <p>배치 크기는 {@code DeleteObjects} 한도인 1000개를 넘지 않으며, 일부 key만 실패하면 그 key만 재시도합니다.
+ * 삭제/실패 건수와 대기 건수는 {@code storage.deletion.*} 메트릭으로 노출합니다.</p>
+ *
+ * <p>중복 제거 참조는 {@link ObjectDeletionQueue#release}에서 항목마다 한 번만 해제하고, 실제 삭제는 중복 제거 계층 아래의
+ * {@code fileStorageCore}로 보내므로 재시도해도 참조 수가 다시 줄지 않습니다.</p>
+ */
+@Slf4j
+@Component
+public class ObjectDeletionDrainer {
+
+    private static final int MAX_BATCH_SIZE = 1000; // S3 DeleteObjects 요청당 최대 key 수
+
+    private final ObjectDeletionQueue objectDeletionQueue;
+    private final FileStorageService fileStorageService;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Counter deletedCounter;
+    private final Counter failedCounter;
+
+    public ObjectDeletionDrainer(ObjectDeletionQueue objectDeletionQueue,
+                                 @Qualifier("fileStorageCore") FileStorageService fileStorageService,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${storage.deletion.batch-size:1000}") int batchSize,
+                                 @Value("${storage.deletion.max-batches-per-run:10}") int maxBatchesPerRun) {
+        this.objectDeletionQueue = objectDeletionQueue;
+        this.fileStorageService = fileStorageService;
+        this.batchSize = Math.min(Math.max(batchSize, 1), MAX_BATCH_SIZE);
+        this.maxBatchesPerRun = Math.max(maxBatchesPerRun, 1);
+        this.deletedCounter = Counter.builder("storage.deletion.deleted")
+                .description("삭제 큐에서 삭제 완료된 객체 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("storage.deletion.failed")
+                .description("삭제에 실패해 재시도 대기로 돌아간 항목 수")
+                .register(meterRegistry);
+        Gauge.builder("storage.deletion.pending", objectDeletionQueue, ObjectDeletionQueue::countPending)
+                .description("삭제 대기 중인 항목 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${storage.deletion.drain-interval-ms:5000}")
+    public void drain() {
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            List<PendingObjectDeletion> claimed = objectDeletionQueue.claim(batchSize);
+            if (claimed.isEmpty()) return;
+
+            process(claimed);
+
+            if (claimed.size() < batchSize) return;
+        }
+    }
+
+    private void process(List<PendingObjectDeletion> claimed) {
+        List<PendingObjectDeletion> keyed = new ArrayList<>();
+        for (PendingObjectDeletion deletion : claimed) {
+            if (deletion.isPrefix()) {
+                expand(deletion);
+            } else {
+                keyed.add(deletion);
+            }
+        }
+        if (keyed.isEmpty()) return;
+
+        List<PendingObjectDeletion> released;
+        try {
+            released = objectDeletionQueue.release(keyed);
+        } catch (RuntimeException e) {
+            log.warn("blob 참조 해제 실패, 재시도 예정: count={}", keyed.size(), e);
+            objectDeletionQueue.retry(keyed.stream().map(PendingObjectDeletion::getId).toList(), e.getMessage());
+            failedCounter.increment(keyed.size());
+            return;
+        }
+        if (released.isEmpty()) return;
+
+        List<String> keys = released.stream().map(PendingObjectDeletion::getObjectKey).distinct().toList();
+        try {
+            Set<String> failedKeys = new HashSet<>(fileStorageService.deleteAll(keys));
+
+            List<String> deletedIds = new ArrayList<>();
+            List<String> failedIds = new ArrayList<>();
+            for (PendingObjectDeletion deletion : released) {
+                (failedKeys.contains(deletion.getObjectKey()) ? failedIds : deletedIds).add(deletion.getId());
+            }
+
+            objectDeletionQueue.complete(deletedIds);
+            deletedCounter.increment(deletedIds.size());
+
+            if (!failedIds.isEmpty()) {
+                log.warn("스토리지 객체 일부 삭제 실패, 재시도 예정: failed={}, total={}", failedIds.size(), released.size());
+                objectDeletionQueue.retry(failedIds, "partial delete failure");
+                failedCounter.increment(failedIds.size());
+            }
+
+        } catch (RuntimeException e) {
+            log.warn("스토리지 객체 삭제 실패, 재시도 예정: count={}", released.size(), e);
+            objectDeletionQueue.retry(released.stream().map(PendingObjectDeletion::getId).toList(), e.getMessage());
+            failedCounter.increment(released.size());
+        }
+    }
+
+    private void expand(PendingObjectDeletion deletion) {
+        try {
+            objectDeletionQueue.expandPrefix(deletion.getId(), fileStorageService.listKeys(deletion.getObjectKey()));
+        } catch (RuntimeException e) {
+            log.warn("삭제할 prefix 조회 실패, 재시도 예정: prefix={}", deletion.getObjectKey(), e);
+            objectDeletionQueue.retry(List.of(deletion.getId()), e.getMessage());
+            failedCounter.increment();
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.petstarproject.petstar.service.deletion;
+
+import com.petstarproject.petstar.entity.PendingObjectDeletion;
+import com.petstarproject.petstar.repository.PendingObjectDeletionRepository;
+import com.petstarproject.petstar.service.dedup.BlobRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * {@code pending_object_deletions} 테이블 기반의 스토리지 객체 삭제 큐입니다.
+ *
+ * <p>삭제할 key는 엔티티 삭제와 같은 트랜잭션에서 저장되므로, 롤백되면 객체도 남고 커밋되면 언젠가 반드시 삭제됩니다.
+ * 실제 삭제는 {@link ObjectDeletionDrainer}가 요청과 분리해서 처리하며, 실패한 key는 지수 backoff로 계속 재시도합니다.</p>
+ */
+@Service
+public class ObjectDeletionQueue {
+
+    private final PendingObjectDeletionRepository pendingObjectDeletionRepository;
+    private final BlobRegistry blobRegistry;
+    private final boolean dedupEnabled;
+    private final long leaseSeconds;
+    private final long retryBackoffSeconds;
+    private final long maxBackoffSeconds;
+
+    public ObjectDeletionQueue(PendingObjectDeletionRepository pendingObjectDeletionRepository,
+                               BlobRegistry blobRegistry,
+                               @Value("${storage.dedup.enabled:false}") boolean dedupEnabled,
+                               @Value("${storage.deletion.lease-seconds:300}") long leaseSeconds,
+                               @Value("${storage.deletion.retry-backoff-seconds:30}") long retryBackoffSeconds,
+                               @Value("${storage.deletion.max-backoff-seconds:3600}") long maxBackoffSeconds) {
+        this.pendingObjectDeletionRepository = pendingObjectDeletionRepository;
+        this.blobRegistry = blobRegistry;
+        this.dedupEnabled = dedupEnabled;
+        this.leaseSeconds = leaseSeconds;
+        this.retryBackoffSeconds = retryBackoffSeconds;
+        this.maxBackoffSeconds = maxBackoffSeconds;
+    }
+
+    /**
+     * 호출한 쪽의 트랜잭션에 삭제할 key를 기록합니다. null/빈 key는 무시합니다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(Collection<String> keys) {
+        List<PendingObjectDeletion> deletions = keys.stream()
+                .filter(key -> key != null && !key.isBlank())
+                .map(key -> PendingObjectDeletion.ofKey(UUID.randomUUID().toString(), key))
+                .toList();
+
+        if (!deletions.isEmpty()) {
+            pendingObjectDeletionRepository.saveAll(deletions);
+        }
+    }
+
+    /**
+     * prefix 아래의 모든 객체를 삭제 대상으로 기록합니다. (HLS segment처럼 key를 DB에 따로 두지 않는 객체)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueuePrefix(String prefix) {
+        pendingObjectDeletionRepository.save(PendingObjectDeletion.ofPrefix(UUID.randomUUID().toString(), prefix));
+    }
+
+    /**
+     * 삭제를 시도할 항목을 최대 {@code limit}개 lease 합니다.
+     */
+    @Transactional
+    public List<PendingObjectDeletion> claim(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+
+        List<PendingObjectDeletion> claimed = pendingObjectDeletionRepository.findDueForUpdate(now, limit);
+        claimed.forEach(deletion -> deletion.lease(now.plusSeconds(leaseSeconds)));
+        return claimed;
+    }
+
+    /**
+     * 아직 blob 참조를 해제하지 않은 항목의 참조 수를 줄이고 해제했다고 기록합니다. ({@code storage.dedup.enabled=true})
+     * 참조 해제와 기록이 같은 트랜잭션이므로, 객체 삭제에 실패해 재시도해도 참조 수는 항목마다 한 번만 줄어듭니다.
+     * 다른 레코드가 아직 참조 중인 객체는 지우지 않고 항목을 바로 완료합니다.
+     * @return 실제로 객체를 삭제해야 하는 항목
+     */
+    @Transactional
+    public List<PendingObjectDeletion> release(Collection<PendingObjectDeletion> deletions) {
+        if (!dedupEnabled) return List.copyOf(deletions);
+
+        // 여러 drainer가 같은 blob row를 잠글 수 있으므로 key 순서로 잠금
+        List<PendingObjectDeletion> pending = pendingObjectDeletionRepository
+                .findAllById(deletions.stream().map(PendingObjectDeletion::getId).toList()).stream()
+                .sorted(Comparator.comparing(PendingObjectDeletion::getObjectKey))
+                .toList();
+
+        List<PendingObjectDeletion> released = new ArrayList<>();
+        for (PendingObjectDeletion deletion : pending) {
+            if (!deletion.isReleased()
+                    && blobRegistry.releaseInTransaction(deletion.getObjectKey()) == BlobRegistry.Release.STILL_REFERENCED) {
+                pendingObjectDeletionRepository.delete(deletion);
+                continue;
+            }
+            deletion.markReleased();
+            released.add(deletion);
+        }
+        return released;
+    }
+
+    @Transactional
+    public void complete(Collection<String> ids) {
+        if (ids.isEmpty()) return;
+        pendingObjectDeletionRepository.deleteAllByIdInBatch(ids);
+    }
+
+    /**
+     * 시도 횟수에 따라 {@code retry-backoff-seconds}부터 두 배씩, 최대 {@code max-backoff-seconds}까지 미룹니다.
+     */
+    @Transactional
+    public void retry(Collection<String> ids, String error) {
+        LocalDateTime now = LocalDateTime.now();
+
+        for (PendingObjectDeletion deletion : pendingObjectDeletionRepository.findAllById(ids)) {
+            int exponent = Math.min(Math.max(deletion.getAttempts() - 1, 0), 20);
+            long backoff = Math.min(retryBackoffSeconds << exponent, maxBackoffSeconds);
+            deletion.retry(now.plusSeconds(backoff), error);
+        }
+    }
+
+    /**
+     * prefix 항목을 개별 key 항목으로 바꿉니다.
+     */
+    @Transactional
+    public void expandPrefix(String id, List<String> keys) {
+        pendingObjectDeletionRepository.saveAll(keys.stream()
+                .map(key -> PendingObjectDeletion.ofKey(UUID.randomUUID().toString(), key))
+                .toList());
+        pendingObjectDeletionRepository.deleteById(id);
+    }
+
+    public long countPending() {
+        return pendingObjectDeletionRepository.count();
+    }
+}
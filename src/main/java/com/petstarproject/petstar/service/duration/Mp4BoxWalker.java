@@ -0,0 +1,127 @@
+package com.petstarproject.petstar.service.duration;
+
+import com.petstarproject.petstar.exception.VideoDurationExtractFailedException;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * MP4(ISO BMFF) 스트림에서 box 헤더만 순서대로 읽어 moov/mvhd를 찾는 walker 입니다.
+ *
+ * <p>moov가 아닌 top-level box(mdat 등)는 내용을 버퍼링하지 않고 {@link InputStream#skipNBytes(long)}로 건너뜁니다.
+ * 파일 기반 스트림이면 skip이 seek로 처리되므로 파일 크기가 아니라 box 헤더와 mvhd 크기만큼만 I/O가 발생합니다.</p>
+ */
+public final class Mp4BoxWalker {
+
+    static final String MOOV = "moov";
+    static final String MVHD = "mvhd";
+
+    private static final int HEADER_SIZE = 8;
+    private static final int LARGE_HEADER_SIZE = 16;
+
+    /**
+     * 크기가 0인 box는 스트림 끝까지 이어진다는 의미입니다.
+     */
+    private static final long TO_END_OF_STREAM = -1;
+
+    private Mp4BoxWalker() {
+    }
+
+    /**
+     * 스트림을 앞에서부터 읽어 moov/mvhd 값을 반환합니다. 스트림은 mvhd 직후 위치에서 멈춥니다.
+     *
+     * @param in MP4 스트림
+     * @return mvhd 값
+     * @throws IOException 스트림 읽기에 실패한 경우
+     * @throws VideoDurationExtractFailedException moov/mvhd가 없거나 box 구조가 잘못된 경우
+     */
+    public static Mp4MovieHeader findMovieHeader(InputStream in) throws IOException {
+        while (true) {
+            BoxHeader box = readHeader(in);
+            if (box == null) {
+                throw new VideoDurationExtractFailedException("Invalid MP4: moov box not found");
+            }
+
+            if (MOOV.equals(box.type())) {
+                return findInMovieBox(in, box.payloadSize());
+            }
+
+            if (box.payloadSize() == TO_END_OF_STREAM) {
+                throw new VideoDurationExtractFailedException("Invalid MP4: moov box not found");
+            }
+            skip(in, box.payloadSize());
+        }
+    }
+
+    private static Mp4MovieHeader findInMovieBox(InputStream in, long moovPayloadSize) throws IOException {
+        long remaining = moovPayloadSize;
+
+        while (remaining == TO_END_OF_STREAM || remaining >= HEADER_SIZE) {
+            BoxHeader child = readHeader(in);
+            if (child == null || child.payloadSize() == TO_END_OF_STREAM) break;
+
+            if (MVHD.equals(child.type())) {
+                int toRead = (int) Math.min(child.payloadSize(), Mp4MovieHeader.REQUIRED_PAYLOAD_SIZE);
+                byte[] payload = in.readNBytes(toRead);
+                return Mp4MovieHeader.parse(payload, payload.length);
+            }
+
+            skip(in, child.payloadSize());
+            if (remaining != TO_END_OF_STREAM) {
+                remaining -= child.headerSize() + child.payloadSize();
+            }
+        }
+
+        throw new VideoDurationExtractFailedException("Invalid MP4: mvhd box not found");
+    }
+
+    /**
+     * box 헤더(size, type, largesize)를 읽습니다.
+     * @return 읽은 헤더, 스트림이 box 경계에서 끝났다면 null
+     */
+    private static BoxHeader readHeader(InputStream in) throws IOException {
+        byte[] header = in.readNBytes(HEADER_SIZE);
+        if (header.length == 0) return null;
+        if (header.length < HEADER_SIZE) {
+            throw new VideoDurationExtractFailedException("Invalid MP4: truncated box header");
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(header);
+        long size = Integer.toUnsignedLong(buffer.getInt());
+        String type = new String(header, 4, 4, StandardCharsets.ISO_8859_1);
+
+        if (size == 0) {
+            return new BoxHeader(type, HEADER_SIZE, TO_END_OF_STREAM);
+        }
+
+        int headerSize = HEADER_SIZE;
+        if (size == 1) {
+            byte[] largeSize = in.readNBytes(LARGE_HEADER_SIZE - HEADER_SIZE);
+            if (largeSize.length < LARGE_HEADER_SIZE - HEADER_SIZE) {
+                throw new VideoDurationExtractFailedException("Invalid MP4: truncated box header");
+            }
+            size = ByteBuffer.wrap(largeSize).getLong();
+            headerSize = LARGE_HEADER_SIZE;
+        }
+
+        if (size < headerSize) {
+            throw new VideoDurationExtractFailedException("Invalid MP4: box size is invalid (" + type + ")");
+        }
+
+        return new BoxHeader(type, headerSize, size - headerSize);
+    }
+
+    private static void skip(InputStream in, long n) throws IOException {
+        try {
+            in.skipNBytes(n);
+        } catch (EOFException e) {
+            throw new VideoDurationExtractFailedException("Invalid MP4: unexpected end of stream", e);
+        }
+    }
+
+    private record BoxHeader(String type, int headerSize, long payloadSize) {
+    }
+}
@@ -0,0 +1,163 @@
+package com.petstarproject.petstar.service.duration;
+
+import com.petstarproject.petstar.exception.VideoDurationExtractFailedException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 전달받는 byte로 moov/mvhd를 찾는 push 방식 MP4 길이 probe 입니다.
+ *
+ * <p>{@link Mp4BoxWalker}와 같은 규칙으로 box 헤더를 해석하지만, 스트림을 직접 읽지 않고
+ * 업로드 중인 byte를 받아 상태만 진행합니다. mvhd를 찾은 뒤의 byte나 건너뛸 box의 내용은 버퍼링하지 않습니다.
+ * 잘못된 구조를 만나도 업로드를 중단시키지 않고 {@link #durationSec()}에서 실패를 알립니다.</p>
+ */
+public class Mp4DurationProbe implements VideoDurationProbe {
+
+    private static final int HEADER_SIZE = 8;
+    private static final int LARGE_HEADER_SIZE = 16;
+    private static final long TO_END_OF_STREAM = -1;
+
+    private enum State { HEADER, SKIP, MVHD, DONE, FAILED }
+
+    private State state = State.HEADER;
+
+    private final byte[] header = new byte[LARGE_HEADER_SIZE];
+    private int headerFill;
+    private int headerNeeded = HEADER_SIZE;
+
+    private long skipRemaining;
+
+    private boolean inMoov;
+    private long moovRemaining;
+
+    private byte[] mvhd;
+    private int mvhdFill;
+
+    private String failure;
+
+    @Override
+    public void update(byte[] b, int off, int len) {
+        while (len > 0) {
+            int n;
+            switch (state) {
+                case HEADER -> {
+                    n = Math.min(len, headerNeeded - headerFill);
+                    System.arraycopy(b, off, header, headerFill, n);
+                    headerFill += n;
+                    if (headerFill == headerNeeded) onHeader();
+                }
+                case SKIP -> {
+                    n = (int) Math.min(len, skipRemaining);
+                    skipRemaining -= n;
+                    if (skipRemaining == 0) state = State.HEADER;
+                }
+                case MVHD -> {
+                    n = Math.min(len, mvhd.length - mvhdFill);
+                    System.arraycopy(b, off, mvhd, mvhdFill, n);
+                    mvhdFill += n;
+                    if (mvhdFill == mvhd.length) state = State.DONE;
+                }
+                default -> {
+                    return;
+                }
+            }
+            off += n;
+            len -= n;
+        }
+    }
+
+    @Override
+    public int durationSec() {
+        if (state == State.MVHD) {
+            fail("Invalid MP4: unexpected end of stream");
+        }
+        if (state != State.DONE) {
+            if (failure != null) throw new VideoDurationExtractFailedException(failure);
+            throw new VideoDurationExtractFailedException(headerFill > 0
+                    ? "Invalid MP4: truncated box header"
+                    : inMoov ? "Invalid MP4: mvhd box not found" : "Invalid MP4: moov box not found");
+        }
+        return Mp4MovieHeader.parse(mvhd, mvhdFill).durationSec();
+    }
+
+    private void onHeader() {
+        ByteBuffer buffer = ByteBuffer.wrap(header, 0, headerNeeded);
+        long size = Integer.toUnsignedLong(buffer.getInt());
+        String type = new String(header, 4, 4, StandardCharsets.ISO_8859_1);
+
+        if (size == 1 && headerNeeded == HEADER_SIZE) {
+            headerNeeded = LARGE_HEADER_SIZE;
+            return;
+        }
+
+        int headerSize = headerNeeded;
+        if (size == 1) {
+            size = buffer.getLong(HEADER_SIZE);
+        }
+        headerFill = 0;
+        headerNeeded = HEADER_SIZE;
+
+        if (size != 0 && size < headerSize) {
+            fail("Invalid MP4: box size is invalid (" + type + ")");
+            return;
+        }
+        long payloadSize = size == 0 ? TO_END_OF_STREAM : size - headerSize;
+
+        if (inMoov) {
+            onMoovChild(type, headerSize, payloadSize);
+        } else {
+            onTopLevelBox(type, payloadSize);
+        }
+    }
+
+    private void onTopLevelBox(String type, long payloadSize) {
+        if (Mp4BoxWalker.MOOV.equals(type)) {
+            inMoov = true;
+            moovRemaining = payloadSize;
+            if (moovRemaining != TO_END_OF_STREAM && moovRemaining < HEADER_SIZE) {
+                fail("Invalid MP4: mvhd box not found");
+            }
+            return;
+        }
+
+        if (payloadSize == TO_END_OF_STREAM) {
+            fail("Invalid MP4: moov box not found");
+            return;
+        }
+        skip(payloadSize);
+    }
+
+    private void onMoovChild(String type, int headerSize, long payloadSize) {
+        if (payloadSize == TO_END_OF_STREAM) {
+            fail("Invalid MP4: mvhd box not found");
+            return;
+        }
+
+        if (Mp4BoxWalker.MVHD.equals(type)) {
+            mvhd = new byte[(int) Math.min(payloadSize, Mp4MovieHeader.REQUIRED_PAYLOAD_SIZE)];
+            mvhdFill = 0;
+            state = mvhd.length == 0 ? State.DONE : State.MVHD;
+            return;
+        }
+
+        if (moovRemaining != TO_END_OF_STREAM) {
+            moovRemaining -= headerSize + payloadSize;
+            if (moovRemaining < HEADER_SIZE) {
+                fail("Invalid MP4: mvhd box not found");
+                return;
+            }
+        }
+        skip(payloadSize);
+    }
+
+    private void skip(long payloadSize) {
+        skipRemaining = payloadSize;
+        state = payloadSize == 0 ? State.HEADER : State.SKIP;
+    }
+
+    private void fail(String message) {
+        failure = message;
+        state = State.FAILED;
+    }
+}
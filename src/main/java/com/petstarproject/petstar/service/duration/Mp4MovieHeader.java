@@ -0,0 +1,65 @@
+package com.petstarproject.petstar.service.duration;
+
+import com.petstarproject.petstar.exception.VideoDurationExtractFailedException;
+
+import java.nio.ByteBuffer;
+
+/**
+ * mvhd(Movie Header) box에서 영상 길이 계산에 필요한 값만 담는 record 입니다.
+ *
+ * @param timescale 1초를 나누는 단위 수
+ * @param duration  timescale 단위의 영상 길이
+ */
+public record Mp4MovieHeader(long timescale, long duration) {
+
+    /**
+     * version 1 기준 duration 까지 읽는데 필요한 payload 크기 (version/flags 4 + 8 + 8 + 4 + 8)
+     */
+    static final int REQUIRED_PAYLOAD_SIZE = 32;
+
+    /**
+     * mvhd payload(box 헤더 제외)의 앞부분을 파싱합니다.
+     * @param payload mvhd payload 앞부분
+     * @param length  payload 에서 유효한 byte 수
+     * @return 파싱된 mvhd 값
+     */
+    static Mp4MovieHeader parse(byte[] payload, int length) {
+        if (length < 4) {
+            throw new VideoDurationExtractFailedException("Invalid MP4: mvhd box is too short");
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(payload, 0, length);
+        int version = buffer.get() & 0xFF;
+        buffer.position(4); // flags(3 byte) skip
+
+        if (version == 1) {
+            if (length < 32) {
+                throw new VideoDurationExtractFailedException("Invalid MP4: mvhd box is too short");
+            }
+            buffer.position(buffer.position() + 16); // creation_time, modification_time
+            long timescale = Integer.toUnsignedLong(buffer.getInt());
+            long duration = buffer.getLong();
+            return new Mp4MovieHeader(timescale, duration);
+        }
+
+        if (length < 20) {
+            throw new VideoDurationExtractFailedException("Invalid MP4: mvhd box is too short");
+        }
+        buffer.position(buffer.position() + 8); // creation_time, modification_time
+        long timescale = Integer.toUnsignedLong(buffer.getInt());
+        long duration = Integer.toUnsignedLong(buffer.getInt());
+        return new Mp4MovieHeader(timescale, duration);
+    }
+
+    /**
+     * @return 반올림한 영상 길이(초)
+     */
+    public int durationSec() {
+        if (timescale <= 0) {
+            throw new VideoDurationExtractFailedException("Invalid MP4: timescale is invalid");
+        }
+
+        double seconds = (double) duration / (double) timescale;
+        return (int) Math.round(seconds);
+    }
+}
@@ -3,87 +3,56 @@ package com.petstarproject.petstar.service.duration;
 import com.petstarproject.petstar.exception.InvalidVideoFormatException;
 import com.petstarproject.petstar.exception.VideoDurationExtractFailedException;
 import com.petstarproject.petstar.exception.VideoSourceRequiredException;
-import org.mp4parser.IsoFile;
-import org.mp4parser.boxes.iso14496.part12.MovieBox;
-import org.mp4parser.boxes.iso14496.part12.MovieHeaderBox;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.nio.channels.FileChannel;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.StandardCopyOption;
-import java.nio.file.StandardOpenOption;
 
+/**
+ * MP4 업로드 스트림에서 바로 영상 길이를 추출하는 {@link VideoDurationExtractor} 구현체입니다.
+ *
+ * <p>임시 파일로 복사하지 않고 {@link Mp4BoxWalker}로 box 헤더만 읽으며 moov/mvhd를 찾습니다.
+ * 스토리지 업로드와 함께 길이를 구할 때는 {@link Mp4DurationProbe}를 사용합니다.</p>
+ */
 @Component
 public class Mp4ParserDurationExtractor implements VideoDurationExtractor{
+
+    @Override
+    public boolean supports(String contentType, String originalFilename) {
+        if (contentType != null && contentType.equalsIgnoreCase("video/mp4")) return true;
+
+        return originalFilename != null && originalFilename.toLowerCase().endsWith(".mp4");
+    }
+
     @Override
     public int extractDurationSec(MultipartFile videoSource) {
         if (videoSource == null || videoSource.isEmpty()) {
             throw new VideoSourceRequiredException("Video source file is required");
         }
 
-        if (!isMp4(videoSource)) {
+        if (!supports(videoSource.getContentType(), videoSource.getOriginalFilename())) {
             throw new InvalidVideoFormatException("Only MP4 is supported");
         }
 
-        Path temp = null;
-        try {
-            temp = saveToTempFile(videoSource, ".mp4");
-            return extractDurationFromMp4(temp);
-        } finally {
-            deleteQuietly(temp);
-        }
-    }
-
-    private boolean isMp4(MultipartFile file) {
-        String contentType = file.getContentType();
-        if (contentType != null && contentType.equalsIgnoreCase("video/mp4")) return true;
-
-        String name = file.getOriginalFilename();
-        return name != null && name.toLowerCase().endsWith(".mp4");
-    }
-
-    private Path saveToTempFile(MultipartFile file, String suffix) {
-        try {
-            Path temp = Files.createTempFile("upload-", suffix);
-            try (InputStream in = file.getInputStream()) {
-                Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
-            }
-            return temp;
+        try (InputStream in = videoSource.getInputStream()) {
+            return extractDurationSec(in);
         } catch (IOException e) {
-            throw new VideoDurationExtractFailedException("Failed to save temp file", e);
+            throw new VideoDurationExtractFailedException("Failed to parse MP4 duration", e);
         }
     }
 
-    private int extractDurationFromMp4(Path mp4Path) {
-        try (FileChannel fc = FileChannel.open(mp4Path, StandardOpenOption.READ);
-             IsoFile isoFile = new IsoFile(fc)) {
-
-            MovieBox moov = isoFile.getBoxes(MovieBox.class).stream()
-                    .findFirst()
-                    .orElseThrow(() -> new VideoDurationExtractFailedException("Invalid MP4: moov box not found"));
-
-            MovieHeaderBox mvhd = moov.getMovieHeaderBox();
-            long duration = mvhd.getDuration();
-            long timescale = mvhd.getTimescale();
-
-            if (timescale <= 0) {
-                throw new VideoDurationExtractFailedException("Invalid MP4: timescale is invalid");
-            }
-
-            double seconds = (double) duration / (double) timescale;
-            return (int) Math.round(seconds);
-
+    @Override
+    public int extractDurationSec(InputStream videoStream) {
+        try {
+            return Mp4BoxWalker.findMovieHeader(videoStream).durationSec();
         } catch (IOException e) {
             throw new VideoDurationExtractFailedException("Failed to parse MP4 duration", e);
         }
     }
 
-    private void deleteQuietly(Path path) {
-        if (path == null) return;
-        try { Files.deleteIfExists(path); } catch (IOException ignored) {}
+    @Override
+    public VideoDurationProbe newProbe() {
+        return new Mp4DurationProbe();
     }
 }
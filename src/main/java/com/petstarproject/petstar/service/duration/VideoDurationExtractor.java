@@ -2,14 +2,37 @@ package com.petstarproject.petstar.service.duration;
 
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.InputStream;
+
 /**
  * video duration을 추출하기위한 interface
  */
 public interface VideoDurationExtractor {
+
+    /**
+     * @param contentType      업로드된 파일의 content type
+     * @param originalFilename 업로드된 파일 이름
+     * @return 길이 추출을 지원하는 형식인지 여부
+     */
+    boolean supports(String contentType, String originalFilename);
+
     /**
      *
      * @param videoSource 영상 파일
      * @return 영상길이(초)
      */
     int extractDurationSec(MultipartFile videoSource);
+
+    /**
+     * 이미 형식 검증이 끝난 영상 스트림에서 길이를 추출합니다.
+     * @param videoStream 영상 스트림 (호출자가 close)
+     * @return 영상길이(초)
+     */
+    int extractDurationSec(InputStream videoStream);
+
+    /**
+     * 업로드와 같은 pass에서 길이를 찾을 probe를 만듭니다. probe는 업로드 한 번에만 사용합니다.
+     * @return 새 probe
+     */
+    VideoDurationProbe newProbe();
 }
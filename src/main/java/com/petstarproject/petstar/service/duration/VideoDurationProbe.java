@@ -0,0 +1,16 @@
+package com.petstarproject.petstar.service.duration;
+
+import com.petstarproject.petstar.service.inspect.UploadInspector;
+
+/**
+ * 업로드 스트림을 전달받으면서 영상 길이를 찾는 inspector 입니다.
+ */
+public interface VideoDurationProbe extends UploadInspector {
+
+    /**
+     * 스트림 전송이 끝난 뒤 호출합니다.
+     * @return 영상길이(초)
+     * @throws com.petstarproject.petstar.exception.VideoDurationExtractFailedException 길이 정보를 찾지 못한 경우
+     */
+    int durationSec();
+}
@@ -0,0 +1,191 @@
+package com.petstarproject.petstar.service.gc;
+
+import com.petstarproject.petstar.repository.StorageReferenceRepository;
+import com.petstarproject.petstar.service.FileStorageService;
+import com.petstarproject.petstar.service.StoredObjectSummary;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 스토리지에는 있지만 DB에서 참조하지 않는 고아 객체를 찾아 삭제합니다.
+ *
+ * <p>{@code storage.gc.prefixes} 아래 객체를 page 단위로 순회하면서 {@code storage.gc.batch-size}개씩 DB 참조 여부를 확인하므로
+ * 객체 수와 관계없이 배치 하나 만큼의 메모리만 사용합니다.
+ * 업로드 직후 아직 DB에 key가 기록되지 않은 객체를 지우지 않도록 {@code storage.gc.grace-hours}보다 최근 객체는 건너뜁니다.
+ * HLS 파일({@code videos/{id}/hls/…})은 key를 따로 저장하지 않으므로 동영상 row가 남아 있으면 참조된 것으로 봅니다.</p>
+ *
+ * <p>{@code storage.gc.dry-run}이 true면 삭제하지 않고 찾은 결과만 보고합니다.
+ * 중복 제거 registry에 등록된 객체는 참조 수로 관리되므로 건드리지 않으며, 삭제는 중복 제거 계층을 거치지 않고 스토리지 구현체에 바로 요청합니다.</p>
+ */
+@Slf4j
+@Component
+public class OrphanObjectReconciler {
+
+    private static final Pattern HLS_KEY = Pattern.compile("videos/([^/]+)/hls/.+");
+
+    private final FileStorageService fileStorageService;
+    private final StorageReferenceRepository storageReferenceRepository;
+    private final boolean enabled;
+    private final boolean dryRun;
+    private final String[] prefixes;
+    private final Duration gracePeriod;
+    private final int batchSize;
+    private final int reportSampleSize;
+    private final Counter foundCounter;
+    private final Counter deletedCounter;
+
+    public OrphanObjectReconciler(@Qualifier("fileStorageBackend") FileStorageService fileStorageService,
+                                  StorageReferenceRepository storageReferenceRepository,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${storage.gc.enabled:true}") boolean enabled,
+                                  @Value("${storage.gc.dry-run:true}") boolean dryRun,
+                                  @Value("${storage.gc.prefixes:videos/,posts/,pets/}") String[] prefixes,
+                                  @Value("${storage.gc.grace-hours:24}") long graceHours,
+                                  @Value("${storage.gc.batch-size:1000}") int batchSize,
+                                  @Value("${storage.gc.report-sample-size:100}") int reportSampleSize) {
+        this.fileStorageService = fileStorageService;
+        this.storageReferenceRepository = storageReferenceRepository;
+        this.enabled = enabled;
+        this.dryRun = dryRun;
+        this.prefixes = prefixes;
+        this.gracePeriod = Duration.ofHours(graceHours);
+        this.batchSize = Math.min(Math.max(batchSize, 1), 1000);
+        this.reportSampleSize = reportSampleSize;
+        this.foundCounter = Counter.builder("storage.gc.orphans.found")
+                .description("찾은 고아 객체 수")
+                .register(meterRegistry);
+        this.deletedCounter = Counter.builder("storage.gc.orphans.deleted")
+                .description("삭제한 고아 객체 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${storage.gc.cron:0 0 4 * * *}")
+    public void scheduledReconcile() {
+        if (!enabled) return;
+
+        try {
+            reconcile();
+        } catch (RuntimeException e) {
+            log.error("고아 객체 정리 실패", e);
+        }
+    }
+
+    public ReconcileReport reconcile() {
+        Instant cutoff = Instant.now().minus(gracePeriod);
+        Tally tally = new Tally();
+
+        for (String prefix : prefixes) {
+            try (Stream<StoredObjectSummary> objects = fileStorageService.listObjects(prefix)) {
+                List<StoredObjectSummary> batch = new ArrayList<>(batchSize);
+                Iterator<StoredObjectSummary> it = objects.iterator();
+                while (it.hasNext()) {
+                    StoredObjectSummary object = it.next();
+                    tally.scanned++;
+
+                    if (object.lastModified() != null && object.lastModified().isAfter(cutoff)) {
+                        tally.skippedRecent++;
+                        continue;
+                    }
+
+                    batch.add(object);
+                    if (batch.size() == batchSize) {
+                        reconcileBatch(batch, tally);
+                        batch.clear();
+                    }
+                }
+                if (!batch.isEmpty()) {
+                    reconcileBatch(batch, tally);
+                }
+            }
+        }
+
+        ReconcileReport report = tally.toReport(dryRun);
+        log.info("고아 객체 정리 {}: scanned={}, skippedRecent={}, orphans={}, orphanBytes={}, deleted={}, failed={}",
+                dryRun ? "보고(dry-run)" : "완료", report.scanned(), report.skippedRecent(),
+                report.orphans(), report.orphanBytes(), report.deleted(), report.failed());
+        return report;
+    }
+
+    private void reconcileBatch(List<StoredObjectSummary> batch, Tally tally) {
+        List<String> keys = new ArrayList<>();
+        List<String> videoIds = new ArrayList<>();
+        for (StoredObjectSummary object : batch) {
+            Matcher hls = HLS_KEY.matcher(object.key());
+            if (hls.matches()) {
+                videoIds.add(hls.group(1));
+            } else {
+                keys.add(object.key());
+            }
+        }
+
+        Set<String> referencedKeys = storageReferenceRepository.findReferencedKeys(keys);
+        Set<String> existingVideoIds = storageReferenceRepository.findExistingVideoIds(videoIds);
+
+        List<String> orphans = new ArrayList<>();
+        for (StoredObjectSummary object : batch) {
+            Matcher hls = HLS_KEY.matcher(object.key());
+            boolean referenced = hls.matches()
+                    ? existingVideoIds.contains(hls.group(1))
+                    : referencedKeys.contains(object.key());
+            if (referenced) continue;
+
+            orphans.add(object.key());
+            tally.orphanBytes += object.size();
+            if (dryRun && tally.orphans + orphans.size() <= reportSampleSize) {
+                log.info("[dry-run] 고아 객체: key={}, size={}, lastModified={}", object.key(), object.size(), object.lastModified());
+            }
+        }
+        if (orphans.isEmpty()) return;
+
+        tally.orphans += orphans.size();
+        foundCounter.increment(orphans.size());
+        if (dryRun) return;
+
+        List<String> failed = fileStorageService.deleteAll(orphans);
+        tally.deleted += orphans.size() - failed.size();
+        tally.failed += failed.size();
+        deletedCounter.increment(orphans.size() - failed.size());
+    }
+
+    /**
+     * 한 번의 정리 결과입니다.
+     *
+     * @param scanned       순회한 객체 수
+     * @param skippedRecent grace period 안이라 건너뛴 객체 수
+     * @param orphans       찾은 고아 객체 수
+     * @param orphanBytes   고아 객체 크기 합(byte)
+     * @param deleted       삭제한 객체 수 (dry-run이면 0)
+     * @param failed        삭제에 실패한 객체 수 (다음 실행에서 다시 시도됨)
+     */
+    public record ReconcileReport(long scanned, long skippedRecent, long orphans, long orphanBytes,
+                                  long deleted, long failed, boolean dryRun) {
+    }
+
+    private static class Tally {
+        long scanned;
+        long skippedRecent;
+        long orphans;
+        long orphanBytes;
+        long deleted;
+        long failed;
+
+        ReconcileReport toReport(boolean dryRun) {
+            return new ReconcileReport(scanned, skippedRecent, orphans, orphanBytes, deleted, failed, dryRun);
+        }
+    }
+}
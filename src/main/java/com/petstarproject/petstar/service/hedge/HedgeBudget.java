@@ -0,0 +1,31 @@
+package com.petstarproject.petstar.service.hedge;
+
+/**
+ * hedge 요청 수를 전체 요청의 일정 비율 이하로 제한하는 token bucket 입니다.
+ *
+ * <p>요청마다 {@code ratio}개의 token이 쌓이고(최대 {@code burst}개) hedge 하나에 token 하나를 씁니다.
+ * 따라서 hedge 수는 항상 {@code 요청 수 * ratio + burst} 이하이며, 스토리지 전체가 느려져도 요청량이 {@code ratio}배 넘게 늘지 않습니다.</p>
+ */
+public class HedgeBudget {
+
+    private final double ratio;
+    private final double burst;
+
+    private double tokens;
+
+    public HedgeBudget(double ratio, double burst) {
+        this.ratio = Math.max(ratio, 0.0);
+        this.burst = Math.max(burst, 1.0);
+        this.tokens = this.burst;
+    }
+
+    public synchronized void onRequest() {
+        tokens = Math.min(burst, tokens + ratio);
+    }
+
+    public synchronized boolean tryAcquire() {
+        if (tokens < 1.0) return false;
+        tokens -= 1.0;
+        return true;
+    }
+}
@@ -0,0 +1,51 @@
+package com.petstarproject.petstar.service.hedge;
+
+import java.util.Arrays;
+
+/**
+ * 최근 응답 시간의 백분위수로 hedge 요청을 보낼 시점을 정합니다.
+ *
+ * <p>최근 {@code windowSize}개의 응답 시간을 보관하고 {@code windowSize / 10}개마다 백분위수를 다시 계산합니다.
+ * 표본이 window를 채우기 전에는 {@code maxNanos}를 쓰고, 계산한 값은 {@code [minNanos, maxNanos]}로 제한합니다.</p>
+ */
+public class HedgeDelay {
+
+    private final double percentile;
+    private final long minNanos;
+    private final long maxNanos;
+    private final int recomputeEvery;
+
+    private final long[] samples;
+    private int index;
+    private int count;
+    private int sinceRecompute;
+    private long delayNanos;
+
+    public HedgeDelay(double percentile, int windowSize, long minNanos, long maxNanos) {
+        this.percentile = Math.min(Math.max(percentile, 0.0), 1.0);
+        this.samples = new long[Math.max(windowSize, 1)];
+        this.minNanos = minNanos;
+        this.maxNanos = Math.max(maxNanos, minNanos);
+        this.recomputeEvery = Math.max(samples.length / 10, 1);
+        this.delayNanos = this.maxNanos;
+    }
+
+    public synchronized void record(long nanos) {
+        samples[index] = nanos;
+        index = (index + 1) % samples.length;
+        if (count < samples.length) count++;
+
+        if (count == samples.length && ++sinceRecompute >= recomputeEvery) {
+            sinceRecompute = 0;
+            long[] sorted = samples.clone();
+            Arrays.sort(sorted);
+            int rank = (int) Math.ceil(percentile * sorted.length) - 1;
+            long value = sorted[Math.min(Math.max(rank, 0), sorted.length - 1)];
+            delayNanos = Math.min(Math.max(value, minNanos), maxNanos);
+        }
+    }
+
+    public synchronized long getDelayNanos() {
+        return delayNanos;
+    }
+}
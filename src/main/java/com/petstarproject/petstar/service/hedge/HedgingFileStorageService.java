@@ -0,0 +1,254 @@
+package com.petstarproject.petstar.service.hedge;
+
+import com.petstarproject.petstar.exception.FileStorageException;
+import com.petstarproject.petstar.service.FileStorageService;
+import com.petstarproject.petstar.service.StoredObject;
+import com.petstarproject.petstar.service.StoredObjectSummary;
+import com.petstarproject.petstar.service.inspect.UploadInspector;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * 멱등인 읽기 호출({@code openRange}, {@code stat})에 hedge 요청을 보내 느린 GET의 꼬리 지연을 줄이는 계층입니다.
+ * ({@code storage.hedge.enabled=true})
+ *
+ * <p>첫 요청이 {@link HedgeDelay}(최근 응답 시간의 백분위수) 안에 첫 byte를 돌려주지 않으면 같은 요청을 한 번 더 보내고 먼저 성공한 응답을 씁니다.
+ * 늦게 도착한 스트림은 바로 닫습니다. hedge 수는 {@link HedgeBudget}으로 전체 요청의 일정 비율 이하로 제한합니다.</p>
+ *
+ * <p>{@code transferTo}는 구현체가 직접 전송({@link FileStorageService#supportsDirectTransfer()})을 지원하면 그대로 위임하고,
+ * 아니면(S3) hedge한 {@code openRange}로 읽어 복사합니다. 쓰기 호출은 그대로 위임합니다.</p>
+ */
+@Slf4j
+public class HedgingFileStorageService implements FileStorageService {
+
+    private static final String OPEN_RANGE = "open_range";
+    private static final String STAT = "stat";
+
+    private final FileStorageService delegate;
+    private final Executor executor;
+    private final HedgeDelay openRangeDelay;
+    private final HedgeDelay statDelay;
+    private final HedgeBudget budget;
+    private final MeterRegistry meterRegistry;
+
+    public HedgingFileStorageService(FileStorageService delegate, Executor executor,
+                                     HedgeDelay openRangeDelay, HedgeDelay statDelay,
+                                     HedgeBudget budget, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.executor = executor;
+        this.openRangeDelay = openRangeDelay;
+        this.statDelay = statDelay;
+        this.budget = budget;
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("storage.hedge.delay", openRangeDelay, delay -> delay.getDelayNanos() / 1_000_000.0)
+                .tag("operation", OPEN_RANGE)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("storage.hedge.delay", statDelay, delay -> delay.getDelayNanos() / 1_000_000.0)
+                .tag("operation", STAT)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String upload(MultipartFile file, String key) {
+        return delegate.upload(file, key);
+    }
+
+    @Override
+    public String upload(InputStream in, long size, String contentType, String key) {
+        return delegate.upload(in, size, contentType, key);
+    }
+
+    @Override
+    public String upload(InputStream in, long size, String contentType, String key, List<UploadInspector> inspectors) {
+        return delegate.upload(in, size, contentType, key, inspectors);
+    }
+
+    @Override
+    public void delete(String key) {
+        delegate.delete(key);
+    }
+
+    @Override
+    public List<String> deleteAll(List<String> keys) {
+        return delegate.deleteAll(keys);
+    }
+
+    @Override
+    public Stream<StoredObjectSummary> listObjects(String prefix) {
+        return delegate.listObjects(prefix);
+    }
+
+    @Override
+    public Optional<StoredObject> stat(String key) {
+        return hedged(STAT, statDelay, () -> delegate.stat(key), result -> {});
+    }
+
+    @Override
+    public InputStream openRange(String key, long offset, long length) {
+        return hedged(OPEN_RANGE, openRangeDelay,
+                () -> awaitFirstByte(delegate.openRange(key, offset, length)),
+                HedgingFileStorageService::closeQuietly);
+    }
+
+    @Override
+    public long transferTo(String key, long offset, long length, WritableByteChannel target) {
+        if (delegate.supportsDirectTransfer()) {
+            return delegate.transferTo(key, offset, length, target);
+        }
+        try (InputStream in = openRange(key, offset, length)) {
+            return in.transferTo(Channels.newOutputStream(target));
+        } catch (IOException e) {
+            throw new FileStorageException("파일 전송 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    @Override
+    public boolean supportsDirectTransfer() {
+        return delegate.supportsDirectTransfer();
+    }
+
+    @Override
+    public String createUploadUrl(String key, String contentType, long contentLength, Duration ttl) {
+        return delegate.createUploadUrl(key, contentType, contentLength, ttl);
+    }
+
+    /**
+     * @param discard 쓰지 않게 된 결과(늦게 도착한 스트림 등)를 정리하는 함수
+     */
+    private <T> T hedged(String operation, HedgeDelay delay, Supplier<T> call, Consumer<T> discard) {
+        budget.onRequest();
+
+        long start = System.nanoTime();
+        CompletableFuture<T> primary;
+        try {
+            primary = CompletableFuture.supplyAsync(call, executor);
+        } catch (RejectedExecutionException e) {
+            skip(operation, "executor");
+            return call.get();
+        }
+        primary.thenRun(() -> delay.record(System.nanoTime() - start));
+
+        try {
+            return primary.get(delay.getDelayNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // 기준 시간 안에 응답이 없으면 hedge
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        } catch (InterruptedException e) {
+            return interrupted(primary, discard, e);
+        }
+
+        if (!budget.tryAcquire()) {
+            skip(operation, "budget");
+            return await(primary, discard);
+        }
+
+        CompletableFuture<T> hedge;
+        try {
+            hedge = CompletableFuture.supplyAsync(call, executor);
+        } catch (RejectedExecutionException e) {
+            skip(operation, "executor");
+            return await(primary, discard);
+        }
+        meterRegistry.counter("storage.hedge.sent", "operation", operation).increment();
+
+        CompletableFuture<T> first = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+        primary.whenComplete((result, error) -> settle(first, failures, result, error, discard));
+        hedge.whenComplete((result, error) -> {
+            if (settle(first, failures, result, error, discard)) {
+                meterRegistry.counter("storage.hedge.won", "operation", operation).increment();
+            }
+        });
+        return await(first, discard);
+    }
+
+    /**
+     * 먼저 성공한 결과로 {@code first}를 완료하고 늦은 결과는 정리합니다. 둘 다 실패하면 마지막 오류로 완료합니다.
+     * @return 이 결과가 채택되었는지 여부
+     */
+    private static <T> boolean settle(CompletableFuture<T> first, AtomicInteger failures,
+                                      T result, Throwable error, Consumer<T> discard) {
+        if (error != null) {
+            if (failures.incrementAndGet() == 2) first.completeExceptionally(error);
+            return false;
+        }
+        if (first.complete(result)) return true;
+
+        discard.accept(result);
+        return false;
+    }
+
+    private static <T> T await(CompletableFuture<T> future, Consumer<T> discard) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        } catch (InterruptedException e) {
+            return interrupted(future, discard, e);
+        }
+    }
+
+    private static <T> T interrupted(CompletableFuture<T> future, Consumer<T> discard, InterruptedException e) {
+        Thread.currentThread().interrupt();
+        future.thenAccept(discard);
+        throw new FileStorageException("파일 조회가 중단되었습니다.", e);
+    }
+
+    private void skip(String operation, String reason) {
+        meterRegistry.counter("storage.hedge.skipped", "operation", operation, "reason", reason).increment();
+    }
+
+    private static RuntimeException unwrap(ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException runtimeException) return runtimeException;
+        return new FileStorageException("파일 조회 중 오류가 발생했습니다.", cause);
+    }
+
+    /**
+     * S3는 응답 헤더를 받으면 스트림을 반환하므로, 첫 byte까지 받아 두어야 느린 응답을 hedge 기준 시간 안에 구분할 수 있습니다.
+     */
+    private static InputStream awaitFirstByte(InputStream in) {
+        PushbackInputStream pushback = new PushbackInputStream(in, 1);
+        try {
+            int first = pushback.read();
+            if (first >= 0) pushback.unread(first);
+            return pushback;
+        } catch (IOException e) {
+            closeQuietly(pushback);
+            throw new FileStorageException("파일 조회 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    private static void closeQuietly(InputStream in) {
+        try {
+            in.close();
+        } catch (IOException e) {
+            log.debug("hedge 스트림 닫기 실패", e);
+        }
+    }
+}
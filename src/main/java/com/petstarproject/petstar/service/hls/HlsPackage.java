@@ -0,0 +1,14 @@
+package com.petstarproject.petstar.service.hls;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * 패키징 결과 파일 목록입니다.
+ *
+ * @param playlist    media playlist(m3u8) 파일
+ * @param initSegment init segment(ftyp + moov) 파일
+ * @param segments    media segment(moof + mdat) 파일, 재생 순서
+ */
+public record HlsPackage(Path playlist, Path initSegment, List<Path> segments) {
+}
@@ -0,0 +1,202 @@
+package com.petstarproject.petstar.service.hls;
+
+import com.petstarproject.petstar.exception.FileStorageException;
+import org.mp4parser.Box;
+import org.mp4parser.muxer.Movie;
+import org.mp4parser.muxer.Track;
+import org.mp4parser.muxer.builder.DefaultFragmenterImpl;
+import org.mp4parser.muxer.builder.FragmentedMp4Builder;
+import org.mp4parser.muxer.container.mp4.MovieCreator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 업로드된 MP4를 재인코딩 없이 fragmented MP4(CMAF) segment와 HLS playlist로 remux 합니다.
+ *
+ * <p>mp4parser의 {@link FragmentedMp4Builder}로 init segment(ftyp + moov/mvex)와 segment별 moof + mdat을 만듭니다.
+ * segment 경계는 기준 트랙(영상 트랙, 없으면 첫 트랙)의 sync sample에 맞춰 {@code video.hls.segment-seconds} 단위로 자르고,
+ * 나머지 트랙은 같은 시각에서 자릅니다.</p>
+ */
+@Component
+public class HlsPackager {
+
+    public static final String PLAYLIST_FILE = "playlist.m3u8";
+    public static final String INIT_SEGMENT_FILE = "init.mp4";
+
+    private final double segmentSeconds;
+
+    public HlsPackager(@Value("${video.hls.segment-seconds:6}") double segmentSeconds) {
+        this.segmentSeconds = segmentSeconds;
+    }
+
+    /**
+     * @param source 원본 MP4 파일
+     * @param outDir 결과를 쓸 디렉토리
+     * @return 생성된 파일 목록
+     * @throws FileStorageException MP4를 읽거나 결과를 쓰지 못한 경우
+     */
+    public HlsPackage pack(Path source, Path outDir) {
+        try {
+            Files.createDirectories(outDir);
+            Movie movie = MovieCreator.build(source.toString());
+            SegmentBuilder builder = new SegmentBuilder();
+
+            Path init = outDir.resolve(INIT_SEGMENT_FILE);
+            write(init, List.of(builder.ftyp(movie), builder.moov(movie)));
+
+            List<Track> tracks = movie.getTracks();
+            Track reference = referenceTrack(tracks);
+            long[] referenceStarts = new DefaultFragmenterImpl(segmentSeconds).sampleNumbers(reference);
+
+            // 기준 트랙의 segment 시작 시각(초)
+            double[] boundaries = new double[referenceStarts.length];
+            for (int i = 0; i < referenceStarts.length; i++) {
+                boundaries[i] = startTimeOf(reference, referenceStarts[i]);
+            }
+
+            List<long[]> trackStarts = new ArrayList<>(tracks.size());
+            for (Track track : tracks) {
+                trackStarts.add(track == reference ? referenceStarts : sampleNumbersAt(track, boundaries));
+            }
+
+            List<Path> segments = new ArrayList<>();
+            List<Double> durations = new ArrayList<>();
+            int sequence = 1;
+            for (int i = 0; i < boundaries.length; i++) {
+                List<Box> boxes = new ArrayList<>();
+                for (int t = 0; t < tracks.size(); t++) {
+                    Track track = tracks.get(t);
+                    long[] starts = trackStarts.get(t);
+                    long start = starts[i];
+                    long end = i + 1 < starts.length ? starts[i + 1] : track.getSamples().size() + 1;
+                    if (start >= end) continue;
+
+                    boxes.add(builder.moof(start, end, track, sequence));
+                    boxes.add(builder.mdat(start, end, track, sequence));
+                    sequence++;
+                }
+
+                Path segment = outDir.resolve(String.format("segment_%05d.m4s", i));
+                write(segment, boxes);
+                segments.add(segment);
+
+                double end = i + 1 < boundaries.length ? boundaries[i + 1] : durationOf(reference);
+                durations.add(end - boundaries[i]);
+            }
+
+            Path playlist = outDir.resolve(PLAYLIST_FILE);
+            Files.writeString(playlist, playlist(segments, durations), StandardCharsets.UTF_8);
+
+            return new HlsPackage(playlist, init, segments);
+
+        } catch (IOException | RuntimeException e) {
+            throw new FileStorageException("HLS 패키징 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    private Track referenceTrack(List<Track> tracks) {
+        if (tracks.isEmpty()) {
+            throw new FileStorageException("HLS 패키징할 트랙이 없습니다.");
+        }
+        return tracks.stream()
+                .filter(track -> "vide".equals(track.getHandler()))
+                .findFirst()
+                .orElse(tracks.get(0));
+    }
+
+    /**
+     * @param sampleNumber 1부터 시작하는 sample 번호
+     * @return 해당 sample의 시작 시각(초)
+     */
+    private double startTimeOf(Track track, long sampleNumber) {
+        long[] durations = track.getSampleDurations();
+        long ticks = 0;
+        for (int i = 0; i < sampleNumber - 1 && i < durations.length; i++) {
+            ticks += durations[i];
+        }
+        return (double) ticks / track.getTrackMetaData().getTimescale();
+    }
+
+    private double durationOf(Track track) {
+        return startTimeOf(track, track.getSampleDurations().length + 1L);
+    }
+
+    /**
+     * 각 경계 시각 이후 처음 시작하는 sample 번호를 찾습니다.
+     */
+    private long[] sampleNumbersAt(Track track, double[] boundaries) {
+        long[] durations = track.getSampleDurations();
+        long timescale = track.getTrackMetaData().getTimescale();
+        long[] starts = new long[boundaries.length];
+
+        int sample = 0;
+        long ticks = 0;
+        for (int i = 0; i < boundaries.length; i++) {
+            while (sample < durations.length && (double) ticks / timescale < boundaries[i]) {
+                ticks += durations[sample++];
+            }
+            starts[i] = sample + 1L;
+        }
+        starts[0] = 1;
+        return starts;
+    }
+
+    private String playlist(List<Path> segments, List<Double> durations) {
+        double maxDuration = durations.stream().mapToDouble(Double::doubleValue).max().orElse(segmentSeconds);
+
+        StringBuilder sb = new StringBuilder()
+                .append("#EXTM3U\n")
+                .append("#EXT-X-VERSION:7\n")
+                .append("#EXT-X-TARGETDURATION:").append((long) Math.ceil(maxDuration)).append('\n')
+                .append("#EXT-X-MEDIA-SEQUENCE:0\n")
+                .append("#EXT-X-PLAYLIST-TYPE:VOD\n")
+                .append("#EXT-X-INDEPENDENT-SEGMENTS\n")
+                .append("#EXT-X-MAP:URI=\"").append(INIT_SEGMENT_FILE).append("\"\n");
+        for (int i = 0; i < segments.size(); i++) {
+            sb.append(String.format(Locale.ROOT, "#EXTINF:%.3f,\n", durations.get(i)))
+                    .append(segments.get(i).getFileName()).append('\n');
+        }
+        return sb.append("#EXT-X-ENDLIST\n").toString();
+    }
+
+    private void write(Path file, List<Box> boxes) throws IOException {
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            for (Box box : boxes) {
+                box.getBox(channel);
+            }
+        }
+    }
+
+    /**
+     * segment 단위로 box를 만들기 위해 {@link FragmentedMp4Builder}의 protected 메서드를 노출합니다.
+     */
+    private static class SegmentBuilder extends FragmentedMp4Builder {
+
+        Box ftyp(Movie movie) {
+            return createFtyp(movie);
+        }
+
+        Box moov(Movie movie) {
+            return createMoov(movie);
+        }
+
+        Box moof(long startSample, long endSample, Track track, int sequence) {
+            return createMoof(startSample, endSample, track, sequence);
+        }
+
+        Box mdat(long startSample, long endSample, Track track, int sequence) {
+            return createMdat(startSample, endSample, track, sequence);
+        }
+    }
+}
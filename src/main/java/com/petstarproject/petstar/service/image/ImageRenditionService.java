@@ -0,0 +1,203 @@
+package com.petstarproject.petstar.service.image;
+
+import com.petstarproject.petstar.entity.ImageRendition;
+import com.petstarproject.petstar.service.FileStorageService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 업로드된 이미지로 고정 너비(기본 64/320/1080px)의 rendition을 만들어 원본 key 옆({@code {원본 key}_w{너비}})에 저장합니다.
+ *
+ * <p>원본은 {@link ImageReader}로 header만 먼저 읽어 크기를 확인한 뒤, 가장 큰 rendition 너비 이상을 유지하는 정수배 subsampling으로
+ * 디코딩하므로 수 MB 사진도 전체 해상도로 메모리에 올리지 않습니다. 이후 큰 rendition부터 차례로 축소합니다.</p>
+ *
+ * <p>리사이즈는 CPU를 많이 쓰므로 {@code imageResizeExecutor}에서만 실행해 동시에 처리하는 이미지 수를 제한합니다.
+ * rendition 생성은 best-effort 이며, 지원하지 않는 형식이거나 실패하면 빈 목록을 반환하고 원본만 사용합니다.</p>
+ */
+@Slf4j
+@Component
+public class ImageRenditionService {
+
+    private final FileStorageService fileStorageService;
+    private final ThreadPoolTaskExecutor imageResizeExecutor;
+    private final int[] widths; // 내림차순
+    private final float jpegQuality;
+
+    public ImageRenditionService(FileStorageService fileStorageService,
+                                 @Qualifier("imageResizeExecutor") ThreadPoolTaskExecutor imageResizeExecutor,
+                                 @Value("${image.rendition.widths:64,320,1080}") int[] widths,
+                                 @Value("${image.rendition.jpeg-quality:0.85}") float jpegQuality) {
+        this.fileStorageService = fileStorageService;
+        this.imageResizeExecutor = imageResizeExecutor;
+        this.widths = Arrays.stream(widths).filter(width -> width > 0).distinct().boxed()
+                .sorted((a, b) -> b - a).mapToInt(Integer::intValue).toArray();
+        this.jpegQuality = jpegQuality;
+    }
+
+    /**
+     * @param image       업로드된 원본 이미지
+     * @param originalKey 원본 이미지가 저장된 key
+     * @return 너비 오름차순 rendition 목록, 만들지 못하면 빈 목록
+     */
+    public List<ImageRendition> createRenditions(MultipartFile image, String originalKey) {
+        if (image == null || image.isEmpty()) return List.of();
+        return createRenditions(image::getInputStream, originalKey);
+    }
+
+    /**
+     * @param file        로컬에 저장된 원본 이미지 (spool 파일 등)
+     * @param originalKey 원본 이미지가 저장된 key
+     */
+    public List<ImageRendition> createRenditions(Path file, String originalKey) {
+        return createRenditions(() -> Files.newInputStream(file), originalKey);
+    }
+
+    private List<ImageRendition> createRenditions(ImageSource source, String originalKey) {
+        if (widths.length == 0) return List.of();
+
+        try {
+            return CompletableFuture.supplyAsync(() -> render(source, originalKey), imageResizeExecutor).join();
+        } catch (CompletionException e) {
+            log.warn("이미지 rendition 생성 실패: key={}", originalKey, e.getCause());
+            return List.of();
+        }
+    }
+
+    private List<ImageRendition> render(ImageSource source, String originalKey) {
+        List<ImageRendition> renditions = new ArrayList<>();
+        try {
+            BufferedImage image = decode(source, widths[0]);
+            if (image == null) {
+                log.warn("rendition을 만들 수 없는 이미지 형식입니다: key={}", originalKey);
+                return List.of();
+            }
+
+            boolean alpha = image.getColorModel().hasAlpha();
+            String format = alpha ? "png" : "jpeg";
+
+            BufferedImage current = image;
+            for (int width : widths) {
+                current = scaleToWidth(current, width, alpha);
+                byte[] bytes = encode(current, format);
+
+                String key = fileStorageService.upload(new ByteArrayInputStream(bytes), bytes.length, "image/" + format,
+                        originalKey + "_w" + width);
+                renditions.add(0, new ImageRendition(originalKey, width, key));
+            }
+            return renditions;
+
+        } catch (IOException | RuntimeException e) {
+            log.warn("이미지 rendition 생성 실패: key={}", originalKey, e);
+            deleteQuietly(renditions);
+            return List.of();
+        }
+    }
+
+    /**
+     * 디코딩 결과가 {@code maxWidth} 이상을 유지하는 가장 큰 정수배로 subsampling 하며 디코딩합니다.
+     * @return 읽을 수 있는 reader가 없으면 null
+     */
+    private BufferedImage decode(ImageSource source, int maxWidth) throws IOException {
+        try (InputStream in = source.open();
+             ImageInputStream iis = ImageIO.createImageInputStream(in)) {
+            if (iis == null) return null;
+
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(iis);
+            if (!readers.hasNext()) return null;
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(iis, true, true);
+                int factor = Math.max(1, reader.getWidth(0) / maxWidth);
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(factor, factor, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 비율을 유지하며 너비를 줄입니다. 원본보다 크게 늘리지는 않습니다.
+     */
+    private BufferedImage scaleToWidth(BufferedImage source, int width, boolean alpha) {
+        int targetWidth = Math.min(width, source.getWidth());
+        int targetHeight = Math.max(1, Math.round((float) source.getHeight() * targetWidth / source.getWidth()));
+
+        BufferedImage scaled = new BufferedImage(targetWidth, targetHeight,
+                alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = scaled.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(source, 0, 0, targetWidth, targetHeight, null);
+        } finally {
+            g.dispose();
+        }
+        return scaled;
+    }
+
+    private byte[] encode(BufferedImage image, String format) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName(format).next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if ("jpeg".equals(format)) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(jpegQuality);
+            }
+            writer.setOutput(ios);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    private void deleteQuietly(List<ImageRendition> renditions) {
+        if (renditions.isEmpty()) return;
+
+        List<String> keys = renditions.stream().map(ImageRendition::getKey).toList();
+        try {
+            fileStorageService.deleteAll(keys);
+        } catch (Exception e) {
+            log.warn("rendition 정리 실패: keys={}", keys, e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ImageSource {
+        InputStream open() throws IOException;
+    }
+}
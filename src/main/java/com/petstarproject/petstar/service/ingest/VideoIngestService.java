@@ -0,0 +1,188 @@
+package com.petstarproject.petstar.service.ingest;
+
+import com.petstarproject.petstar.exception.FileStorageException;
+import com.petstarproject.petstar.exception.VideoIngestRejectedException;
+import com.petstarproject.petstar.service.transcode.TranscodeJobService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 동영상 업로드를 요청 스레드에서 분리하는 ingest 단계입니다.
+ *
+ * <p>요청 스레드는 업로드 파일을 spool 디렉토리로 옮기고({@link #stage}) 동영상 row를 저장한 뒤 바로 반환합니다.
+ * 실제 길이 추출과 스토리지 업로드는 트랜잭션 커밋 이후 bounded worker pool에서 {@link VideoIngestWorker}가 처리합니다.</p>
+ */
+@Slf4j
+@Service
+public class VideoIngestService {
+
+    private final ThreadPoolTaskExecutor ingestExecutor;
+    private final VideoIngestWorker videoIngestWorker;
+    private final VideoStatusUpdater videoStatusUpdater;
+    private final TranscodeJobService transcodeJobService;
+    private final Path spoolDir;
+
+    public VideoIngestService(@Qualifier("videoIngestExecutor") ThreadPoolTaskExecutor ingestExecutor,
+                              VideoIngestWorker videoIngestWorker,
+                              VideoStatusUpdater videoStatusUpdater,
+                              TranscodeJobService transcodeJobService,
+                              @Value("${video.ingest.spool-dir:${java.io.tmpdir}/petstar-ingest}") String spoolDir) {
+        this.ingestExecutor = ingestExecutor;
+        this.videoIngestWorker = videoIngestWorker;
+        this.videoStatusUpdater = videoStatusUpdater;
+        this.transcodeJobService = transcodeJobService;
+        this.spoolDir = Paths.get(spoolDir);
+    }
+
+    /**
+     * worker 큐나 트랜스코딩 큐에 여유가 없으면 파일을 spool 하기 전에 요청을 거절합니다.
+     * @throws VideoIngestRejectedException 큐가 가득 찬 경우
+     */
+    public void checkCapacity() {
+        if (ingestExecutor.getThreadPoolExecutor().getQueue().remainingCapacity() == 0) {
+            throw new VideoIngestRejectedException("Video ingest queue is full");
+        }
+        transcodeJobService.checkCapacity();
+    }
+
+    /**
+     * 업로드 파일을 spool 디렉토리로 옮기고 ingest 작업을 만듭니다.
+     * {@link MultipartFile#transferTo(java.io.File)}를 사용해 디스크에 저장된 multipart 파일은 복사 대신 rename 됩니다.
+     *
+     * @param videoId      동영상 ID
+     * @param videoSource  원본 영상 파일
+     * @param sourceKey    원본 영상을 저장할 key
+     * @param thumbnail    썸네일 파일 (없으면 null)
+     * @param thumbnailKey 썸네일을 저장할 key (없으면 null)
+     * @return ingest 작업
+     */
+    public VideoIngestTask stage(String videoId,
+                                 MultipartFile videoSource,
+                                 String sourceKey,
+                                 MultipartFile thumbnail,
+                                 String thumbnailKey) {
+        Path dir = spoolDir.resolve(videoId);
+        boolean hasThumbnail = thumbnailKey != null;
+
+        VideoIngestTask task = new VideoIngestTask(
+                videoId,
+                dir.resolve("source"),
+                videoSource.getContentType(),
+                sourceKey,
+                hasThumbnail ? dir.resolve("thumbnail") : null,
+                hasThumbnail ? thumbnail.getContentType() : null,
+                thumbnailKey
+        );
+
+        try {
+            Files.createDirectories(dir);
+            videoSource.transferTo(task.sourceFile().toFile());
+            if (hasThumbnail) {
+                thumbnail.transferTo(task.thumbnailFile().toFile());
+            }
+        } catch (IOException e) {
+            task.deleteSpoolFiles();
+            throw new FileStorageException("업로드 파일 임시 저장 중 오류가 발생했습니다.", e);
+        }
+
+        return task;
+    }
+
+    /**
+     * 이미 로컬에 모인 원본 파일(재개 가능한 업로드 세션 등)을 spool 디렉토리에 hard link 하고 ingest 작업을 만듭니다.
+     * 원본 파일은 호출자 소유로 그대로 남으므로, ingest가 실패해 spool 파일을 지워도 같은 원본으로 다시 시도할 수 있습니다.
+     * 같은 파일시스템이 아니면 복사합니다.
+     *
+     * @param sourceFile        로컬에 저장된 원본 영상 파일
+     * @param sourceContentType 원본 영상 content type
+     */
+    public VideoIngestTask stage(String videoId,
+                                 Path sourceFile,
+                                 String sourceContentType,
+                                 String sourceKey,
+                                 MultipartFile thumbnail,
+                                 String thumbnailKey) {
+        Path dir = spoolDir.resolve(videoId);
+        boolean hasThumbnail = thumbnailKey != null;
+
+        VideoIngestTask task = new VideoIngestTask(
+                videoId,
+                dir.resolve("source"),
+                sourceContentType,
+                sourceKey,
+                hasThumbnail ? dir.resolve("thumbnail") : null,
+                hasThumbnail ? thumbnail.getContentType() : null,
+                thumbnailKey
+        );
+
+        try {
+            Files.createDirectories(dir);
+            linkOrCopy(sourceFile, task.sourceFile());
+            if (hasThumbnail) {
+                thumbnail.transferTo(task.thumbnailFile().toFile());
+            }
+        } catch (IOException e) {
+            task.deleteSpoolFiles();
+            throw new FileStorageException("업로드 파일 임시 저장 중 오류가 발생했습니다.", e);
+        }
+
+        return task;
+    }
+
+    private static void linkOrCopy(Path source, Path target) throws IOException {
+        try {
+            Files.createLink(target, source);
+        } catch (UnsupportedOperationException | FileSystemException e) {
+            Files.copy(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 worker pool에 작업을 넘깁니다.
+     * 트랜잭션이 롤백되면 spool 파일만 정리합니다.
+     */
+    public void dispatchAfterCommit(VideoIngestTask task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dispatch(task);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                dispatch(task);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    task.deleteSpoolFiles();
+                }
+            }
+        });
+    }
+
+    private void dispatch(VideoIngestTask task) {
+        try {
+            ingestExecutor.execute(() -> videoIngestWorker.ingest(task));
+        } catch (RejectedExecutionException e) {
+            log.error("동영상 ingest 큐가 가득 차 작업을 거절했습니다: videoId={}", task.videoId(), e);
+            videoStatusUpdater.markFailed(task.videoId());
+            task.deleteSpoolFiles();
+        }
+    }
+}
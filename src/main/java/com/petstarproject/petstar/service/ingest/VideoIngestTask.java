@@ -0,0 +1,45 @@
+package com.petstarproject.petstar.service.ingest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 요청 스레드에서 spool 해둔 업로드 파일과, worker가 업로드할 스토리지 key 정보를 담습니다.
+ *
+ * @param videoId              대상 동영상 ID
+ * @param sourceFile           spool 된 원본 영상 파일
+ * @param sourceContentType    원본 영상 content type
+ * @param sourceKey            원본 영상을 저장할 key
+ * @param thumbnailFile        spool 된 썸네일 파일 (없으면 null)
+ * @param thumbnailContentType 썸네일 content type
+ * @param thumbnailKey         썸네일을 저장할 key (없으면 null)
+ */
+public record VideoIngestTask(
+        String videoId,
+        Path sourceFile,
+        String sourceContentType,
+        String sourceKey,
+        Path thumbnailFile,
+        String thumbnailContentType,
+        String thumbnailKey
+) {
+
+    public boolean hasThumbnail() {
+        return thumbnailFile != null && thumbnailKey != null;
+    }
+
+    /**
+     * spool 파일과 디렉토리를 삭제합니다. 실패해도 예외를 던지지 않습니다.
+     */
+    public void deleteSpoolFiles() {
+        deleteQuietly(sourceFile);
+        deleteQuietly(thumbnailFile);
+        if (sourceFile != null) deleteQuietly(sourceFile.getParent());
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) return;
+        try { Files.deleteIfExists(path); } catch (IOException ignored) {}
+    }
+}
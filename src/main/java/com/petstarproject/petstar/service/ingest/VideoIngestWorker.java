@@ -0,0 +1,163 @@
+package com.petstarproject.petstar.service.ingest;
+
+import com.petstarproject.petstar.entity.ImageRendition;
+import com.petstarproject.petstar.exception.FileStorageException;
+import com.petstarproject.petstar.service.FileStorageService;
+import com.petstarproject.petstar.service.duration.VideoDurationExtractor;
+import com.petstarproject.petstar.service.duration.VideoDurationProbe;
+import com.petstarproject.petstar.service.image.ImageRenditionService;
+import com.petstarproject.petstar.service.inspect.ByteCountInspector;
+import com.petstarproject.petstar.service.inspect.DigestInspector;
+import com.petstarproject.petstar.service.inspect.UploadInspector;
+import com.petstarproject.petstar.service.transcode.TranscodeJobService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * spool 된 업로드 파일을 처리하는 ingest worker 입니다.
+ *
+ * <p>원본을 스토리지에 업로드하면서 같은 pass에서 영상 길이와 크기, 다이제스트를 계산하고(spool 파일은 한 번만 읽음),
+ * 썸네일과 썸네일 축소본을 업로드한 뒤 결과에 따라 동영상을 READY 또는 FAILED로 전이합니다.
+ * 트랜스코딩이 켜져 있으면 READY 대신 TRANSCODING으로 전이하고 {@link TranscodeJobService} 큐에 작업을 넣습니다.
+ * 스토리지 업로드는 {@code video.ingest.max-attempts}만큼 재시도하며, 길이 추출 실패처럼 재시도해도 결과가 같은 실패는 바로 FAILED 처리합니다.
+ * 실패하면 업로드한 객체 중 레코드가 참조하지 않는 것만 삭제 큐로 정리합니다. ({@link VideoStatusUpdater#markFailed(String, java.util.Collection)})</p>
+ */
+@Slf4j
+@Component
+public class VideoIngestWorker {
+
+    private final FileStorageService fileStorageService;
+    private final VideoDurationExtractor videoDurationExtractor;
+    private final VideoStatusUpdater videoStatusUpdater;
+    private final TranscodeJobService transcodeJobService;
+    private final ImageRenditionService imageRenditionService;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+
+    public VideoIngestWorker(FileStorageService fileStorageService,
+                             VideoDurationExtractor videoDurationExtractor,
+                             VideoStatusUpdater videoStatusUpdater,
+                             TranscodeJobService transcodeJobService,
+                             ImageRenditionService imageRenditionService,
+                             @Value("${video.ingest.max-attempts:3}") int maxAttempts,
+                             @Value("${video.ingest.retry-backoff-ms:1000}") long retryBackoffMillis) {
+        this.fileStorageService = fileStorageService;
+        this.videoDurationExtractor = videoDurationExtractor;
+        this.videoStatusUpdater = videoStatusUpdater;
+        this.transcodeJobService = transcodeJobService;
+        this.imageRenditionService = imageRenditionService;
+        this.maxAttempts = Math.max(maxAttempts, 1);
+        this.retryBackoffMillis = retryBackoffMillis;
+    }
+
+    public void ingest(VideoIngestTask task) {
+        // 중복 제거 계층이 있으면 같은 내용의 기존 객체 key가 반환될 수 있음
+        List<String> uploadedKeys = new ArrayList<>();
+        try {
+            SourceInspection source = withRetry(task, () -> uploadSource(task));
+            String sourceKey = source.key();
+            uploadedKeys.add(sourceKey);
+            int durationSec = source.probe().durationSec();
+
+            String thumbnailKey = task.thumbnailKey();
+            if (task.hasThumbnail()) {
+                thumbnailKey = withRetry(task, () -> upload(task.thumbnailFile(), task.thumbnailContentType(), task.thumbnailKey(), List.of()).key());
+                uploadedKeys.add(thumbnailKey);
+            }
+
+            if (!sourceKey.equals(task.sourceKey()) || (thumbnailKey != null && !thumbnailKey.equals(task.thumbnailKey()))) {
+                videoStatusUpdater.relinkObjects(task.videoId(), sourceKey, thumbnailKey);
+            }
+
+            if (task.hasThumbnail()) {
+                List<ImageRendition> renditions = imageRenditionService.createRenditions(task.thumbnailFile(), thumbnailKey);
+                renditions.forEach(rendition -> uploadedKeys.add(rendition.getKey()));
+                if (!renditions.isEmpty()) {
+                    videoStatusUpdater.addThumbnailRenditions(task.videoId(), renditions);
+                }
+            }
+
+            if (transcodeJobService.isEnabled()) {
+                transcodeJobService.enqueue(task.videoId(), sourceKey, durationSec);
+            } else {
+                videoStatusUpdater.markReady(task.videoId(), durationSec);
+            }
+            log.info("동영상 ingest 완료: videoId={}, durationSec={}, bytes={}, sha256={}",
+                    task.videoId(), durationSec, source.bytes(), source.sha256());
+
+        } catch (RuntimeException e) {
+            log.error("동영상 ingest 실패: videoId={}", task.videoId(), e);
+            videoStatusUpdater.markFailed(task.videoId(), uploadedKeys);
+        } finally {
+            task.deleteSpoolFiles();
+        }
+    }
+
+    /**
+     * 원본을 업로드하면서 길이 probe, byte 수, 다이제스트를 같은 pass에서 계산합니다.
+     * 재시도할 때마다 inspector를 새로 만들어 이전 시도의 byte가 섞이지 않게 합니다.
+     */
+    private SourceInspection uploadSource(VideoIngestTask task) {
+        VideoDurationProbe probe = videoDurationExtractor.newProbe();
+        ByteCountInspector counter = new ByteCountInspector();
+        DigestInspector digest = new DigestInspector();
+
+        Uploaded uploaded = upload(task.sourceFile(), task.sourceContentType(), task.sourceKey(), List.of(probe, counter, digest));
+        if (counter.count() != uploaded.size()) {
+            throw new FileStorageException("업로드된 크기가 spool 파일과 다릅니다. expected=" + uploaded.size() + ", actual=" + counter.count());
+        }
+
+        return new SourceInspection(uploaded.key(), probe, counter.count(), digest.sha256Hex());
+    }
+
+    private <T> T withRetry(VideoIngestTask task, Supplier<T> action) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return action.get();
+            } catch (RuntimeException e) {
+                if (attempt >= maxAttempts) throw e;
+
+                log.warn("동영상 업로드 재시도: videoId={}, attempt={}/{}", task.videoId(), attempt, maxAttempts, e);
+                sleep(retryBackoffMillis * attempt);
+            }
+        }
+    }
+
+    /**
+     * @return 저장된 key와 업로드한 파일 크기(byte)
+     */
+    private Uploaded upload(Path file, String contentType, String key, List<UploadInspector> inspectors) {
+        try (InputStream in = Files.newInputStream(file)) {
+            long size = Files.size(file);
+            String storedKey = fileStorageService.upload(in, size, contentType, key, inspectors);
+            return new Uploaded(storedKey, size);
+        } catch (IOException e) {
+            throw new FileStorageException("spool 파일을 읽는 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    private void sleep(long millis) {
+        if (millis <= 0) return;
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FileStorageException("동영상 업로드 재시도가 중단되었습니다.", e);
+        }
+    }
+
+    private record SourceInspection(String key, VideoDurationProbe probe, long bytes, String sha256) {
+    }
+
+    private record Uploaded(String key, long size) {
+    }
+}
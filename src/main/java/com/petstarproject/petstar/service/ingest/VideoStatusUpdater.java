@@ -0,0 +1,130 @@
+package com.petstarproject.petstar.service.ingest;
+
+import com.petstarproject.petstar.entity.ImageRendition;
+import com.petstarproject.petstar.entity.Video;
+import com.petstarproject.petstar.enums.VideoStatus;
+import com.petstarproject.petstar.repository.VideoRepository;
+import com.petstarproject.petstar.service.deletion.ObjectDeletionQueue;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 백그라운드 worker나 스토리지 확인을 마친 요청 스레드에서 동영상 상태(VideoStatus)를 전이시키는 컴포넌트입니다.
+ * 커밋 이후 콜백, worker 스레드, 트랜잭션 밖에서 호출되므로 전이마다 새 트랜잭션(REQUIRES_NEW)으로 처리합니다.
+ * 다른 노드에서 수정된 내용이 이 노드의 2차 캐시에 반영되지 않았을 수 있으므로 동영상은 캐시를 거치지 않고 읽습니다.
+ * 처리 도중 동영상이 삭제되었다면 아무것도 하지 않습니다.
+ */
+@Component
+public class VideoStatusUpdater {
+
+    private final VideoRepository videoRepository;
+    private final ObjectDeletionQueue objectDeletionQueue;
+
+    @Autowired
+    public VideoStatusUpdater(VideoRepository videoRepository, ObjectDeletionQueue objectDeletionQueue) {
+        this.videoRepository = videoRepository;
+        this.objectDeletionQueue = objectDeletionQueue;
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void markReady(String videoId, int durationSec) {
+        videoRepository.findUncached(videoId)
+                .ifPresent(video -> video.markReady(durationSec));
+    }
+
+    /**
+     * 업로드 결과 저장된 key가 처음 정한 key와 다르면(중복 제거로 기존 객체를 가리키게 된 경우) 레코드를 갱신합니다.
+     * 썸네일이 바뀌면 이전 썸네일의 축소본은 같은 트랜잭션에서 삭제 큐에 기록합니다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void relinkObjects(String videoId, String sourceKey, String thumbnailKey) {
+        videoRepository.findUncached(videoId)
+                .ifPresent(video -> {
+                    video.relinkSource(sourceKey);
+                    if (thumbnailKey != null) {
+                        objectDeletionQueue.enqueue(renditionKeys(video));
+                        video.updateThumbnail(thumbnailKey);
+                    }
+                });
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void addThumbnailRenditions(String videoId, List<ImageRendition> renditions) {
+        videoRepository.findUncached(videoId)
+                .ifPresent(video -> video.addThumbnailRenditions(renditions));
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void markFailed(String videoId) {
+        videoRepository.findUncached(videoId)
+                .ifPresent(video -> video.markFailed());
+    }
+
+    /**
+     * FAILED로 전이하면서 ingest 중 업로드한 객체를 모두 같은 트랜잭션에서 삭제 큐에 기록하고, 레코드의 객체 참조는 비웁니다.
+     * 참조를 비워 두므로 나중에 동영상을 삭제해도 같은 객체의 참조를 다시 해제하지 않습니다.
+     * 동영상이 이미 삭제되었다면 삭제할 때 기록된 key와 겹칠 수 있으므로 아무것도 기록하지 않습니다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void markFailed(String videoId, Collection<String> uploadedKeys) {
+        videoRepository.findUncached(videoId)
+                .ifPresent(video -> {
+                    video.markFailed();
+                    video.detachObjects();
+                    objectDeletionQueue.enqueue(uploadedKeys);
+                });
+    }
+
+    /**
+     * 트랜잭션 밖에서 확인한 직접 업로드 결과로 READY 전이합니다. 썸네일이 올라오지 않았으면 썸네일 참조를 비우고 축소본은 삭제 큐에 기록합니다.
+     * 그 사이 다른 요청이 먼저 처리했다면 상태를 바꾸지 않습니다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Optional<Video> markDirectUploadReady(String videoId, int durationSec, boolean thumbnailUploaded) {
+        return videoRepository.findUncached(videoId)
+                .map(video -> {
+                    if (video.getStatus() != VideoStatus.UPLOADING) return video;
+
+                    if (!thumbnailUploaded && video.getThumbnailKey() != null) {
+                        objectDeletionQueue.enqueue(renditionKeys(video));
+                        video.updateThumbnail(null);
+                    }
+                    video.markReady(durationSec);
+                    return video;
+                });
+    }
+
+    /**
+     * 직접 업로드된 원본을 쓸 수 없으면 FAILED로 전이하고, 업로드된 원본/썸네일을 같은 트랜잭션에서 삭제 큐에 기록한 뒤 참조를 비웁니다.
+     * 그 사이 다른 요청이 먼저 처리했다면 상태를 바꾸지 않습니다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Optional<Video> markDirectUploadFailed(String videoId) {
+        return videoRepository.findUncached(videoId)
+                .map(video -> {
+                    if (video.getStatus() != VideoStatus.UPLOADING) return video;
+
+                    List<String> keys = new ArrayList<>();
+                    keys.add(video.getSourceKey());
+                    keys.add(video.getThumbnailKey());
+                    keys.addAll(renditionKeys(video));
+                    video.markFailed();
+                    video.detachObjects();
+                    objectDeletionQueue.enqueue(keys);
+                    return video;
+                });
+    }
+
+    private List<String> renditionKeys(Video video) {
+        return video.getThumbnailRenditions().stream()
+                .map(ImageRendition::getKey)
+                .toList();
+    }
+}
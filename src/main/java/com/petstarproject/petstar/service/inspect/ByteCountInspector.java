@@ -0,0 +1,18 @@
+package com.petstarproject.petstar.service.inspect;
+
+/**
+ * 실제로 전송된 byte 수를 셉니다.
+ */
+public class ByteCountInspector implements UploadInspector {
+
+    private long count;
+
+    @Override
+    public void update(byte[] b, int off, int len) {
+        count += len;
+    }
+
+    public long count() {
+        return count;
+    }
+}
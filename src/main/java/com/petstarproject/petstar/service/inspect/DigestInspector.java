@@ -0,0 +1,41 @@
+package com.petstarproject.petstar.service.inspect;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.zip.CRC32C;
+
+/**
+ * 전송된 byte의 CRC32C와 SHA-256을 함께 계산합니다.
+ */
+public class DigestInspector implements UploadInspector {
+
+    private final CRC32C crc32c = new CRC32C();
+    private final MessageDigest sha256;
+
+    public DigestInspector() {
+        try {
+            this.sha256 = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    @Override
+    public void update(byte[] b, int off, int len) {
+        crc32c.update(b, off, len);
+        sha256.update(b, off, len);
+    }
+
+    public long crc32c() {
+        return crc32c.getValue();
+    }
+
+    /**
+     * 다이제스트를 완료하므로 전송이 끝난 뒤 한 번만 호출합니다.
+     * @return 소문자 hex SHA-256
+     */
+    public String sha256Hex() {
+        return HexFormat.of().formatHex(sha256.digest());
+    }
+}
@@ -0,0 +1,74 @@
+package com.petstarproject.petstar.service.inspect;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * 읽은 byte를 등록된 {@link UploadInspector}들에게 함께 전달하는 tee 스트림입니다.
+ *
+ * <p>inspector가 같은 byte를 두 번 보지 않도록 mark/reset은 지원하지 않고,
+ * skip도 실제로 읽어서 inspector에게 전달합니다.</p>
+ */
+public class InspectingInputStream extends FilterInputStream {
+
+    private static final int SKIP_BUFFER_SIZE = 8192;
+
+    private final List<UploadInspector> inspectors;
+
+    public InspectingInputStream(InputStream in, List<UploadInspector> inspectors) {
+        super(in);
+        this.inspectors = List.copyOf(inspectors);
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = in.read();
+        if (b != -1) {
+            inspect(new byte[]{(byte) b}, 0, 1);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int n = in.read(b, off, len);
+        if (n > 0) {
+            inspect(b, off, n);
+        }
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        byte[] buffer = new byte[(int) Math.min(n, SKIP_BUFFER_SIZE)];
+        long skipped = 0;
+        while (skipped < n) {
+            int read = read(buffer, 0, (int) Math.min(buffer.length, n - skipped));
+            if (read == -1) break;
+            skipped += read;
+        }
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public synchronized void mark(int readlimit) {
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        throw new IOException("mark/reset not supported");
+    }
+
+    private void inspect(byte[] b, int off, int len) {
+        for (UploadInspector inspector : inspectors) {
+            inspector.update(b, off, len);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.petstarproject.petstar.service.inspect;
+
+/**
+ * 스토리지로 전송되는 byte를 같은 pass에서 함께 받아보는 inspector 입니다.
+ *
+ * <p>{@link InspectingInputStream}이 스트림에서 읽은 byte를 순서대로 전달하므로,
+ * 구현체는 전달받은 구간을 복사하지 않고 바로 처리해야 합니다. 예외를 던지면 업로드도 함께 실패합니다.</p>
+ */
+public interface UploadInspector {
+
+    /**
+     * @param b   읽은 byte 버퍼
+     * @param off 유효 구간 시작 위치
+     * @param len 유효 byte 수
+     */
+    void update(byte[] b, int off, int len);
+}
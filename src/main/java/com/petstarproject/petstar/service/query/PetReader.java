@@ -0,0 +1,46 @@
+package com.petstarproject.petstar.service.query;
+
+import com.petstarproject.petstar.dto.PetInfoResponse;
+import com.petstarproject.petstar.entity.Pet;
+import com.petstarproject.petstar.repository.LazyText;
+import com.petstarproject.petstar.repository.PetRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Pet 조회 API의 DB 조회를 읽기 전용 트랜잭션에서 처리합니다. ({@link VideoReader} 참고)
+ */
+@Component
+@Transactional(readOnly = true)
+public class PetReader {
+
+    private final PetRepository petRepository;
+
+    @Autowired
+    public PetReader(PetRepository petRepository) {
+        this.petRepository = petRepository;
+    }
+
+    public Optional<PetInfoResponse> findById(String petId) {
+        return petRepository.findById(petId).map(PetInfoResponse::from);
+    }
+
+    /**
+     * bio는 지연 로딩이라 한 번의 {@code IN} 쿼리로 함께 읽습니다.
+     */
+    public List<PetInfoResponse> findAllById(Collection<String> petIds) {
+        List<Pet> pets = petRepository.findAllById(petIds);
+        if (pets.isEmpty()) return List.of();
+
+        Map<String, String> bios = LazyText.toMap(petRepository.findBios(petIds));
+        return pets.stream()
+                .map(pet -> PetInfoResponse.from(pet, bios.get(pet.getId())))
+                .toList();
+    }
+}
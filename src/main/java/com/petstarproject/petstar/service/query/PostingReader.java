@@ -0,0 +1,58 @@
+package com.petstarproject.petstar.service.query;
+
+import com.petstarproject.petstar.dto.PostingResponse;
+import com.petstarproject.petstar.dto.PostingSummaryResponse;
+import com.petstarproject.petstar.entity.Posting;
+import com.petstarproject.petstar.enums.Visibility;
+import com.petstarproject.petstar.repository.LazyText;
+import com.petstarproject.petstar.repository.PostingRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 게시글 조회 API의 DB 조회를 읽기 전용 트랜잭션에서 처리합니다. ({@link VideoReader} 참고)
+ */
+@Component
+@Transactional(readOnly = true)
+public class PostingReader {
+
+    private final PostingRepository postingRepository;
+
+    @Autowired
+    public PostingReader(PostingRepository postingRepository) {
+        this.postingRepository = postingRepository;
+    }
+
+    public Optional<PostingResponse> findById(String postingId) {
+        return postingRepository.findById(postingId).map(PostingResponse::from);
+    }
+
+    /**
+     * content는 지연 로딩이라 한 번의 {@code IN} 쿼리로 함께 읽습니다.
+     */
+    public List<PostingResponse> findAllById(Collection<String> postingIds) {
+        List<Posting> postings = postingRepository.findAllById(postingIds);
+        if (postings.isEmpty()) return List.of();
+
+        Map<String, String> contents = LazyText.toMap(postingRepository.findContents(postingIds));
+        return postings.stream()
+                .map(posting -> PostingResponse.from(posting, contents.get(posting.getId())))
+                .toList();
+    }
+
+    /**
+     * @param limit 조회할 최대 행 수
+     */
+    public List<PostingSummaryResponse> findPage(String petId, String ownerId, Visibility visibility,
+                                                 LocalDateTime cursorCreatedAt, String cursorId, int limit) {
+        return postingRepository.findPage(petId, ownerId, visibility, cursorCreatedAt, cursorId, PageRequest.ofSize(limit));
+    }
+}
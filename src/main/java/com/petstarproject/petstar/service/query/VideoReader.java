@@ -0,0 +1,63 @@
+package com.petstarproject.petstar.service.query;
+
+import com.petstarproject.petstar.dto.VideoResponse;
+import com.petstarproject.petstar.dto.VideoSummaryResponse;
+import com.petstarproject.petstar.entity.Video;
+import com.petstarproject.petstar.enums.VideoStatus;
+import com.petstarproject.petstar.enums.Visibility;
+import com.petstarproject.petstar.repository.LazyText;
+import com.petstarproject.petstar.repository.VideoRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 동영상 조회 API의 DB 조회를 읽기 전용 트랜잭션에서 처리합니다.
+ *
+ * <p>읽기 전용 트랜잭션은 flush mode가 MANUAL이고 엔티티를 read-only로 읽어 dirty checking용 snapshot을 만들지 않으며,
+ * tags/썸네일 축소본 지연 로딩도 같은 트랜잭션 안에서 끝냅니다.
+ * snapshot 캐시에서 바로 응답할 때는 트랜잭션(커넥션)을 잡지 않도록 서비스와 분리한 컴포넌트입니다.</p>
+ */
+@Component
+@Transactional(readOnly = true)
+public class VideoReader {
+
+    private final VideoRepository videoRepository;
+
+    @Autowired
+    public VideoReader(VideoRepository videoRepository) {
+        this.videoRepository = videoRepository;
+    }
+
+    public Optional<VideoResponse> findById(String videoId) {
+        return videoRepository.findById(videoId).map(VideoResponse::from);
+    }
+
+    /**
+     * description은 지연 로딩이라 엔티티마다 따로 읽지 않도록 한 번의 {@code IN} 쿼리로 함께 읽습니다.
+     */
+    public List<VideoResponse> findAllById(Collection<String> videoIds) {
+        List<Video> videos = videoRepository.findAllById(videoIds);
+        if (videos.isEmpty()) return List.of();
+
+        Map<String, String> descriptions = LazyText.toMap(videoRepository.findDescriptions(videoIds));
+        return videos.stream()
+                .map(video -> VideoResponse.from(video, descriptions.get(video.getId())))
+                .toList();
+    }
+
+    /**
+     * @param limit 조회할 최대 행 수
+     */
+    public List<VideoSummaryResponse> findPage(String petId, String ownerId, Visibility visibility, VideoStatus status,
+                                               LocalDateTime cursorCreatedAt, String cursorId, int limit) {
+        return videoRepository.findPage(petId, ownerId, visibility, status, cursorCreatedAt, cursorId, PageRequest.ofSize(limit));
+    }
+}
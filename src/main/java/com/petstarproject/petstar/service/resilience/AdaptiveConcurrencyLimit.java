@@ -0,0 +1,119 @@
+package com.petstarproject.petstar.service.resilience;
+
+import java.util.Arrays;
+
+/**
+ * 관측한 응답 시간(RTT)에 따라 동시 호출 한도를 조절하는 AIMD limiter 입니다.
+ *
+ * <p>응답 시간이 기준(최근 window의 최소 RTT)의 {@code rttTolerance}배 이내이고 한도를 충분히 쓰고 있으면 한도를 천천히 늘리고
+ * (호출 {@code limit}번마다 약 1), 응답이 느려지거나 throttling/timeout이 나면 {@code backoffRatio}배로 줄입니다.
+ * 한도를 넘는 호출은 기다리지 않고 바로 거절합니다.</p>
+ *
+ * <p>작은 객체는 고정 지연이, 큰 객체는 전송 시간이 응답 시간의 대부분이라 크기로 정규화해도 같은 기준으로 비교할 수 없으므로,
+ * 기준 RTT는 호출자가 넘기는 크기 구간({@code sizeClass})마다 따로 관리합니다.</p>
+ */
+public class AdaptiveConcurrencyLimit {
+
+    public static final int MAX_SIZE_CLASSES = 48;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double rttTolerance;
+    private final double backoffRatio;
+    private final int rttWindow;
+
+    private double limit;
+    private int inFlight;
+    private final long[] baselineRttNanos = new long[MAX_SIZE_CLASSES];
+    private final long[] windowMinRttNanos = new long[MAX_SIZE_CLASSES];
+    private int windowSamples;
+
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit,
+                                    double rttTolerance, double backoffRatio, int rttWindow) {
+        this.minLimit = Math.max(minLimit, 1);
+        this.maxLimit = Math.max(maxLimit, this.minLimit);
+        this.limit = Math.min(Math.max(initialLimit, this.minLimit), this.maxLimit);
+        this.rttTolerance = rttTolerance;
+        this.backoffRatio = backoffRatio;
+        this.rttWindow = Math.max(rttWindow, 1);
+        Arrays.fill(baselineRttNanos, Long.MAX_VALUE);
+        Arrays.fill(windowMinRttNanos, Long.MAX_VALUE);
+    }
+
+    public synchronized boolean tryAcquire() {
+        if (inFlight >= (int) limit) return false;
+        inFlight++;
+        return true;
+    }
+
+    /**
+     * 크기 구간이 하나뿐인 호출의 응답 시간을 반영합니다.
+     */
+    public void onSuccess(long rttNanos) {
+        onSuccess(rttNanos, 0);
+    }
+
+    /**
+     * 호출이 성공했을 때 응답 시간을 같은 크기 구간의 기준 RTT와 비교해 반영합니다.
+     * @param rttNanos  크기로 정규화한 응답 시간
+     * @param sizeClass 크기 구간 (0 ~ {@link #MAX_SIZE_CLASSES} - 1, 벗어나면 가장 가까운 구간)
+     */
+    public synchronized void onSuccess(long rttNanos, int sizeClass) {
+        int inFlightAtCall = inFlight;
+        inFlight--;
+        int index = Math.min(Math.max(sizeClass, 0), MAX_SIZE_CLASSES - 1);
+        sample(rttNanos, index);
+
+        if (rttNanos > baselineRttNanos[index] * rttTolerance) {
+            decrease();
+        } else if (inFlightAtCall * 2 >= limit) {
+            // 한도를 절반 이상 쓰고 있을 때만 늘림 (호출이 적어서 빠른 것을 여유로 착각하지 않도록)
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+        }
+    }
+
+    /**
+     * throttling, timeout 등 스토리지가 버거워하는 신호로 실패했을 때 한도를 줄입니다.
+     */
+    public synchronized void onDropped() {
+        inFlight--;
+        decrease();
+    }
+
+    /**
+     * 스토리지 상태와 관계없는 실패(요청 오류 등)는 한도에 반영하지 않습니다.
+     */
+    public synchronized void onIgnored() {
+        inFlight--;
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    private void decrease() {
+        limit = Math.max(minLimit, limit * backoffRatio);
+    }
+
+    /**
+     * 기준 RTT는 window마다 그 구간의 최소값으로 다시 잡아서, 스토리지의 평상시 지연이 바뀌어도 따라갑니다.
+     * window 동안 호출이 없었던 크기 구간은 기존 기준을 유지합니다.
+     */
+    private void sample(long rttNanos, int index) {
+        if (baselineRttNanos[index] == Long.MAX_VALUE) baselineRttNanos[index] = rttNanos;
+
+        windowMinRttNanos[index] = Math.min(windowMinRttNanos[index], rttNanos);
+        baselineRttNanos[index] = Math.min(baselineRttNanos[index], rttNanos);
+        if (++windowSamples >= rttWindow) {
+            for (int i = 0; i < MAX_SIZE_CLASSES; i++) {
+                if (windowMinRttNanos[i] != Long.MAX_VALUE) baselineRttNanos[i] = windowMinRttNanos[i];
+            }
+            Arrays.fill(windowMinRttNanos, Long.MAX_VALUE);
+            windowSamples = 0;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.petstarproject.petstar.service.resilience;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 최근 {@code windowSize}번의 호출 중 실패 비율이 기준을 넘으면 호출을 막는 circuit breaker 입니다.
+ *
+ * <p>열린 뒤 {@code openNanos}가 지나면 {@code halfOpenCalls}개의 시험 호출만 보내고,
+ * 모두 성공하면 닫고 하나라도 실패하면 다시 엽니다.</p>
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        HALF_OPEN,
+        OPEN
+    }
+
+    private final double failureRateThreshold;
+    private final int minimumCalls;
+    private final long openNanos;
+    private final int halfOpenCalls;
+    private final LongSupplier clock;
+
+    private final boolean[] outcomes;   // true = 실패
+    private int index;
+    private int recorded;
+    private int failures;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenInFlight;
+    private int halfOpenSuccesses;
+
+    public CircuitBreaker(double failureRateThreshold, int windowSize, int minimumCalls,
+                          long openNanos, int halfOpenCalls, LongSupplier clock) {
+        this.failureRateThreshold = failureRateThreshold;
+        this.outcomes = new boolean[Math.max(windowSize, 1)];
+        this.minimumCalls = Math.max(minimumCalls, 1);
+        this.openNanos = openNanos;
+        this.halfOpenCalls = Math.max(halfOpenCalls, 1);
+        this.clock = clock;
+    }
+
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (clock.getAsLong() - openedAt < openNanos) return false;
+
+            state = State.HALF_OPEN;
+            halfOpenInFlight = 0;
+            halfOpenSuccesses = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenInFlight >= halfOpenCalls) return false;
+            halfOpenInFlight++;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            halfOpenInFlight = Math.max(halfOpenInFlight - 1, 0);
+            if (++halfOpenSuccesses >= halfOpenCalls) close();
+        } else if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+        } else if (state == State.CLOSED) {
+            record(true);
+            if (recorded >= minimumCalls && failures >= failureRateThreshold * recorded) open();
+        }
+    }
+
+    /**
+     * 스토리지 상태와 관계없는 실패나 호출 전 거절은 집계하지 않고 시험 호출 자리만 반납합니다.
+     */
+    public synchronized void onIgnored() {
+        if (state == State.HALF_OPEN) {
+            halfOpenInFlight = Math.max(halfOpenInFlight - 1, 0);
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    private void record(boolean failure) {
+        if (recorded == outcomes.length) {
+            if (outcomes[index]) failures--;
+        } else {
+            recorded++;
+        }
+        outcomes[index] = failure;
+        if (failure) failures++;
+        index = (index + 1) % outcomes.length;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = clock.getAsLong();
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        index = 0;
+        recorded = 0;
+        failures = 0;
+    }
+}
@@ -0,0 +1,189 @@
+package com.petstarproject.petstar.service.resilience;
+
+import com.petstarproject.petstar.enums.StorageOperation;
+import com.petstarproject.petstar.exception.StorageOverloadedException;
+import com.petstarproject.petstar.exception.StorageThrottledException;
+import com.petstarproject.petstar.exception.StorageUnavailableException;
+import com.petstarproject.petstar.service.FileStorageService;
+import com.petstarproject.petstar.service.StoredObject;
+import com.petstarproject.petstar.service.StoredObjectSummary;
+import com.petstarproject.petstar.service.inspect.UploadInspector;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.InputStream;
+import java.nio.channels.WritableByteChannel;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * 스토리지의 upload/delete/deleteAll 호출을 호출 종류별 {@link AdaptiveConcurrencyLimit}와 {@link CircuitBreaker}로 감싸는 계층입니다.
+ *
+ * <p>스토리지가 느려지면 동시 호출 한도가 줄어 요청 스레드가 S3 응답을 기다리며 쌓이지 않고 {@link StorageOverloadedException}으로 바로 실패하고,
+ * 장애가 이어지면 circuit이 열려 {@link StorageUnavailableException}으로 바로 실패합니다.
+ * throttling/장애({@link StorageThrottledException}, {@link StorageUnavailableException})만 한도와 circuit에 반영하고,
+ * 요청 오류처럼 스토리지 상태와 관계없는 실패는 반영하지 않습니다.</p>
+ *
+ * <p>업로드와 일괄 삭제의 응답 시간은 고정 지연에 크기만큼의 전송 시간이 더해진다고 보고 {@code 1 + 크기 / 단위}(업로드 1MB, 일괄 삭제 key 100개)로 나눈 뒤,
+ * 크기가 두 배씩 늘어나는 구간마다 따로 기준과 비교합니다. 따라서 작은 업로드가 큰 업로드 기준으로 느려 보여 한도가 줄지 않습니다.
+ * 읽기 호출은 그대로 위임합니다.</p>
+ */
+@Slf4j
+public class ResilientFileStorageService implements FileStorageService {
+
+    private static final long UPLOAD_UNIT_BYTES = 1024 * 1024;
+    private static final int DELETE_BATCH_UNIT_KEYS = 100;
+    private static final int SIZE_CLASSES_PER_UNIT = 16;    // 단위의 1/16 이하는 한 구간 (고정 지연이 대부분인 작은 호출)
+
+    private final FileStorageService delegate;
+    private final Map<StorageOperation, AdaptiveConcurrencyLimit> limits;
+    private final Map<StorageOperation, CircuitBreaker> breakers;
+    private final MeterRegistry meterRegistry;
+    private final LongSupplier nanoClock;
+
+    public ResilientFileStorageService(FileStorageService delegate,
+                                       Map<StorageOperation, AdaptiveConcurrencyLimit> limits,
+                                       Map<StorageOperation, CircuitBreaker> breakers,
+                                       MeterRegistry meterRegistry) {
+        this(delegate, limits, breakers, meterRegistry, System::nanoTime);
+    }
+
+    public ResilientFileStorageService(FileStorageService delegate,
+                                       Map<StorageOperation, AdaptiveConcurrencyLimit> limits,
+                                       Map<StorageOperation, CircuitBreaker> breakers,
+                                       MeterRegistry meterRegistry,
+                                       LongSupplier nanoClock) {
+        this.delegate = delegate;
+        this.limits = limits;
+        this.breakers = breakers;
+        this.meterRegistry = meterRegistry;
+        this.nanoClock = nanoClock;
+
+        for (StorageOperation operation : StorageOperation.values()) {
+            String tag = operation.name().toLowerCase();
+            Gauge.builder("storage.concurrency.limit", limits.get(operation), AdaptiveConcurrencyLimit::getLimit)
+                    .tag("operation", tag)
+                    .register(meterRegistry);
+            Gauge.builder("storage.concurrency.inflight", limits.get(operation), AdaptiveConcurrencyLimit::getInFlight)
+                    .tag("operation", tag)
+                    .register(meterRegistry);
+            Gauge.builder("storage.circuit.state", breakers.get(operation), breaker -> breaker.getState().ordinal())
+                    .tag("operation", tag)
+                    .description("0=CLOSED, 1=HALF_OPEN, 2=OPEN")
+                    .register(meterRegistry);
+        }
+    }
+
+    @Override
+    public String upload(MultipartFile file, String key) {
+        return call(StorageOperation.UPLOAD, file.getSize(), UPLOAD_UNIT_BYTES, () -> delegate.upload(file, key));
+    }
+
+    @Override
+    public String upload(InputStream in, long size, String contentType, String key) {
+        return call(StorageOperation.UPLOAD, size, UPLOAD_UNIT_BYTES, () -> delegate.upload(in, size, contentType, key));
+    }
+
+    @Override
+    public String upload(InputStream in, long size, String contentType, String key, List<UploadInspector> inspectors) {
+        return call(StorageOperation.UPLOAD, size, UPLOAD_UNIT_BYTES, () -> delegate.upload(in, size, contentType, key, inspectors));
+    }
+
+    @Override
+    public void delete(String key) {
+        call(StorageOperation.DELETE, 1, 1, () -> {
+            delegate.delete(key);
+            return null;
+        });
+    }
+
+    @Override
+    public List<String> deleteAll(List<String> keys) {
+        if (keys == null || keys.isEmpty()) return List.of();
+        return call(StorageOperation.DELETE_BATCH, keys.size(), DELETE_BATCH_UNIT_KEYS, () -> delegate.deleteAll(keys));
+    }
+
+    @Override
+    public Stream<StoredObjectSummary> listObjects(String prefix) {
+        return delegate.listObjects(prefix);
+    }
+
+    @Override
+    public Optional<StoredObject> stat(String key) {
+        return delegate.stat(key);
+    }
+
+    @Override
+    public InputStream openRange(String key, long offset, long length) {
+        return delegate.openRange(key, offset, length);
+    }
+
+    @Override
+    public long transferTo(String key, long offset, long length, WritableByteChannel target) {
+        return delegate.transferTo(key, offset, length, target);
+    }
+
+    @Override
+    public boolean supportsDirectTransfer() {
+        return delegate.supportsDirectTransfer();
+    }
+
+    @Override
+    public String createUploadUrl(String key, String contentType, long contentLength, Duration ttl) {
+        return delegate.createUploadUrl(key, contentType, contentLength, ttl);
+    }
+
+    private <T> T call(StorageOperation operation, long amount, long unit, Supplier<T> action) {
+        CircuitBreaker breaker = breakers.get(operation);
+        if (!breaker.tryAcquire()) {
+            reject(operation, "circuit_open");
+            throw new StorageUnavailableException("스토리지 호출이 일시적으로 차단되었습니다. operation=" + operation);
+        }
+
+        AdaptiveConcurrencyLimit limit = limits.get(operation);
+        if (!limit.tryAcquire()) {
+            breaker.onIgnored();
+            reject(operation, "limit");
+            throw new StorageOverloadedException("스토리지 동시 호출 한도를 넘었습니다. operation=" + operation + ", limit=" + limit.getLimit());
+        }
+
+        long start = nanoClock.getAsLong();
+        boolean recorded = false;
+        try {
+            T result = action.get();
+            long elapsed = nanoClock.getAsLong() - start;
+            limit.onSuccess((long) (elapsed / (1 + (double) amount / unit)), sizeClass(amount, unit));
+            breaker.onSuccess();
+            recorded = true;
+            return result;
+        } catch (StorageThrottledException | StorageUnavailableException e) {
+            log.warn("스토리지 호출 실패: operation={}, limit={}", operation, limit.getLimit());
+            limit.onDropped();
+            breaker.onFailure();
+            recorded = true;
+            throw e;
+        } finally {
+            if (!recorded) {
+                limit.onIgnored();
+                breaker.onIgnored();
+            }
+        }
+    }
+
+    private void reject(StorageOperation operation, String reason) {
+        meterRegistry.counter("storage.calls.rejected", "operation", operation.name().toLowerCase(), "reason", reason)
+                .increment();
+    }
+
+    private static int sizeClass(long amount, long unit) {
+        long scaled = Math.max(1, amount * SIZE_CLASSES_PER_UNIT / unit);
+        return 63 - Long.numberOfLeadingZeros(scaled);
+    }
+}
@@ -0,0 +1,135 @@
+package com.petstarproject.petstar.service.transcode;
+
+import com.petstarproject.petstar.exception.TranscodeFailedException;
+import com.petstarproject.petstar.service.FileStorageService;
+import com.petstarproject.petstar.service.StoredObject;
+import com.petstarproject.petstar.service.hls.HlsPackage;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 원본을 작업 디렉토리로 내려받아 HLS 파일을 만들고 {@code videos/{id}/hls/} 아래에 올리는 공통 흐름입니다.
+ * 구현체는 {@link #produce}에서 실제 변환만 담당합니다.
+ */
+@Slf4j
+public abstract class AbstractHlsTranscoder implements Transcoder {
+
+    protected final FileStorageService fileStorageService;
+    private final Path workDir;
+
+    protected AbstractHlsTranscoder(FileStorageService fileStorageService, String workDir) {
+        this.fileStorageService = fileStorageService;
+        this.workDir = Paths.get(workDir);
+    }
+
+    /**
+     * @param source 로컬로 내려받은 원본 파일
+     * @param outDir 결과를 쓸 디렉토리
+     */
+    protected abstract HlsPackage produce(Path source, Path outDir);
+
+    @Override
+    public String transcode(String videoId, String sourceKey) {
+        Path dir = null;
+        try {
+            Files.createDirectories(workDir);
+            dir = Files.createTempDirectory(workDir, videoId + "-");
+
+            Path source = download(sourceKey, dir.resolve("source"));
+            HlsPackage hls = produce(source, dir.resolve("hls"));
+            return publish(videoId, hls);
+
+        } catch (IOException e) {
+            throw new TranscodeFailedException("트랜스코딩 작업 디렉토리를 준비하는 중 오류가 발생했습니다.", e);
+        } finally {
+            deleteDirectoryQuietly(dir);
+        }
+    }
+
+    private Path download(String sourceKey, Path target) throws IOException {
+        StoredObject source = fileStorageService.stat(sourceKey)
+                .orElseThrow(() -> new TranscodeFailedException("원본 영상을 찾을 수 없습니다: " + sourceKey));
+
+        try (FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            fileStorageService.transferTo(sourceKey, 0, source.size(), channel);
+        }
+        return target;
+    }
+
+    /**
+     * init segment와 media segment를 먼저 올리고 playlist를 마지막에 올려 불완전한 playlist가 노출되지 않게 합니다.
+     * 도중에 실패하면 이미 올린 key를 정리합니다.
+     */
+    private String publish(String videoId, HlsPackage hls) {
+        String prefix = "videos/" + videoId + "/hls/";
+        List<String> uploadedKeys = new ArrayList<>();
+
+        try {
+            List<Path> files = new ArrayList<>();
+            files.add(hls.initSegment());
+            files.addAll(hls.segments());
+            files.add(hls.playlist());
+
+            for (Path file : files) {
+                String key = prefix + file.getFileName();
+                upload(file, key);
+                uploadedKeys.add(key);
+            }
+            return prefix + hls.playlist().getFileName();
+
+        } catch (IOException | RuntimeException e) {
+            deleteQuietly(videoId, uploadedKeys);
+            throw new TranscodeFailedException("HLS 파일 업로드 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    private void upload(Path file, String key) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            fileStorageService.upload(in, Files.size(file), contentTypeOf(file), key);
+        }
+    }
+
+    private String contentTypeOf(Path file) {
+        String name = file.getFileName().toString();
+        if (name.endsWith(".m3u8")) return "application/vnd.apple.mpegurl";
+        if (name.endsWith(".m4s")) return "video/iso.segment";
+        return "video/mp4";
+    }
+
+    private void deleteQuietly(String videoId, List<String> keys) {
+        if (keys.isEmpty()) return;
+
+        try {
+            fileStorageService.deleteAll(keys);
+        } catch (Exception e) {
+            log.warn("HLS 파일 정리 실패: videoId={}, keys={}", videoId, keys, e);
+        }
+    }
+
+    private void deleteDirectoryQuietly(Path dir) {
+        if (dir == null) return;
+
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> {
+                try {
+                    Files.deleteIfExists(path);
+                } catch (IOException e) {
+                    log.warn("트랜스코딩 임시 파일 삭제 실패: {}", path, e);
+                }
+            });
+        } catch (IOException e) {
+            log.warn("트랜스코딩 임시 디렉토리 삭제 실패: {}", dir, e);
+        }
+    }
+}
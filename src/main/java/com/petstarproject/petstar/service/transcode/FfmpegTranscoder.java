@@ -0,0 +1,111 @@
+package com.petstarproject.petstar.service.transcode;
+
+import com.petstarproject.petstar.exception.TranscodeFailedException;
+import com.petstarproject.petstar.service.FileStorageService;
+import com.petstarproject.petstar.service.hls.HlsPackage;
+import com.petstarproject.petstar.service.hls.HlsPackager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 외부 ffmpeg 프로세스로 H.264/AAC 재인코딩 후 fMP4/HLS를 만드는 구현체입니다.
+ * 서버에 ffmpeg가 설치되어 있어야 하며 {@code video.transcode.adapter=ffmpeg}일 때만 사용합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "video.transcode.adapter", havingValue = "ffmpeg")
+public class FfmpegTranscoder extends AbstractHlsTranscoder {
+
+    private final String ffmpegPath;
+    private final String preset;
+    private final String segmentSeconds;
+    private final long timeoutSeconds;
+
+    public FfmpegTranscoder(FileStorageService fileStorageService,
+                            @Value("${video.transcode.work-dir:${java.io.tmpdir}/petstar-transcode}") String workDir,
+                            @Value("${video.transcode.ffmpeg.path:ffmpeg}") String ffmpegPath,
+                            @Value("${video.transcode.ffmpeg.preset:veryfast}") String preset,
+                            @Value("${video.hls.segment-seconds:6}") String segmentSeconds,
+                            @Value("${video.transcode.ffmpeg.timeout-seconds:1800}") long timeoutSeconds) {
+        super(fileStorageService, workDir);
+        this.ffmpegPath = ffmpegPath;
+        this.preset = preset;
+        this.segmentSeconds = segmentSeconds;
+        this.timeoutSeconds = timeoutSeconds;
+    }
+
+    @Override
+    protected HlsPackage produce(Path source, Path outDir) {
+        Path log = outDir.resolveSibling("ffmpeg.log");
+        try {
+            Files.createDirectories(outDir);
+
+            Process process = new ProcessBuilder(command(source, outDir))
+                    .redirectErrorStream(true)
+                    .redirectOutput(log.toFile())
+                    .start();
+
+            if (!process.waitFor(timeoutSeconds, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+                throw new TranscodeFailedException("ffmpeg 실행 시간이 초과되었습니다. timeout=" + timeoutSeconds + "s");
+            }
+            if (process.exitValue() != 0) {
+                throw new TranscodeFailedException("ffmpeg 실행 실패. exitCode=" + process.exitValue() + ", log=" + tail(log));
+            }
+
+            return collect(outDir);
+
+        } catch (IOException e) {
+            throw new TranscodeFailedException("ffmpeg 실행 중 오류가 발생했습니다.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TranscodeFailedException("ffmpeg 실행이 중단되었습니다.", e);
+        }
+    }
+
+    private List<String> command(Path source, Path outDir) {
+        return List.of(
+                ffmpegPath, "-hide_banner", "-nostdin", "-y",
+                "-i", source.toString(),
+                "-map", "0:v:0", "-map", "0:a:0?",
+                "-c:v", "libx264", "-preset", preset, "-pix_fmt", "yuv420p",
+                "-c:a", "aac", "-b:a", "128k",
+                "-f", "hls",
+                "-hls_time", segmentSeconds,
+                "-hls_playlist_type", "vod",
+                "-hls_segment_type", "fmp4",
+                "-hls_fmp4_init_filename", HlsPackager.INIT_SEGMENT_FILE,
+                "-hls_segment_filename", outDir.resolve("segment_%05d.m4s").toString(),
+                outDir.resolve(HlsPackager.PLAYLIST_FILE).toString()
+        );
+    }
+
+    private HlsPackage collect(Path outDir) throws IOException {
+        try (Stream<Path> files = Files.list(outDir)) {
+            List<Path> segments = files
+                    .filter(path -> path.getFileName().toString().endsWith(".m4s"))
+                    .sorted()
+                    .toList();
+            return new HlsPackage(
+                    outDir.resolve(HlsPackager.PLAYLIST_FILE),
+                    outDir.resolve(HlsPackager.INIT_SEGMENT_FILE),
+                    segments);
+        }
+    }
+
+    private String tail(Path log) {
+        try {
+            String content = Files.readString(log);
+            return content.length() <= 300 ? content : content.substring(content.length() - 300);
+        } catch (IOException e) {
+            return "";
+        }
+    }
+}
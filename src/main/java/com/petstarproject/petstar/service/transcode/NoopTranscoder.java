@@ -0,0 +1,17 @@
+package com.petstarproject.petstar.service.transcode;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 아무 변환도 하지 않는 로컬 테스트용 구현체입니다. 동영상은 원본 재생만 가능한 상태로 READY가 됩니다.
+ */
+@Component
+@ConditionalOnProperty(name = "video.transcode.adapter", havingValue = "noop")
+public class NoopTranscoder implements Transcoder {
+
+    @Override
+    public String transcode(String videoId, String sourceKey) {
+        return null;
+    }
+}
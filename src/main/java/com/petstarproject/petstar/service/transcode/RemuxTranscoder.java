@@ -0,0 +1,33 @@
+package com.petstarproject.petstar.service.transcode;
+
+import com.petstarproject.petstar.service.FileStorageService;
+import com.petstarproject.petstar.service.hls.HlsPackage;
+import com.petstarproject.petstar.service.hls.HlsPackager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+/**
+ * 재인코딩 없이 {@link HlsPackager}로 fMP4/HLS remux만 하는 기본 구현체입니다.
+ * 외부 프로그램이 필요 없어 로컬 환경에서도 그대로 동작합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "video.transcode.adapter", havingValue = "remux", matchIfMissing = true)
+public class RemuxTranscoder extends AbstractHlsTranscoder {
+
+    private final HlsPackager hlsPackager;
+
+    public RemuxTranscoder(FileStorageService fileStorageService,
+                           HlsPackager hlsPackager,
+                           @Value("${video.transcode.work-dir:${java.io.tmpdir}/petstar-transcode}") String workDir) {
+        super(fileStorageService, workDir);
+        this.hlsPackager = hlsPackager;
+    }
+
+    @Override
+    protected HlsPackage produce(Path source, Path outDir) {
+        return hlsPackager.pack(source, outDir);
+    }
+}
@@ -0,0 +1,156 @@
+package com.petstarproject.petstar.service.transcode;
+
+import com.petstarproject.petstar.entity.TranscodeJob;
+import com.petstarproject.petstar.enums.TranscodeJobStatus;
+import com.petstarproject.petstar.enums.TranscodeLane;
+import com.petstarproject.petstar.exception.VideoIngestRejectedException;
+import com.petstarproject.petstar.repository.TranscodeJobRepository;
+import com.petstarproject.petstar.repository.VideoRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * {@code transcode_jobs} 테이블 기반의 트랜스코딩 작업 큐입니다.
+ *
+ * <p>작업은 영상 길이에 따라 lane을 나눠 짧은 클립을 먼저 처리합니다.
+ * lease는 {@code FOR UPDATE SKIP LOCKED}로 가져오므로 여러 노드의 worker가 같은 작업을 중복으로 잡지 않으며,
+ * lease가 만료된 작업은 다시 lease 됩니다. 실패한 작업은 {@code video.transcode.max-attempts}까지 backoff 후 재시도합니다.</p>
+ *
+ * <p>트랜스코딩이 최종 실패해도 원본은 스토리지에 남아 있으므로 동영상은 HLS 없이 READY로 전이합니다.</p>
+ */
+@Slf4j
+@Service
+public class TranscodeJobService {
+
+    private static final List<TranscodeJobStatus> PENDING_STATUSES =
+            List.of(TranscodeJobStatus.QUEUED, TranscodeJobStatus.RUNNING);
+
+    private final TranscodeJobRepository transcodeJobRepository;
+    private final VideoRepository videoRepository;
+    private final boolean enabled;
+    private final int queueCapacity;
+    private final int shortClipSec;
+    private final int maxAttempts;
+    private final long leaseSeconds;
+    private final long retryBackoffSeconds;
+
+    public TranscodeJobService(TranscodeJobRepository transcodeJobRepository,
+                               VideoRepository videoRepository,
+                               @Value("${video.transcode.enabled:true}") boolean enabled,
+                               @Value("${video.transcode.queue-capacity:1000}") int queueCapacity,
+                               @Value("${video.transcode.short-clip-sec:60}") int shortClipSec,
+                               @Value("${video.transcode.max-attempts:3}") int maxAttempts,
+                               @Value("${video.transcode.lease-seconds:1800}") long leaseSeconds,
+                               @Value("${video.transcode.retry-backoff-seconds:30}") long retryBackoffSeconds) {
+        this.transcodeJobRepository = transcodeJobRepository;
+        this.videoRepository = videoRepository;
+        this.enabled = enabled;
+        this.queueCapacity = queueCapacity;
+        this.shortClipSec = shortClipSec;
+        this.maxAttempts = Math.max(maxAttempts, 1);
+        this.leaseSeconds = leaseSeconds;
+        this.retryBackoffSeconds = retryBackoffSeconds;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 처리 대기 중인 작업이 너무 많으면 업로드를 받기 전에 거절합니다.
+     * @throws VideoIngestRejectedException 큐가 가득 찬 경우
+     */
+    public void checkCapacity() {
+        if (enabled && transcodeJobRepository.countByStatusIn(PENDING_STATUSES) >= queueCapacity) {
+            throw new VideoIngestRejectedException("Video transcode queue is full");
+        }
+    }
+
+    /**
+     * 동영상을 TRANSCODING으로 전이하고 작업을 큐에 넣습니다. 처리 도중 동영상이 삭제되었다면 아무것도 하지 않습니다.
+     * @param durationSec 원본 영상 길이(초), lane 결정에 사용
+     */
+    @Transactional
+    public void enqueue(String videoId, String sourceKey, int durationSec) {
+        videoRepository.findUncached(videoId).ifPresent(video -> {
+            video.markTranscoding(durationSec);
+
+            TranscodeLane lane = durationSec <= shortClipSec ? TranscodeLane.SHORT : TranscodeLane.LONG;
+            transcodeJobRepository.save(TranscodeJob.create(UUID.randomUUID().toString(), videoId, sourceKey, lane));
+        });
+    }
+
+    /**
+     * lane 우선순위 순서로 최대 {@code limit}개의 작업을 lease 합니다.
+     * lease가 만료된 작업이 이미 재시도 횟수를 다 썼다면 lease 하지 않고 실패 처리합니다.
+     */
+    @Transactional
+    public List<TranscodeJob> lease(String owner, int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<TranscodeJob> leased = new ArrayList<>();
+
+        for (TranscodeLane lane : TranscodeLane.values()) {
+            int remaining = limit - leased.size();
+            if (remaining <= 0) break;
+
+            for (TranscodeJob job : transcodeJobRepository.findLeasableForUpdate(lane.name(), now, remaining)) {
+                if (job.getAttempts() >= maxAttempts) {
+                    giveUp(job, "lease expired after " + job.getAttempts() + " attempts");
+                    continue;
+                }
+                job.lease(owner, now.plusSeconds(leaseSeconds));
+                leased.add(job);
+            }
+        }
+        return leased;
+    }
+
+    /**
+     * lease 한 작업을 실행하지 못했을 때(executor 거절 등) lease 만료를 기다리지 않고 바로 대기 상태로 돌려놓습니다.
+     */
+    @Transactional
+    public void release(String jobId, String owner) {
+        transcodeJobRepository.findById(jobId)
+                .filter(job -> job.isLeasedBy(owner))
+                .ifPresent(TranscodeJob::unlease);
+    }
+
+    @Transactional
+    public void complete(String jobId, String owner, String hlsPlaylistKey) {
+        transcodeJobRepository.findById(jobId)
+                .filter(job -> job.isLeasedBy(owner))
+                .ifPresent(job -> {
+                    job.succeed();
+                    videoRepository.findUncached(job.getVideoId())
+                            .ifPresent(video -> video.markPackaged(hlsPlaylistKey));
+                });
+    }
+
+    @Transactional
+    public void fail(String jobId, String owner, String error) {
+        transcodeJobRepository.findById(jobId)
+                .filter(job -> job.isLeasedBy(owner))
+                .ifPresent(job -> {
+                    if (job.getAttempts() < maxAttempts) {
+                        job.retry(LocalDateTime.now().plusSeconds(retryBackoffSeconds * job.getAttempts()), error);
+                    } else {
+                        giveUp(job, error);
+                    }
+                });
+    }
+
+    private void giveUp(TranscodeJob job, String error) {
+        log.error("트랜스코딩 최종 실패, 원본만으로 READY 처리: videoId={}, attempts={}, error={}",
+                job.getVideoId(), job.getAttempts(), error);
+        job.fail(error);
+        videoRepository.findUncached(job.getVideoId())
+                .ifPresent(video -> video.markReady(video.getDurationSec()));
+    }
+}
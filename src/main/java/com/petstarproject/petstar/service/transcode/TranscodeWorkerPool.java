@@ -0,0 +1,76 @@
+package com.petstarproject.petstar.service.transcode;
+
+import com.petstarproject.petstar.entity.TranscodeJob;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * {@code transcode_jobs} 큐를 주기적으로 polling 해서 빈 worker 수만큼만 작업을 lease 하고 실행합니다.
+ * executor는 대기 큐가 없으므로 쉬고 있는 스레드 수도 넘지 않게 lease 하고, 그래도 거절되면 작업을 바로 대기 상태로 돌려놓습니다.
+ * 업로드가 몰려도 작업은 테이블에 쌓이고, 노드당 {@code video.transcode.worker-count}개씩만 처리됩니다.
+ */
+@Slf4j
+@Component
+public class TranscodeWorkerPool {
+
+    private final TranscodeJobService transcodeJobService;
+    private final Transcoder transcoder;
+    private final ThreadPoolTaskExecutor transcodeExecutor;
+    private final Semaphore slots;
+    private final String workerId = "transcode-" + UUID.randomUUID();
+
+    public TranscodeWorkerPool(TranscodeJobService transcodeJobService,
+                               Transcoder transcoder,
+                               @Qualifier("transcodeExecutor") ThreadPoolTaskExecutor transcodeExecutor,
+                               @Value("${video.transcode.worker-count:2}") int workerCount) {
+        this.transcodeJobService = transcodeJobService;
+        this.transcoder = transcoder;
+        this.transcodeExecutor = transcodeExecutor;
+        this.slots = new Semaphore(Math.max(workerCount, 1));
+    }
+
+    @Scheduled(fixedDelayString = "${video.transcode.poll-interval-ms:2000}")
+    public void poll() {
+        if (!transcodeJobService.isEnabled()) return;
+
+        // 작업이 끝나 slot을 반납한 스레드가 아직 pool로 돌아가지 않았을 수 있음
+        int idleThreads = transcodeExecutor.getMaxPoolSize() - transcodeExecutor.getActiveCount();
+        int free = Math.min(slots.availablePermits(), idleThreads);
+        if (free <= 0) return;
+
+        List<TranscodeJob> jobs = transcodeJobService.lease(workerId, free);
+        for (TranscodeJob job : jobs) {
+            slots.acquireUninterruptibly();
+            try {
+                transcodeExecutor.execute(() -> run(job));
+            } catch (RejectedExecutionException e) {
+                slots.release();
+                log.warn("트랜스코딩 작업 실행 거절, 대기 상태로 되돌림: jobId={}", job.getId(), e);
+                transcodeJobService.release(job.getId(), workerId);
+            }
+        }
+    }
+
+    private void run(TranscodeJob job) {
+        try {
+            String playlistKey = transcoder.transcode(job.getVideoId(), job.getSourceKey());
+            transcodeJobService.complete(job.getId(), workerId, playlistKey);
+            log.info("트랜스코딩 완료: videoId={}, lane={}, attempt={}", job.getVideoId(), job.getLane(), job.getAttempts());
+
+        } catch (RuntimeException e) {
+            log.warn("트랜스코딩 실패: videoId={}, attempt={}", job.getVideoId(), job.getAttempts(), e);
+            transcodeJobService.fail(job.getId(), workerId, e.getMessage());
+        } finally {
+            slots.release();
+        }
+    }
+}
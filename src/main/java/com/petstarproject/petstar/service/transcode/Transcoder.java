@@ -0,0 +1,16 @@
+package com.petstarproject.petstar.service.transcode;
+
+/**
+ * 스토리지에 올라간 원본 영상을 재생용 형식으로 변환하는 adapter 입니다.
+ * 구현체는 {@code video.transcode.adapter}(remux, ffmpeg, noop)로 선택합니다.
+ */
+public interface Transcoder {
+
+    /**
+     * @param videoId   동영상 ID
+     * @param sourceKey 원본 영상 key
+     * @return 업로드한 HLS playlist key, 재생용 파일을 만들지 않으면 null
+     * @throws com.petstarproject.petstar.exception.TranscodeFailedException 변환에 실패한 경우
+     */
+    String transcode(String videoId, String sourceKey);
+}
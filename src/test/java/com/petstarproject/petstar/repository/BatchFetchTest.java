@@ -0,0 +1,67 @@
+package com.petstarproject.petstar.repository;
+
+import com.petstarproject.petstar.dto.VideoResponse;
+import com.petstarproject.petstar.entity.Video;
+import com.petstarproject.petstar.enums.Visibility;
+import com.petstarproject.petstar.service.query.VideoReader;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 여러 건 조회 시 엔티티마다 컬렉션과 지연 로딩 컬럼을 따로 읽지 않고(N+1) 묶어서 읽는지 확인합니다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(VideoReader.class)
+class BatchFetchTest {
+
+    @Autowired
+    private VideoRepository videoRepository;
+
+    @Autowired
+    private VideoReader videoReader;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("Video 30건과 tags/썸네일 축소본/description을 id 수와 관계없이 쿼리 4번으로 읽는다")
+    void videos_withCollections() {
+        // given
+        List<String> ids = IntStream.range(0, 30).mapToObj(i -> "v" + i).toList();
+        videoRepository.saveAll(ids.stream()
+                .map(id -> Video.create(id, "pet", "owner", "title", "description", Visibility.PUBLIC,
+                        "sourceKey", null, 10, List.of("dog", "walk")))
+                .toList());
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        List<VideoResponse> videos = videoReader.findAllById(ids);
+
+        // then
+        assertThat(videos).hasSize(30);
+        assertThat(videos).allSatisfy(video -> {
+            assertThat(video.getTags()).containsExactly("dog", "walk");
+            assertThat(video.getDescription()).isEqualTo("description");
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4); // videos + video_tags + video_thumbnail_renditions + description
+    }
+}
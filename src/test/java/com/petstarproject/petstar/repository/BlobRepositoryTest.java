@@ -0,0 +1,43 @@
+package com.petstarproject.petstar.repository;
+
+import com.petstarproject.petstar.entity.Blob;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link BlobRepository#insertIfAbsent}는 MySQL 전용 {@code insert ignore}를 사용하므로 H2의 MySQL 호환 모드로 확인합니다.
+ */
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:blobs;MODE=MySQL;DATABASE_TO_LOWER=TRUE")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class BlobRepositoryTest {
+
+    @Autowired
+    private BlobRepository blobRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("같은 hash가 이미 있으면 추가하지 않고 0을 반환하며 기존 row를 바꾸지 않는다")
+    void insertIfAbsent_duplicate() {
+        // when
+        int first = blobRepository.insertIfAbsent("hash", "posts/p1/images/a", 10, "image/png", LocalDateTime.now());
+        int second = blobRepository.insertIfAbsent("hash", "posts/p2/images/b", 10, "image/png", LocalDateTime.now());
+        entityManager.clear();
+
+        // then
+        Blob blob = blobRepository.findById("hash").orElseThrow();
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isZero();
+        assertThat(blob.getStorageKey()).isEqualTo("posts/p1/images/a");
+        assertThat(blob.getRefCount()).isEqualTo(1);
+    }
+}
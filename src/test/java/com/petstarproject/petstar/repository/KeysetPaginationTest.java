@@ -0,0 +1,91 @@
+package com.petstarproject.petstar.repository;
+
+import com.petstarproject.petstar.dto.PostingSummaryResponse;
+import com.petstarproject.petstar.dto.VideoSummaryResponse;
+import com.petstarproject.petstar.entity.Posting;
+import com.petstarproject.petstar.entity.Video;
+import com.petstarproject.petstar.enums.Visibility;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class KeysetPaginationTest {
+
+    @Autowired
+    private VideoRepository videoRepository;
+
+    @Autowired
+    private PostingRepository postingRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("cursor로 끝까지 넘기면 조건에 맞는 동영상을 최신순으로 빠짐없이, 중복 없이 한 번씩 조회한다")
+    void videos_pageThrough() {
+        // given
+        List<Video> videos = IntStream.range(0, 7)
+                .mapToObj(i -> Video.create("v" + i, i % 3 == 0 ? "other" : "pet", "owner", "title", "description",
+                        i == 4 ? Visibility.PRIVATE : Visibility.PUBLIC, "sourceKey", null, 0, List.of()))
+                .toList();
+        videoRepository.saveAll(videos);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<String> expected = videoRepository.findAll().stream()
+                .filter(video -> video.getPetId().equals("pet") && video.getVisibility() == Visibility.PUBLIC)
+                .sorted(Comparator.comparing(Video::getCreatedAt).thenComparing(Video::getId).reversed())
+                .map(Video::getId)
+                .toList();
+
+        // when
+        List<String> paged = new ArrayList<>();
+        LocalDateTime cursorCreatedAt = null;
+        String cursorId = null;
+        List<VideoSummaryResponse> page;
+        do {
+            page = videoRepository.findPage("pet", null, Visibility.PUBLIC, null, cursorCreatedAt, cursorId, PageRequest.ofSize(2));
+            page.forEach(video -> paged.add(video.id()));
+            if (!page.isEmpty()) {
+                cursorCreatedAt = page.get(page.size() - 1).createdAt();
+                cursorId = page.get(page.size() - 1).id();
+            }
+        } while (page.size() == 2);
+
+        // then
+        assertThat(expected).containsExactlyInAnyOrder("v1", "v2", "v5");
+        assertThat(paged).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("게시글 목록은 첫 번째 이미지 key만 함께 조회하고, 이미지가 없는 게시글도 빠지지 않는다")
+    void postings_coverImage() {
+        // given
+        postingRepository.save(Posting.create("p1", "pet", "owner", "title", "content", Visibility.PUBLIC, List.of("k1", "k2")));
+        postingRepository.save(Posting.create("p2", "pet", "owner", "title", "content", Visibility.PUBLIC, List.of()));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<PostingSummaryResponse> page = postingRepository.findPage("pet", null, null, null, null, PageRequest.ofSize(10));
+
+        // then
+        assertThat(page).extracting(PostingSummaryResponse::id).containsExactlyInAnyOrder("p1", "p2");
+        assertThat(page).filteredOn(posting -> posting.id().equals("p1"))
+                .extracting(PostingSummaryResponse::coverImageKey).containsExactly("k1");
+        assertThat(page).filteredOn(posting -> posting.id().equals("p2"))
+                .extracting(PostingSummaryResponse::coverImageKey).containsOnlyNulls();
+    }
+}
@@ -0,0 +1,108 @@
+package com.petstarproject.petstar.repository;
+
+import com.petstarproject.petstar.entity.Pet;
+import com.petstarproject.petstar.entity.Posting;
+import com.petstarproject.petstar.entity.User;
+import com.petstarproject.petstar.entity.Video;
+import com.petstarproject.petstar.enums.Gender;
+import com.petstarproject.petstar.enums.Visibility;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TEXT 컬럼(description, content, bio)은 bytecode enhancement로 지연 로딩되어, 읽지 않는 한 조회되지 않는지 확인합니다.
+ */
+@DataJpaTest
+class LazyTextColumnTest {
+
+    @Autowired
+    private VideoRepository videoRepository;
+
+    @Autowired
+    private PostingRepository postingRepository;
+
+    @Autowired
+    private PetRepository petRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("Video 메타데이터를 수정해도 description은 조회되지 않고 그대로 유지된다")
+    void video_update() {
+        // given
+        videoRepository.save(Video.create("v1", "pet", "owner", "title", "long description", Visibility.PUBLIC,
+                "sourceKey", null, 10, List.of()));
+        flushAndClear();
+
+        // when
+        Video video = videoRepository.findById("v1").orElseThrow();
+        video.updateMeta("new title", null, Visibility.PRIVATE, null);
+        boolean loadedOnUpdate = Hibernate.isPropertyInitialized(video, "description");
+        flushAndClear();
+
+        // then
+        Video updated = videoRepository.findById("v1").orElseThrow();
+        assertThat(loadedOnUpdate).isFalse();
+        assertThat(updated.getTitle()).isEqualTo("new title");
+        assertThat(updated.getDescription()).isEqualTo("long description");
+    }
+
+    @Test
+    @DisplayName("Video를 삭제할 때 description은 조회되지 않는다")
+    void video_delete() {
+        // given
+        videoRepository.save(Video.create("v1", "pet", "owner", "title", "long description", Visibility.PUBLIC,
+                "sourceKey", null, 10, List.of()));
+        flushAndClear();
+
+        // when
+        Video video = videoRepository.findById("v1").orElseThrow();
+        videoRepository.delete(video);
+        entityManager.flush();
+
+        // then
+        assertThat(Hibernate.isPropertyInitialized(video, "description")).isFalse();
+        assertThat(videoRepository.findById("v1")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Posting 수정/Pet 조회/User 조회 시 content, bio는 읽을 때만 조회된다")
+    void posting_pet_user() {
+        // given
+        postingRepository.save(Posting.create("p1", "pet", "owner", "title", "long content", Visibility.PUBLIC, List.of()));
+        petRepository.save(new Pet("pet1", "owner", "강아지", 1, "Dog", Gender.MALE, "long bio", null, 0));
+        User user = userRepository.save(User.create("a@petstar.com", "name", "long bio"));
+        flushAndClear();
+
+        // when
+        Posting posting = postingRepository.findById("p1").orElseThrow();
+        posting.updateMeta("new title", null, null);
+        Pet pet = petRepository.findById("pet1").orElseThrow();
+        User found = userRepository.findById(user.getId()).orElseThrow();
+
+        // then
+        assertThat(Hibernate.isPropertyInitialized(posting, "content")).isFalse();
+        assertThat(Hibernate.isPropertyInitialized(pet, "bio")).isFalse();
+        assertThat(Hibernate.isPropertyInitialized(found, "bio")).isFalse();
+
+        assertThat(pet.getBio()).isEqualTo("long bio");
+        assertThat(Hibernate.isPropertyInitialized(pet, "bio")).isTrue();
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
@@ -0,0 +1,185 @@
+package com.petstarproject.petstar.repository;
+
+import com.petstarproject.petstar.configuration.HibernateCacheConfig;
+import com.petstarproject.petstar.entity.Pet;
+import com.petstarproject.petstar.entity.User;
+import com.petstarproject.petstar.entity.Video;
+import com.petstarproject.petstar.enums.Gender;
+import com.petstarproject.petstar.enums.VideoStatus;
+import com.petstarproject.petstar.enums.Visibility;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 2차 캐시 적용 전후의 DB 왕복 횟수(prepared statement 수)를 비교합니다.
+ * 캐시는 트랜잭션이 끝난 뒤에 보이므로 조회마다 별도 트랜잭션에서 실행합니다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(HibernateCacheConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheTest {
+
+    @Autowired
+    private VideoRepository videoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PetRepository petRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private TransactionTemplate transaction;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        videoRepository.deleteAll();
+        userRepository.deleteAll();
+        petRepository.deleteAll();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    @DisplayName("Video와 tags는 두 번째 조회부터 DB를 거치지 않는다")
+    void video_withTags() {
+        // given
+        Video video = Video.create("v1", "pet", "owner", "title", "description", Visibility.PUBLIC,
+                "sourceKey", null, 10, List.of("dog", "walk"));
+        videoRepository.save(video);
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+
+        // when
+        List<String> first = loadTags("v1");
+        long coldStatements = statistics.getPrepareStatementCount();
+        List<String> second = loadTags("v1");
+        long warmStatements = statistics.getPrepareStatementCount() - coldStatements;
+
+        // then
+        assertThat(first).containsExactly("dog", "walk");
+        assertThat(second).containsExactly("dog", "walk");
+        assertThat(coldStatements).isEqualTo(2); // videos + video_tags
+        assertThat(warmStatements).isZero();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Video를 수정하면 캐시가 갱신되어 다음 조회에 반영된다")
+    void video_update() {
+        // given
+        videoRepository.save(Video.create("v1", "pet", "owner", "title", "description", Visibility.PUBLIC,
+                "sourceKey", null, 10, List.of("dog")));
+        loadTags("v1");
+
+        // when
+        transaction.executeWithoutResult(status -> videoRepository.findById("v1").orElseThrow()
+                .updateMeta("new title", null, null, List.of("cat")));
+        statistics.clear();
+        Video updated = transaction.execute(status -> {
+            Video found = videoRepository.findById("v1").orElseThrow();
+            found.getTags().size();
+            return found;
+        });
+
+        // then
+        assertThat(updated.getTitle()).isEqualTo("new title");
+        assertThat(updated.getTags()).containsExactly("cat");
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(1); // tags 컬렉션만 다시 읽을 수 있음
+    }
+
+    @Test
+    @DisplayName("다른 노드가 수정해 캐시가 낡았으면 캐시에서 읽은 Video로 저장할 때 실패하고, findUncached는 DB의 최신 값을 읽는다")
+    void video_staleCache() {
+        // given
+        videoRepository.save(Video.create("v1", "pet", "owner", "title", "description", Visibility.PUBLIC,
+                "sourceKey", null, 10, List.of()));
+        loadTags("v1");
+        jdbcTemplate.update("update videos set status = 'READY', version = version + 1 where id = 'v1'"); // 다른 노드의 수정
+
+        // when & then
+        assertThatThrownBy(() -> transaction.executeWithoutResult(status -> videoRepository.findById("v1").orElseThrow()
+                .updateMeta("new title", null, null, null)))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+
+        Video fresh = transaction.execute(status -> videoRepository.findUncached("v1").orElseThrow());
+        assertThat(fresh.getStatus()).isEqualTo(VideoStatus.READY);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 수정해 캐시가 낡았으면 캐시에서 읽은 Pet으로 저장할 때 덮어쓰지 않고 실패한다")
+    void pet_staleCache() {
+        // given
+        petRepository.save(new Pet("pet1", "owner", "강아지", 1, "Dog", Gender.MALE, null, null, 0));
+        transaction.executeWithoutResult(status -> petRepository.findById("pet1").orElseThrow());
+        jdbcTemplate.update("update pets set name = '고양이', version = version + 1 where id = 'pet1'"); // 다른 노드의 수정
+
+        // when & then
+        assertThatThrownBy(() -> transaction.executeWithoutResult(status -> petRepository.findById("pet1").orElseThrow()
+                .setAge(2)))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        assertThat(jdbcTemplate.queryForObject("select name from pets where id = 'pet1'", String.class)).isEqualTo("고양이");
+    }
+
+    @Test
+    @DisplayName("findByEmail/existsByEmail은 query cache로 두 번째 호출부터 DB를 거치지 않는다")
+    void user_queryCache() {
+        // given
+        userRepository.save(User.create("a@petstar.com", "name", null));
+        statistics.clear();
+
+        // when
+        transaction.executeWithoutResult(status -> {
+            userRepository.findByEmail("a@petstar.com");
+            userRepository.existsByEmail("a@petstar.com");
+        });
+        long coldStatements = statistics.getPrepareStatementCount();
+        transaction.executeWithoutResult(status -> {
+            assertThat(userRepository.findByEmail("a@petstar.com")).isPresent();
+            assertThat(userRepository.existsByEmail("a@petstar.com")).isTrue();
+        });
+        long warmStatements = statistics.getPrepareStatementCount() - coldStatements;
+
+        // then
+        assertThat(coldStatements).isEqualTo(2);
+        assertThat(warmStatements).isZero();
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(2);
+    }
+
+    private List<String> loadTags(String videoId) {
+        return transaction.execute(status -> List.copyOf(videoRepository.findById(videoId).orElseThrow().getTags()));
+    }
+}
@@ -0,0 +1,149 @@
+package com.petstarproject.petstar.service;
+
+import com.petstarproject.petstar.exception.FileStorageException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LocalFileStorageServiceTest {
+
+    @TempDir
+    Path root;
+
+    private LocalFileStorageService storageService;
+
+    @BeforeEach
+    void setUp() {
+        storageService = new LocalFileStorageService(root.toString());
+    }
+
+    @Test
+    @DisplayName("스트림 업로드는 key 경로에 파일을 만들고 임시 파일을 남기지 않는다")
+    void upload_stream() throws IOException {
+        // given
+        byte[] data = {1, 2, 3, 4, 5};
+
+        // when
+        String key = storageService.upload(new ByteArrayInputStream(data), data.length, "video/mp4", "videos/v1/source/s1");
+
+        // then
+        assertThat(key).isEqualTo("videos/v1/source/s1");
+        assertThat(Files.readAllBytes(root.resolve("videos/v1/source/s1"))).containsExactly(data);
+        try (var tmp = Files.list(root.resolve(".tmp"))) {
+            assertThat(tmp).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("스트림이 지정한 크기보다 짧으면 커밋하지 않고 FileStorageException이 발생한다")
+    void upload_fail_truncated() {
+        // when & then
+        assertThatThrownBy(() -> storageService.upload(new ByteArrayInputStream(new byte[3]), 10, "video/mp4", "videos/v1/source/s1"))
+                .isInstanceOf(FileStorageException.class);
+        assertThat(root.resolve("videos/v1/source/s1")).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("multipart 업로드 후 stat, 구간 읽기, 구간 전송이 같은 파일을 가리킨다")
+    void upload_multipart_and_read() throws IOException {
+        // given
+        byte[] data = "0123456789".getBytes();
+        storageService.upload(new MockMultipartFile("image", "a.png", "image/png", data), "posts/p1/images/i1");
+
+        // when
+        StoredObject stat = storageService.stat("posts/p1/images/i1").orElseThrow();
+        byte[] range;
+        try (InputStream in = storageService.openRange("posts/p1/images/i1", 2, 3)) {
+            range = in.readAllBytes();
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long transferred = storageService.transferTo("posts/p1/images/i1", 5, 100, Channels.newChannel(out));
+
+        // then
+        assertThat(stat.size()).isEqualTo(10);
+        assertThat(new String(range)).isEqualTo("234");
+        assertThat(transferred).isEqualTo(5);
+        assertThat(out.toString()).isEqualTo("56789");
+    }
+
+    @Test
+    @DisplayName("2GB를 넘는 구간도 나눠서 읽고, 파일 끝을 넘는 offset은 빈 스트림을 반환한다")
+    void openRange_large() throws IOException {
+        // given: 3GB sparse 파일의 마지막 4 byte만 기록
+        long size = 3L * 1024 * 1024 * 1024;
+        Path file = Files.createDirectories(root.resolve("videos/v1/source")).resolve("s1");
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            raf.setLength(size);
+            raf.seek(size - 4);
+            raf.write("tail".getBytes());
+        }
+
+        // when
+        byte[] tail;
+        try (InputStream in = storageService.openRange("videos/v1/source/s1", 0, size)) {
+            assertThat(in.skip(size - 4)).isEqualTo(size - 4);
+            tail = in.readAllBytes();
+        }
+        byte[] pastEnd;
+        try (InputStream in = storageService.openRange("videos/v1/source/s1", size + 10, 100)) {
+            pastEnd = in.readAllBytes();
+        }
+
+        // then
+        assertThat(new String(tail)).isEqualTo("tail");
+        assertThat(pastEnd).isEmpty();
+    }
+
+    @Test
+    @DisplayName("deleteAll은 없는 key가 섞여 있어도 나머지를 모두 삭제한다")
+    void deleteAll() {
+        // given
+        storageService.upload(new ByteArrayInputStream(new byte[1]), 1, "image/png", "pets/p1/profile/a");
+        storageService.upload(new ByteArrayInputStream(new byte[1]), 1, "image/png", "pets/p1/profile/b");
+
+        // when
+        List<String> failed = storageService.deleteAll(List.of("pets/p1/profile/a", "pets/p1/profile/missing", "pets/p1/profile/b"));
+
+        // then
+        assertThat(failed).isEmpty();
+        assertThat(storageService.stat("pets/p1/profile/a")).isEmpty();
+        assertThat(storageService.stat("pets/p1/profile/b")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("listKeys는 prefix 아래의 key만 '/' 구분 경로로 반환한다")
+    void listKeys() {
+        // given
+        storageService.upload(new ByteArrayInputStream(new byte[1]), 1, "video/mp4", "videos/v1/hls/playlist.m3u8");
+        storageService.upload(new ByteArrayInputStream(new byte[1]), 1, "video/mp4", "videos/v1/hls/segment_00000.m4s");
+        storageService.upload(new ByteArrayInputStream(new byte[1]), 1, "video/mp4", "videos/v1/source/s1");
+
+        // when
+        List<String> keys = storageService.listKeys("videos/v1/hls/");
+
+        // then
+        assertThat(keys).containsExactlyInAnyOrder("videos/v1/hls/playlist.m3u8", "videos/v1/hls/segment_00000.m4s");
+    }
+
+    @Test
+    @DisplayName("root 밖을 가리키는 key는 거부한다")
+    void resolve_fail_traversal() {
+        assertThatThrownBy(() -> storageService.delete("../outside"))
+                .isInstanceOf(FileStorageException.class);
+    }
+}
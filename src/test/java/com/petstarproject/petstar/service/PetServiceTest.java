@@ -1,24 +1,35 @@
 package com.petstarproject.petstar.service;
 
+import com.petstarproject.petstar.dto.PetInfoResponse;
 import com.petstarproject.petstar.dto.RegisterRequest;
+import com.petstarproject.petstar.entity.ImageRendition;
 import com.petstarproject.petstar.entity.Pet;
 import com.petstarproject.petstar.enums.Gender;
 import com.petstarproject.petstar.repository.PetRepository;
+import com.petstarproject.petstar.service.cache.SnapshotCache;
+import com.petstarproject.petstar.service.deletion.ObjectDeletionQueue;
+import com.petstarproject.petstar.service.image.ImageRenditionService;
+import com.petstarproject.petstar.service.query.PetReader;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
@@ -32,9 +43,24 @@ public class PetServiceTest {
     @Mock
     private FileStorageService fileStorageService;
 
-    @InjectMocks
+    @Mock
+    private ImageRenditionService imageRenditionService;
+
+    @Mock
+    private ObjectDeletionQueue objectDeletionQueue;
+
+    @Spy
+    private SnapshotCache<PetInfoResponse> petSnapshotCache =
+            new SnapshotCache<>("petSnapshot", 1_000_000, Duration.ofMinutes(1), pet -> 1, new SimpleMeterRegistry());
+
     private PetServiceImpl petService;
 
+    @BeforeEach
+    void setUp() {
+        petService = new PetServiceImpl(petRepository, fileStorageService, imageRenditionService, objectDeletionQueue,
+                petSnapshotCache, new PetReader(petRepository));
+    }
+
 
     @Test
     @DisplayName("존재하는 ID로 Pet을 조회하면 Pet을 반환한다")
@@ -46,13 +72,51 @@ public class PetServiceTest {
         given(petRepository.findById(id)).willReturn(Optional.of(pet));
 
         //when
-        Pet result = petService.getPet(id);
+        PetInfoResponse result = petService.getPet(id);
 
         //then
         assertThat(result.getId()).isEqualTo(id);
         verify(petRepository).findById(id);
     }
 
+    @Test
+    @DisplayName("같은 Pet을 다시 조회하면 캐시된 snapshot을 반환한다")
+    void getPet_cached() {
+        //given
+        String id = "test_id";
+        Pet pet = new Pet(id, "user1", "강아지", 1, "Dog", Gender.MALE, "bio", "s3_key", 0);
+
+        given(petRepository.findById(id)).willReturn(Optional.of(pet));
+
+        //when
+        PetInfoResponse first = petService.getPet(id);
+        pet.setName("고양이");
+        PetInfoResponse second = petService.getPet(id);
+
+        //then
+        assertThat(second).isSameAs(first);
+        assertThat(second.getName()).isEqualTo("강아지");
+        verify(petRepository, times(1)).findById(id);
+    }
+
+    @Test
+    @DisplayName("여러 Pet을 조회하면 한 번에 조회하고 요청 순서대로 반환하며 없는 id는 뺀다")
+    void getPets_success() {
+        //given
+        Pet dog = new Pet("pet1", "user1", "강아지", 1, "Dog", Gender.MALE, "bio", "s3_key", 0);
+        Pet cat = new Pet("pet2", "user1", "고양이", 2, "Cat", Gender.FEMALE, "bio", "s3_key", 0);
+
+        given(petRepository.findAllById(anyIterable())).willReturn(List.of(dog, cat));
+
+        //when
+        List<PetInfoResponse> result = petService.getPets(List.of("pet2", "none", "pet1"));
+
+        //then
+        assertThat(result).extracting(PetInfoResponse::getId).containsExactly("pet2", "pet1");
+        verify(petRepository, times(1)).findAllById(anyIterable());
+        verify(petRepository, never()).findById(any());
+    }
+
     @Test
     @DisplayName("존재하지 않는 ID로 Pet 조회 시 EntityNotFoundExeption 발생")
     void getPet_notFound() {
@@ -78,6 +142,9 @@ public class PetServiceTest {
 
         given(fileStorageService.upload(any(), anyString()))
                 .willReturn("pets/someId/profile/someKey");
+        ImageRendition rendition = new ImageRendition("pets/someId/profile/someKey", 64, "pets/someId/profile/someKey_w64");
+        given(imageRenditionService.createRenditions(file, "pets/someId/profile/someKey"))
+                .willReturn(List.of(rendition));
 
         ArgumentCaptor<Pet> petArgumentCaptor = ArgumentCaptor.forClass(Pet.class);
 
@@ -91,6 +158,7 @@ public class PetServiceTest {
         Pet saved = petArgumentCaptor.getValue();
 
         assertThat(saved.getProfileImageKey()).isEqualTo("pets/someId/profile/someKey");
+        assertThat(saved.getProfileImageRenditions()).containsExactly(rendition);
     }
 
     @Test
@@ -145,6 +213,7 @@ public class PetServiceTest {
 
         verify(petRepository, times(1)).findById(id);
         verify(fileStorageService, times(1)).upload(any(MultipartFile.class), anyString());
+        verify(objectDeletionQueue, times(1)).enqueue(List.of("s3_key"));
         verify(petRepository, never()).save(any());
     }
 
@@ -176,6 +245,7 @@ public class PetServiceTest {
         verify(petRepository, times(1)).findById(id);
         verify(fileStorageService, never()).upload(any(), anyString());
         verify(petRepository, never()).save(any());
+        verify(petSnapshotCache).invalidate(id);
     }
 
     @Test
@@ -197,7 +267,7 @@ public class PetServiceTest {
     }
 
     @Test
-    @DisplayName("Pet 삭제 시 존재하는 ID라면 delete가 호출된다.")
+    @DisplayName("Pet 삭제 시 존재하는 ID라면 프로필 이미지 삭제가 예약되고 delete가 호출된다.")
     void deletePet_success() {
         //given
         String id = "test_id";
@@ -209,7 +279,9 @@ public class PetServiceTest {
         petService.deletePet(id);
 
         //then
+        verify(objectDeletionQueue).enqueue(List.of("s3_key"));
         verify(petRepository).delete(pet);
+        verify(petSnapshotCache).invalidate(id);
     }
 
     @Test
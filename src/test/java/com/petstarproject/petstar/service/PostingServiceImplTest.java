@@ -1,20 +1,36 @@
 package com.petstarproject.petstar.service;
 
+import com.petstarproject.petstar.dto.CursorPageResponse;
 import com.petstarproject.petstar.dto.PostingRequest;
+import com.petstarproject.petstar.dto.PostingResponse;
+import com.petstarproject.petstar.dto.PostingSummaryResponse;
+import com.petstarproject.petstar.entity.ImageRendition;
 import com.petstarproject.petstar.entity.Posting;
 import com.petstarproject.petstar.enums.Visibility;
+import com.petstarproject.petstar.exception.FileStorageException;
+import com.petstarproject.petstar.exception.InvalidListRequestException;
 import com.petstarproject.petstar.repository.PostingRepository;
+import com.petstarproject.petstar.service.cache.SnapshotCache;
+import com.petstarproject.petstar.service.deletion.ObjectDeletionQueue;
+import com.petstarproject.petstar.service.image.ImageRenditionService;
+import com.petstarproject.petstar.service.query.PostingReader;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.persistence.EntityNotFoundException;
 import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,9 +49,35 @@ class PostingServiceImplTest {
     @Mock
     FileStorageService fileStorageService;
 
-    @InjectMocks
+    @Mock
+    ImageRenditionService imageRenditionService;
+
+    @Mock
+    ObjectDeletionQueue objectDeletionQueue;
+
+    ThreadPoolTaskExecutor imageUploadExecutor;
+
+    SnapshotCache<PostingResponse> postingSnapshotCache =
+            new SnapshotCache<>("postingSnapshot", 1_000_000, Duration.ofMinutes(1), posting -> 1, new SimpleMeterRegistry());
+
     PostingServiceImpl postingService;
 
+    @BeforeEach
+    void setUp() {
+        imageUploadExecutor = new ThreadPoolTaskExecutor();
+        imageUploadExecutor.setCorePoolSize(4);
+        imageUploadExecutor.setMaxPoolSize(4);
+        imageUploadExecutor.initialize();
+
+        postingService = new PostingServiceImpl(
+                postingRepository, fileStorageService, imageRenditionService, objectDeletionQueue, imageUploadExecutor, 5_000, postingSnapshotCache,
+                new PostingReader(postingRepository));
+    }
+
+    @AfterEach
+    void tearDown() {
+        imageUploadExecutor.shutdown();
+    }
 
     @Test
     @DisplayName("Posting 생성 시 이미지 업로드 수 만큼 FileStorageService.upload가 호출되고 PostingRepository.save가 호출된다")
@@ -121,9 +163,19 @@ class PostingServiceImplTest {
 
 
     @Test
-    @DisplayName("Posting 생성 중 업로드 실패하면 이미 업로드된 파일은 delete로 롤백된다")
+    @DisplayName("Posting 생성 중 업로드 실패하면 이미 업로드된 파일은 deleteAll 한 번으로 롤백된다")
     void createPosting_fail_uploadRollback() {
         // given
+        // 업로드 완료 순서를 고정하기 위해 단일 스레드로 실행
+        imageUploadExecutor.shutdown();
+        imageUploadExecutor = new ThreadPoolTaskExecutor();
+        imageUploadExecutor.setCorePoolSize(1);
+        imageUploadExecutor.setMaxPoolSize(1);
+        imageUploadExecutor.initialize();
+        postingService = new PostingServiceImpl(
+                postingRepository, fileStorageService, imageRenditionService, objectDeletionQueue, imageUploadExecutor, 5_000, postingSnapshotCache,
+                new PostingReader(postingRepository));
+
         String petId = "test_pet_id";
         String ownerId = "test_owner_id";
 
@@ -150,12 +202,87 @@ class PostingServiceImplTest {
                 .isInstanceOf(RuntimeException.class)
                 .hasMessageContaining("S3 error");
 
-        verify(fileStorageService, times(1)).delete(eq("posts/p1/images/imgKey1"));
-        verify(fileStorageService, never()).delete("posts/p1/images/imgKey2");
+        verify(fileStorageService, times(1)).deleteAll(eq(List.of("posts/p1/images/imgKey1")));
+        verify(fileStorageService, never()).delete(anyString());
         verify(postingRepository, times(0)).save(any());
     }
 
 
+    @Test
+    @DisplayName("Posting 생성 시 이미지 업로드가 제한 시간을 넘기면 남은 업로드를 취소하고 완료된 업로드만 정리한다")
+    void createPosting_fail_uploadTimeout() {
+        // given
+        postingService = new PostingServiceImpl(
+                postingRepository, fileStorageService, imageRenditionService, objectDeletionQueue, imageUploadExecutor, 200, postingSnapshotCache,
+                new PostingReader(postingRepository));
+
+        PostingRequest req = PostingRequest.builder()
+                .petId("test_pet_id")
+                .title("title")
+                .content("content")
+                .visibility(Visibility.PUBLIC)
+                .build();
+
+        MultipartFile img1 = mock(MultipartFile.class);
+        MultipartFile img2 = mock(MultipartFile.class);
+
+        given(img1.isEmpty()).willReturn(false);
+        given(img2.isEmpty()).willReturn(false);
+
+        given(fileStorageService.upload(eq(img1), anyString()))
+                .willReturn("posts/p1/images/done");
+        given(fileStorageService.upload(eq(img2), anyString()))
+                .willAnswer(invocation -> {
+                    Thread.sleep(10_000); // 응답 없는 업로드 (취소되면 interrupt로 중단)
+                    return invocation.getArgument(1);
+                });
+
+        // when & then
+        assertThatThrownBy(() -> postingService.createPosting(req, List.of(img1, img2), "test_owner_id"))
+                .isInstanceOf(FileStorageException.class);
+
+        verify(fileStorageService, times(1)).deleteAll(List.of("posts/p1/images/done"));
+        verify(postingRepository, never()).save(any());
+    }
+
+
+    @Test
+    @DisplayName("업로드가 취소되면 완료된 원본은 보상 삭제되고, 취소된 뒤에 만들어진 rendition은 업로드 작업이 직접 정리한다")
+    void createPosting_fail_lateUploadCleansUp() {
+        // given
+        postingService = new PostingServiceImpl(
+                postingRepository, fileStorageService, imageRenditionService, objectDeletionQueue, imageUploadExecutor, 200, postingSnapshotCache,
+                new PostingReader(postingRepository));
+
+        PostingRequest req = PostingRequest.builder()
+                .petId("test_pet_id")
+                .title("title")
+                .content("content")
+                .visibility(Visibility.PUBLIC)
+                .build();
+
+        MultipartFile img = mock(MultipartFile.class);
+        given(img.isEmpty()).willReturn(false);
+
+        given(fileStorageService.upload(eq(img), anyString())).willReturn("posts/p1/images/orig");
+        given(imageRenditionService.createRenditions(img, "posts/p1/images/orig"))
+                .willAnswer(invocation -> {
+                    try {
+                        Thread.sleep(10_000); // interrupt를 무시하고 끝까지 생성
+                    } catch (InterruptedException ignored) {
+                    }
+                    return List.of(new ImageRendition("posts/p1/images/orig", 320, "posts/p1/images/orig_w320"));
+                });
+
+        // when & then
+        assertThatThrownBy(() -> postingService.createPosting(req, List.of(img), "test_owner_id"))
+                .isInstanceOf(FileStorageException.class);
+
+        verify(fileStorageService).deleteAll(List.of("posts/p1/images/orig"));
+        verify(fileStorageService, timeout(5_000)).deleteAll(List.of("posts/p1/images/orig_w320"));
+    }
+
+
     @Test
     @DisplayName("Posting 단건 조회 시 Public이면 requesterId에 상관없이 PostingRepository.findById가 호출되고 응답이 반환된다")
     void getPosting_success_public() {
@@ -169,7 +296,7 @@ class PostingServiceImplTest {
         given(postingRepository.findById("p1")).willReturn(Optional.of(posting));
 
         // when
-        Posting res = postingService.getPosting("p1", "not-owner");
+        PostingResponse res = postingService.getPosting("p1", "not-owner");
 
         // then
         verify(postingRepository, times(1)).findById("p1");
@@ -191,7 +318,7 @@ class PostingServiceImplTest {
         given(postingRepository.findById("p1")).willReturn(Optional.of(posting));
 
         // when
-        Posting res = postingService.getPosting("p1", "owner");
+        PostingResponse res = postingService.getPosting("p1", "owner");
 
         // then
         assertThat(res.getId()).isEqualTo("p1");
@@ -233,6 +360,89 @@ class PostingServiceImplTest {
     }
 
 
+    @Test
+    @DisplayName("Posting을 다시 조회하면 캐시된 snapshot을 반환하고, 수정하면 캐시를 비운다")
+    void getPosting_cached_invalidatedByUpdate() {
+        // given
+        Posting posting = Posting.create(
+                "p1", "pet", "owner",
+                "title", "content", Visibility.PUBLIC,
+                List.of("k1")
+        );
+        PostingRequest req = PostingRequest.builder()
+                .title("newTitle")
+                .build();
+
+        given(postingRepository.findById("p1")).willReturn(Optional.of(posting));
+
+        // when
+        PostingResponse first = postingService.getPosting("p1", null);
+        PostingResponse cached = postingService.getPosting("p1", null);
+        postingService.updatePosting("p1", req, "owner");
+        PostingResponse updated = postingService.getPosting("p1", null);
+
+        // then
+        assertThat(cached).isSameAs(first);
+        assertThat(updated.getTitle()).isEqualTo("newTitle");
+        verify(postingRepository, times(3)).findById("p1");
+    }
+
+
+    @Test
+    @DisplayName("여러 Posting 조회 시 캐시에 없는 것만 한 번에 조회하고, 요청 순서대로 볼 수 있는 Posting만 반환한다")
+    void getPostings_success() {
+        // given
+        Posting first = Posting.create("p1", "pet", "owner", "title1", "content", Visibility.PUBLIC, List.of("k1"));
+        Posting hidden = Posting.create("p2", "pet", "owner", "title2", "content", Visibility.PRIVATE, List.of());
+        Posting last = Posting.create("p3", "pet", "other", "title3", "content", Visibility.PUBLIC, List.of());
+
+        given(postingRepository.findAllById(anyIterable())).willReturn(List.of(first, hidden, last));
+
+        // when
+        List<PostingResponse> res = postingService.getPostings(List.of("p3", "p2", "p1"), "requester");
+        List<PostingResponse> again = postingService.getPostings(List.of("p1", "p2"), "owner");
+
+        // then
+        assertThat(res).extracting(PostingResponse::getId).containsExactly("p3", "p1");
+        assertThat(again).extracting(PostingResponse::getId).containsExactly("p1", "p2");
+        verify(postingRepository, times(1)).findAllById(anyIterable());
+        verify(postingRepository, never()).findById(anyString());
+    }
+
+
+    @Test
+    @DisplayName("Posting 목록 조회 시 한 개 더 조회해서 다음 페이지가 있으면 cursor를 반환하고, 다른 사람에게는 PUBLIC만 조회한다")
+    void listPostings_success() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        PostingSummaryResponse first = new PostingSummaryResponse("p1", "pet", "owner", "title1", Visibility.PUBLIC,
+                "k1", 0, 0, now, now);
+        PostingSummaryResponse second = new PostingSummaryResponse("p2", "pet", "owner", "title2", Visibility.PUBLIC,
+                null, 0, 0, now.minusSeconds(1), now);
+
+        given(postingRepository.findPage(isNull(), eq("owner"), eq(Visibility.PUBLIC), isNull(), isNull(), any(Pageable.class)))
+                .willReturn(List.of(first, second));
+
+        // when
+        CursorPageResponse<PostingSummaryResponse> page = postingService.listPostings(null, "owner", null, null, 1, "requester");
+
+        // then
+        assertThat(page.items()).extracting(PostingSummaryResponse::id).containsExactly("p1");
+        assertThat(page.items().get(0).coverImageKey()).isEqualTo("k1");
+        assertThat(page.nextCursor()).isNotNull();
+    }
+
+
+    @Test
+    @DisplayName("Posting 목록 조회 시 cursor 형식이 잘못되면 InvalidListRequestException 발생")
+    void listPostings_fail_invalidCursor() {
+        // when & then
+        assertThatThrownBy(() -> postingService.listPostings("pet", null, null, "%%%", null, null))
+                .isInstanceOf(InvalidListRequestException.class);
+        verifyNoInteractions(postingRepository);
+    }
+
+
     @Test
     @DisplayName("Posting 수정 시 title/content/visibility만 변경된다")
     void updatePosting_success() {
@@ -291,7 +501,7 @@ class PostingServiceImplTest {
 
 
     @Test
-    @DisplayName("Posting 삭제 시 S3 delete가 이미지 수 만큼 호출되고 PostingRepository.delete가 호출된다")
+    @DisplayName("Posting 삭제 시 이미지 key가 삭제 큐에 기록되고 PostingRepository.delete가 호출된다")
     void deletePosting_success() {
         // given
         Posting posting = Posting.create(
@@ -306,7 +516,8 @@ class PostingServiceImplTest {
         postingService.deletePosting("p1", "owner");
 
         // then
-        verify(fileStorageService, times(1)).deleteAll(eq(List.of("k1", "k2")));
+        verify(objectDeletionQueue, times(1)).enqueue(eq(List.of("k1", "k2")));
+        verify(fileStorageService, never()).deleteAll(any());
         verify(postingRepository, times(1)).delete(posting);
     }
 
@@ -328,5 +539,6 @@ class PostingServiceImplTest {
 
         verify(postingRepository, times(0)).delete(any());
         verify(fileStorageService, times(0)).delete(anyString());
+        verify(objectDeletionQueue, never()).enqueue(any());
     }
 }
\ No newline at end of file
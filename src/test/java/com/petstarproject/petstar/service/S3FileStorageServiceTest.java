@@ -0,0 +1,82 @@
+package com.petstarproject.petstar.service;
+
+import com.petstarproject.petstar.exception.FileStorageException;
+import com.petstarproject.petstar.service.inspect.ByteCountInspector;
+import com.petstarproject.petstar.service.inspect.InspectingInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class S3FileStorageServiceTest {
+
+    @Mock
+    private S3Client s3Client;
+
+    @Mock
+    private S3Presigner s3Presigner;
+
+    @Mock
+    private S3MultipartUploader multipartUploader;
+
+    private S3FileStorageService storageService;
+
+    @BeforeEach
+    void setUp() {
+        storageService = new S3FileStorageService(s3Client, s3Presigner, multipartUploader);
+        ReflectionTestUtils.setField(storageService, "bucket", "bucket");
+        ReflectionTestUtils.setField(storageService, "multipartThreshold", 1024L);
+    }
+
+    @Test
+    @DisplayName("한 번만 읽을 수 있는 스트림도 단일 PUT 재시도 시 같은 본문을 다시 보낼 수 있고, inspector는 byte를 한 번만 본다")
+    void upload_replayableBody() throws IOException {
+        // given
+        byte[] data = "0123456789".getBytes();
+        ByteCountInspector counter = new ByteCountInspector();
+        ArgumentCaptor<RequestBody> captor = ArgumentCaptor.forClass(RequestBody.class);
+
+        // when
+        storageService.upload(new InspectingInputStream(new ByteArrayInputStream(data), List.of(counter)),
+                data.length, "image/png", "posts/p1/images/a");
+
+        // then
+        verify(s3Client).putObject(any(PutObjectRequest.class), captor.capture());
+        RequestBody body = captor.getValue();
+        try (InputStream first = body.contentStreamProvider().newStream();
+             InputStream retry = body.contentStreamProvider().newStream()) {
+            assertThat(first.readAllBytes()).isEqualTo(data);
+            assertThat(retry.readAllBytes()).isEqualTo(data);
+        }
+        assertThat(counter.count()).isEqualTo(data.length);
+    }
+
+    @Test
+    @DisplayName("스트림이 지정한 크기보다 짧으면 PUT을 보내지 않고 FileStorageException을 던진다")
+    void upload_shortStream() {
+        // when & then
+        assertThatThrownBy(() -> storageService.upload(new ByteArrayInputStream(new byte[3]), 10, "image/png", "posts/p1/images/a"))
+                .isInstanceOf(FileStorageException.class);
+        verify(s3Client, never()).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+    }
+}
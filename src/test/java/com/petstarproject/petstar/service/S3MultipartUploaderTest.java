@@ -0,0 +1,151 @@
+package com.petstarproject.petstar.service;
+
+import com.petstarproject.petstar.exception.FileStorageException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class S3MultipartUploaderTest {
+
+    private static final int PART_SIZE = S3MultipartUploader.MIN_PART_SIZE;
+
+    @Mock
+    private S3Client s3Client;
+
+    private S3MultipartUploader uploader;
+
+    @BeforeEach
+    void setUp() {
+        uploader = new S3MultipartUploader(s3Client, Runnable::run, "bucket", PART_SIZE, 2, 2, 0);
+
+        given(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                .willReturn(CreateMultipartUploadResponse.builder().uploadId("upload-1").build());
+    }
+
+    @Test
+    @DisplayName("part 크기 단위로 나누어 업로드하고 part 번호 순서대로 complete 한다")
+    void upload_success() {
+        // given
+        byte[] data = new byte[PART_SIZE * 2 + 10];
+        given(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+                .willAnswer(invocation -> {
+                    UploadPartRequest req = invocation.getArgument(0);
+                    return UploadPartResponse.builder().eTag("etag-" + req.partNumber()).build();
+                });
+
+        ArgumentCaptor<CompleteMultipartUploadRequest> captor = ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+
+        // when
+        uploader.upload(new ByteArrayInputStream(data), "video/mp4", "videos/v1/source/s1");
+
+        // then
+        verify(s3Client, times(3)).uploadPart(any(UploadPartRequest.class), any(RequestBody.class));
+        verify(s3Client).completeMultipartUpload(captor.capture());
+        verify(s3Client, never()).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+
+        assertThat(captor.getValue().multipartUpload().parts())
+                .extracting(CompletedPart::partNumber, CompletedPart::eTag)
+                .containsExactly(
+                        tuple(1, "etag-1"),
+                        tuple(2, "etag-2"),
+                        tuple(3, "etag-3"));
+    }
+
+    @Test
+    @DisplayName("part 업로드가 일시적으로 실패하면 해당 part만 재시도한다")
+    void upload_retryPart() {
+        // given
+        byte[] data = new byte[PART_SIZE + 1];
+        given(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+                .willThrow(SdkClientException.create("connection reset"))
+                .willReturn(UploadPartResponse.builder().eTag("etag").build());
+
+        // when
+        uploader.upload(new ByteArrayInputStream(data), "video/mp4", "videos/v1/source/s1");
+
+        // then
+        verify(s3Client, times(3)).uploadPart(any(UploadPartRequest.class), any(RequestBody.class));
+        verify(s3Client).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+    }
+
+    @Test
+    @DisplayName("재시도 후에도 part 업로드가 실패하면 multipart upload를 abort 하고 FileStorageException이 발생한다")
+    void upload_fail_abort() {
+        // given
+        byte[] data = new byte[PART_SIZE + 1];
+        given(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+                .willThrow(SdkClientException.create("connection reset"));
+
+        // when & then
+        assertThatThrownBy(() -> uploader.upload(new ByteArrayInputStream(data), "video/mp4", "videos/v1/source/s1"))
+                .isInstanceOf(FileStorageException.class);
+
+        verify(s3Client).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+        verify(s3Client, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+    }
+
+    @Test
+    @DisplayName("part 하나가 실패하면 전송 중인 다른 part가 끝날 때까지 기다린 뒤 abort 한다")
+    void upload_fail_abortAfterInFlightParts() throws InterruptedException {
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        uploader = new S3MultipartUploader(s3Client, executor, "bucket", PART_SIZE, 2, 1, 0);
+
+        byte[] data = new byte[PART_SIZE * 2 + 1];
+        CountDownLatch secondPartStarted = new CountDownLatch(1);
+        List<String> events = new CopyOnWriteArrayList<>();
+        given(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+                .willAnswer(invocation -> {
+                    UploadPartRequest req = invocation.getArgument(0);
+                    if (req.partNumber() == 1) {
+                        secondPartStarted.await(5, TimeUnit.SECONDS);
+                        throw SdkClientException.create("connection reset");
+                    }
+                    secondPartStarted.countDown();
+                    Thread.sleep(200);
+                    events.add("part-" + req.partNumber());
+                    return UploadPartResponse.builder().eTag("etag").build();
+                });
+        given(s3Client.abortMultipartUpload(any(AbortMultipartUploadRequest.class)))
+                .willAnswer(invocation -> {
+                    events.add("abort");
+                    return AbortMultipartUploadResponse.builder().build();
+                });
+
+        // when & then
+        try {
+            assertThatThrownBy(() -> uploader.upload(new ByteArrayInputStream(data), "video/mp4", "videos/v1/source/s1"))
+                    .isInstanceOf(FileStorageException.class);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(events).containsExactly("part-2", "abort");
+        verify(s3Client, times(2)).uploadPart(any(UploadPartRequest.class), any(RequestBody.class));
+        verify(s3Client, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+    }
+}
@@ -0,0 +1,184 @@
+package com.petstarproject.petstar.service;
+
+import com.petstarproject.petstar.dto.UploadSessionCreateRequest;
+import com.petstarproject.petstar.dto.UploadSessionResponse;
+import com.petstarproject.petstar.dto.VideoInfoRequest;
+import com.petstarproject.petstar.entity.UploadSession;
+import com.petstarproject.petstar.enums.UploadSessionStatus;
+import com.petstarproject.petstar.exception.InvalidUploadRequestException;
+import com.petstarproject.petstar.exception.UploadOffsetMismatchException;
+import com.petstarproject.petstar.repository.UploadSessionRepository;
+import com.petstarproject.petstar.service.duration.VideoDurationExtractor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UploadSessionServiceTest {
+
+    private static final String OWNER_ID = "test_owner_id";
+
+    @Mock
+    private UploadSessionRepository uploadSessionRepository;
+
+    @Mock
+    private VideoService videoService;
+
+    @Mock
+    private VideoDurationExtractor videoDurationExtractor;
+
+    @TempDir
+    Path spoolDir;
+
+    private UploadSessionServiceImpl uploadSessionService;
+
+    @BeforeEach
+    void setUp() {
+        uploadSessionService = new UploadSessionServiceImpl(uploadSessionRepository, videoService, videoDurationExtractor,
+                spoolDir.toString(), 4, 1024, 24);
+    }
+
+    @Test
+    @DisplayName("세션 생성 시 spool 파일을 만들고 offset 0인 세션을 저장한다")
+    void createSession_success() {
+        // given
+        given(videoDurationExtractor.supports("video/mp4", "clip.mp4")).willReturn(true);
+        UploadSessionCreateRequest request = new UploadSessionCreateRequest(10, "video/mp4", "clip.mp4");
+
+        // when
+        UploadSessionResponse response = uploadSessionService.createSession(request, OWNER_ID);
+
+        // then
+        verify(uploadSessionRepository).save(any(UploadSession.class));
+        assertThat(response.offset()).isZero();
+        assertThat(response.chunkSize()).isEqualTo(4);
+        assertThat(spoolDir.resolve(response.sessionId())).exists();
+    }
+
+    @Test
+    @DisplayName("chunk는 현재 offset 위치에 기록되고 offset이 chunk 크기만큼 전진한다")
+    void appendChunk_success() throws IOException {
+        // given
+        UploadSession session = sessionWithSpool(6);
+        session.advance(4);
+        given(uploadSessionRepository.findByIdForUpdate(session.getId())).willReturn(Optional.of(session));
+
+        // when
+        UploadSessionResponse response = uploadSessionService.appendChunk(
+                session.getId(), 4, 2, new ByteArrayInputStream(new byte[]{5, 6}), OWNER_ID);
+
+        // then
+        assertThat(response.offset()).isEqualTo(6);
+        assertThat(Files.readAllBytes(spoolDir.resolve(session.getId()))).containsExactly(0, 0, 0, 0, 5, 6);
+    }
+
+    @Test
+    @DisplayName("chunk offset이 서버 offset과 다르면 UploadOffsetMismatchException이 발생하고 현재 offset을 알려준다")
+    void appendChunk_fail_offsetMismatch() throws IOException {
+        // given
+        UploadSession session = sessionWithSpool(8);
+        session.advance(4);
+        given(uploadSessionRepository.findByIdForUpdate(session.getId())).willReturn(Optional.of(session));
+
+        // when & then
+        assertThatThrownBy(() -> uploadSessionService.appendChunk(
+                session.getId(), 0, 4, new ByteArrayInputStream(new byte[4]), OWNER_ID))
+                .isInstanceOf(UploadOffsetMismatchException.class)
+                .extracting("currentOffset").isEqualTo(4L);
+        assertThat(session.getReceivedSize()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("chunk 본문이 Content-Length보다 짧으면 offset을 전진시키지 않는다")
+    void appendChunk_fail_truncatedBody() throws IOException {
+        // given
+        UploadSession session = sessionWithSpool(8);
+        given(uploadSessionRepository.findByIdForUpdate(session.getId())).willReturn(Optional.of(session));
+
+        // when & then
+        assertThatThrownBy(() -> uploadSessionService.appendChunk(
+                session.getId(), 0, 4, new ByteArrayInputStream(new byte[2]), OWNER_ID))
+                .isInstanceOf(InvalidUploadRequestException.class);
+        assertThat(session.getReceivedSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("모든 chunk를 받은 세션을 완료하면 spool 파일로 동영상을 생성하고 세션을 COMPLETED로 전이한다")
+    void completeSession_success() throws IOException {
+        // given
+        UploadSession session = sessionWithSpool(4);
+        session.advance(4);
+        given(uploadSessionRepository.findByIdForUpdate(session.getId())).willReturn(Optional.of(session));
+        VideoInfoRequest info = VideoInfoRequest.builder().title("title").build();
+        given(videoService.createVideo(eq(info), eq(spoolDir.resolve(session.getId())), eq("video/mp4"),
+                any(), eq("test_pet_id"), eq(OWNER_ID)))
+                .willReturn("video-1");
+
+        // when
+        String videoId = uploadSessionService.completeSession(session.getId(), info, null, "test_pet_id", OWNER_ID);
+
+        // then
+        assertThat(videoId).isEqualTo("video-1");
+        assertThat(session.getStatus()).isEqualTo(UploadSessionStatus.COMPLETED);
+        assertThat(session.getVideoId()).isEqualTo("video-1");
+        assertThat(spoolDir.resolve(session.getId())).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("동영상 생성에 실패하면 spool 파일과 세션을 그대로 두어 다시 완료할 수 있다")
+    void completeSession_fail_keepsSpool() throws IOException {
+        // given
+        UploadSession session = sessionWithSpool(4);
+        session.advance(4);
+        given(uploadSessionRepository.findByIdForUpdate(session.getId())).willReturn(Optional.of(session));
+        VideoInfoRequest info = VideoInfoRequest.builder().title("title").build();
+        given(videoService.createVideo(any(), any(Path.class), any(), any(), any(), any()))
+                .willThrow(new RuntimeException("save failed"));
+
+        // when & then
+        assertThatThrownBy(() -> uploadSessionService.completeSession(session.getId(), info, null, "test_pet_id", OWNER_ID))
+                .hasMessage("save failed");
+        assertThat(session.getStatus()).isEqualTo(UploadSessionStatus.IN_PROGRESS);
+        assertThat(spoolDir.resolve(session.getId())).exists();
+    }
+
+    @Test
+    @DisplayName("아직 모든 chunk를 받지 못한 세션은 완료할 수 없다")
+    void completeSession_fail_incomplete() throws IOException {
+        // given
+        UploadSession session = sessionWithSpool(8);
+        session.advance(4);
+        given(uploadSessionRepository.findByIdForUpdate(session.getId())).willReturn(Optional.of(session));
+        VideoInfoRequest info = VideoInfoRequest.builder().title("title").build();
+
+        // when & then
+        assertThatThrownBy(() -> uploadSessionService.completeSession(session.getId(), info, null, "test_pet_id", OWNER_ID))
+                .isInstanceOf(UploadOffsetMismatchException.class);
+        verify(videoService, never()).createVideo(any(), any(Path.class), any(), any(), any(), any());
+    }
+
+    private UploadSession sessionWithSpool(long totalSize) throws IOException {
+        UploadSession session = UploadSession.create("session-1", OWNER_ID, "video/mp4", "clip.mp4",
+                totalSize, LocalDateTime.now().plusHours(1));
+        Files.createFile(spoolDir.resolve(session.getId()));
+        return session;
+    }
+}
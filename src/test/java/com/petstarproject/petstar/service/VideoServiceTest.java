@@ -1,28 +1,58 @@
 package com.petstarproject.petstar.service;
 
+import com.petstarproject.petstar.dto.CursorPageResponse;
+import com.petstarproject.petstar.dto.DirectUploadRequest;
 import com.petstarproject.petstar.dto.VideoInfoRequest;
+import com.petstarproject.petstar.dto.VideoResponse;
+import com.petstarproject.petstar.dto.VideoSummaryResponse;
+import com.petstarproject.petstar.entity.ImageRendition;
 import com.petstarproject.petstar.entity.Video;
+import com.petstarproject.petstar.enums.VideoStatus;
 import com.petstarproject.petstar.enums.Visibility;
+import com.petstarproject.petstar.exception.BatchSizeExceededException;
+import com.petstarproject.petstar.exception.InvalidListRequestException;
+import com.petstarproject.petstar.exception.InvalidUploadRequestException;
+import com.petstarproject.petstar.exception.InvalidVideoFormatException;
+import com.petstarproject.petstar.exception.VideoDurationExtractFailedException;
+import com.petstarproject.petstar.exception.VideoNotReadyException;
 import com.petstarproject.petstar.exception.VideoSourceRequiredException;
 import com.petstarproject.petstar.repository.VideoRepository;
+import com.petstarproject.petstar.service.cache.SnapshotCache;
+import com.petstarproject.petstar.service.deletion.ObjectDeletionQueue;
 import com.petstarproject.petstar.service.duration.VideoDurationExtractor;
+import com.petstarproject.petstar.service.image.ImageRenditionService;
+import com.petstarproject.petstar.service.ingest.VideoIngestService;
+import com.petstarproject.petstar.service.ingest.VideoIngestTask;
+import com.petstarproject.petstar.service.ingest.VideoStatusUpdater;
+import com.petstarproject.petstar.service.query.VideoReader;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
+import org.mockito.InOrder;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 //import org.springframework.security.access.AccessDeniedException;
+import org.springframework.data.domain.Pageable;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.IntStream;
 
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyIterable;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
@@ -40,12 +70,30 @@ public class VideoServiceTest {
     @Mock
     private VideoDurationExtractor videoDurationExtractor;
 
-    @InjectMocks
+    @Mock
+    private VideoIngestService videoIngestService;
+
+    @Mock
+    ImageRenditionService imageRenditionService;
+
+    @Mock
+    ObjectDeletionQueue objectDeletionQueue;
+
+    @Spy
+    SnapshotCache<VideoResponse> videoSnapshotCache =
+            new SnapshotCache<>("videoSnapshot", 1_000_000, Duration.ofMinutes(1), video -> 1, new SimpleMeterRegistry());
+
     private VideoServiceImpl videoService;
 
+    @BeforeEach
+    void setUp() {
+        videoService = new VideoServiceImpl(videoRepository, fileStorageService, videoDurationExtractor, videoIngestService,
+                new VideoStatusUpdater(videoRepository, objectDeletionQueue), imageRenditionService, objectDeletionQueue, videoSnapshotCache, new VideoReader(videoRepository), 1024 * 1024, 1024);
+    }
+
 
     @Test
-    @DisplayName("Video 생성 시 source, thumbnail 업로드 수 VideoRepository save가 호출된다")
+    @DisplayName("Video 생성 시 source, thumbnail을 spool 하고 UPLOADING 상태로 save 한 뒤 ingest 작업을 넘긴다")
     void createVideo_success() {
         // given
         String petId = "test_pet_id";
@@ -62,11 +110,12 @@ public class VideoServiceTest {
 
         given(videoSource.isEmpty()).willReturn(false);
         given(thumbnail.isEmpty()).willReturn(false);
+        given(videoDurationExtractor.supports(any(), any())).willReturn(true);
 
-        given(fileStorageService.upload(eq(videoSource), anyString()))
-                .willReturn("videos/test_pet_id/source/sourceKey");
-        given(fileStorageService.upload(eq(thumbnail), anyString()))
-                .willReturn("videos/test_pet_id/thumbnail/thumbnailKey");
+        VideoIngestTask task = new VideoIngestTask("id", Path.of("source"), "video/mp4", "sourceKey",
+                Path.of("thumbnail"), "image/png", "thumbnailKey");
+        given(videoIngestService.stage(anyString(), eq(videoSource), anyString(), eq(thumbnail), anyString()))
+                .willReturn(task);
 
         ArgumentCaptor<Video> captor = ArgumentCaptor.forClass(Video.class);
 
@@ -74,17 +123,40 @@ public class VideoServiceTest {
         String videoId = videoService.createVideo(req, videoSource, thumbnail, petId, ownerId);
 
         // then
-        verify(fileStorageService, times(1)).upload(eq(videoSource), anyString());
-        verify(fileStorageService, times(1)).upload(eq(thumbnail), anyString());
-
+        verify(videoIngestService, times(1)).checkCapacity();
         verify(videoRepository, times(1)).save(captor.capture());
+        verify(videoIngestService, times(1)).dispatchAfterCommit(task);
+        verify(fileStorageService, never()).upload(any(), anyString());
+
         Video saved = captor.getValue();
 
         assertThat(videoId).isNotNull();
         assertThat(saved.getPetId()).isEqualTo(petId);
         assertThat(saved.getOwnerId()).isEqualTo(ownerId);
-        assertThat(saved.getSourceKey()).isEqualTo("videos/test_pet_id/source/sourceKey");
-        assertThat(saved.getThumbnailKey()).isEqualTo("videos/test_pet_id/thumbnail/thumbnailKey");
+        assertThat(saved.getStatus()).isEqualTo(VideoStatus.UPLOADING);
+        assertThat(saved.getSourceKey()).startsWith("videos/" + videoId + "/source/");
+        assertThat(saved.getThumbnailKey()).startsWith("videos/" + videoId + "/thumbnail/");
+    }
+
+
+    @Test
+    @DisplayName("MP4가 아니면 Video 생성 시 InvalidVideoFormatException이 발생하고 spool/저장이 호출되지 않는다.")
+    void createVideo_fail_invalidFormat() {
+        // given
+        VideoInfoRequest req = VideoInfoRequest.builder()
+                .title("title")
+                .build();
+
+        MultipartFile videoSource = mock(MultipartFile.class);
+        given(videoSource.isEmpty()).willReturn(false);
+        given(videoDurationExtractor.supports(any(), any())).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> videoService.createVideo(req, videoSource, null, "test_pet_id", "test_owner_id"))
+                .isInstanceOf(InvalidVideoFormatException.class);
+
+        verify(videoIngestService, never()).stage(any(), any(), any(), any(), any());
+        verify(videoRepository, never()).save(any());
     }
 
 
@@ -109,6 +181,7 @@ public class VideoServiceTest {
                 .isInstanceOf(VideoSourceRequiredException.class);
 
         verify(fileStorageService, never()).upload(any(), anyString());
+        verify(videoIngestService, never()).stage(any(), any(), any(), any(), any());
         verify(videoRepository, never()).save(any());
     }
 
@@ -137,7 +210,7 @@ public class VideoServiceTest {
         given(videoRepository.findById(videoId)).willReturn(Optional.of(video));
 
         // when
-        Video res = videoService.getVideo(videoId, requesterId);
+        VideoResponse res = videoService.getVideo(videoId, requesterId);
 
         // then
         assertThat(res.getId()).isEqualTo(videoId);
@@ -169,7 +242,7 @@ public class VideoServiceTest {
         given(videoRepository.findById(videoId)).willReturn(Optional.of(video));
 
         // when
-        Video res = videoService.getVideo(videoId, requesterId);
+        VideoResponse res = videoService.getVideo(videoId, requesterId);
 
         // then
         assertThat(res.getId()).isEqualTo(videoId);
@@ -223,6 +296,128 @@ public class VideoServiceTest {
     }
 
 
+    @Test
+    @DisplayName("여러 Video 조회 시 한 번에 조회하고, 요청 순서를 지키며 없는 Video와 볼 수 없는 PRIVATE Video는 뺀다")
+    void getVideos_success() {
+        // given
+        Video first = Video.create("v1", "pet", "owner", "title1", "description", Visibility.PUBLIC,
+                "sourceKey1", "thumbnailKey1", 0, List.of("tag"));
+        Video hidden = Video.create("v2", "pet", "owner", "title2", "description", Visibility.PRIVATE,
+                "sourceKey2", "thumbnailKey2", 0, List.of());
+        Video last = Video.create("v3", "pet", "other", "title3", "description", Visibility.PUBLIC,
+                "sourceKey3", "thumbnailKey3", 0, List.of());
+
+        given(videoRepository.findAllById(List.of("v3", "v2", "none", "v1")))
+                .willReturn(List.of(first, hidden, last));
+
+        // when
+        List<VideoResponse> res = videoService.getVideos(List.of("v3", "v2", " none ", "v1", "v3"), "requester");
+
+        // then
+        assertThat(res).extracting(VideoResponse::getId).containsExactly("v3", "v1");
+        verify(videoRepository, times(1)).findAllById(anyIterable());
+        verify(videoRepository, never()).findById(anyString());
+    }
+
+
+    @Test
+    @DisplayName("여러 Video 조회 시 캐시된 Video는 다시 조회하지 않는다")
+    void getVideos_cached() {
+        // given
+        Video cached = Video.create("v1", "pet", "owner", "title1", "description", Visibility.PUBLIC,
+                "sourceKey1", "thumbnailKey1", 0, List.of());
+        cached.markReady(10);
+        Video loaded = Video.create("v2", "pet", "owner", "title2", "description", Visibility.PUBLIC,
+                "sourceKey2", "thumbnailKey2", 0, List.of());
+
+        given(videoRepository.findById("v1")).willReturn(Optional.of(cached));
+        given(videoRepository.findAllById(List.of("v2"))).willReturn(List.of(loaded));
+        videoService.getVideo("v1", null);
+
+        // when
+        List<VideoResponse> res = videoService.getVideos(List.of("v1", "v2"), null);
+
+        // then
+        assertThat(res).extracting(VideoResponse::getId).containsExactly("v1", "v2");
+        verify(videoRepository, times(1)).findAllById(List.of("v2"));
+    }
+
+
+    @Test
+    @DisplayName("한 번에 조회할 수 있는 id 수를 넘으면 BatchSizeExceededException이 발생하고 조회하지 않는다")
+    void getVideos_fail_tooManyIds() {
+        // given
+        List<String> ids = IntStream.rangeClosed(0, 100).mapToObj(i -> "v" + i).toList();
+
+        // when & then
+        assertThatThrownBy(() -> videoService.getVideos(ids, null))
+                .isInstanceOf(BatchSizeExceededException.class);
+        verifyNoInteractions(videoRepository);
+    }
+
+
+    @Test
+    @DisplayName("다른 사람이 Pet의 동영상 목록을 조회하면 PUBLIC만 조회하고, 다음 페이지 cursor로 마지막 항목 뒤부터 조회한다")
+    void listVideos_success_nextPage() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        List<VideoSummaryResponse> rows = IntStream.range(0, 3)
+                .mapToObj(i -> new VideoSummaryResponse("v" + i, "pet", "owner", "title", Visibility.PUBLIC, VideoStatus.READY,
+                        10, null, 0, 0, 0, now.minusSeconds(i), now))
+                .toList();
+        VideoSummaryResponse last = rows.get(1);
+
+        given(videoRepository.findPage(eq("pet"), isNull(), eq(Visibility.PUBLIC), isNull(), isNull(), isNull(), any(Pageable.class)))
+                .willReturn(rows);
+        given(videoRepository.findPage(eq("pet"), isNull(), eq(Visibility.PUBLIC), isNull(),
+                eq(last.createdAt()), eq(last.id()), any(Pageable.class)))
+                .willReturn(List.of(rows.get(2)));
+
+        // when
+        CursorPageResponse<VideoSummaryResponse> first = videoService.listVideos("pet", null, null, null, null, 2, "requester");
+        CursorPageResponse<VideoSummaryResponse> second = videoService.listVideos("pet", null, null, null, first.nextCursor(), 2, "requester");
+
+        // then
+        assertThat(first.items()).extracting(VideoSummaryResponse::id).containsExactly("v0", "v1");
+        assertThat(first.nextCursor()).isNotNull();
+        assertThat(second.items()).extracting(VideoSummaryResponse::id).containsExactly("v2");
+        assertThat(second.nextCursor()).isNull();
+
+        ArgumentCaptor<Pageable> captor = ArgumentCaptor.forClass(Pageable.class);
+        verify(videoRepository, times(2)).findPage(any(), any(), any(), any(), any(), any(), captor.capture());
+        assertThat(captor.getValue().getPageSize()).isEqualTo(3); // 다음 페이지 확인용 1개 더
+    }
+
+
+    @Test
+    @DisplayName("작성자 본인이 조회하면 PRIVATE 동영상도 조회하고, 다른 사람이 PRIVATE만 요청하면 조회하지 않는다")
+    void listVideos_private() {
+        // given
+        given(videoRepository.findPage(isNull(), eq("owner"), isNull(), eq(VideoStatus.READY), isNull(), isNull(), any(Pageable.class)))
+                .willReturn(List.of());
+
+        // when
+        videoService.listVideos(null, "owner", null, VideoStatus.READY, null, null, "owner");
+        CursorPageResponse<VideoSummaryResponse> res = videoService.listVideos(null, "owner", Visibility.PRIVATE, null, null, null, "requester");
+
+        // then
+        assertThat(res.items()).isEmpty();
+        verify(videoRepository, times(1)).findPage(any(), any(), any(), any(), any(), any(), any());
+    }
+
+
+    @Test
+    @DisplayName("petId, ownerId가 모두 없거나 cursor 형식이 잘못되면 InvalidListRequestException이 발생하고 조회하지 않는다")
+    void listVideos_fail_invalidRequest() {
+        // when & then
+        assertThatThrownBy(() -> videoService.listVideos(null, null, null, null, null, null, "requester"))
+                .isInstanceOf(InvalidListRequestException.class);
+        assertThatThrownBy(() -> videoService.listVideos("pet", null, null, null, "not-a-cursor", null, "requester"))
+                .isInstanceOf(InvalidListRequestException.class);
+        verifyNoInteractions(videoRepository);
+    }
+
+
     @Test
     @DisplayName("Video 수정 시 메타데이터가 업데이트 된다 (thumbnail 없음)")
     void updateVideo_success_metadataOnly() {
@@ -270,7 +465,7 @@ public class VideoServiceTest {
 
 
     @Test
-    @DisplayName("Video 수정 시 thumbnailKey와 메타데이터가 업데이트 된다.")
+    @DisplayName("Video 수정 시 thumbnailKey와 메타데이터가 업데이트 되고, 이전 썸네일과 축소본은 삭제 큐에 기록된다.")
     void updateVideo_success_withThumbnail() {
         // given
         String videoId = "test_video_id";
@@ -288,6 +483,7 @@ public class VideoServiceTest {
                 0,
                 List.of("oldTag")
         );
+        video.addThumbnailRenditions(List.of(new ImageRendition("oldThumbnailKey", 320, "oldThumbnailKey_w320")));
 
         given(videoRepository.findById(videoId)).willReturn(Optional.of(video));
 
@@ -310,6 +506,8 @@ public class VideoServiceTest {
         verify(fileStorageService, times(1)).upload(eq(thumbnail), anyString());
 
         assertThat(video.getThumbnailKey()).isEqualTo("videos/test_video_id/thumbnail/newThumbKey");
+        assertThat(video.getThumbnailRenditions()).isEmpty();
+        verify(objectDeletionQueue, times(1)).enqueue(List.of("oldThumbnailKey", "oldThumbnailKey_w320"));
     }
 
 
@@ -397,6 +595,9 @@ public class VideoServiceTest {
 
         //then
         verify(videoRepository, times(1)).findById(videoId);
+        verify(objectDeletionQueue, times(1)).enqueue(List.of("sourceKey", "thumbKey"));
+        verify(objectDeletionQueue, never()).enqueuePrefix(anyString());
+        verify(fileStorageService, never()).deleteAll(any());
         verify(videoRepository, times(1)).delete(video);
     }
 
@@ -449,4 +650,234 @@ public class VideoServiceTest {
         verify(videoRepository, times(1)).findById(videoId);
         verify(videoRepository, never()).delete(any());
     }
+
+    @Test
+    @DisplayName("직접 업로드 요청 크기가 최대 크기를 넘으면 row를 만들거나 URL을 발급하지 않고 InvalidUploadRequestException이 발생한다")
+    void createDirectUpload_fail_tooLarge() {
+        // given
+        VideoInfoRequest info = VideoInfoRequest.builder()
+                .title("title")
+                .visibility(Visibility.PUBLIC)
+                .build();
+        DirectUploadRequest request = DirectUploadRequest.builder()
+                .info(info)
+                .size(1024 * 1024 + 1)
+                .contentType("video/mp4")
+                .filename("a.mp4")
+                .build();
+        given(videoDurationExtractor.supports("video/mp4", "a.mp4")).willReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> videoService.createDirectUpload(request, "test_pet_id", "test_owner_id"))
+                .isInstanceOf(InvalidUploadRequestException.class);
+        verify(videoRepository, never()).save(any());
+        verify(fileStorageService, never()).createUploadUrl(anyString(), any(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("직접 업로드된 원본이 최대 크기를 넘으면 길이를 추출하지 않고 업로드된 객체를 삭제 큐에 기록한 뒤 FAILED로 전이한다")
+    void completeDirectUpload_fail_tooLarge() {
+        // given
+        String videoId = "test_video_id";
+        String ownerId = "test_owner_id";
+        Video video = Video.create(videoId, "test_pet_id", ownerId, "title", "description",
+                Visibility.PUBLIC, "sourceKey", null, 0, List.of());
+
+        given(videoRepository.findById(videoId)).willReturn(Optional.of(video));
+        given(videoRepository.findUncached(videoId)).willReturn(Optional.of(video));
+        given(fileStorageService.stat("sourceKey"))
+                .willReturn(Optional.of(new StoredObject("sourceKey", 1024 * 1024 + 1, "video/mp4", "etag")));
+
+        // when
+        Video result = videoService.completeDirectUpload(videoId, ownerId);
+
+        // then
+        assertThat(result.getStatus()).isEqualTo(VideoStatus.FAILED);
+        verify(videoDurationExtractor, never()).extractDurationSec(any(InputStream.class));
+        verify(objectDeletionQueue, times(1)).enqueue(Arrays.asList("sourceKey", null));
+        verify(fileStorageService, never()).deleteAll(any());
+    }
+
+    @Test
+    @DisplayName("직접 업로드 완료 시 HEAD로 원본을 확인하고 ranged read로 길이를 추출해 READY로 전이한다")
+    void completeDirectUpload_success() {
+        // given
+        String videoId = "test_video_id";
+        String ownerId = "test_owner_id";
+        Video video = Video.create(videoId, "test_pet_id", ownerId, "title", "description",
+                Visibility.PUBLIC, "sourceKey", "thumbKey", 0, List.of());
+
+        given(videoRepository.findById(videoId)).willReturn(Optional.of(video));
+        given(videoRepository.findUncached(videoId)).willReturn(Optional.of(video));
+        given(fileStorageService.stat("sourceKey"))
+                .willReturn(Optional.of(new StoredObject("sourceKey", 1024, "video/mp4", "etag")));
+        given(fileStorageService.stat("thumbKey")).willReturn(Optional.empty());
+        given(videoDurationExtractor.extractDurationSec(any(InputStream.class))).willReturn(30);
+
+        // when
+        Video result = videoService.completeDirectUpload(videoId, ownerId);
+
+        // then
+        assertThat(result.getStatus()).isEqualTo(VideoStatus.READY);
+        assertThat(result.getDurationSec()).isEqualTo(30);
+        assertThat(result.getThumbnailKey()).isNull(); // 썸네일은 올라오지 않았으므로 비운다
+        verify(fileStorageService, never()).deleteAll(any());
+
+        // 스토리지 확인을 모두 마친 뒤에 상태 전이 트랜잭션을 연다
+        InOrder inOrder = inOrder(fileStorageService, videoDurationExtractor, videoRepository);
+        inOrder.verify(fileStorageService).stat("sourceKey");
+        inOrder.verify(videoDurationExtractor).extractDurationSec(any(InputStream.class));
+        inOrder.verify(videoRepository).findUncached(videoId);
+    }
+
+
+    @Test
+    @DisplayName("직접 업로드된 원본이 MP4로 해석되지 않으면 업로드된 객체를 삭제 큐에 기록하고 FAILED로 전이한다")
+    void completeDirectUpload_fail_invalidMp4() {
+        // given
+        String videoId = "test_video_id";
+        String ownerId = "test_owner_id";
+        Video video = Video.create(videoId, "test_pet_id", ownerId, "title", "description",
+                Visibility.PUBLIC, "sourceKey", null, 0, List.of());
+
+        given(videoRepository.findById(videoId)).willReturn(Optional.of(video));
+        given(videoRepository.findUncached(videoId)).willReturn(Optional.of(video));
+        given(fileStorageService.stat("sourceKey"))
+                .willReturn(Optional.of(new StoredObject("sourceKey", 1024, "video/mp4", "etag")));
+        given(videoDurationExtractor.extractDurationSec(any(InputStream.class)))
+                .willThrow(new VideoDurationExtractFailedException("Invalid MP4: moov box not found"));
+
+        // when
+        Video result = videoService.completeDirectUpload(videoId, ownerId);
+
+        // then
+        assertThat(result.getStatus()).isEqualTo(VideoStatus.FAILED);
+        assertThat(result.getSourceKey()).isNull();
+        verify(objectDeletionQueue, times(1)).enqueue(Arrays.asList("sourceKey", null));
+        verify(fileStorageService, never()).deleteAll(any());
+    }
+
+
+    @Test
+    @DisplayName("직접 업로드 완료 요청 시 원본 객체가 없으면 InvalidUploadRequestException이 발생한다")
+    void completeDirectUpload_fail_sourceNotUploaded() {
+        // given
+        String videoId = "test_video_id";
+        String ownerId = "test_owner_id";
+        Video video = Video.create(videoId, "test_pet_id", ownerId, "title", "description",
+                Visibility.PUBLIC, "sourceKey", null, 0, List.of());
+
+        given(videoRepository.findById(videoId)).willReturn(Optional.of(video));
+        given(fileStorageService.stat("sourceKey")).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> videoService.completeDirectUpload(videoId, ownerId))
+                .isInstanceOf(InvalidUploadRequestException.class);
+        assertThat(video.getStatus()).isEqualTo(VideoStatus.UPLOADING);
+        verify(videoRepository, never()).findUncached(any());
+    }
+
+    @Test
+    @DisplayName("재생용 원본 조회 시 READY 상태면 스토리지 메타데이터를 반환한다")
+    void getVideoSource_success() {
+        // given
+        String videoId = "test_video_id";
+        Video video = Video.create(videoId, "test_pet_id", "test_owner_id", "title", "description",
+                Visibility.PUBLIC, "sourceKey", null, 0, List.of());
+        video.markReady(30);
+        StoredObject source = new StoredObject("sourceKey", 1024, "video/mp4", "\"etag\"");
+
+        given(videoRepository.findById(videoId)).willReturn(Optional.of(video));
+        given(fileStorageService.stat("sourceKey")).willReturn(Optional.of(source));
+
+        // when
+        StoredObject result = videoService.getVideoSource(videoId, null);
+
+        // then
+        assertThat(result).isEqualTo(source);
+    }
+
+
+    @Test
+    @DisplayName("재생용 원본 조회 시 아직 처리 중이면 VideoNotReadyException이 발생한다")
+    void getVideoSource_fail_notReady() {
+        // given
+        String videoId = "test_video_id";
+        Video video = Video.create(videoId, "test_pet_id", "test_owner_id", "title", "description",
+                Visibility.PUBLIC, "sourceKey", null, 0, List.of());
+
+        given(videoRepository.findById(videoId)).willReturn(Optional.of(video));
+
+        // when & then
+        assertThatThrownBy(() -> videoService.getVideoSource(videoId, null))
+                .isInstanceOf(VideoNotReadyException.class);
+        verify(fileStorageService, never()).stat(anyString());
+    }
+
+    @Test
+    @DisplayName("READY 동영상은 snapshot을 캐시해 다시 조회하지 않는다")
+    void getVideo_cached_ready() {
+        // given
+        String videoId = "test_video_id";
+        Video video = Video.create(videoId, "test_pet_id", "test_owner_id", "title", "description",
+                Visibility.PUBLIC, "sourceKey", null, 0, List.of("tag"));
+        video.markReady(30);
+
+        given(videoRepository.findById(videoId)).willReturn(Optional.of(video));
+
+        // when
+        VideoResponse first = videoService.getVideo(videoId, null);
+        VideoResponse second = videoService.getVideo(videoId, null);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(second.getTags()).containsExactly("tag");
+        verify(videoRepository, times(1)).findById(videoId);
+    }
+
+
+    @Test
+    @DisplayName("처리 중인 동영상은 상태가 바뀌므로 캐시하지 않는다")
+    void getVideo_notCached_uploading() {
+        // given
+        String videoId = "test_video_id";
+        Video video = Video.create(videoId, "test_pet_id", "test_owner_id", "title", "description",
+                Visibility.PUBLIC, "sourceKey", null, 0, List.of());
+
+        given(videoRepository.findById(videoId)).willReturn(Optional.of(video));
+
+        // when
+        videoService.getVideo(videoId, null);
+        video.markReady(30);
+        VideoResponse res = videoService.getVideo(videoId, null);
+
+        // then
+        assertThat(res.getStatus()).isEqualTo(VideoStatus.READY);
+        verify(videoRepository, times(2)).findById(videoId);
+    }
+
+
+    @Test
+    @DisplayName("Video 수정 후 조회하면 캐시를 비우고 수정된 값을 반환한다")
+    void getVideo_invalidatedByUpdate() {
+        // given
+        String videoId = "test_video_id";
+        String ownerId = "test_owner_id";
+        Video video = Video.create(videoId, "test_pet_id", ownerId, "title", "description",
+                Visibility.PUBLIC, "sourceKey", null, 0, List.of());
+        video.markReady(30);
+        VideoInfoRequest req = new VideoInfoRequest();
+        req.setTitle("new title");
+
+        given(videoRepository.findById(videoId)).willReturn(Optional.of(video));
+        videoService.getVideo(videoId, null);
+
+        // when
+        videoService.updateVideo(videoId, req, null, ownerId);
+        VideoResponse res = videoService.getVideo(videoId, null);
+
+        // then
+        assertThat(res.getTitle()).isEqualTo("new title");
+        verify(videoSnapshotCache).invalidate(videoId);
+    }
 }
@@ -0,0 +1,81 @@
+package com.petstarproject.petstar.service.admission;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class UploadAdmissionFilterTest {
+
+    private UploadAdmissionLimiter limiter;
+    private UploadAdmissionFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new UploadAdmissionLimiter(new SimpleMeterRegistry(), 1, 1_000, 0, 0, 100);
+        filter = new UploadAdmissionFilter(limiter, new ObjectMapper(), 7);
+    }
+
+    private MockHttpServletRequest upload() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/videos");
+        request.setContentType(MediaType.MULTIPART_FORM_DATA_VALUE + "; boundary=x");
+        request.setContent(new byte[10]);
+        return request;
+    }
+
+    @Test
+    @DisplayName("자리가 있으면 요청을 처리하고 끝나면 자리를 반납한다")
+    void doFilter_admit() throws Exception {
+        // given
+        FilterChain chain = mock(FilterChain.class);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(upload(), response, chain);
+
+        // then
+        verify(chain).doFilter(any(), any());
+        assertThat(limiter.getInFlightRequests()).isZero();
+    }
+
+    @Test
+    @DisplayName("자리가 없으면 body를 읽지 않고 503과 Retry-After로 응답한다")
+    void doFilter_reject() throws Exception {
+        // given
+        limiter.tryAcquire(10).orElseThrow();
+        FilterChain chain = mock(FilterChain.class);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(upload(), response, chain);
+
+        // then
+        verify(chain, never()).doFilter(any(), any());
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("7");
+    }
+
+    @Test
+    @DisplayName("업로드가 아닌 요청은 제한하지 않는다")
+    void doFilter_skipReads() throws Exception {
+        // given
+        limiter.tryAcquire(10).orElseThrow();
+        FilterChain chain = mock(FilterChain.class);
+
+        // when
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/videos/v1/stream"), new MockHttpServletResponse(), chain);
+
+        // then
+        verify(chain).doFilter(any(), any());
+    }
+}
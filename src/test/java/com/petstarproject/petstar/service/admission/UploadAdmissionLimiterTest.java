@@ -0,0 +1,98 @@
+package com.petstarproject.petstar.service.admission;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UploadAdmissionLimiterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private UploadAdmissionLimiter limiter(int maxConcurrent, long maxInFlightBytes, int maxQueue, long maxWaitMillis) {
+        return new UploadAdmissionLimiter(meterRegistry, maxConcurrent, maxInFlightBytes, maxQueue, maxWaitMillis, 100);
+    }
+
+    @Test
+    @DisplayName("동시 요청 수 한도를 넘으면 대기 시간 후 거절한다")
+    void tryAcquire_rejectConcurrent() {
+        // given
+        UploadAdmissionLimiter limiter = limiter(1, 1_000, 4, 50);
+        Optional<UploadAdmissionLimiter.Permit> first = limiter.tryAcquire(10);
+
+        // when
+        Optional<UploadAdmissionLimiter.Permit> second = limiter.tryAcquire(10);
+
+        // then
+        assertThat(first).isPresent();
+        assertThat(second).isEmpty();
+        assertThat(meterRegistry.counter("upload.admission.rejected").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("처리 중인 byte 합이 한도를 넘으면 거절하고, 반납되면 다시 받는다")
+    void tryAcquire_bytes() {
+        // given
+        UploadAdmissionLimiter limiter = limiter(10, 100, 4, 0);
+        UploadAdmissionLimiter.Permit first = limiter.tryAcquire(80).orElseThrow();
+
+        // when & then
+        assertThat(limiter.tryAcquire(30)).isEmpty();
+
+        first.close();
+        first.close(); // 중복 반납은 무시
+
+        assertThat(limiter.getInFlightRequests()).isZero();
+        assertThat(limiter.getInFlightBytes()).isZero();
+        assertThat(limiter.tryAcquire(30)).isPresent();
+    }
+
+    @Test
+    @DisplayName("한도보다 큰 요청도 처리 중인 업로드가 없으면 받는다")
+    void tryAcquire_oversizedAlone() {
+        // given
+        UploadAdmissionLimiter limiter = limiter(10, 100, 4, 0);
+
+        // when & then
+        assertThat(limiter.tryAcquire(1_000)).isPresent();
+        assertThat(limiter.tryAcquire(1)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("대기 중인 요청은 자리가 반납되면 시간 안에 처리된다")
+    void tryAcquire_waitForRelease() throws Exception {
+        // given
+        UploadAdmissionLimiter limiter = limiter(1, 1_000, 4, 5_000);
+        UploadAdmissionLimiter.Permit first = limiter.tryAcquire(10).orElseThrow();
+
+        // when
+        CompletableFuture<Optional<UploadAdmissionLimiter.Permit>> waiter =
+                CompletableFuture.supplyAsync(() -> limiter.tryAcquire(10));
+        Thread.sleep(50);
+        first.close();
+
+        // then
+        assertThat(waiter.get(5, TimeUnit.SECONDS)).isPresent();
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 기다리지 않고 바로 거절한다")
+    void tryAcquire_queueFull() {
+        // given
+        UploadAdmissionLimiter limiter = limiter(1, 1_000, 0, 5_000);
+        limiter.tryAcquire(10).orElseThrow();
+
+        // when
+        long start = System.nanoTime();
+        Optional<UploadAdmissionLimiter.Permit> rejected = limiter.tryAcquire(10);
+
+        // then
+        assertThat(rejected).isEmpty();
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(1_000);
+    }
+}
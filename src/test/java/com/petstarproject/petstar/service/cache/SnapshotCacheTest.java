@@ -0,0 +1,60 @@
+package com.petstarproject.petstar.service.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SnapshotCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SnapshotCache<String> cache =
+            new SnapshotCache<>("test", 1_000, Duration.ofMinutes(1), String::length, meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("캐시에 없을 때만 조회하고 hit/miss를 기록한다")
+    void get_hitAndMiss() {
+        // when
+        String first = cache.get("id", id -> "value");
+        String second = cache.get("id", id -> "other");
+
+        // then
+        assertThat(first).isEqualTo("value");
+        assertThat(second).isEqualTo("value");
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "test").tag("result", "hit").functionCounter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "test").tag("result", "miss").functionCounter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 중 비우면 트랜잭션이 끝난 뒤 다시 채워진 값도 비운다")
+    void invalidate_afterCompletion() {
+        // given
+        cache.get("id", id -> "old");
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        cache.invalidate("id");
+        cache.get("id", id -> "stale"); // commit 전 다른 요청이 이전 값을 다시 채움
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        // then
+        assertThat(cache.getIfPresent("id")).isEmpty();
+        assertThat(cache.get("id", id -> "new")).isEqualTo("new");
+    }
+}
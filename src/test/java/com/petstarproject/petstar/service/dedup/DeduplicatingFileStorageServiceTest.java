@@ -0,0 +1,126 @@
+package com.petstarproject.petstar.service.dedup;
+
+import com.petstarproject.petstar.service.FileStorageService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DeduplicatingFileStorageServiceTest {
+
+    // "hello"의 SHA-256
+    private static final String HELLO_SHA256 = "2cf24dba5fb0a30e26e83b2ac5b9e29e1b161e5c1fa7425e73043362938b9824";
+
+    @Mock
+    private FileStorageService delegate;
+
+    @Mock
+    private BlobRegistry blobRegistry;
+
+    private DeduplicatingFileStorageService storageService;
+
+    @BeforeEach
+    void setUp() {
+        storageService = new DeduplicatingFileStorageService(delegate, blobRegistry, Pattern.compile("videos/[^/]+/hls/.*"));
+    }
+
+    @Test
+    @DisplayName("같은 내용의 파일이 이미 있으면 업로드하지 않고 기존 key를 반환한다")
+    void uploadMultipart_duplicate() {
+        // given
+        MockMultipartFile file = new MockMultipartFile("image", "a.png", "image/png", "hello".getBytes());
+        given(blobRegistry.acquire(HELLO_SHA256)).willReturn(Optional.of("pets/p1/profile/existing"));
+
+        // when
+        String key = storageService.upload(file, "pets/p2/profile/new");
+
+        // then
+        assertThat(key).isEqualTo("pets/p1/profile/existing");
+        verify(delegate, never()).upload(any(MockMultipartFile.class), anyString());
+    }
+
+    @Test
+    @DisplayName("처음 보는 내용이면 업로드 후 요청한 key로 등록한다")
+    void uploadMultipart_new() {
+        // given
+        MockMultipartFile file = new MockMultipartFile("image", "a.png", "image/png", "hello".getBytes());
+        given(blobRegistry.acquire(HELLO_SHA256)).willReturn(Optional.empty());
+        given(delegate.upload(file, "pets/p2/profile/new")).willReturn("pets/p2/profile/new");
+        given(blobRegistry.register(HELLO_SHA256, "pets/p2/profile/new", 5L, "image/png")).willReturn("pets/p2/profile/new");
+
+        // when
+        String key = storageService.upload(file, "pets/p2/profile/new");
+
+        // then
+        assertThat(key).isEqualTo("pets/p2/profile/new");
+        verify(delegate, never()).delete(anyString());
+    }
+
+    @Test
+    @DisplayName("스트림 업로드 후 같은 내용이 이미 등록되어 있으면 방금 올린 객체를 지우고 기존 key를 반환한다")
+    void uploadStream_duplicate() {
+        // given
+        given(delegate.upload(any(InputStream.class), eq(5L), eq("video/mp4"), eq("videos/v2/source/s"), anyList()))
+                .willCallRealMethod();
+        given(delegate.upload(any(InputStream.class), eq(5L), eq("video/mp4"), eq("videos/v2/source/s")))
+                .willAnswer(invocation -> {
+                    invocation.getArgument(0, InputStream.class).readAllBytes();
+                    return "videos/v2/source/s";
+                });
+        given(blobRegistry.register(HELLO_SHA256, "videos/v2/source/s", 5L, "video/mp4")).willReturn("videos/v1/source/s");
+
+        // when
+        String key = storageService.upload(new ByteArrayInputStream("hello".getBytes()), 5L, "video/mp4", "videos/v2/source/s");
+
+        // then
+        assertThat(key).isEqualTo("videos/v1/source/s");
+        verify(delegate).delete("videos/v2/source/s");
+    }
+
+    @Test
+    @DisplayName("제외 패턴에 맞는 key는 중복 제거 없이 그대로 업로드/삭제한다")
+    void excludedKey() {
+        // given
+        InputStream in = new ByteArrayInputStream("hello".getBytes());
+        given(delegate.upload(in, 5L, "video/iso.segment", "videos/v1/hls/segment_00000.m4s"))
+                .willReturn("videos/v1/hls/segment_00000.m4s");
+
+        // when
+        storageService.upload(in, 5L, "video/iso.segment", "videos/v1/hls/segment_00000.m4s");
+        storageService.delete("videos/v1/hls/segment_00000.m4s");
+
+        // then
+        verifyNoInteractions(blobRegistry);
+        verify(delegate).delete("videos/v1/hls/segment_00000.m4s");
+    }
+
+    @Test
+    @DisplayName("deleteAll은 다른 레코드가 아직 참조 중인 객체를 남기고 나머지만 삭제한다")
+    void deleteAll_refCount() {
+        // given
+        given(blobRegistry.release("k1")).willReturn(BlobRegistry.Release.STILL_REFERENCED);
+        given(blobRegistry.release("k2")).willReturn(BlobRegistry.Release.LAST_REFERENCE);
+        given(blobRegistry.release("k3")).willReturn(BlobRegistry.Release.UNTRACKED);
+
+        // when
+        storageService.deleteAll(List.of("k1", "k2", "k3"));
+
+        // then
+        verify(delegate).deleteAll(List.of("k2", "k3"));
+    }
+}
@@ -0,0 +1,159 @@
+package com.petstarproject.petstar.service.deletion;
+
+import com.petstarproject.petstar.entity.PendingObjectDeletion;
+import com.petstarproject.petstar.exception.FileStorageException;
+import com.petstarproject.petstar.service.FileStorageService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ObjectDeletionDrainerTest {
+
+    @Mock
+    ObjectDeletionQueue objectDeletionQueue;
+
+    @Mock
+    FileStorageService fileStorageService;
+
+    SimpleMeterRegistry meterRegistry;
+
+    ObjectDeletionDrainer drainer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        drainer = new ObjectDeletionDrainer(objectDeletionQueue, fileStorageService, meterRegistry, 1000, 10);
+    }
+
+    @Test
+    @DisplayName("대기 중인 key를 한 번의 deleteAll로 삭제하고 실패한 key만 재시도로 돌린다")
+    void drain_partialFailure() {
+        // given
+        PendingObjectDeletion d1 = PendingObjectDeletion.ofKey("d1", "posts/p1/images/a");
+        PendingObjectDeletion d2 = PendingObjectDeletion.ofKey("d2", "posts/p1/images/b");
+        PendingObjectDeletion d3 = PendingObjectDeletion.ofKey("d3", "posts/p1/images/c");
+
+        given(objectDeletionQueue.claim(1000)).willReturn(List.of(d1, d2, d3));
+        given(objectDeletionQueue.release(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+        given(fileStorageService.deleteAll(List.of("posts/p1/images/a", "posts/p1/images/b", "posts/p1/images/c")))
+                .willReturn(List.of("posts/p1/images/b"));
+
+        // when
+        drainer.drain();
+
+        // then
+        verify(fileStorageService, times(1)).deleteAll(anyList());
+        verify(objectDeletionQueue).complete(List.of("d1", "d3"));
+        verify(objectDeletionQueue).retry(eq(List.of("d2")), anyString());
+        assertThat(meterRegistry.counter("storage.deletion.deleted").count()).isEqualTo(2);
+        assertThat(meterRegistry.counter("storage.deletion.failed").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("deleteAll 자체가 실패하면 가져온 항목을 모두 재시도로 돌린다")
+    void drain_failure() {
+        // given
+        PendingObjectDeletion d1 = PendingObjectDeletion.ofKey("d1", "videos/v1/source/s");
+        PendingObjectDeletion d2 = PendingObjectDeletion.ofKey("d2", "videos/v1/thumbnail/t");
+
+        given(objectDeletionQueue.claim(1000)).willReturn(List.of(d1, d2));
+        given(objectDeletionQueue.release(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+        given(fileStorageService.deleteAll(anyList())).willThrow(new FileStorageException("S3 error"));
+
+        // when
+        drainer.drain();
+
+        // then
+        verify(objectDeletionQueue, never()).complete(anyList());
+        verify(objectDeletionQueue).retry(List.of("d1", "d2"), "S3 error");
+        assertThat(meterRegistry.counter("storage.deletion.failed").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("다른 레코드가 아직 참조 중이라 참조만 해제된 항목은 삭제하지 않는다")
+    void drain_stillReferenced() {
+        // given
+        PendingObjectDeletion d1 = PendingObjectDeletion.ofKey("d1", "posts/p1/images/a");
+        PendingObjectDeletion d2 = PendingObjectDeletion.ofKey("d2", "posts/p2/images/shared");
+
+        given(objectDeletionQueue.claim(1000)).willReturn(List.of(d1, d2));
+        given(objectDeletionQueue.release(List.of(d1, d2))).willReturn(List.of(d1));
+        given(fileStorageService.deleteAll(List.of("posts/p1/images/a"))).willReturn(List.of());
+
+        // when
+        drainer.drain();
+
+        // then
+        verify(fileStorageService).deleteAll(List.of("posts/p1/images/a"));
+        verify(objectDeletionQueue).complete(List.of("d1"));
+    }
+
+    @Test
+    @DisplayName("참조 해제에 실패하면 삭제하지 않고 가져온 항목을 모두 재시도로 돌린다")
+    void drain_releaseFailure() {
+        // given
+        PendingObjectDeletion d1 = PendingObjectDeletion.ofKey("d1", "posts/p1/images/a");
+
+        given(objectDeletionQueue.claim(1000)).willReturn(List.of(d1));
+        given(objectDeletionQueue.release(anyList())).willThrow(new IllegalStateException("lock timeout"));
+
+        // when
+        drainer.drain();
+
+        // then
+        verify(fileStorageService, never()).deleteAll(anyList());
+        verify(objectDeletionQueue).retry(List.of("d1"), "lock timeout");
+    }
+
+    @Test
+    @DisplayName("prefix 항목은 삭제하지 않고 조회한 key 항목으로 바꾼다")
+    void drain_expandPrefix() {
+        // given
+        PendingObjectDeletion prefix = PendingObjectDeletion.ofPrefix("d1", "videos/v1/hls/");
+
+        given(objectDeletionQueue.claim(1000)).willReturn(List.of(prefix));
+        given(fileStorageService.listKeys("videos/v1/hls/"))
+                .willReturn(List.of("videos/v1/hls/init.mp4", "videos/v1/hls/playlist.m3u8"));
+
+        // when
+        drainer.drain();
+
+        // then
+        verify(objectDeletionQueue).expandPrefix("d1", List.of("videos/v1/hls/init.mp4", "videos/v1/hls/playlist.m3u8"));
+        verify(fileStorageService, never()).deleteAll(anyList());
+    }
+
+    @Test
+    @DisplayName("가져온 항목이 배치 크기만큼 차면 다음 배치를 이어서 처리한다")
+    void drain_multipleBatches() {
+        // given
+        drainer = new ObjectDeletionDrainer(objectDeletionQueue, fileStorageService, meterRegistry, 1, 10);
+
+        given(objectDeletionQueue.claim(anyInt()))
+                .willReturn(List.of(PendingObjectDeletion.ofKey("d1", "k1")))
+                .willReturn(List.of(PendingObjectDeletion.ofKey("d2", "k2")))
+                .willReturn(List.of());
+        given(objectDeletionQueue.release(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        drainer.drain();
+
+        // then
+        verify(objectDeletionQueue, times(3)).claim(1);
+        verify(fileStorageService).deleteAll(List.of("k1"));
+        verify(fileStorageService).deleteAll(List.of("k2"));
+    }
+}
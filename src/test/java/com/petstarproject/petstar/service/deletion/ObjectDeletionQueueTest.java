@@ -0,0 +1,71 @@
+package com.petstarproject.petstar.service.deletion;
+
+import com.petstarproject.petstar.entity.PendingObjectDeletion;
+import com.petstarproject.petstar.repository.PendingObjectDeletionRepository;
+import com.petstarproject.petstar.service.dedup.BlobRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ObjectDeletionQueueTest {
+
+    @Mock
+    PendingObjectDeletionRepository pendingObjectDeletionRepository;
+
+    @Mock
+    BlobRegistry blobRegistry;
+
+    ObjectDeletionQueue objectDeletionQueue;
+
+    @BeforeEach
+    void setUp() {
+        objectDeletionQueue = new ObjectDeletionQueue(pendingObjectDeletionRepository, blobRegistry, true, 300, 30, 3600);
+    }
+
+    @Test
+    @DisplayName("참조를 해제한 항목은 기록해두고, 다시 시도할 때는 참조 수를 줄이지 않고 삭제만 다시 한다")
+    void release_onlyOncePerRow() {
+        // given
+        PendingObjectDeletion deletion = PendingObjectDeletion.ofKey("d1", "posts/p1/images/a");
+        given(pendingObjectDeletionRepository.findAllById(List.of("d1"))).willReturn(List.of(deletion));
+        given(blobRegistry.releaseInTransaction("posts/p1/images/a")).willReturn(BlobRegistry.Release.LAST_REFERENCE);
+
+        // when
+        List<PendingObjectDeletion> first = objectDeletionQueue.release(List.of(deletion));
+        List<PendingObjectDeletion> retried = objectDeletionQueue.release(List.of(deletion));
+
+        // then
+        assertThat(first).containsExactly(deletion);
+        assertThat(retried).containsExactly(deletion);
+        assertThat(deletion.isReleased()).isTrue();
+        verify(blobRegistry, times(1)).releaseInTransaction("posts/p1/images/a");
+    }
+
+    @Test
+    @DisplayName("다른 레코드가 아직 참조 중인 객체는 삭제 대상에서 빼고 항목을 완료한다")
+    void release_stillReferenced() {
+        // given
+        PendingObjectDeletion shared = PendingObjectDeletion.ofKey("d1", "posts/p1/images/shared");
+        PendingObjectDeletion own = PendingObjectDeletion.ofKey("d2", "posts/p2/images/own");
+        given(pendingObjectDeletionRepository.findAllById(List.of("d1", "d2"))).willReturn(List.of(shared, own));
+        given(blobRegistry.releaseInTransaction("posts/p1/images/shared")).willReturn(BlobRegistry.Release.STILL_REFERENCED);
+        given(blobRegistry.releaseInTransaction("posts/p2/images/own")).willReturn(BlobRegistry.Release.UNTRACKED);
+
+        // when
+        List<PendingObjectDeletion> released = objectDeletionQueue.release(List.of(shared, own));
+
+        // then
+        assertThat(released).containsExactly(own);
+        verify(pendingObjectDeletionRepository).delete(shared);
+    }
+}
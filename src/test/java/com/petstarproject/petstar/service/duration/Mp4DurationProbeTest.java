@@ -0,0 +1,86 @@
+package com.petstarproject.petstar.service.duration;
+
+import com.petstarproject.petstar.exception.VideoDurationExtractFailedException;
+import com.petstarproject.petstar.service.inspect.ByteCountInspector;
+import com.petstarproject.petstar.service.inspect.DigestInspector;
+import com.petstarproject.petstar.service.inspect.InspectingInputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.List;
+
+import static com.petstarproject.petstar.service.duration.Mp4ParserDurationExtractorTest.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class Mp4DurationProbeTest {
+
+    @Test
+    @DisplayName("byte를 작은 조각으로 나누어 전달해도 moov/mvhd를 찾아 영상 길이(초)를 계산한다")
+    void durationSec_chunked() {
+        // given
+        byte[] mp4 = mp4(ftyp(), mdat(4096), moov(mvhdV1(90_000, 90_000L * 61)));
+        Mp4DurationProbe probe = new Mp4DurationProbe();
+
+        // when
+        for (int off = 0; off < mp4.length; off += 7) {
+            probe.update(mp4, off, Math.min(7, mp4.length - off));
+        }
+
+        // then
+        assertThat(probe.durationSec()).isEqualTo(61);
+    }
+
+    @Test
+    @DisplayName("tee 스트림을 한 번 읽는 동안 길이, byte 수, SHA-256을 함께 계산한다")
+    void inspectingInputStream_singlePass() throws Exception {
+        // given
+        byte[] mp4 = mp4(ftyp(), mdat(1024 * 1024), moov(mvhdV0(1000, 12_500)));
+        Mp4DurationProbe probe = new Mp4DurationProbe();
+        ByteCountInspector counter = new ByteCountInspector();
+        DigestInspector digest = new DigestInspector();
+
+        // when
+        try (InputStream in = new InspectingInputStream(new ByteArrayInputStream(mp4), List.of(probe, counter, digest))) {
+            in.readAllBytes();
+        }
+
+        // then
+        assertThat(probe.durationSec()).isEqualTo(13);
+        assertThat(counter.count()).isEqualTo(mp4.length);
+        assertThat(digest.sha256Hex())
+                .isEqualTo(HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(mp4)));
+    }
+
+    @Test
+    @DisplayName("tee 스트림은 mark/reset을 지원하지 않는다")
+    void inspectingInputStream_markNotSupported() {
+        // given
+        InputStream in = new InspectingInputStream(new ByteArrayInputStream(new byte[8]), List.of());
+
+        // when & then
+        assertThat(in.markSupported()).isFalse();
+        assertThatThrownBy(in::reset).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    @DisplayName("moov box가 없으면 VideoDurationExtractFailedException이 발생한다")
+    void durationSec_fail_moovNotFound() {
+        // given
+        byte[] mp4 = mp4(ftyp(), mdat(64));
+        Mp4DurationProbe probe = new Mp4DurationProbe();
+
+        // when
+        probe.update(mp4, 0, mp4.length);
+
+        // then
+        assertThatThrownBy(probe::durationSec)
+                .isInstanceOf(VideoDurationExtractFailedException.class)
+                .hasMessageContaining("moov");
+    }
+}
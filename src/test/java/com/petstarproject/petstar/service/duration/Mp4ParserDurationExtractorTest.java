@@ -0,0 +1,197 @@
+package com.petstarproject.petstar.service.duration;
+
+import com.petstarproject.petstar.exception.InvalidVideoFormatException;
+import com.petstarproject.petstar.exception.VideoDurationExtractFailedException;
+import com.petstarproject.petstar.service.FileStorageService;
+import com.petstarproject.petstar.service.RangeReadingInputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class Mp4ParserDurationExtractorTest {
+
+    private final Mp4ParserDurationExtractor extractor = new Mp4ParserDurationExtractor();
+
+    @Test
+    @DisplayName("moov가 mdat 뒤에 있어도 mvhd의 duration/timescale로 영상 길이(초)를 추출한다")
+    void extractDurationSec_moovAtEnd() {
+        // given
+        byte[] mp4 = mp4(ftyp(), mdat(1024 * 1024), moov(mvhdV0(1000, 12_500)));
+        MockMultipartFile file = new MockMultipartFile("videoSource", "clip.mp4", "video/mp4", mp4);
+
+        // when
+        int durationSec = extractor.extractDurationSec(file);
+
+        // then
+        assertThat(durationSec).isEqualTo(13);
+    }
+
+    @Test
+    @DisplayName("version 1 mvhd(64bit duration)도 파싱한다")
+    void extractDurationSec_mvhdVersion1() {
+        // given
+        byte[] mp4 = mp4(ftyp(), moov(mvhdV1(90_000, 90_000L * 61)), mdat(128));
+        MockMultipartFile file = new MockMultipartFile("videoSource", "clip.mp4", "video/mp4", mp4);
+
+        // when
+        int durationSec = extractor.extractDurationSec(file);
+
+        // then
+        assertThat(durationSec).isEqualTo(61);
+    }
+
+    @Test
+    @DisplayName("mdat은 읽지 않고 skip 하므로 box 헤더와 mvhd 크기만큼만 읽는다")
+    void findMovieHeader_skipsMdat() throws IOException {
+        // given
+        int mdatSize = 8 * 1024 * 1024;
+        byte[] mp4 = mp4(ftyp(), mdat(mdatSize), moov(mvhdV0(600, 6_000)));
+        CountingInputStream in = new CountingInputStream(new ByteArrayInputStream(mp4));
+
+        // when
+        Mp4MovieHeader header = Mp4BoxWalker.findMovieHeader(in);
+
+        // then
+        assertThat(header.durationSec()).isEqualTo(10);
+        assertThat(in.readBytes).isLessThan(1024);
+    }
+
+    @Test
+    @DisplayName("스토리지 객체는 ranged read로 box 헤더와 moov 구간만 가져와 길이를 추출한다")
+    void extractDurationSec_rangeReadingStream() throws IOException {
+        // given
+        byte[] mp4 = mp4(ftyp(), mdat(4 * 1024 * 1024), moov(mvhdV0(1000, 12_500)));
+        FileStorageService storage = mock(FileStorageService.class);
+        given(storage.openRange(eq("key"), anyLong(), anyLong())).willAnswer(invocation -> {
+            int offset = (int) invocation.getArgument(1, Long.class).longValue();
+            int length = (int) invocation.getArgument(2, Long.class).longValue();
+            return new ByteArrayInputStream(mp4, offset, length);
+        });
+
+        // when
+        int durationSec;
+        try (InputStream in = new RangeReadingInputStream(storage, "key", mp4.length, 1024)) {
+            durationSec = extractor.extractDurationSec(in);
+        }
+
+        // then
+        assertThat(durationSec).isEqualTo(13);
+        verify(storage, atMost(3)).openRange(eq("key"), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("moov box가 없으면 VideoDurationExtractFailedException이 발생한다")
+    void extractDurationSec_fail_moovNotFound() {
+        // given
+        byte[] mp4 = mp4(ftyp(), mdat(64));
+        MockMultipartFile file = new MockMultipartFile("videoSource", "clip.mp4", "video/mp4", mp4);
+
+        // when & then
+        assertThatThrownBy(() -> extractor.extractDurationSec(file))
+                .isInstanceOf(VideoDurationExtractFailedException.class);
+    }
+
+    @Test
+    @DisplayName("MP4가 아니면 InvalidVideoFormatException이 발생한다")
+    void extractDurationSec_fail_notMp4() {
+        // given
+        MockMultipartFile file = new MockMultipartFile("videoSource", "clip.mov", "video/quicktime", new byte[]{1});
+
+        // when & then
+        assertThatThrownBy(() -> extractor.extractDurationSec(file))
+                .isInstanceOf(InvalidVideoFormatException.class);
+    }
+
+    static byte[] mp4(byte[]... boxes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] box : boxes) {
+            out.writeBytes(box);
+        }
+        return out.toByteArray();
+    }
+
+    static byte[] ftyp() {
+        return box("ftyp", ByteBuffer.allocate(8)
+                .put("isom".getBytes(StandardCharsets.ISO_8859_1))
+                .putInt(0x200)
+                .array());
+    }
+
+    static byte[] mdat(int payloadSize) {
+        return box("mdat", new byte[payloadSize]);
+    }
+
+    static byte[] moov(byte[] mvhd) {
+        return box("moov", mp4(box("free", new byte[16]), mvhd, box("trak", new byte[32])));
+    }
+
+    static byte[] mvhdV0(int timescale, int duration) {
+        ByteBuffer payload = ByteBuffer.allocate(100)
+                .putInt(0)          // version 0 + flags
+                .putInt(0)          // creation_time
+                .putInt(0)          // modification_time
+                .putInt(timescale)
+                .putInt(duration);
+        return box("mvhd", payload.array());
+    }
+
+    static byte[] mvhdV1(int timescale, long duration) {
+        ByteBuffer payload = ByteBuffer.allocate(112)
+                .putInt(1 << 24)    // version 1 + flags
+                .putLong(0)         // creation_time
+                .putLong(0)         // modification_time
+                .putInt(timescale)
+                .putLong(duration);
+        return box("mvhd", payload.array());
+    }
+
+    static byte[] box(String type, byte[] payload) {
+        return ByteBuffer.allocate(8 + payload.length)
+                .putInt(8 + payload.length)
+                .put(type.getBytes(StandardCharsets.ISO_8859_1))
+                .put(payload)
+                .array();
+    }
+
+    /**
+     * skip 된 byte는 제외하고 실제로 read 된 byte 수만 센다.
+     */
+    private static class CountingInputStream extends FilterInputStream {
+        long readBytes;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) readBytes++;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) readBytes += n;
+            return n;
+        }
+    }
+}
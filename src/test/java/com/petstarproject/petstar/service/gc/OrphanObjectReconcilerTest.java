@@ -0,0 +1,112 @@
+package com.petstarproject.petstar.service.gc;
+
+import com.petstarproject.petstar.repository.StorageReferenceRepository;
+import com.petstarproject.petstar.service.FileStorageService;
+import com.petstarproject.petstar.service.StoredObjectSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrphanObjectReconcilerTest {
+
+    private static final Instant OLD = Instant.now().minus(Duration.ofDays(3));
+
+    @Mock
+    FileStorageService fileStorageService;
+
+    @Mock
+    StorageReferenceRepository storageReferenceRepository;
+
+    private OrphanObjectReconciler reconciler(boolean dryRun, int batchSize) {
+        return new OrphanObjectReconciler(fileStorageService, storageReferenceRepository, new SimpleMeterRegistry(),
+                true, dryRun, new String[]{"videos/"}, 24, batchSize, 100);
+    }
+
+    @Test
+    @DisplayName("참조되지 않고 grace period가 지난 객체만 삭제한다")
+    void reconcile_deleteOrphans() {
+        // given
+        given(fileStorageService.listObjects("videos/")).willReturn(Stream.of(
+                new StoredObjectSummary("videos/v1/source/s", 10, OLD),
+                new StoredObjectSummary("videos/v1/thumbnail/old", 20, OLD),
+                new StoredObjectSummary("videos/v1/thumbnail/new", 30, Instant.now()),
+                new StoredObjectSummary("videos/v1/hls/playlist.m3u8", 40, OLD),
+                new StoredObjectSummary("videos/v2/hls/playlist.m3u8", 50, OLD)
+        ));
+        given(storageReferenceRepository.findReferencedKeys(List.of("videos/v1/source/s", "videos/v1/thumbnail/old")))
+                .willReturn(Set.of("videos/v1/source/s"));
+        given(storageReferenceRepository.findExistingVideoIds(List.of("v1", "v2")))
+                .willReturn(Set.of("v1"));
+        given(fileStorageService.deleteAll(anyList())).willReturn(List.of());
+
+        // when
+        OrphanObjectReconciler.ReconcileReport report = reconciler(false, 1000).reconcile();
+
+        // then
+        verify(fileStorageService).deleteAll(List.of("videos/v1/thumbnail/old", "videos/v2/hls/playlist.m3u8"));
+        assertThat(report.scanned()).isEqualTo(5);
+        assertThat(report.skippedRecent()).isEqualTo(1);
+        assertThat(report.orphans()).isEqualTo(2);
+        assertThat(report.orphanBytes()).isEqualTo(70);
+        assertThat(report.deleted()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("dry-run이면 고아 객체를 보고만 하고 삭제하지 않는다")
+    void reconcile_dryRun() {
+        // given
+        given(fileStorageService.listObjects("videos/")).willReturn(Stream.of(
+                new StoredObjectSummary("videos/v1/thumbnail/old", 20, OLD)
+        ));
+        given(storageReferenceRepository.findReferencedKeys(List.of("videos/v1/thumbnail/old"))).willReturn(Set.of());
+
+        // when
+        OrphanObjectReconciler.ReconcileReport report = reconciler(true, 1000).reconcile();
+
+        // then
+        verify(fileStorageService, never()).deleteAll(anyList());
+        assertThat(report.dryRun()).isTrue();
+        assertThat(report.orphans()).isEqualTo(1);
+        assertThat(report.deleted()).isZero();
+    }
+
+    @Test
+    @DisplayName("객체를 batch-size 단위로 나누어 참조 여부를 확인한다")
+    void reconcile_batches() {
+        // given
+        given(fileStorageService.listObjects("videos/")).willReturn(Stream.of(
+                new StoredObjectSummary("videos/v1/source/a", 1, OLD),
+                new StoredObjectSummary("videos/v1/source/b", 1, OLD),
+                new StoredObjectSummary("videos/v1/source/c", 1, OLD)
+        ));
+        given(storageReferenceRepository.findReferencedKeys(anyList())).willReturn(Set.of());
+        given(fileStorageService.deleteAll(anyList()))
+                .willReturn(List.of())
+                .willReturn(List.of("videos/v1/source/c"));
+
+        // when
+        OrphanObjectReconciler.ReconcileReport report = reconciler(false, 2).reconcile();
+
+        // then
+        verify(storageReferenceRepository).findReferencedKeys(List.of("videos/v1/source/a", "videos/v1/source/b"));
+        verify(storageReferenceRepository).findReferencedKeys(List.of("videos/v1/source/c"));
+        assertThat(report.orphans()).isEqualTo(3);
+        assertThat(report.deleted()).isEqualTo(2);
+        assertThat(report.failed()).isEqualTo(1);
+    }
+}
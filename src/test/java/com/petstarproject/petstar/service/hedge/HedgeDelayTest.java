@@ -0,0 +1,40 @@
+package com.petstarproject.petstar.service.hedge;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HedgeDelayTest {
+
+    @Test
+    @DisplayName("표본이 window를 채우기 전에는 최대 지연을 쓴다")
+    void getDelayNanos_warmup() {
+        // given
+        HedgeDelay delay = new HedgeDelay(0.9, 10, 1, 1_000);
+
+        // when
+        for (int i = 1; i <= 9; i++) delay.record(i);
+
+        // then
+        assertThat(delay.getDelayNanos()).isEqualTo(1_000);
+    }
+
+    @Test
+    @DisplayName("최근 응답 시간의 백분위수를 최소/최대 범위 안에서 쓴다")
+    void getDelayNanos_percentile() {
+        // given
+        HedgeDelay delay = new HedgeDelay(0.9, 10, 1, 1_000);
+        HedgeDelay clamped = new HedgeDelay(0.9, 10, 50, 1_000);
+
+        // when
+        for (int i = 1; i <= 10; i++) {
+            delay.record(i * 10);
+            clamped.record(i);
+        }
+
+        // then
+        assertThat(delay.getDelayNanos()).isEqualTo(90);
+        assertThat(clamped.getDelayNanos()).isEqualTo(50);
+    }
+}
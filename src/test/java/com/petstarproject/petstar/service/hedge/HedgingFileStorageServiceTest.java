@@ -0,0 +1,209 @@
+package com.petstarproject.petstar.service.hedge;
+
+import com.petstarproject.petstar.exception.FileStorageException;
+import com.petstarproject.petstar.service.FileStorageService;
+import com.petstarproject.petstar.service.StoredObject;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class HedgingFileStorageServiceTest {
+
+    private static final long DELAY_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    @Mock
+    private FileStorageService delegate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    private HedgingFileStorageService storage(HedgeBudget budget) {
+        return new HedgingFileStorageService(delegate, executor,
+                new HedgeDelay(0.95, 100, DELAY_NANOS, DELAY_NANOS),
+                new HedgeDelay(0.95, 100, DELAY_NANOS, DELAY_NANOS),
+                budget, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("직접 전송을 지원하지 않는 구현체(S3)면 transferTo도 hedge한 openRange로 읽어 먼저 온 응답을 쓴다")
+    void transferTo_hedged() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        given(delegate.openRange("key", 0, 3)).willAnswer(invocation -> {
+            if (calls.getAndIncrement() == 0) {
+                release.await(5, TimeUnit.SECONDS);
+                return new ByteArrayInputStream(new byte[]{9, 9, 9});
+            }
+            return new ByteArrayInputStream(new byte[]{1, 2, 3});
+        });
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        long transferred = storage(new HedgeBudget(1.0, 10)).transferTo("key", 0, 3, Channels.newChannel(out));
+        release.countDown();
+
+        // then
+        assertThat(transferred).isEqualTo(3);
+        assertThat(out.toByteArray()).containsExactly(1, 2, 3);
+        assertThat(meterRegistry.counter("storage.hedge.sent", "operation", "open_range").count()).isEqualTo(1);
+        verify(delegate, never()).transferTo(anyString(), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("직접 전송을 지원하는 구현체(로컬)면 transferTo를 그대로 위임한다")
+    void transferTo_direct() {
+        // given
+        WritableByteChannel target = Channels.newChannel(OutputStream.nullOutputStream());
+        given(delegate.supportsDirectTransfer()).willReturn(true);
+        given(delegate.transferTo("key", 0, 3, target)).willReturn(3L);
+
+        // when
+        long transferred = storage(new HedgeBudget(1.0, 10)).transferTo("key", 0, 3, target);
+
+        // then
+        assertThat(transferred).isEqualTo(3);
+        verify(delegate, never()).openRange(anyString(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("첫 요청이 기준 시간 안에 응답하면 hedge를 보내지 않는다")
+    void openRange_fastPrimary() throws Exception {
+        // given
+        given(delegate.openRange("key", 0, 3)).willReturn(new ByteArrayInputStream(new byte[]{1, 2, 3}));
+
+        // when
+        InputStream in = storage(new HedgeBudget(1.0, 10)).openRange("key", 0, 3);
+
+        // then
+        assertThat(in.readAllBytes()).containsExactly(1, 2, 3);
+        verify(delegate, times(1)).openRange("key", 0, 3);
+        assertThat(meterRegistry.counter("storage.hedge.sent", "operation", "open_range").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("첫 요청이 느리면 hedge를 보내 먼저 온 응답을 쓰고, 늦게 온 스트림은 닫는다")
+    void openRange_hedgeWins() throws Exception {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch slowClosed = new CountDownLatch(1);
+        given(delegate.openRange("key", 0, 3)).willAnswer(invocation -> {
+            if (calls.getAndIncrement() == 0) {
+                release.await(5, TimeUnit.SECONDS);
+                return new ByteArrayInputStream(new byte[]{9, 9, 9}) {
+                    @Override
+                    public void close() {
+                        slowClosed.countDown();
+                    }
+                };
+            }
+            return new ByteArrayInputStream(new byte[]{1, 2, 3});
+        });
+
+        // when
+        InputStream in = storage(new HedgeBudget(1.0, 10)).openRange("key", 0, 3);
+        release.countDown();
+
+        // then
+        assertThat(in.readAllBytes()).containsExactly(1, 2, 3);
+        assertThat(meterRegistry.counter("storage.hedge.sent", "operation", "open_range").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("storage.hedge.won", "operation", "open_range").count()).isEqualTo(1);
+        assertThat(slowClosed.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("hedge 예산이 없으면 첫 요청의 응답을 기다린다")
+    void stat_budgetExhausted() {
+        // given
+        StoredObject object = new StoredObject("key", 10, "video/mp4", "etag");
+        given(delegate.stat("key")).willAnswer(invocation -> {
+            Thread.sleep(TimeUnit.NANOSECONDS.toMillis(DELAY_NANOS) * 2);
+            return Optional.of(object);
+        });
+        HedgeBudget budget = new HedgeBudget(0.0, 1);
+        budget.tryAcquire();
+
+        // when
+        Optional<StoredObject> result = storage(budget).stat("key");
+
+        // then
+        assertThat(result).contains(object);
+        verify(delegate, times(1)).stat("key");
+        assertThat(meterRegistry.counter("storage.hedge.skipped", "operation", "stat", "reason", "budget").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("첫 요청과 hedge가 모두 실패하면 오류를 그대로 던진다")
+    void stat_bothFail() {
+        // given
+        given(delegate.stat("key")).willAnswer(invocation -> {
+            Thread.sleep(TimeUnit.NANOSECONDS.toMillis(DELAY_NANOS) * 2);
+            throw new FileStorageException("fail");
+        });
+
+        // when & then
+        assertThatThrownBy(() -> storage(new HedgeBudget(1.0, 10)).stat("key"))
+                .isInstanceOf(FileStorageException.class)
+                .hasMessage("fail");
+        verify(delegate, times(2)).stat("key");
+    }
+
+    @Test
+    @DisplayName("hedge 예산은 요청 비율만큼만 쌓인다")
+    void budget_ratio() {
+        // given
+        HedgeBudget budget = new HedgeBudget(0.1, 1);
+        budget.tryAcquire();
+
+        // when
+        int granted = 0;
+        for (int i = 0; i < 100; i++) {
+            budget.onRequest();
+            if (budget.tryAcquire()) granted++;
+        }
+
+        // then
+        assertThat(granted).isBetween(9, 10);
+    }
+}
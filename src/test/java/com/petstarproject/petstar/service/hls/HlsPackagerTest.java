@@ -0,0 +1,131 @@
+package com.petstarproject.petstar.service.hls;
+
+import com.petstarproject.petstar.exception.FileStorageException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class HlsPackagerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final HlsPackager packager = new HlsPackager(2.0);
+
+    @Test
+    @DisplayName("영상 트랙의 sync sample마다 segment를 자르고 VOD playlist를 만든다")
+    void pack() throws IOException {
+        // given
+        Path source = tempDir.resolve("source.mp4");
+        Files.write(source, Mp4Fixture.twoTrackMp4());
+
+        // when
+        HlsPackage hls = packager.pack(source, tempDir.resolve("hls"));
+
+        // then
+        assertThat(hls.segments()).extracting(segment -> segment.getFileName().toString())
+                .containsExactly("segment_00000.m4s", "segment_00001.m4s", "segment_00002.m4s");
+        assertThat(Files.readString(hls.playlist(), StandardCharsets.UTF_8)).isEqualTo("""
+                #EXTM3U
+                #EXT-X-VERSION:7
+                #EXT-X-TARGETDURATION:2
+                #EXT-X-MEDIA-SEQUENCE:0
+                #EXT-X-PLAYLIST-TYPE:VOD
+                #EXT-X-INDEPENDENT-SEGMENTS
+                #EXT-X-MAP:URI="init.mp4"
+                #EXTINF:2.000,
+                segment_00000.m4s
+                #EXTINF:2.000,
+                segment_00001.m4s
+                #EXTINF:2.000,
+                segment_00002.m4s
+                #EXT-X-ENDLIST
+                """);
+    }
+
+    @Test
+    @DisplayName("segment 길이의 합은 원본 길이와 같다")
+    void pack_durationsSumToSource() throws IOException {
+        // given
+        Path source = tempDir.resolve("source.mp4");
+        Files.write(source, Mp4Fixture.twoTrackMp4());
+
+        // when
+        HlsPackage hls = packager.pack(source, tempDir.resolve("hls"));
+
+        // then
+        double total = Files.readAllLines(hls.playlist(), StandardCharsets.UTF_8).stream()
+                .filter(line -> line.startsWith("#EXTINF:"))
+                .mapToDouble(line -> Double.parseDouble(line.substring("#EXTINF:".length(), line.length() - 1)))
+                .sum();
+        assertThat(total).isCloseTo((double) Mp4Fixture.DURATION / Mp4Fixture.TIMESCALE, within(0.001));
+    }
+
+    @Test
+    @DisplayName("init segment는 ftyp + moov이고, 각 segment는 moof로 시작해 트랙별 moof + mdat을 담는다")
+    void pack_boxLayout() throws IOException {
+        // given
+        Path source = tempDir.resolve("source.mp4");
+        Files.write(source, Mp4Fixture.twoTrackMp4());
+
+        // when
+        HlsPackage hls = packager.pack(source, tempDir.resolve("hls"));
+
+        // then
+        assertThat(topLevelBoxes(hls.initSegment())).extracting(Box::type).startsWith("ftyp", "moov");
+
+        int videoSamplesPerSegment = Mp4Fixture.VIDEO_SYNC_INTERVAL;
+        int audioSamplesPerSegment = Mp4Fixture.AUDIO_SAMPLES / hls.segments().size();
+        for (int i = 0; i < hls.segments().size(); i++) {
+            List<Box> boxes = topLevelBoxes(hls.segments().get(i));
+
+            assertThat(boxes).extracting(Box::type).containsExactly("moof", "mdat", "moof", "mdat");
+            assertThat(boxes.get(1).payload()).hasSize(videoSamplesPerSegment * Mp4Fixture.VIDEO_SAMPLE_SIZE);
+            assertThat(boxes.get(3).payload()).hasSize(audioSamplesPerSegment * Mp4Fixture.AUDIO_SAMPLE_SIZE);
+            // fixture는 sample 번호로 payload를 채우므로 첫 byte로 segment의 시작 sample을 확인한다
+            assertThat(boxes.get(1).payload()[0]).isEqualTo((byte) (i * videoSamplesPerSegment));
+            assertThat(boxes.get(3).payload()[0]).isEqualTo((byte) (0x80 | i * audioSamplesPerSegment));
+        }
+    }
+
+    @Test
+    @DisplayName("MP4가 아니면 FileStorageException이 발생한다")
+    void pack_fail_notMp4() throws IOException {
+        // given
+        Path source = tempDir.resolve("source.mp4");
+        Files.write(source, new byte[]{1, 2, 3});
+
+        // when & then
+        assertThatThrownBy(() -> packager.pack(source, tempDir.resolve("hls")))
+                .isInstanceOf(FileStorageException.class);
+    }
+
+    private static List<Box> topLevelBoxes(Path file) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+        List<Box> boxes = new ArrayList<>();
+        while (buffer.remaining() >= 8) {
+            int size = buffer.getInt();
+            byte[] type = new byte[4];
+            buffer.get(type);
+            byte[] payload = new byte[size - 8];
+            buffer.get(payload);
+            boxes.add(new Box(new String(type, StandardCharsets.ISO_8859_1), payload));
+        }
+        return boxes;
+    }
+
+    private record Box(String type, byte[] payload) {
+    }
+}
@@ -0,0 +1,219 @@
+package com.petstarproject.petstar.service.hls;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 패키징 테스트용 MP4(ftyp + moov + mdat)를 box 단위로 만듭니다.
+ *
+ * <p>영상 트랙(timescale 1000, 250ms sample 24개, 8개마다 sync sample)과
+ * 음성 트랙(timescale 1000, 125ms sample 48개)을 하나의 mdat에 트랙별 chunk 하나로 담습니다. 두 트랙 모두 길이는 6초입니다.</p>
+ */
+public final class Mp4Fixture {
+
+    public static final int TIMESCALE = 1000;
+    public static final int VIDEO_SAMPLES = 24;
+    public static final int VIDEO_SAMPLE_DURATION = 250;
+    public static final int VIDEO_SAMPLE_SIZE = 16;
+    public static final int VIDEO_SYNC_INTERVAL = 8;
+    public static final int AUDIO_SAMPLES = 48;
+    public static final int AUDIO_SAMPLE_DURATION = 125;
+    public static final int AUDIO_SAMPLE_SIZE = 8;
+    public static final int DURATION = VIDEO_SAMPLES * VIDEO_SAMPLE_DURATION;
+
+    private Mp4Fixture() {
+    }
+
+    public static byte[] twoTrackMp4() {
+        byte[] ftyp = ftyp();
+        // chunk offset은 moov 크기에 영향을 주지 않으므로 한 번 만들어 크기를 구한 뒤 실제 offset으로 다시 만든다
+        int mdatPayloadOffset = ftyp.length + moov(0, 0).length + 8;
+        int videoOffset = mdatPayloadOffset;
+        int audioOffset = videoOffset + VIDEO_SAMPLES * VIDEO_SAMPLE_SIZE;
+
+        return concat(ftyp, moov(videoOffset, audioOffset), mdat());
+    }
+
+    static byte[] ftyp() {
+        return box("ftyp", ByteBuffer.allocate(16)
+                .put(fourcc("isom"))
+                .putInt(0x200)
+                .put(fourcc("isom"))
+                .put(fourcc("iso2"))
+                .array());
+    }
+
+    static byte[] moov(int videoOffset, int audioOffset) {
+        return box("moov", concat(
+                mvhd(),
+                trak(1, "vide", videoSampleEntry(), VIDEO_SAMPLES, VIDEO_SAMPLE_DURATION, VIDEO_SAMPLE_SIZE,
+                        syncSamples(), videoOffset),
+                trak(2, "soun", audioSampleEntry(), AUDIO_SAMPLES, AUDIO_SAMPLE_DURATION, AUDIO_SAMPLE_SIZE,
+                        null, audioOffset)));
+    }
+
+    /**
+     * sample마다 내용을 다르게 채워 segment에 어떤 sample이 들어갔는지 구분할 수 있게 합니다.
+     */
+    static byte[] mdat() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (int i = 0; i < VIDEO_SAMPLES * VIDEO_SAMPLE_SIZE; i++) out.write(i / VIDEO_SAMPLE_SIZE);
+        for (int i = 0; i < AUDIO_SAMPLES * AUDIO_SAMPLE_SIZE; i++) out.write(0x80 | (i / AUDIO_SAMPLE_SIZE));
+        return box("mdat", out.toByteArray());
+    }
+
+    static byte[] mvhd() {
+        return box("mvhd", ByteBuffer.allocate(100)
+                .putInt(0)              // version 0 + flags
+                .putInt(0)              // creation_time
+                .putInt(0)              // modification_time
+                .putInt(TIMESCALE)
+                .putInt(DURATION)
+                .putInt(0x00010000)     // rate 1.0
+                .putShort((short) 0x0100) // volume 1.0
+                .putShort((short) 0)
+                .putLong(0)
+                .put(unityMatrix())
+                .put(new byte[24])      // pre_defined
+                .putInt(3)              // next_track_ID
+                .array());
+    }
+
+    static byte[] trak(int trackId, String handler, byte[] sampleEntry, int sampleCount, int sampleDuration,
+                       int sampleSize, int[] syncSamples, int chunkOffset) {
+        boolean video = "vide".equals(handler);
+        byte[] tkhd = box("tkhd", ByteBuffer.allocate(84)
+                .putInt(0x000007)       // version 0 + flags(enabled, in movie, in preview)
+                .putInt(0)
+                .putInt(0)
+                .putInt(trackId)
+                .putInt(0)
+                .putInt(sampleCount * sampleDuration)
+                .putLong(0)
+                .putShort((short) 0)    // layer
+                .putShort((short) 0)    // alternate_group
+                .putShort((short) (video ? 0 : 0x0100))
+                .putShort((short) 0)
+                .put(unityMatrix())
+                .putInt(video ? 320 << 16 : 0)
+                .putInt(video ? 240 << 16 : 0)
+                .array());
+
+        byte[] mdhd = box("mdhd", ByteBuffer.allocate(24)
+                .putInt(0)
+                .putInt(0)
+                .putInt(0)
+                .putInt(TIMESCALE)
+                .putInt(sampleCount * sampleDuration)
+                .putShort((short) 0x55C4) // "und"
+                .putShort((short) 0)
+                .array());
+
+        byte[] name = (video ? "VideoHandler\0" : "SoundHandler\0").getBytes(StandardCharsets.ISO_8859_1);
+        byte[] hdlr = box("hdlr", ByteBuffer.allocate(24 + name.length)
+                .putInt(0)
+                .putInt(0)
+                .put(fourcc(handler))
+                .put(new byte[12])
+                .put(name)
+                .array());
+
+        byte[] mediaHeader = video
+                ? box("vmhd", ByteBuffer.allocate(12).putInt(1).array())
+                : box("smhd", new byte[8]);
+        byte[] dinf = box("dinf", box("dref", concat(
+                ByteBuffer.allocate(8).putInt(0).putInt(1).array(),
+                box("url ", ByteBuffer.allocate(4).putInt(1).array()))));
+
+        byte[] stbl = box("stbl", concat(
+                box("stsd", concat(ByteBuffer.allocate(8).putInt(0).putInt(1).array(), sampleEntry)),
+                box("stts", ByteBuffer.allocate(16).putInt(0).putInt(1).putInt(sampleCount).putInt(sampleDuration).array()),
+                syncSamples == null ? new byte[0] : stss(syncSamples),
+                box("stsc", ByteBuffer.allocate(20).putInt(0).putInt(1).putInt(1).putInt(sampleCount).putInt(1).array()),
+                stsz(sampleCount, sampleSize),
+                box("stco", ByteBuffer.allocate(12).putInt(0).putInt(1).putInt(chunkOffset).array())));
+
+        return box("trak", concat(tkhd, box("mdia", concat(mdhd, hdlr, box("minf", concat(mediaHeader, dinf, stbl))))));
+    }
+
+    static int[] syncSamples() {
+        int[] samples = new int[VIDEO_SAMPLES / VIDEO_SYNC_INTERVAL];
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = i * VIDEO_SYNC_INTERVAL + 1;
+        }
+        return samples;
+    }
+
+    static byte[] stss(int[] syncSamples) {
+        ByteBuffer payload = ByteBuffer.allocate(8 + 4 * syncSamples.length)
+                .putInt(0)
+                .putInt(syncSamples.length);
+        for (int sample : syncSamples) payload.putInt(sample);
+        return box("stss", payload.array());
+    }
+
+    static byte[] stsz(int sampleCount, int sampleSize) {
+        ByteBuffer payload = ByteBuffer.allocate(12 + 4 * sampleCount)
+                .putInt(0)
+                .putInt(0)              // sample_size 0: sample별 크기 표를 사용
+                .putInt(sampleCount);
+        for (int i = 0; i < sampleCount; i++) payload.putInt(sampleSize);
+        return box("stsz", payload.array());
+    }
+
+    static byte[] videoSampleEntry() {
+        return box("avc1", ByteBuffer.allocate(78)
+                .put(new byte[6])
+                .putShort((short) 1)    // data_reference_index
+                .put(new byte[16])      // pre_defined, reserved
+                .putShort((short) 320)
+                .putShort((short) 240)
+                .putInt(0x00480000)     // 72 dpi
+                .putInt(0x00480000)
+                .putInt(0)
+                .putShort((short) 1)    // frame_count
+                .put(new byte[32])      // compressorname
+                .putShort((short) 0x0018)
+                .putShort((short) -1)
+                .array());
+    }
+
+    static byte[] audioSampleEntry() {
+        return box("mp4a", ByteBuffer.allocate(28)
+                .put(new byte[6])
+                .putShort((short) 1)    // data_reference_index
+                .put(new byte[8])       // version, revision, vendor
+                .putShort((short) 2)    // channelcount
+                .putShort((short) 16)   // samplesize
+                .putInt(0)              // compression_id, packet_size
+                .putInt((int) (48_000L << 16))
+                .array());
+    }
+
+    static byte[] unityMatrix() {
+        return ByteBuffer.allocate(36)
+                .putInt(0x00010000).putInt(0).putInt(0)
+                .putInt(0).putInt(0x00010000).putInt(0)
+                .putInt(0).putInt(0).putInt(0x40000000)
+                .array();
+    }
+
+    static byte[] box(String type, byte[] payload) {
+        return ByteBuffer.allocate(8 + payload.length)
+                .putInt(8 + payload.length)
+                .put(fourcc(type))
+                .put(payload)
+                .array();
+    }
+
+    static byte[] concat(byte[]... parts) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] part : parts) out.writeBytes(part);
+        return out.toByteArray();
+    }
+
+    private static byte[] fourcc(String type) {
+        return type.getBytes(StandardCharsets.ISO_8859_1);
+    }
+}
@@ -0,0 +1,125 @@
+package com.petstarproject.petstar.service.image;
+
+import com.petstarproject.petstar.entity.ImageRendition;
+import com.petstarproject.petstar.service.FileStorageService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ImageRenditionServiceTest {
+
+    @Mock
+    private FileStorageService fileStorageService;
+
+    private ThreadPoolTaskExecutor executor;
+
+    private ImageRenditionService imageRenditionService;
+
+    private final Map<String, byte[]> uploaded = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.initialize();
+
+        imageRenditionService = new ImageRenditionService(fileStorageService, executor, new int[]{64, 320, 1080}, 0.85f);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("원본 비율을 유지한 너비별 rendition을 원본 key 옆에 저장하고 너비 오름차순으로 반환한다")
+    void createRenditions_success() throws IOException {
+        // given
+        captureUploads();
+        MockMultipartFile image = new MockMultipartFile("image", "a.png", "image/png", png(2000, 1000, BufferedImage.TYPE_INT_RGB));
+
+        // when
+        List<ImageRendition> renditions = imageRenditionService.createRenditions(image, "pets/p1/profile/k");
+
+        // then
+        assertThat(renditions).extracting(ImageRendition::getWidth).containsExactly(64, 320, 1080);
+        assertThat(renditions).extracting(ImageRendition::getKey)
+                .containsExactly("pets/p1/profile/k_w64", "pets/p1/profile/k_w320", "pets/p1/profile/k_w1080");
+
+        BufferedImage small = ImageIO.read(new ByteArrayInputStream(uploaded.get("pets/p1/profile/k_w64")));
+        assertThat(small.getWidth()).isEqualTo(64);
+        assertThat(small.getHeight()).isEqualTo(32);
+        verify(fileStorageService).upload(any(InputStream.class), anyLong(), eq("image/jpeg"), eq("pets/p1/profile/k_w1080"));
+    }
+
+    @Test
+    @DisplayName("원본보다 큰 rendition은 늘리지 않고, 투명도가 있으면 PNG로 저장한다")
+    void createRenditions_noUpscale_keepAlpha() throws IOException {
+        // given
+        captureUploads();
+        MockMultipartFile image = new MockMultipartFile("image", "a.png", "image/png", png(100, 50, BufferedImage.TYPE_INT_ARGB));
+
+        // when
+        List<ImageRendition> renditions = imageRenditionService.createRenditions(image, "k");
+
+        // then
+        assertThat(renditions).hasSize(3);
+        BufferedImage large = ImageIO.read(new ByteArrayInputStream(uploaded.get("k_w1080")));
+        assertThat(large.getWidth()).isEqualTo(100);
+        assertThat(large.getColorModel().hasAlpha()).isTrue();
+        verify(fileStorageService).upload(any(InputStream.class), anyLong(), eq("image/png"), eq("k_w64"));
+    }
+
+    @Test
+    @DisplayName("이미지로 읽을 수 없는 파일이면 빈 목록을 반환하고 아무것도 업로드하지 않는다")
+    void createRenditions_unsupported() {
+        // given
+        MockMultipartFile file = new MockMultipartFile("image", "a.txt", "text/plain", "not an image".getBytes());
+
+        // when
+        List<ImageRendition> renditions = imageRenditionService.createRenditions(file, "k");
+
+        // then
+        assertThat(renditions).isEmpty();
+        verify(fileStorageService, never()).upload(any(InputStream.class), anyLong(), anyString(), anyString());
+    }
+
+    private void captureUploads() {
+        given(fileStorageService.upload(any(InputStream.class), anyLong(), anyString(), anyString()))
+                .willAnswer(invocation -> {
+                    String key = invocation.getArgument(3);
+                    uploaded.put(key, invocation.getArgument(0, InputStream.class).readAllBytes());
+                    return key;
+                });
+    }
+
+    private static byte[] png(int width, int height, int type) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, type), "png", out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,191 @@
+package com.petstarproject.petstar.service.ingest;
+
+import com.petstarproject.petstar.exception.FileStorageException;
+import com.petstarproject.petstar.exception.VideoDurationExtractFailedException;
+import com.petstarproject.petstar.service.FileStorageService;
+import com.petstarproject.petstar.service.duration.VideoDurationExtractor;
+import com.petstarproject.petstar.service.duration.VideoDurationProbe;
+import com.petstarproject.petstar.service.image.ImageRenditionService;
+import com.petstarproject.petstar.service.transcode.TranscodeJobService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VideoIngestWorkerTest {
+
+    @Mock
+    private FileStorageService fileStorageService;
+
+    @Mock
+    private VideoDurationExtractor videoDurationExtractor;
+
+    @Mock
+    private VideoStatusUpdater videoStatusUpdater;
+
+    @Mock
+    private TranscodeJobService transcodeJobService;
+
+    @Mock
+    private ImageRenditionService imageRenditionService;
+
+    @Mock
+    private VideoDurationProbe probe;
+
+    @TempDir
+    Path spoolDir;
+
+    private VideoIngestWorker worker;
+
+    private VideoIngestTask task;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        worker = new VideoIngestWorker(fileStorageService, videoDurationExtractor, videoStatusUpdater, transcodeJobService, imageRenditionService, 3, 0);
+
+        Path dir = Files.createDirectories(spoolDir.resolve("video-1"));
+        Path source = Files.write(dir.resolve("source"), new byte[]{1, 2, 3});
+        Path thumbnail = Files.write(dir.resolve("thumbnail"), new byte[]{4});
+        task = new VideoIngestTask("video-1", source, "video/mp4", "videos/video-1/source/s",
+                thumbnail, "image/png", "videos/video-1/thumbnail/t");
+
+        // inspector를 받는 upload는 실제 default 구현으로 tee를 거치고, 하위 upload는 스트림을 끝까지 읽는다
+        lenient().when(fileStorageService.upload(any(InputStream.class), anyLong(), anyString(), anyString(), anyList()))
+                .thenCallRealMethod();
+        lenient().when(fileStorageService.upload(any(InputStream.class), anyLong(), anyString(), anyString()))
+                .thenAnswer(invocation -> {
+                    invocation.getArgument(0, InputStream.class).readAllBytes();
+                    return invocation.getArgument(3);
+                });
+        lenient().when(videoDurationExtractor.newProbe()).thenReturn(probe);
+    }
+
+    @Test
+    @DisplayName("source 업로드와 같은 pass에서 길이를 구하고 READY로 전이한 뒤 spool 파일을 삭제한다")
+    void ingest_success() {
+        // given
+        given(probe.durationSec()).willReturn(42);
+
+        // when
+        worker.ingest(task);
+
+        // then
+        verify(fileStorageService).upload(any(InputStream.class), eq(3L), eq("video/mp4"), eq("videos/video-1/source/s"));
+        verify(fileStorageService).upload(any(InputStream.class), eq(1L), eq("image/png"), eq("videos/video-1/thumbnail/t"));
+        verify(probe).update(any(byte[].class), anyInt(), eq(3));
+        verify(videoStatusUpdater).markReady("video-1", 42);
+        verify(videoStatusUpdater, never()).markFailed(anyString(), anyCollection());
+
+        assertThat(task.sourceFile()).doesNotExist();
+        assertThat(task.thumbnailFile()).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("업로드가 일시적으로 실패하면 재시도 후 READY로 전이한다")
+    void ingest_retryUpload() {
+        // given
+        given(probe.durationSec()).willReturn(42);
+        willThrow(new FileStorageException("S3 error"))
+                .willAnswer(invocation -> {
+                    invocation.getArgument(0, InputStream.class).readAllBytes();
+                    return "videos/video-1/source/s";
+                })
+                .given(fileStorageService).upload(any(InputStream.class), anyLong(), anyString(), eq("videos/video-1/source/s"));
+
+        // when
+        worker.ingest(task);
+
+        // then
+        verify(fileStorageService, times(2))
+                .upload(any(InputStream.class), anyLong(), anyString(), eq("videos/video-1/source/s"));
+        verify(videoStatusUpdater).markReady("video-1", 42);
+    }
+
+    @Test
+    @DisplayName("재시도 횟수를 넘겨 업로드가 실패하면 정리할 객체 없이 FAILED로 전이한다")
+    void ingest_fail_uploadExhausted() {
+        // given
+        willThrow(new FileStorageException("S3 error"))
+                .given(fileStorageService).upload(any(InputStream.class), anyLong(), anyString(), anyString());
+
+        // when
+        worker.ingest(task);
+
+        // then
+        verify(fileStorageService, times(3)).upload(any(InputStream.class), anyLong(), anyString(), anyString());
+        verify(videoStatusUpdater).markFailed("video-1", List.of());
+        verify(videoStatusUpdater, never()).markReady(anyString(), anyInt());
+        verify(fileStorageService, never()).deleteAll(anyList());
+        assertThat(task.sourceFile()).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("길이 추출에 실패하면 재시도 없이 FAILED로 전이하고, 업로드된 source는 직접 지우지 않고 참조 여부 판단을 넘긴다")
+    void ingest_fail_durationExtract() {
+        // given
+        given(probe.durationSec())
+                .willThrow(new VideoDurationExtractFailedException("Invalid MP4: moov box not found"));
+
+        // when
+        worker.ingest(task);
+
+        // then
+        verify(fileStorageService, times(1)).upload(any(InputStream.class), anyLong(), anyString(), anyString());
+        verify(videoStatusUpdater).markFailed("video-1", List.of("videos/video-1/source/s"));
+        verify(videoStatusUpdater, never()).markReady(anyString(), anyInt());
+        verify(fileStorageService, never()).deleteAll(anyList());
+    }
+
+    @Test
+    @DisplayName("트랜스코딩이 켜져 있으면 READY 대신 트랜스코딩 작업을 큐에 넣는다")
+    void ingest_enqueueTranscode() {
+        // given
+        given(probe.durationSec()).willReturn(42);
+        given(transcodeJobService.isEnabled()).willReturn(true);
+
+        // when
+        worker.ingest(task);
+
+        // then
+        verify(transcodeJobService).enqueue("video-1", "videos/video-1/source/s", 42);
+        verify(videoStatusUpdater, never()).markReady(anyString(), anyInt());
+        verify(videoStatusUpdater, never()).markFailed(anyString(), anyCollection());
+        assertThat(task.sourceFile()).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("같은 내용의 기존 객체 key가 반환되면 동영상 레코드를 그 key로 갱신하고 트랜스코딩 작업에도 그 key를 넘긴다")
+    void ingest_relinkDeduplicatedSource() {
+        // given
+        given(probe.durationSec()).willReturn(42);
+        given(transcodeJobService.isEnabled()).willReturn(true);
+        willAnswer(invocation -> {
+            invocation.getArgument(0, InputStream.class).readAllBytes();
+            return "videos/other/source/existing";
+        }).given(fileStorageService).upload(any(InputStream.class), anyLong(), anyString(), eq("videos/video-1/source/s"));
+
+        // when
+        worker.ingest(task);
+
+        // then
+        verify(videoStatusUpdater).relinkObjects("video-1", "videos/other/source/existing", "videos/video-1/thumbnail/t");
+        verify(transcodeJobService).enqueue("video-1", "videos/other/source/existing", 42);
+    }
+}
@@ -0,0 +1,115 @@
+package com.petstarproject.petstar.service.ingest;
+
+import com.petstarproject.petstar.entity.ImageRendition;
+import com.petstarproject.petstar.entity.Video;
+import com.petstarproject.petstar.enums.VideoStatus;
+import com.petstarproject.petstar.enums.Visibility;
+import com.petstarproject.petstar.repository.VideoRepository;
+import com.petstarproject.petstar.service.deletion.ObjectDeletionQueue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class VideoStatusUpdaterTest {
+
+    @Mock
+    private VideoRepository videoRepository;
+
+    @Mock
+    private ObjectDeletionQueue objectDeletionQueue;
+
+    private VideoStatusUpdater videoStatusUpdater;
+
+    @BeforeEach
+    void setUp() {
+        videoStatusUpdater = new VideoStatusUpdater(videoRepository, objectDeletionQueue);
+    }
+
+    @Test
+    @DisplayName("중복 제거로 썸네일 key가 바뀌면 이전 썸네일의 축소본을 삭제 큐에 기록한다")
+    void relinkObjects_enqueueOldRenditions() {
+        // given
+        Video video = Video.create("video-1", "pet", "owner", "title", null, Visibility.PUBLIC,
+                "videos/video-1/source/s", "videos/video-1/thumbnail/t", 0, List.of());
+        video.addThumbnailRenditions(List.of(new ImageRendition("videos/video-1/thumbnail/t", 320, "videos/video-1/thumbnail/t_w320")));
+        given(videoRepository.findUncached("video-1")).willReturn(Optional.of(video));
+
+        // when
+        videoStatusUpdater.relinkObjects("video-1", "videos/other/source/s", "videos/other/thumbnail/t");
+
+        // then
+        assertThat(video.getThumbnailKey()).isEqualTo("videos/other/thumbnail/t");
+        assertThat(video.getThumbnailRenditions()).isEmpty();
+        verify(objectDeletionQueue).enqueue(List.of("videos/video-1/thumbnail/t_w320"));
+    }
+
+    @Test
+    @DisplayName("ingest 실패 시 업로드한 key를 모두 삭제 큐에 기록하고, 레코드의 객체 참조는 비운다")
+    void markFailed_enqueueAllAndDetach() {
+        // given
+        Video video = Video.create("video-1", "pet", "owner", "title", null, Visibility.PUBLIC,
+                "videos/other/source/existing", "videos/video-1/thumbnail/t", 0, List.of());
+        video.addThumbnailRenditions(List.of(new ImageRendition("videos/video-1/thumbnail/t", 320, "videos/video-1/thumbnail/t_w320")));
+        given(videoRepository.findUncached("video-1")).willReturn(Optional.of(video));
+        List<String> uploadedKeys = List.of(
+                "videos/other/source/existing",
+                "videos/video-1/thumbnail/t",
+                "videos/video-1/thumbnail/t_w320",
+                "videos/video-1/thumbnail/t_w640");
+
+        // when
+        videoStatusUpdater.markFailed("video-1", uploadedKeys);
+
+        // then
+        assertThat(video.getStatus()).isEqualTo(VideoStatus.FAILED);
+        assertThat(video.getSourceKey()).isNull();
+        assertThat(video.getThumbnailKey()).isNull();
+        assertThat(video.getThumbnailRenditions()).isEmpty();
+        verify(objectDeletionQueue).enqueue(uploadedKeys);
+    }
+
+    @Test
+    @DisplayName("동영상이 이미 삭제되었다면 삭제 큐에 아무것도 기록하지 않는다")
+    void markFailed_videoDeleted() {
+        // given
+        given(videoRepository.findUncached("video-1")).willReturn(Optional.empty());
+
+        // when
+        videoStatusUpdater.markFailed("video-1", List.of("videos/video-1/source/s"));
+
+        // then
+        verify(objectDeletionQueue, never()).enqueue(any());
+    }
+
+    @Test
+    @DisplayName("직접 업로드 확인 결과를 반영하기 전에 다른 요청이 먼저 처리했다면 상태와 객체 참조를 바꾸지 않는다")
+    void markDirectUploadFailed_alreadyCompleted() {
+        // given
+        Video video = Video.create("video-1", "pet", "owner", "title", null, Visibility.PUBLIC,
+                "videos/video-1/source/s", null, 0, List.of());
+        video.markReady(30);
+        given(videoRepository.findUncached("video-1")).willReturn(Optional.of(video));
+
+        // when
+        Optional<Video> result = videoStatusUpdater.markDirectUploadFailed("video-1");
+
+        // then
+        assertThat(result).contains(video);
+        assertThat(video.getStatus()).isEqualTo(VideoStatus.READY);
+        assertThat(video.getSourceKey()).isEqualTo("videos/video-1/source/s");
+        verify(objectDeletionQueue, never()).enqueue(any());
+    }
+}
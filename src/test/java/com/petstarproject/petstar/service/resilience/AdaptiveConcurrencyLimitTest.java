@@ -0,0 +1,95 @@
+package com.petstarproject.petstar.service.resilience;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimitTest {
+
+    @Test
+    @DisplayName("한도만큼 호출 중이면 다음 호출은 바로 거절한다")
+    void tryAcquire_rejectOverLimit() {
+        // given
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(2, 1, 10, 2.0, 0.5, 100);
+        limit.tryAcquire();
+        limit.tryAcquire();
+
+        // when & then
+        assertThat(limit.tryAcquire()).isFalse();
+
+        limit.onIgnored();
+        assertThat(limit.tryAcquire()).isTrue();
+    }
+
+    @Test
+    @DisplayName("throttling으로 실패하면 한도를 줄이되 최소값 아래로는 줄이지 않는다")
+    void onDropped_decrease() {
+        // given
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(8, 2, 10, 2.0, 0.5, 100);
+
+        // when
+        limit.tryAcquire();
+        limit.onDropped();
+        int afterFirst = limit.getLimit();
+        for (int i = 0; i < 5; i++) {
+            limit.tryAcquire();
+            limit.onDropped();
+        }
+
+        // then
+        assertThat(afterFirst).isEqualTo(4);
+        assertThat(limit.getLimit()).isEqualTo(2);
+        assertThat(limit.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("응답 시간이 기준보다 크게 늘면 한도를 줄인다")
+    void onSuccess_slowDecrease() {
+        // given
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(8, 1, 10, 2.0, 0.5, 100);
+        limit.tryAcquire();
+        limit.onSuccess(1_000);
+
+        // when
+        limit.tryAcquire();
+        limit.onSuccess(5_000);
+
+        // then
+        assertThat(limit.getLimit()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("응답이 빠르고 한도를 충분히 쓰고 있으면 한도를 늘린다")
+    void onSuccess_increase() {
+        // given
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(2, 1, 10, 2.0, 0.5, 100);
+
+        // when
+        for (int i = 0; i < 20; i++) {
+            limit.tryAcquire();
+            limit.tryAcquire();
+            limit.onSuccess(1_000);
+            limit.onSuccess(1_000);
+        }
+
+        // then
+        assertThat(limit.getLimit()).isGreaterThan(2);
+    }
+
+    @Test
+    @DisplayName("한도보다 훨씬 적게 쓰고 있으면 응답이 빨라도 한도를 늘리지 않는다")
+    void onSuccess_idleNoIncrease() {
+        // given
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(8, 1, 10, 2.0, 0.5, 100);
+
+        // when
+        for (int i = 0; i < 50; i++) {
+            limit.tryAcquire();
+            limit.onSuccess(1_000);
+        }
+
+        // then
+        assertThat(limit.getLimit()).isEqualTo(8);
+    }
+}
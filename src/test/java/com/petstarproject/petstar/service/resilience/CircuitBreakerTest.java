@@ -0,0 +1,99 @@
+package com.petstarproject.petstar.service.resilience;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    private CircuitBreaker breaker() {
+        return new CircuitBreaker(0.5, 10, 4, 1_000, 2, now::get);
+    }
+
+    private void fail(CircuitBreaker breaker, int times) {
+        for (int i = 0; i < times; i++) {
+            breaker.tryAcquire();
+            breaker.onFailure();
+        }
+    }
+
+    private void succeed(CircuitBreaker breaker, int times) {
+        for (int i = 0; i < times; i++) {
+            breaker.tryAcquire();
+            breaker.onSuccess();
+        }
+    }
+
+    @Test
+    @DisplayName("최소 호출 수를 채우기 전에는 실패해도 열지 않는다")
+    void onFailure_belowMinimumCalls() {
+        // given
+        CircuitBreaker breaker = breaker();
+
+        // when
+        fail(breaker, 3);
+
+        // then
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    @DisplayName("실패 비율이 기준을 넘으면 열고 호출을 막는다")
+    void onFailure_open() {
+        // given
+        CircuitBreaker breaker = breaker();
+        succeed(breaker, 2);
+
+        // when
+        fail(breaker, 2);
+
+        // then
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    @DisplayName("열린 시간이 지나면 시험 호출만 보내고, 모두 성공하면 닫는다")
+    void halfOpen_close() {
+        // given
+        CircuitBreaker breaker = breaker();
+        fail(breaker, 4);
+        now.addAndGet(1_000);
+
+        // when
+        boolean first = breaker.tryAcquire();
+        boolean second = breaker.tryAcquire();
+        boolean third = breaker.tryAcquire();
+        breaker.onSuccess();
+        breaker.onSuccess();
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(third).isFalse();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("시험 호출이 실패하면 다시 연다")
+    void halfOpen_reopen() {
+        // given
+        CircuitBreaker breaker = breaker();
+        fail(breaker, 4);
+        now.addAndGet(1_000);
+
+        // when
+        breaker.tryAcquire();
+        breaker.onFailure();
+
+        // then
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+}
@@ -0,0 +1,159 @@
+package com.petstarproject.petstar.service.resilience;
+
+import com.petstarproject.petstar.enums.StorageOperation;
+import com.petstarproject.petstar.exception.FileStorageException;
+import com.petstarproject.petstar.exception.StorageOverloadedException;
+import com.petstarproject.petstar.exception.StorageThrottledException;
+import com.petstarproject.petstar.exception.StorageUnavailableException;
+import com.petstarproject.petstar.service.FileStorageService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ResilientFileStorageServiceTest {
+
+    @Mock
+    private FileStorageService delegate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong now = new AtomicLong();
+
+    private Map<StorageOperation, AdaptiveConcurrencyLimit> limits;
+    private Map<StorageOperation, CircuitBreaker> breakers;
+    private ResilientFileStorageService storage;
+
+    @BeforeEach
+    void setUp() {
+        limits = new EnumMap<>(StorageOperation.class);
+        breakers = new EnumMap<>(StorageOperation.class);
+        for (StorageOperation operation : StorageOperation.values()) {
+            limits.put(operation, new AdaptiveConcurrencyLimit(1, 1, 10, 2.0, 0.5, 100));
+            breakers.put(operation, new CircuitBreaker(0.5, 10, 2, 1_000, 1, now::get));
+        }
+        storage = new ResilientFileStorageService(delegate, limits, breakers, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("동시 호출 한도를 넘으면 스토리지를 호출하지 않고 StorageOverloadedException을 던진다")
+    void delete_overLimit() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        willAnswer(invocation -> {
+            if ("slow".equals(invocation.getArgument(0))) {
+                started.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            }
+            return null;
+        }).given(delegate).delete(anyString());
+        CompletableFuture<Void> slow = CompletableFuture.runAsync(() -> storage.delete("slow"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when & then
+        assertThatThrownBy(() -> storage.delete("fast"))
+                .isInstanceOf(StorageOverloadedException.class);
+        verify(delegate, never()).delete("fast");
+        assertThat(meterRegistry.counter("storage.calls.rejected", "operation", "delete", "reason", "limit").count())
+                .isEqualTo(1);
+
+        release.countDown();
+        slow.get(5, TimeUnit.SECONDS);
+        assertThat(limits.get(StorageOperation.DELETE).getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("장애가 이어져 circuit이 열리면 해당 호출 종류만 바로 StorageUnavailableException을 던진다")
+    void deleteAll_circuitOpen() {
+        // given
+        willThrow(new StorageThrottledException("throttled"))
+                .given(delegate).deleteAll(List.of("a"));
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> storage.deleteAll(List.of("a")))
+                    .isInstanceOf(StorageThrottledException.class);
+        }
+
+        // when & then
+        assertThatThrownBy(() -> storage.deleteAll(List.of("b")))
+                .isInstanceOf(StorageUnavailableException.class);
+        verify(delegate, never()).deleteAll(List.of("b"));
+        assertThat(breakers.get(StorageOperation.DELETE_BATCH).getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        storage.delete("c");
+        verify(delegate).delete("c");
+    }
+
+    @Test
+    @DisplayName("요청 오류처럼 스토리지 상태와 관계없는 실패는 한도와 circuit에 반영하지 않는다")
+    void upload_ignoreClientError() {
+        // given
+        given(delegate.upload(any(), anyLong(), anyString(), eq("key")))
+                .willThrow(new FileStorageException("bad request"));
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> storage.upload(new ByteArrayInputStream(new byte[1]), 1, "image/png", "key"))
+                    .isExactlyInstanceOf(FileStorageException.class);
+        }
+
+        // then
+        assertThat(breakers.get(StorageOperation.UPLOAD).getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(limits.get(StorageOperation.UPLOAD).getLimit()).isEqualTo(1);
+        assertThat(limits.get(StorageOperation.UPLOAD).getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("작은 업로드와 큰 업로드가 섞여도 각자 평소 속도라면 업로드 한도가 줄지 않고, 느려진 크기 구간만 한도를 줄인다")
+    void upload_mixedSizes() {
+        // given: 고정 지연 30ms + MB당 10ms
+        long smallSize = 10 * 1024;
+        long largeSize = 50L * 1024 * 1024;
+        AtomicLong slowdown = new AtomicLong(1);
+        given(delegate.upload(any(), anyLong(), anyString(), anyString())).willAnswer(invocation -> {
+            long size = invocation.getArgument(1);
+            long latencyMillis = 30 + size * 10 / (1024 * 1024);
+            now.addAndGet(TimeUnit.MILLISECONDS.toNanos(latencyMillis) * (size == largeSize ? slowdown.get() : 1));
+            return invocation.getArgument(3);
+        });
+        limits.put(StorageOperation.UPLOAD, new AdaptiveConcurrencyLimit(4, 1, 10, 2.0, 0.5, 100));
+        storage = new ResilientFileStorageService(delegate, limits, breakers, meterRegistry, now::get);
+
+        // when
+        for (int i = 0; i < 20; i++) {
+            storage.upload(new ByteArrayInputStream(new byte[0]), smallSize, "image/png", "small");
+            storage.upload(new ByteArrayInputStream(new byte[0]), largeSize, "video/mp4", "large");
+        }
+
+        // then
+        assertThat(limits.get(StorageOperation.UPLOAD).getLimit()).isEqualTo(4);
+
+        slowdown.set(3);
+        storage.upload(new ByteArrayInputStream(new byte[0]), largeSize, "video/mp4", "large");
+        assertThat(limits.get(StorageOperation.UPLOAD).getLimit()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,102 @@
+package com.petstarproject.petstar.service.transcode;
+
+import com.petstarproject.petstar.exception.TranscodeFailedException;
+import com.petstarproject.petstar.service.FileStorageService;
+import com.petstarproject.petstar.service.StoredObject;
+import com.petstarproject.petstar.service.hls.HlsPackager;
+import com.petstarproject.petstar.service.hls.Mp4Fixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RemuxTranscoderTest {
+
+    private static final String SOURCE_KEY = "videos/v1/source/s";
+
+    @Mock
+    private FileStorageService fileStorageService;
+
+    @TempDir
+    Path tempDir;
+
+    private RemuxTranscoder transcoder;
+
+    @BeforeEach
+    void setUp() {
+        transcoder = new RemuxTranscoder(fileStorageService, new HlsPackager(2.0), tempDir.toString());
+
+        byte[] mp4 = Mp4Fixture.twoTrackMp4();
+        given(fileStorageService.stat(SOURCE_KEY))
+                .willReturn(Optional.of(new StoredObject(SOURCE_KEY, mp4.length, "video/mp4", "etag")));
+        given(fileStorageService.transferTo(eq(SOURCE_KEY), eq(0L), eq((long) mp4.length), any()))
+                .willAnswer(invocation -> {
+                    WritableByteChannel target = invocation.getArgument(3);
+                    return (long) target.write(ByteBuffer.wrap(mp4));
+                });
+    }
+
+    @Test
+    @DisplayName("원본을 내려받아 remux 하고 init, segment를 올린 뒤 playlist를 마지막에 올린다")
+    void transcode() throws IOException {
+        // when
+        String playlistKey = transcoder.transcode("v1", SOURCE_KEY);
+
+        // then
+        ArgumentCaptor<String> keys = ArgumentCaptor.forClass(String.class);
+        verify(fileStorageService, times(5)).upload(any(InputStream.class), anyLong(), anyString(), keys.capture());
+        assertThat(keys.getAllValues()).containsExactly(
+                "videos/v1/hls/init.mp4",
+                "videos/v1/hls/segment_00000.m4s",
+                "videos/v1/hls/segment_00001.m4s",
+                "videos/v1/hls/segment_00002.m4s",
+                "videos/v1/hls/playlist.m3u8");
+        assertThat(playlistKey).isEqualTo("videos/v1/hls/playlist.m3u8");
+        assertThat(workDirEntries()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("업로드 중 실패하면 이미 올린 key를 지우고 TranscodeFailedException이 발생한다")
+    void transcode_fail_upload() throws IOException {
+        // given
+        given(fileStorageService.upload(any(InputStream.class), anyLong(), anyString(), eq("videos/v1/hls/playlist.m3u8")))
+                .willThrow(new RuntimeException("boom"));
+
+        // when & then
+        assertThatThrownBy(() -> transcoder.transcode("v1", SOURCE_KEY))
+                .isInstanceOf(TranscodeFailedException.class);
+        verify(fileStorageService).deleteAll(List.of(
+                "videos/v1/hls/init.mp4",
+                "videos/v1/hls/segment_00000.m4s",
+                "videos/v1/hls/segment_00001.m4s",
+                "videos/v1/hls/segment_00002.m4s"));
+        assertThat(workDirEntries()).isEmpty();
+    }
+
+    private List<Path> workDirEntries() throws IOException {
+        try (Stream<Path> entries = Files.list(tempDir)) {
+            return entries.toList();
+        }
+    }
+}
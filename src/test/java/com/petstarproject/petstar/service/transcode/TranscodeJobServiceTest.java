@@ -0,0 +1,177 @@
+package com.petstarproject.petstar.service.transcode;
+
+import com.petstarproject.petstar.entity.TranscodeJob;
+import com.petstarproject.petstar.entity.Video;
+import com.petstarproject.petstar.enums.TranscodeJobStatus;
+import com.petstarproject.petstar.enums.TranscodeLane;
+import com.petstarproject.petstar.enums.VideoStatus;
+import com.petstarproject.petstar.enums.Visibility;
+import com.petstarproject.petstar.exception.VideoIngestRejectedException;
+import com.petstarproject.petstar.repository.TranscodeJobRepository;
+import com.petstarproject.petstar.repository.VideoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TranscodeJobServiceTest {
+
+    @Mock
+    private TranscodeJobRepository transcodeJobRepository;
+
+    @Mock
+    private VideoRepository videoRepository;
+
+    private TranscodeJobService transcodeJobService;
+
+    @BeforeEach
+    void setUp() {
+        transcodeJobService = new TranscodeJobService(transcodeJobRepository, videoRepository,
+                true, 10, 60, 2, 600, 30);
+    }
+
+    @Test
+    @DisplayName("작업을 넣으면 동영상을 TRANSCODING으로 전이하고 짧은 영상은 SHORT lane에 넣는다")
+    void enqueue_shortClip() {
+        // given
+        Video video = video();
+        given(videoRepository.findUncached("video-1")).willReturn(Optional.of(video));
+
+        // when
+        transcodeJobService.enqueue("video-1", "videos/video-1/source/s", 30);
+
+        // then
+        ArgumentCaptor<TranscodeJob> captor = ArgumentCaptor.forClass(TranscodeJob.class);
+        verify(transcodeJobRepository).save(captor.capture());
+        TranscodeJob job = captor.getValue();
+        assertThat(job.getLane()).isEqualTo(TranscodeLane.SHORT);
+        assertThat(job.getStatus()).isEqualTo(TranscodeJobStatus.QUEUED);
+        assertThat(video.getStatus()).isEqualTo(VideoStatus.TRANSCODING);
+        assertThat(video.getDurationSec()).isEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("대기 중인 작업이 큐 용량에 도달하면 업로드를 거절한다")
+    void checkCapacity_full() {
+        // given
+        given(transcodeJobRepository.countByStatusIn(anyCollection())).willReturn(10L);
+
+        // when & then
+        assertThatThrownBy(() -> transcodeJobService.checkCapacity())
+                .isInstanceOf(VideoIngestRejectedException.class);
+    }
+
+    @Test
+    @DisplayName("SHORT lane을 먼저 lease 하고 남은 슬롯만큼 LONG lane에서 가져온다")
+    void lease_shortLaneFirst() {
+        // given
+        TranscodeJob shortJob = TranscodeJob.create("job-1", "video-1", "s1", TranscodeLane.SHORT);
+        TranscodeJob longJob = TranscodeJob.create("job-2", "video-2", "s2", TranscodeLane.LONG);
+        given(transcodeJobRepository.findLeasableForUpdate(eq("SHORT"), any(LocalDateTime.class), eq(3)))
+                .willReturn(List.of(shortJob));
+        given(transcodeJobRepository.findLeasableForUpdate(eq("LONG"), any(LocalDateTime.class), eq(2)))
+                .willReturn(List.of(longJob));
+
+        // when
+        List<TranscodeJob> leased = transcodeJobService.lease("worker-1", 3);
+
+        // then
+        assertThat(leased).containsExactly(shortJob, longJob);
+        assertThat(shortJob.isLeasedBy("worker-1")).isTrue();
+        assertThat(shortJob.getAttempts()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재시도 횟수가 남은 작업이 실패하면 backoff 후 다시 대기 상태가 된다")
+    void fail_retry() {
+        // given
+        TranscodeJob job = TranscodeJob.create("job-1", "video-1", "s1", TranscodeLane.SHORT);
+        job.lease("worker-1", LocalDateTime.now().plusMinutes(10));
+        given(transcodeJobRepository.findById("job-1")).willReturn(Optional.of(job));
+
+        // when
+        transcodeJobService.fail("job-1", "worker-1", "ffmpeg 실행 실패");
+
+        // then
+        assertThat(job.getStatus()).isEqualTo(TranscodeJobStatus.QUEUED);
+        assertThat(job.getAvailableAt()).isAfter(LocalDateTime.now());
+        assertThat(job.getLastError()).isEqualTo("ffmpeg 실행 실패");
+        verify(videoRepository, never()).findUncached(anyString());
+    }
+
+    @Test
+    @DisplayName("재시도 횟수를 다 쓴 작업이 실패하면 FAILED 처리하고 동영상은 원본만으로 READY가 된다")
+    void fail_giveUp() {
+        // given
+        Video video = video();
+        video.markTranscoding(90);
+        TranscodeJob job = TranscodeJob.create("job-1", "video-1", "s1", TranscodeLane.LONG);
+        job.lease("worker-1", LocalDateTime.now().plusMinutes(10));
+        job.retry(LocalDateTime.now(), "first");
+        job.lease("worker-1", LocalDateTime.now().plusMinutes(10));
+        given(transcodeJobRepository.findById("job-1")).willReturn(Optional.of(job));
+        given(videoRepository.findUncached("video-1")).willReturn(Optional.of(video));
+
+        // when
+        transcodeJobService.fail("job-1", "worker-1", "second");
+
+        // then
+        assertThat(job.getStatus()).isEqualTo(TranscodeJobStatus.FAILED);
+        assertThat(video.getStatus()).isEqualTo(VideoStatus.READY);
+        assertThat(video.getHlsPlaylistKey()).isNull();
+        assertThat(video.getDurationSec()).isEqualTo(90);
+    }
+
+    @Test
+    @DisplayName("lease가 다른 worker로 넘어간 작업의 완료 결과는 반영하지 않는다")
+    void complete_staleLease() {
+        // given
+        TranscodeJob job = TranscodeJob.create("job-1", "video-1", "s1", TranscodeLane.SHORT);
+        job.lease("worker-2", LocalDateTime.now().plusMinutes(10));
+        given(transcodeJobRepository.findById("job-1")).willReturn(Optional.of(job));
+
+        // when
+        transcodeJobService.complete("job-1", "worker-1", "videos/video-1/hls/playlist.m3u8");
+
+        // then
+        assertThat(job.getStatus()).isEqualTo(TranscodeJobStatus.RUNNING);
+        verify(videoRepository, never()).findUncached(anyString());
+    }
+
+    @Test
+    @DisplayName("실행하지 못한 작업을 돌려놓으면 lease 횟수를 되돌리고 바로 다시 lease 할 수 있는 상태가 된다")
+    void release_unlease() {
+        // given
+        TranscodeJob job = TranscodeJob.create("job-1", "video-1", "s1", TranscodeLane.SHORT);
+        job.lease("worker-1", LocalDateTime.now().plusMinutes(10));
+        given(transcodeJobRepository.findById("job-1")).willReturn(Optional.of(job));
+
+        // when
+        transcodeJobService.release("job-1", "worker-1");
+
+        // then
+        assertThat(job.getStatus()).isEqualTo(TranscodeJobStatus.QUEUED);
+        assertThat(job.getAttempts()).isZero();
+        assertThat(job.getLeaseOwner()).isNull();
+        assertThat(job.getAvailableAt()).isBeforeOrEqualTo(LocalDateTime.now());
+    }
+
+    private Video video() {
+        return Video.create("video-1", "pet-1", "user-1", "title", "desc",
+                Visibility.PUBLIC, "videos/video-1/source/s", null, 0, List.of());
+    }
+}
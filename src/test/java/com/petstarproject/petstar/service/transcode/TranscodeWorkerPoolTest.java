@@ -0,0 +1,74 @@
+package com.petstarproject.petstar.service.transcode;
+
+import com.petstarproject.petstar.entity.TranscodeJob;
+import com.petstarproject.petstar.enums.TranscodeLane;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TranscodeWorkerPoolTest {
+
+    @Mock
+    private TranscodeJobService transcodeJobService;
+
+    @Mock
+    private Transcoder transcoder;
+
+    @Mock
+    private ThreadPoolTaskExecutor transcodeExecutor;
+
+    private TranscodeWorkerPool workerPool;
+
+    @BeforeEach
+    void setUp() {
+        workerPool = new TranscodeWorkerPool(transcodeJobService, transcoder, transcodeExecutor, 2);
+        given(transcodeJobService.isEnabled()).willReturn(true);
+        given(transcodeExecutor.getMaxPoolSize()).willReturn(2);
+    }
+
+    @Test
+    @DisplayName("작업을 마친 스레드가 아직 돌아오지 않았으면 쉬고 있는 스레드 수만큼만 lease 한다")
+    void poll_leaseOnlyIdleThreads() {
+        // given
+        given(transcodeExecutor.getActiveCount()).willReturn(1);
+
+        // when
+        workerPool.poll();
+
+        // then
+        verify(transcodeJobService).lease(anyString(), eq(1));
+    }
+
+    @Test
+    @DisplayName("executor가 작업을 거절하면 lease 만료를 기다리지 않고 작업을 대기 상태로 돌려놓는다")
+    void poll_rejected() {
+        // given
+        TranscodeJob job = TranscodeJob.create("job-1", "video-1", "s1", TranscodeLane.SHORT);
+        given(transcodeJobService.lease(anyString(), anyInt())).willReturn(List.of(job));
+        willThrow(new RejectedExecutionException("busy")).given(transcodeExecutor).execute(any(Runnable.class));
+
+        // when
+        workerPool.poll();
+
+        // then
+        verify(transcodeJobService).release(eq("job-1"), anyString());
+        verify(transcodeJobService, never()).fail(anyString(), anyString(), anyString());
+    }
+}